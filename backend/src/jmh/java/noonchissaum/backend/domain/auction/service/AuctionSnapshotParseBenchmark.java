@@ -0,0 +1,51 @@
+package noonchissaum.backend.domain.auction.service;
+
+import noonchissaum.backend.domain.auction.dto.ws.AuctionSnapshotPayload;
+import noonchissaum.backend.domain.auction.redis.AuctionStateFields;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경매 상태 해시 → 스냅샷 payload 변환 (구독/재연결마다 호출)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class AuctionSnapshotParseBenchmark {
+
+    // endTime 저장 포맷: ISO LocalDateTime / epoch millis
+    @Param({"iso", "epoch"})
+    private String endTimeFormat;
+
+    private AuctionRealtimeSnapshotService service;
+    private Map<Object, Object> state;
+
+    @Setup
+    public void setUp() {
+        // toSnapshot 은 Redis 를 조회하지 않으므로 의존성 없이 생성
+        service = new AuctionRealtimeSnapshotService(null);
+        state = new HashMap<>();
+        state.put(AuctionStateFields.CURRENT_PRICE, "125000");
+        state.put(AuctionStateFields.CURRENT_BIDDER, "58213");
+        state.put(AuctionStateFields.CURRENT_BID_COUNT, "37");
+        state.put(AuctionStateFields.START_PRICE, "10000");
+        state.put(AuctionStateFields.STATUS, "RUNNING");
+        state.put(AuctionStateFields.END_TIME, "iso".equals(endTimeFormat) ? "2026-01-29T11:05:30" : "1769652330000");
+        state.put(AuctionStateFields.IMMINENT_MINUTES, "5");
+        state.put(AuctionStateFields.IS_EXTENDED, "false");
+    }
+
+    @Benchmark
+    public AuctionSnapshotPayload toSnapshot() {
+        return service.toSnapshot(1_024L, state);
+    }
+}
@@ -0,0 +1,45 @@
+package noonchissaum.backend.domain.auction.service;
+
+import noonchissaum.backend.domain.auction.entity.AuctionStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 입찰 검증(validateBidConditions)의 상태 해시 파싱 + 최소 입찰가 계산 비용
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class BidIncrementBenchmark {
+
+    private String rawPrice = "125000";
+    private String rawStartPrice = "10000";
+    private String rawStatus = "RUNNING";
+    private String rawEndTime = "2026-01-29T11:05:30";
+    private BigDecimal startPrice = new BigDecimal("10000");
+
+    @Benchmark
+    public BigDecimal minBidIncrement() {
+        return BidService.minBidIncrement(startPrice);
+    }
+
+    /**
+     * 입찰 1건마다 반복되는 문자열 → 값 변환 + 최소 입찰가 계산 전체
+     */
+    @Benchmark
+    public void validateParsePath(Blackhole bh) {
+        BigDecimal currentPrice = new BigDecimal(rawPrice);
+        BigDecimal minIncrement = BidService.minBidIncrement(new BigDecimal(rawStartPrice));
+        bh.consume(currentPrice.add(minIncrement));
+        bh.consume(AuctionStatus.valueOf(rawStatus));
+        bh.consume(LocalDateTime.parse(rawEndTime));
+    }
+}
@@ -0,0 +1,51 @@
+package noonchissaum.backend.global;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 입찰 1건마다 만들어지는 Redis 키 조립 비용
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class RedisKeysBenchmark {
+
+    private long auctionId = 1_024L;
+    private long userId = 58_213L;
+    private String requestId = "3f1c2a9e-7b54-4c1d-9a0e-5f2b8c7d6e41";
+
+    @Benchmark
+    public String auctionState() {
+        return RedisKeys.auctionState(auctionId);
+    }
+
+    @Benchmark
+    public String userBalance() {
+        return RedisKeys.userBalance(userId);
+    }
+
+    @Benchmark
+    public String bidIdempotency() {
+        return RedisKeys.bidIdempotency(requestId);
+    }
+
+    /**
+     * script 모드 입찰 1건이 만드는 키 묶음 (BidScriptService.execute 와 동일)
+     */
+    @Benchmark
+    public void placeBidKeys(Blackhole bh) {
+        bh.consume(RedisKeys.bidIdempotency(requestId));
+        bh.consume(RedisKeys.auctionState(auctionId));
+        bh.consume(RedisKeys.userBalance(userId));
+        bh.consume(RedisKeys.userLockedBalance(userId));
+        bh.consume(RedisKeys.bidJournal());
+        bh.consume(RedisKeys.pendingUser(userId));
+    }
+}
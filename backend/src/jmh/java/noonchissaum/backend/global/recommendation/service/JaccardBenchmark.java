@@ -0,0 +1,45 @@
+package noonchissaum.backend.global.recommendation.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 추천 후보 유저 간 조회 이력 유사도 (유저 1명당 후보 수만큼 반복 호출)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class JaccardBenchmark {
+
+    // 유저별 최근 조회 상품 수
+    @Param({"20", "200"})
+    private int viewCount;
+
+    private Set<Long> viewsU;
+    private Set<Long> viewsV;
+
+    @Setup
+    public void setUp() {
+        // 절반이 겹치는 두 조회 이력
+        viewsU = new HashSet<>();
+        viewsV = new HashSet<>();
+        for (long i = 0; i < viewCount; i++) {
+            viewsU.add(i);
+            viewsV.add(i + viewCount / 2);
+        }
+    }
+
+    @Benchmark
+    public double jaccard() {
+        return RecommendationService.jaccard(viewsU, viewsV);
+    }
+}
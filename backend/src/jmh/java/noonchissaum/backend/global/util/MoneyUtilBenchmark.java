@@ -0,0 +1,44 @@
+package noonchissaum.backend.global.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 보증금 계산 (경매 등록/입찰 화면마다 호출)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class MoneyUtilBenchmark {
+
+    private static final int SIZE = 1_024;
+
+    private int[] startPrices;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        startPrices = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            startPrices[i] = random.nextInt(5_000_000);
+        }
+    }
+
+    /**
+     * 시작가 1,024개에 대한 보증금 계산 (ns/op 는 1,024건 합계)
+     */
+    @Benchmark
+    public void calcDeposit(Blackhole bh) {
+        for (int startPrice : startPrices) {
+            bh.consume(MoneyUtil.calcDeposit(startPrice));
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package noonchissaum.backend.global.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import noonchissaum.backend.domain.auction.dto.ws.BidSucceededPayload;
+import noonchissaum.backend.global.dto.SocketMessageType;
+import noonchissaum.backend.global.dto.WsMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인기 경매 토픽 하나에 구독자 N 명이 있을 때 입찰 1건 fan-out 비용 (gc.alloc.rate.norm 비교용)
+ * simple broker 를 동기 채널로 띄우고, 세션 전송 단계는 StompEncoder 로 프레임 인코딩까지만 수행한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class StompFanoutBenchmark {
+
+    private static final String TOPIC = "/topic/auction/1";
+
+    @Param({"10000"})
+    private int subscribers;
+
+    private ObjectMapper objectMapper;
+    private SimpleBrokerMessageHandler broker;
+    private FrameEncodingHandler outbound;
+    private SimpMessagingTemplate convertingTemplate;
+    private StompMessageRelay relay;
+    private WsMessage<BidSucceededPayload> message;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        // executor 없는 채널 = 호출 스레드에서 동기 처리
+        ExecutorSubscribableChannel clientInbound = new ExecutorSubscribableChannel();
+        ExecutorSubscribableChannel clientOutbound = new ExecutorSubscribableChannel();
+        ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+        outbound = new FrameEncodingHandler();
+        clientOutbound.subscribe(outbound);
+
+        broker = new SimpleBrokerMessageHandler(clientInbound, clientOutbound, brokerChannel, List.of("/topic"));
+        broker.start();
+        for (int i = 0; i < subscribers; i++) {
+            String sessionId = "session-" + i;
+            clientInbound.send(simpMessage(SimpMessageType.CONNECT, sessionId, null, null));
+            clientInbound.send(simpMessage(SimpMessageType.SUBSCRIBE, sessionId, "sub-0", TOPIC));
+        }
+
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(objectMapper);
+        convertingTemplate = new SimpMessagingTemplate(brokerChannel);
+        convertingTemplate.setMessageConverter(converter);
+        // mode 미설정 = local
+        relay = new StompMessageRelay(convertingTemplate, null, null, objectMapper);
+
+        message = WsMessage.of(SocketMessageType.BID_SUCCESSED, BidSucceededPayload.builder()
+                .auctionId(1L)
+                .currentPrice(1_250_000L)
+                .currentBidderId(58_213L)
+                .bidCount(412)
+                .endAt(LocalDateTime.of(2026, 1, 29, 11, 5, 30))
+                .isExtended(true)
+                .build());
+    }
+
+    @TearDown
+    public void tearDown() {
+        broker.stop();
+    }
+
+    /**
+     * 기준선: 세션마다 JSON 직렬화 + 프레임 인코딩
+     */
+    @Benchmark
+    public long serializePerSession() throws Exception {
+        long bytes = 0;
+        for (int i = 0; i < subscribers; i++) {
+            byte[] json = objectMapper.writeValueAsBytes(message);
+            bytes += outbound.encode(TOPIC, "sub-0", json).length;
+        }
+        return bytes;
+    }
+
+    /**
+     * 기존 경로: SimpMessagingTemplate 컨버터로 1회 직렬화 후 broker fan-out
+     */
+    @Benchmark
+    public long convertAndSend() {
+        outbound.reset();
+        convertingTemplate.convertAndSend(TOPIC, message);
+        return outbound.bytes();
+    }
+
+    /**
+     * relay 경로: 재사용 버퍼로 1회 직렬화한 byte[] 를 broker fan-out
+     */
+    @Benchmark
+    public long relayPreEncoded() {
+        outbound.reset();
+        relay.convertAndSend(TOPIC, message);
+        return outbound.bytes();
+    }
+
+    private static Message<byte[]> simpMessage(SimpMessageType type, String sessionId, String subscriptionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    /**
+     * 세션 전송 단계 대역 (StompSubProtocolHandler 처럼 MESSAGE 프레임만 인코딩)
+     */
+    private static final class FrameEncodingHandler implements MessageHandler {
+
+        private final StompEncoder encoder = new StompEncoder();
+        private long bytes;
+
+        @Override
+        public void handleMessage(Message<?> message) {
+            if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE
+                    || !(message.getPayload() instanceof byte[] payload)) {
+                return;
+            }
+            bytes += encode(
+                    SimpMessageHeaderAccessor.getDestination(message.getHeaders()),
+                    SimpMessageHeaderAccessor.getSubscriptionId(message.getHeaders()),
+                    payload
+            ).length;
+        }
+
+        byte[] encode(String destination, String subscriptionId, byte[] payload) {
+            StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+            accessor.setDestination(destination);
+            accessor.setSubscriptionId(subscriptionId);
+            accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            return encoder.encode(accessor.getMessageHeaders(), payload);
+        }
+
+        void reset() {
+            bytes = 0;
+        }
+
+        long bytes() {
+            return bytes;
+        }
+    }
+}
@@ -2,11 +2,14 @@ package noonchissaum.backend.domain.auction.controller;
 
 import lombok.RequiredArgsConstructor;
 import noonchissaum.backend.domain.auction.dto.req.AuctionRegisterReq;
+import noonchissaum.backend.domain.auction.dto.res.AuctionEventReplayRes;
 import noonchissaum.backend.domain.auction.dto.res.AuctionListRes;
 import noonchissaum.backend.domain.auction.dto.res.AuctionRes;
 import noonchissaum.backend.domain.auction.entity.AuctionSortType;
 import noonchissaum.backend.domain.auction.entity.AuctionStatus;
+import noonchissaum.backend.domain.auction.service.AuctionEventLog;
 import noonchissaum.backend.domain.auction.service.AuctionService;
+import noonchissaum.backend.domain.auction.service.AuctionViewerTracker;
 import noonchissaum.backend.global.dto.ApiResponse;
 import noonchissaum.backend.global.security.UserPrincipal;
 import org.springframework.data.domain.Page;
@@ -29,6 +32,8 @@ import java.util.List;
 public class AuctionController {
 
     private final AuctionService auctionService;
+    private final AuctionViewerTracker auctionViewerTracker;
+    private final AuctionEventLog auctionEventLog;
 
     /**
      * 새로운 경매 물품을 등록합니다.
@@ -67,6 +72,25 @@ public class AuctionController {
         return ResponseEntity.ok(new ApiResponse<>("Auction detail retrieved", response));
     }
 
+    /**
+     * 경매 실시간 화면을 보고 있는 시청자 수를 조회합니다.
+     */
+    @GetMapping("/{auctionId}/viewers")
+    public ResponseEntity<ApiResponse<Integer>> getAuctionViewers(@PathVariable Long auctionId) {
+        return ResponseEntity.ok(new ApiResponse<>("Auction viewer count retrieved", auctionViewerTracker.viewerCount(auctionId)));
+    }
+
+    /**
+     * 재연결 시 마지막으로 받은 순번(after) 이후 놓친 경매 이벤트를 조회합니다.
+     * complete 가 false 면 버퍼에서 밀려난 구간이 있으므로 상세 조회로 다시 맞춰야 합니다.
+     */
+    @GetMapping("/{auctionId}/events")
+    public ResponseEntity<ApiResponse<AuctionEventReplayRes>> getAuctionEvents(
+            @PathVariable Long auctionId,
+            @RequestParam(defaultValue = "0") long after) {
+        return ResponseEntity.ok(new ApiResponse<>("Auction events retrieved", auctionEventLog.replay(auctionId, after)));
+    }
+
     /**
      * 등록된 경매를 취소합니다.
      */
@@ -3,6 +3,7 @@ package noonchissaum.backend.domain.auction.controller;
 import lombok.RequiredArgsConstructor;
 import noonchissaum.backend.domain.auction.dto.ws.AuctionSnapshotPayload;
 import noonchissaum.backend.domain.auction.service.AuctionRealtimeSnapshotService;
+import noonchissaum.backend.domain.auction.service.AuctionViewerTracker;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.stereotype.Controller;
@@ -14,12 +15,14 @@ import java.security.Principal;
 public class AuctionWsController {
 
     private final AuctionRealtimeSnapshotService snapshotService;
+    private final AuctionViewerTracker auctionViewerTracker;
     private final SimpMessagingTemplate messagingTemplate;
 
     @MessageMapping("/auctions/{auctionId}/snapshot")
     public void snapshot(@DestinationVariable Long auctionId, Principal principal) {
 
         AuctionSnapshotPayload payload = snapshotService.getSnapshot(auctionId);
+        payload.setViewerCount(auctionViewerTracker.viewerCount(auctionId));
         messagingTemplate.convertAndSendToUser(
                 principal.getName(),
                 "/queue/auctions/" + auctionId + "/snapshot",
@@ -2,9 +2,11 @@ package noonchissaum.backend.domain.auction.controller;
 
 import jakarta.validation.Valid;
 import noonchissaum.backend.domain.auction.dto.req.PlaceBidReq;
+import noonchissaum.backend.domain.auction.dto.req.ProxyBidReq;
 import noonchissaum.backend.domain.auction.dto.res.BidHistoryItemRes;
 import noonchissaum.backend.domain.auction.dto.res.MyBidAuctionRes;
 import noonchissaum.backend.domain.auction.service.BidService;
+import noonchissaum.backend.domain.auction.service.ProxyBidService;
 import noonchissaum.backend.global.dto.ApiResponse;
 import noonchissaum.backend.global.security.UserPrincipal;
 import org.springframework.data.domain.Page;
@@ -21,6 +23,7 @@ import lombok.RequiredArgsConstructor;
 @RequestMapping("/api/bid")
 public class BidController {
     private final BidService bidService;
+    private final ProxyBidService proxyBidService;
 
     @GetMapping("/{auctionId}")
     public ResponseEntity<ApiResponse<Page<BidHistoryItemRes>>> getBidHistory(
@@ -67,4 +70,26 @@ public class BidController {
 
     }
 
+    /**
+     * 자동 입찰 등록 (최대 입찰가까지 최소 증가폭 단위로 대신 입찰)
+     */
+    @PostMapping("/proxy")
+    public ResponseEntity<ApiResponse<Void>> registerProxyBid(
+            @AuthenticationPrincipal UserPrincipal userDetails,
+            @Valid @RequestBody ProxyBidReq req
+    ){
+        proxyBidService.register(req.auctionId(), userDetails.getUserId(), req.maxAmount());
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("자동 입찰 등록 완료"));
+    }
+
+    @DeleteMapping("/{auctionId}/proxy")
+    public ResponseEntity<ApiResponse<Void>> cancelProxyBid(
+            @AuthenticationPrincipal UserPrincipal userDetails,
+            @PathVariable Long auctionId
+    ){
+        proxyBidService.cancel(auctionId, userDetails.getUserId());
+        return ResponseEntity.ok(ApiResponse.success("자동 입찰 취소 완료"));
+    }
+
 }
@@ -0,0 +1,15 @@
+package noonchissaum.backend.domain.auction.dto.req;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.math.BigDecimal;
+
+public record ProxyBidReq(
+        @NotNull
+        Long auctionId,
+        @NotNull
+        @Positive
+        BigDecimal maxAmount
+)
+{
+}
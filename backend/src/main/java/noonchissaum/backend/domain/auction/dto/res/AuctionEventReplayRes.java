@@ -0,0 +1,16 @@
+package noonchissaum.backend.domain.auction.dto.res;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.List;
+
+/**
+ * 경매 토픽 이어받기 결과
+ * complete=false 면 요청한 순번 이후 일부가 버퍼에서 밀려났으므로 스냅샷을 다시 받아야 한다.
+ */
+public record AuctionEventReplayRes(
+        Long auctionId,
+        long lastSeq,
+        boolean complete,
+        List<JsonNode> events
+) {
+}
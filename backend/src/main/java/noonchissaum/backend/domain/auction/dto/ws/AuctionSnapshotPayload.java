@@ -3,6 +3,7 @@ package noonchissaum.backend.domain.auction.dto.ws;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Getter
@@ -18,4 +19,8 @@ public class AuctionSnapshotPayload {
     private LocalDateTime endAt;
     private Integer imminentMinutes;
     private Boolean isExtended;
+
+    // 현재 경매 토픽 구독자 수 (AuctionViewerTracker, 전송 직전에 채움)
+    @Setter
+    private Integer viewerCount;
 }
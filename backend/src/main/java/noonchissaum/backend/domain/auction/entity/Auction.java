@@ -16,7 +16,14 @@ import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 
 @Entity
-@Table(name = "auctions")
+@Table(
+        name = "auctions",
+        indexes = {
+                // 생명주기 전환(RUNNING -> DEADLINE, DEADLINE -> ENDED) 범위 조회용
+                @Index(name = "idx_auctions_status_deadline_at", columnList = "status, deadline_at"),
+                @Index(name = "idx_auctions_status_end_at", columnList = "status, end_at")
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Auction extends BaseTimeEntity {
@@ -58,6 +65,10 @@ public class Auction extends BaseTimeEntity {
     @Column(name = "imminent_minutes", nullable = false)
     private Integer imminentMinutes;
 
+    // 마감 임박(DEADLINE) 진입 시각 = endAt - imminentMinutes (endAt 이 바뀔 때마다 함께 갱신)
+    @Column(name = "deadline_at")
+    private LocalDateTime deadlineAt;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private AuctionStatus status;
@@ -84,6 +95,7 @@ public class Auction extends BaseTimeEntity {
         this.endAt = endAt;
         this.isExtended = false;
         this.imminentMinutes = ThreadLocalRandom.current().nextInt(5,8);
+        refreshDeadlineAt();
         this.status = AuctionStatus.READY;
         this.depositStatus = DepositStatus.HELD;
         this.isHotDeal = (isHotDeal != null && isHotDeal);
@@ -102,6 +114,28 @@ public class Auction extends BaseTimeEntity {
         this.status = AuctionStatus.RUNNING;
         this.startAt = LocalDateTime.now();
     }
+
+    /**
+     * RUNNING -> DEADLINE (마감 임박 진입)
+     */
+    public boolean markDeadline() {
+        if (this.status != AuctionStatus.RUNNING) {
+            return false;
+        }
+        this.status = AuctionStatus.DEADLINE;
+        return true;
+    }
+
+    /**
+     * DEADLINE -> ENDED
+     */
+    public boolean end() {
+        if (this.status != AuctionStatus.DEADLINE) {
+            return false;
+        }
+        this.status = AuctionStatus.ENDED;
+        return true;
+    }
     /**
      * 상태 전이 메서드 (중복 처리 방지)
      */
@@ -141,6 +175,7 @@ public class Auction extends BaseTimeEntity {
         if (remainSeconds <= windowSeconds && remainSeconds >= 0 || this.status == AuctionStatus.DEADLINE) {
             this.endAt = this.endAt.plusMinutes(3);
             this.isExtended = true;
+            refreshDeadlineAt();
             return true;
         }
 
@@ -156,6 +191,33 @@ public class Auction extends BaseTimeEntity {
         this.bidCount++;
     }
 
+    /**
+     * Redis 에서 확정된 최신 입찰 상태 반영 (write-behind flush)
+     * 이미 더 최신 상태가 반영돼 있으면 무시
+     */
+    public boolean syncBid(User bidder, BigDecimal price, int bidCount) {
+        if (this.bidCount != null && this.bidCount >= bidCount) {
+            return false;
+        }
+        this.currentBidder = bidder;
+        this.currentPrice = price;
+        this.bidCount = bidCount;
+        return true;
+    }
+
+    /**
+     * Redis 에서 결정된 마감 연장 반영 (write-behind flush)
+     */
+    public boolean syncExtension(LocalDateTime extendedEndAt) {
+        if (extendedEndAt == null || !extendedEndAt.isAfter(this.endAt)) {
+            return false;
+        }
+        this.endAt = extendedEndAt;
+        this.isExtended = true;
+        refreshDeadlineAt();
+        return true;
+    }
+
     /**
      * 경매 임시 차단 (신고)
      */
@@ -185,6 +247,7 @@ public class Auction extends BaseTimeEntity {
             long blockedSeconds = Duration.between(this.blockedAt, LocalDateTime.now()).getSeconds();
             if (blockedSeconds > 0) {
                 this.endAt = this.endAt.plusSeconds(blockedSeconds);
+                refreshDeadlineAt();
             }
         }
         if (this.endAt != null) {
@@ -198,6 +261,11 @@ public class Auction extends BaseTimeEntity {
         this.blockedAt = null;
     }
 
+    private void refreshDeadlineAt() {
+        int windowMinutes = (this.imminentMinutes == null ? 5 : this.imminentMinutes);
+        this.deadlineAt = this.endAt == null ? null : this.endAt.minusMinutes(windowMinutes);
+    }
+
     public User getSeller() {
         return this.item != null ? this.item.getSeller() : null;
     }
@@ -0,0 +1,37 @@
+package noonchissaum.backend.domain.auction.entity;
+
+/**
+ * 경매 트랜잭션 커밋 후 AuctionOutboxRelay 가 반영하는 부수 효과
+ * 같은 경매에 쌓인 효과는 비트 OR 로 합쳐 한 번만 반영한다. (선언 순서가 반영 순서, RELOAD 는 STATE 자리에서 반영)
+ */
+public enum AuctionEffect {
+    // Redis 상태 해시 갱신 (+ 스냅샷 재전송 표시)
+    STATE,
+    // 카테고리/전체 가격 ZSET 인덱스 갱신
+    PRICE_INDEX,
+    // 연장 알림 (WS)
+    EXTENDED,
+    // 현재 입찰 상태 알림 (WS, 입찰 롤백 등)
+    BID_STATE,
+    // 경매 종료 알림 (WS)
+    ENDED,
+    // Redis 상태 해시 강제 덮어쓰기 (입찰 롤백/마감 이동 등 DB 가 기준인 변경, STATE 단계에서 STATE 대신 반영)
+    // 이미 적재된 행의 비트 값이 바뀌지 않도록 마지막에 선언
+    RELOAD;
+
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    public boolean in(int mask) {
+        return (mask & bit()) != 0;
+    }
+
+    public static int mask(AuctionEffect... effects) {
+        int mask = 0;
+        for (AuctionEffect effect : effects) {
+            mask |= effect.bit();
+        }
+        return mask;
+    }
+}
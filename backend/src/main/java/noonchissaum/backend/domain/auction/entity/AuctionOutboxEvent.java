@@ -0,0 +1,54 @@
+package noonchissaum.backend.domain.auction.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * 경매 부수 효과 대기열 (경매 트랜잭션 안에서 저장, AuctionOutboxRelay 가 커밋 후 반영)
+ * 적재/선점/삭제는 AuctionOutboxRepository(JDBC)로 처리한다.
+ * max-attempts 까지 실패한 행은 dead_lettered_at 을 찍어 선점 대상에서 빼고, 보관 기간 뒤 정리한다.
+ */
+@Entity
+@Table(
+        name = "auction_outbox",
+        indexes = {
+                @Index(name = "idx_auction_outbox_claim", columnList = "claim_token"),
+                @Index(name = "idx_auction_outbox_locked", columnList = "locked_until, attempts"),
+                @Index(name = "idx_auction_outbox_dead", columnList = "dead_lettered_at")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AuctionOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "auction_outbox_id")
+    private Long id;
+
+    @Column(name = "auction_id", nullable = false)
+    private Long auctionId;
+
+    // AuctionEffect 비트 OR
+    @Column(nullable = false)
+    private int effects;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    // 재시도를 모두 소진해 더 이상 선점하지 않는 행 (null 이면 대기/처리 중)
+    @Column(name = "dead_lettered_at")
+    private LocalDateTime deadLetteredAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,39 @@
+package noonchissaum.backend.domain.auction.redis;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 경매 실시간 상태 해시(auction:{id}:state) 필드명
+ */
+public final class AuctionStateFields {
+
+    private AuctionStateFields() {}
+
+    public static final String CURRENT_PRICE = "currentPrice";
+    public static final String CURRENT_BIDDER = "currentBidder";
+    public static final String CURRENT_BID_COUNT = "currentBidCount";
+    public static final String START_PRICE = "startPrice";
+    public static final String STATUS = "status";
+    public static final String END_TIME = "endTime";
+    public static final String IMMINENT_MINUTES = "imminentMinutes";
+    public static final String IS_EXTENDED = "isExtended";
+
+    public static final List<String> ALL = List.of(
+            CURRENT_PRICE,
+            CURRENT_BIDDER,
+            CURRENT_BID_COUNT,
+            START_PRICE,
+            STATUS,
+            END_TIME,
+            IMMINENT_MINUTES,
+            IS_EXTENDED
+    );
+
+    /**
+     * 부분 갱신만 된 해시(필드 누락)는 복구 대상으로 본다.
+     */
+    public static boolean isComplete(Map<?, ?> state) {
+        return state != null && state.keySet().containsAll(ALL);
+    }
+}
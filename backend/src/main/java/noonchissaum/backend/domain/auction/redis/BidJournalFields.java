@@ -0,0 +1,59 @@
+package noonchissaum.backend.domain.auction.redis;
+
+import noonchissaum.backend.domain.task.dto.DbUpdateEvent;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 입찰 저널 스트림(bid_journal) 엔트리 필드명
+ * (place_bid.lua 의 XADD 필드와 동일하게 유지할 것)
+ */
+public final class BidJournalFields {
+
+    private BidJournalFields() {}
+
+    public static final String AUCTION_ID = "auctionId";
+    public static final String USER_ID = "userId";
+    public static final String BID_AMOUNT = "bidAmount";
+    public static final String REQUEST_ID = "requestId";
+    public static final String PREVIOUS_BIDDER_ID = "previousBidderId";
+    public static final String REFUND_AMOUNT = "refundAmount";
+    public static final String CREATED_AT = "createdAt";
+
+    public static Map<String, String> of(Long auctionId, Long userId, BigDecimal bidAmount, String requestId,
+                                         Long previousBidderId, BigDecimal refundAmount) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put(AUCTION_ID, String.valueOf(auctionId));
+        fields.put(USER_ID, String.valueOf(userId));
+        fields.put(BID_AMOUNT, bidAmount.toPlainString());
+        fields.put(REQUEST_ID, requestId);
+        fields.put(PREVIOUS_BIDDER_ID, String.valueOf(previousBidderId));   // wallet 용
+        fields.put(REFUND_AMOUNT, refundAmount.toPlainString());           // wallet 용
+        fields.put(CREATED_AT, String.valueOf(System.currentTimeMillis()));
+        return fields;
+    }
+
+    /**
+     * 저널 엔트리 → DB 반영 이벤트
+     */
+    public static DbUpdateEvent toEvent(Map<?, ?> fields) {
+        String rawPrev = (String) fields.get(PREVIOUS_BIDDER_ID);
+        String rawRefund = (String) fields.get(REFUND_AMOUNT);
+        String rawCreatedAt = (String) fields.get(CREATED_AT);
+        return new DbUpdateEvent(
+                Long.parseLong((String) fields.get(USER_ID)),
+                (rawPrev == null || rawPrev.isBlank()) ? -1L : Long.parseLong(rawPrev),
+                new BigDecimal((String) fields.get(BID_AMOUNT)),
+                (rawRefund == null || rawRefund.isBlank()) ? BigDecimal.ZERO : new BigDecimal(rawRefund),
+                Long.parseLong((String) fields.get(AUCTION_ID)),
+                (String) fields.get(REQUEST_ID),
+                (rawCreatedAt == null || rawCreatedAt.isBlank())
+                        ? null
+                        : LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(rawCreatedAt)), ZoneId.systemDefault())
+        );
+    }
+}
@@ -0,0 +1,31 @@
+package noonchissaum.backend.domain.auction.repository;
+
+import noonchissaum.backend.domain.auction.entity.Auction;
+import noonchissaum.backend.domain.auction.entity.AuctionStatus;
+import java.time.LocalDateTime;
+
+/**
+ * 생명주기 타이머 예약에 필요한 경매 컬럼만 담은 조회 결과 (타이머 재구성 시 엔티티 로딩 없이 사용)
+ */
+public record AuctionLifecycleRow(
+        Long id,
+        AuctionStatus status,
+        LocalDateTime createdAt,
+        LocalDateTime startAt,
+        LocalDateTime endAt,
+        Integer imminentMinutes,
+        Boolean isHotDeal
+) {
+
+    public static AuctionLifecycleRow of(Auction auction) {
+        return new AuctionLifecycleRow(
+                auction.getId(),
+                auction.getStatus(),
+                auction.getCreatedAt(),
+                auction.getStartAt(),
+                auction.getEndAt(),
+                auction.getImminentMinutes(),
+                auction.getIsHotDeal()
+        );
+    }
+}
@@ -0,0 +1,118 @@
+package noonchissaum.backend.domain.auction.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * auction_outbox 적재 / 선점 / 삭제 (JDBC)
+ * 선점은 UPDATE ... ORDER BY ... LIMIT 한 번으로 claim_token 을 찍어 여러 노드의 relay 가 같은 행을 처리하지 않게 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuctionOutboxRepository {
+
+    private static final String INSERT_EVENT =
+            "INSERT INTO auction_outbox (auction_id, effects, attempts, created_at) VALUES (?, ?, 0, ?)";
+
+    private static final String CLAIM =
+            "UPDATE auction_outbox SET claim_token = ?, locked_until = ? "
+                    + "WHERE (locked_until IS NULL OR locked_until <= ?) AND attempts < ? AND dead_lettered_at IS NULL "
+                    + "ORDER BY auction_outbox_id LIMIT ?";
+
+    private static final String FIND_CLAIMED =
+            "SELECT auction_outbox_id, auction_id, effects, attempts, created_at FROM auction_outbox "
+                    + "WHERE claim_token = ? ORDER BY auction_outbox_id";
+
+    private static final String DELETE_CLAIMED =
+            "DELETE FROM auction_outbox WHERE claim_token = ?";
+
+    private static final String RELEASE =
+            "UPDATE auction_outbox SET claim_token = NULL, locked_until = ?, attempts = attempts + 1 "
+                    + "WHERE claim_token = ? AND auction_id = ?";
+
+    private static final String DEAD_LETTER =
+            "UPDATE auction_outbox SET claim_token = NULL, locked_until = NULL, attempts = attempts + 1, dead_lettered_at = ? "
+                    + "WHERE claim_token = ? AND auction_id = ?";
+
+    private static final String DELETE_DEAD_LETTERED =
+            "DELETE FROM auction_outbox WHERE dead_lettered_at IS NOT NULL AND dead_lettered_at < ? LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 경매별 효과 적재 (호출한 트랜잭션에 참여, JDBC batch 1회) */
+    public void insertAll(Map<Long, Integer> effectsByAuction, LocalDateTime now) {
+        if (effectsByAuction.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.valueOf(now);
+        List<Map.Entry<Long, Integer>> rows = List.copyOf(effectsByAuction.entrySet());
+        jdbcTemplate.batchUpdate(INSERT_EVENT, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.getKey());
+            ps.setInt(2, row.getValue());
+            ps.setTimestamp(3, timestamp);
+        });
+    }
+
+    /**
+     * 처리 가능한 행을 최대 limit 건 선점
+     * locked_until 은 선점 중에는 선점 만료 시각, 해제 후에는 재시도 가능 시각이므로 둘 다 지난 행만 대상이 된다.
+     * @return 선점한 행 수
+     */
+    public int claim(String claimToken, int limit, int maxAttempts, LocalDateTime now, LocalDateTime lockedUntil) {
+        return jdbcTemplate.update(CLAIM, claimToken, Timestamp.valueOf(lockedUntil), Timestamp.valueOf(now), maxAttempts, limit);
+    }
+
+    public List<OutboxRow> findClaimed(String claimToken) {
+        return jdbcTemplate.query(FIND_CLAIMED, (rs, rowNum) -> new OutboxRow(
+                rs.getLong("auction_outbox_id"),
+                rs.getLong("auction_id"),
+                rs.getInt("effects"),
+                rs.getInt("attempts"),
+                rs.getTimestamp("created_at").toLocalDateTime()
+        ), claimToken);
+    }
+
+    /** 반영 실패한 경매 행을 선점 해제하고 retryAt 이후 다시 선점되게 함 */
+    public void release(String claimToken, List<Long> auctionIds, LocalDateTime retryAt) {
+        if (auctionIds.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.valueOf(retryAt);
+        jdbcTemplate.batchUpdate(RELEASE, auctionIds, auctionIds.size(), (ps, auctionId) -> {
+            ps.setTimestamp(1, timestamp);
+            ps.setString(2, claimToken);
+            ps.setLong(3, auctionId);
+        });
+    }
+
+    /** 재시도를 모두 소진한 경매 행을 선점 해제하고 dead-letter 로 남김 (다시 선점되지 않음) */
+    public void deadLetter(String claimToken, List<Long> auctionIds, LocalDateTime now) {
+        if (auctionIds.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(DEAD_LETTER, auctionIds, auctionIds.size(), (ps, auctionId) -> {
+            ps.setTimestamp(1, timestamp);
+            ps.setString(2, claimToken);
+            ps.setLong(3, auctionId);
+        });
+    }
+
+    /** threshold 이전에 dead-letter 된 행을 최대 limit 건 삭제 */
+    public int deleteDeadLetteredBefore(LocalDateTime threshold, int limit) {
+        return jdbcTemplate.update(DELETE_DEAD_LETTERED, Timestamp.valueOf(threshold), limit);
+    }
+
+    /** 선점한 행 중 release / dead-letter 되지 않은 나머지 삭제 */
+    public int deleteClaimed(String claimToken) {
+        return jdbcTemplate.update(DELETE_CLAIMED, claimToken);
+    }
+
+    public record OutboxRow(Long id, Long auctionId, int effects, int attempts, LocalDateTime createdAt) {
+    }
+}
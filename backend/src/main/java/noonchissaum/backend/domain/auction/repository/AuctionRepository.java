@@ -1,5 +1,6 @@
 package noonchissaum.backend.domain.auction.repository;
 
+import jakarta.persistence.LockModeType;
 import noonchissaum.backend.domain.auction.entity.Auction;
 import noonchissaum.backend.domain.auction.entity.AuctionStatus;
 import org.springframework.data.domain.Page;
@@ -25,9 +26,31 @@ public interface AuctionRepository extends JpaRepository<Auction, Long> , JpaSpe
 
     List<Auction> findAllByStatusIn(List<AuctionStatus> statuses);
 
+    // 생명주기 타이머 재구성용 컬럼만 id 순으로 이어서 조회 (keyset)
+    @Query("""
+        select new noonchissaum.backend.domain.auction.repository.AuctionLifecycleRow(
+            a.id, a.status, a.createdAt, a.startAt, a.endAt, a.imminentMinutes, a.isHotDeal)
+        from Auction a
+        where a.status in :statuses
+          and a.id > :afterId
+        order by a.id
+    """)
+    List<AuctionLifecycleRow> findLifecycleRowsAfter(@Param("statuses") List<AuctionStatus> statuses,
+                                                     @Param("afterId") Long afterId,
+                                                     Pageable pageable);
+
+    @Query("select a.id from Auction a where a.status in :statuses")
+    List<Long> findIdsByStatusIn(@Param("statuses") List<AuctionStatus> statuses);
+
     @EntityGraph(attributePaths = {"item", "item.seller", "item.category"})
     List<Auction> findByIdIn(List<Long> ids);
 
+    // 상태별 ID 를 id 순으로 이어서 조회 (keyset, 결과 확정 chunk)
+    @Query("select a.id from Auction a where a.status = :status and a.id > :afterId order by a.id")
+    List<Long> findIdsByStatusAfter(@Param("status") AuctionStatus status,
+                                    @Param("afterId") Long afterId,
+                                    Pageable pageable);
+
     /**
      * READY->RUNNING
      */
@@ -64,49 +87,67 @@ public interface AuctionRepository extends JpaRepository<Auction, Long> , JpaSpe
     );
 
     /**
-     *스케줄 관련 상태값 변경쿼리
-     * deadline -> ended
-     */
-    @Modifying
-    @Query("""
-    update Auction a
-    set a.status = :ended
-    where a.status = :deadline
-      and a.endAt <= :now
-""")
-    int endRunningAuctions(
-            @Param("deadline") AuctionStatus deadline,
-            @Param("ended") AuctionStatus ended,
-            @Param("now") LocalDateTime now
-    );
-
-    /**
-     * 스케줄 관련 상태값 변경 쿼리
-     * Running -> DEADLINE
+     * RUNNING -> DEADLINE 대상 조회 + 행 잠금 ((status, deadline_at) 인덱스 범위)
+     * 잠근 행만 transitionStatus 로 전환하므로 반환한 ID 와 실제 전환된 경매가 일치한다.
      */
-    @Modifying
     @Query(
             value = """
-        UPDATE auctions a
-        SET a.status = 'DEADLINE'
+        SELECT a.auction_id
+        FROM auctions a
         WHERE a.status = 'RUNNING'
-            AND TIMESTAMPDIFF(MINUTE, :now, a.end_at) <= a.imminent_minutes
-        """,
+          AND a.deadline_at <= :now
+        FOR UPDATE
+    """,
             nativeQuery = true
     )
-    int markDeadlineAuctions(@Param("now") LocalDateTime now);
+    List<Long> lockIdsToDeadline(@Param("now") LocalDateTime now);
 
+    /**
+     * DEADLINE -> ENDED 대상 조회 + 행 잠금 ((status, end_at) 인덱스 범위)
+     */
     @Query(
             value = """
         SELECT a.auction_id
         FROM auctions a
-        WHERE a.status = 'RUNNING'
-          AND TIMESTAMPDIFF(MINUTE, :now, a.end_at) <= a.imminent_minutes
+        WHERE a.status = 'DEADLINE'
+          AND a.end_at <= :now
+        FOR UPDATE
     """,
             nativeQuery = true
     )
-    List<Long> findRunningAuctionsToDeadline(@Param("now") LocalDateTime now);
+    List<Long> lockIdsToEnd(@Param("now") LocalDateTime now);
+
+    /**
+     * 스케줄 관련 상태값 변경 쿼리 (PK 기준 일괄 전환)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+    update Auction a
+    set a.status = :toStatus
+    where a.id in :ids
+      and a.status = :fromStatus
+""")
+    int transitionStatus(
+            @Param("ids") List<Long> ids,
+            @Param("fromStatus") AuctionStatus fromStatus,
+            @Param("toStatus") AuctionStatus toStatus
+    );
 
+    /**
+     * deadline_at 컬럼 추가 전 생성된 진행 중 경매의 값 채우기 (기동 시 1회, 채울 행이 없으면 인덱스 범위만 확인)
+     */
+    @Modifying
+    @Query(
+            value = """
+        UPDATE auctions a
+        SET a.deadline_at = DATE_SUB(a.end_at, INTERVAL a.imminent_minutes MINUTE)
+        WHERE a.status IN ('READY', 'RUNNING', 'DEADLINE', 'TEMP_BLOCKED')
+          AND a.deadline_at IS NULL
+          AND a.end_at IS NOT NULL
+    """,
+            nativeQuery = true
+    )
+    int backfillDeadlineAt();
 
     @Query(
             "select a from Auction a where a.id = :auctionId " +
@@ -127,17 +168,22 @@ public interface AuctionRepository extends JpaRepository<Auction, Long> , JpaSpe
             @Param("toStatus") AuctionStatus toStatus
     );
 
-    @Query("""
-select a.id from Auction a
-where a.status = :status
-  and a.endAt <= :now
-""")
-    List<Long> findIdsToEnd(@Param("status") AuctionStatus status, @Param("now") LocalDateTime now);
-
     /**
+     * 차단 롤백 대상 경매 ID
+     * write-behind/입찰 저널이 밀려 DB 현재 입찰자가 아직 갱신되지 않은 경매도 포함하도록 입찰 이력까지 함께 본다.
      */
-    @EntityGraph(attributePaths = {"item", "item.seller", "item.category", "currentBidder"})
-    List<Auction> findByCurrentBidder_IdAndStatusIn(Long userId, List<AuctionStatus> statuses);
+    @Query("""
+    select a.id from Auction a
+    where a.status in :statuses
+    and (a.currentBidder.id = :userId
+         or exists (select b.id from Bid b where b.auction = a and b.bidder.id = :userId))
+    """)
+    List<Long> findRollbackCandidateIds(@Param("userId") Long userId, @Param("statuses") List<AuctionStatus> statuses);
+
+    // 비관적 락 적용한 Id로 조회 (롤백과 write-behind flush 직렬화)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Auction a where a.id = :auctionId")
+    Optional<Auction> findByIdForUpdate(@Param("auctionId") Long auctionId);
 
     /**
      * 사용자의 위치 필터링  부분 n+1/lazyloading방지
@@ -10,12 +10,17 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface BidRepository extends JpaRepository<Bid,Long> {
     boolean existsByRequestId(String requestId);
 
+    // 이미 저장된 requestId 만 골라냄 (pending 정리용 일괄 조회)
+    @Query("select b.requestId from Bid b where b.requestId in :requestIds")
+    List<String> findExistingRequestIds(@Param("requestIds") Collection<String> requestIds);
+
     Page<Bid> findByAuctionIdOrderByCreatedAtDesc(Long auctionId, Pageable pageable);
 
     Optional<Bid> findFirstByAuctionIdOrderByBidPriceDesc(Long auctionId);
@@ -57,14 +62,32 @@ public interface BidRepository extends JpaRepository<Bid,Long> {
             "where b.auction.id = :auctionId ")
     List<Long> findDistinctBidderIdsByAuctionId(@Param("auctionId") Long auctionId);
 
+    // 여러 경매의 참여자 ID 일괄 조회 ([auctionId, bidderId])
+    @Query("select distinct b.auction.id, b.bidder.id " +
+            "from Bid b " +
+            "where b.auction.id in :auctionIds")
+    List<Object[]> findDistinctAuctionBidderIds(@Param("auctionIds") Collection<Long> auctionIds);
+
+    // 여러 경매의 최고가 입찰 일괄 조회 (같은 금액 동률은 호출 측에서 정리)
+    @Query("""
+        select b
+        from Bid b
+        join fetch b.bidder
+        where b.auction.id in :auctionIds
+        and b.bidPrice = (
+            select max(b2.bidPrice) from Bid b2 where b2.auction.id = b.auction.id
+        )
+        """)
+    List<Bid> findTopBidsByAuctionIds(@Param("auctionIds") Collection<Long> auctionIds);
+
     // User 엔티티 조회
     @Query("select distinct b.bidder " +
             "from Bid b " +
             "where b.auction.id = :auctionId")
     List<User> findDistinctBiddersByAuctionId(@Param("auctionId") Long auctionId);
 
-    /** 경매별 입찰 시간순 조회 (롤백 시점 계산용) */
-    @Query("SELECT b FROM Bid b WHERE b.auction.id = :auctionId ORDER BY b.createdAt ASC")
+    /** 경매별 입찰 시간순 조회 (롤백 시점 계산용, 같은 시각이면 저장 순서) */
+    @Query("SELECT b FROM Bid b WHERE b.auction.id = :auctionId ORDER BY b.createdAt ASC, b.id ASC")
     List<Bid> findByAuctionIdOrderByCreatedAtAsc(@Param("auctionId") Long auctionId);
 
     /** 차단 유저의 입찰 삭제 */
@@ -2,9 +2,14 @@ package noonchissaum.backend.domain.auction.scheduler;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import noonchissaum.backend.domain.auction.service.AuctionLifecycleTimer;
 import noonchissaum.backend.domain.auction.service.AuctionSchedulerService;
+import noonchissaum.backend.global.cluster.SchedulerLeaderLease;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 @Slf4j
@@ -12,13 +17,37 @@ import java.time.LocalDateTime;
 @Component
 public class AuctionExposureScheduler {
     private final AuctionSchedulerService auctionSchedulerService;
+    private final AuctionLifecycleTimer auctionLifecycleTimer;
+    private final SchedulerLeaderLease schedulerLeaderLease;
+
+    // 1분 주기 작업 lease (리더가 죽으면 다음 주기 안에 다른 노드가 이어받음)
+    private static final Duration MINUTE_JOB_LEASE = Duration.ofSeconds(90);
+
+    /**
+     * 기동 시 deadline_at 이 비어 있는 진행 중 경매를 채움 (DEADLINE 전환 조회가 deadline_at 만 보므로)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillDeadlines() {
+        schedulerLeaderLease.runIfLeader("auction-deadline-backfill", MINUTE_JOB_LEASE,
+                auctionSchedulerService::backfillDeadlines);
+    }
 
     /**
-     * 진행 중인 모든 경매의 실시간 정보를 1초마다 중계합니다.
+     * 변경된 경매의 실시간 정보를 1초마다 중계합니다.
+     * 변경 표시를 SPOP 으로 나눠 꺼내므로 모든 노드에서 실행해도 같은 경매를 중복 중계하지 않는다.
      */
-    @Scheduled(fixedRate = 30_000)
+    @Scheduled(fixedRateString = "${auction.broadcast.interval-ms:1000}")
     public void broadcastAuctions() {
-        auctionSchedulerService.broadcastActiveAuctions();
+        auctionSchedulerService.broadcastChangedAuctions();
+    }
+
+    /**
+     * 진행 중인 경매 전체를 5분마다 다시 중계 대상으로 표시 (변경 표시 누락 보정)
+     */
+    @Scheduled(fixedRateString = "${auction.broadcast.resync-interval-ms:300000}")
+    public void resyncAuctions() {
+        schedulerLeaderLease.runIfLeader("auction-resync", Duration.ofMinutes(6),
+                auctionSchedulerService::markActiveAuctionsChanged);
     }
 
     /**
@@ -26,8 +55,12 @@ public class AuctionExposureScheduler {
      */
     @Scheduled(fixedRate = 60_000)
     public void exposeReadyAuctions() {
-        LocalDateTime now = LocalDateTime.now();
-        auctionSchedulerService.expose(now);
+        // timer 모드에서는 AuctionLifecycleScheduler 가 만기 시각에 개별 전환
+        if (auctionLifecycleTimer.isEnabled()) {
+            return;
+        }
+        schedulerLeaderLease.runIfLeader("auction-expose", MINUTE_JOB_LEASE,
+                () -> auctionSchedulerService.expose(LocalDateTime.now()));
     }
 
     /**
@@ -36,7 +69,11 @@ public class AuctionExposureScheduler {
      */
     @Scheduled(fixedRate = 60_000)
     public void exposeAuctions() {
-        auctionSchedulerService.markDeadline();
+        if (auctionLifecycleTimer.isEnabled()) {
+            return;
+        }
+        schedulerLeaderLease.runIfLeader("auction-deadline", MINUTE_JOB_LEASE,
+                auctionSchedulerService::markDeadline);
     }
 
     /**
@@ -45,24 +82,32 @@ public class AuctionExposureScheduler {
      */
     @Scheduled(fixedRate = 60_000)
     public void endRunningAuctions() {
-        LocalDateTime now = LocalDateTime.now();
-        auctionSchedulerService.end(now);
+        if (auctionLifecycleTimer.isEnabled()) {
+            return;
+        }
+        schedulerLeaderLease.runIfLeader("auction-end", MINUTE_JOB_LEASE,
+                () -> auctionSchedulerService.end(LocalDateTime.now()));
     }
 
     /**
      * end상태에서 SUCCESS or failed로 전환
-     * 1분마다 조회
+     * 1분마다 조회 (timer 모드에서도 결과 확정 누락 보정용으로 유지)
      */
     @Scheduled(fixedRate = 60_000)
     public void resultAuctions() {
-        auctionSchedulerService.result();
+        schedulerLeaderLease.runIfLeader("auction-result", MINUTE_JOB_LEASE,
+                auctionSchedulerService::result);
     }
 
     /**
      * HotDeal 노출*/
     @Scheduled(fixedRate = 60_000)
     public void exposeHotDeals() {
-        auctionSchedulerService.exposeHotDeals(LocalDateTime.now());
+        if (auctionLifecycleTimer.isEnabled()) {
+            return;
+        }
+        schedulerLeaderLease.runIfLeader("auction-hotdeal", MINUTE_JOB_LEASE,
+                () -> auctionSchedulerService.exposeHotDeals(LocalDateTime.now()));
     }
 
 
@@ -0,0 +1,67 @@
+package noonchissaum.backend.domain.auction.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import noonchissaum.backend.domain.auction.service.AuctionLifecycleTimer;
+import noonchissaum.backend.domain.auction.service.AuctionSchedulerService;
+import noonchissaum.backend.global.cluster.ClusterNodeRegistry;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 경매 생명주기 타이머 구동
+ * 기동 시 DB 기준으로 타이머를 재구성한 뒤 wheel 을 시작하고, 주기적으로 다가온 타이머 적재 + 전체 재구성(누락 보정)을 수행
+ * 적재와 재구성 모두 노드별 담당 경매만(파티션) 처리
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class AuctionLifecycleScheduler {
+
+    private final AuctionSchedulerService auctionSchedulerService;
+    private final AuctionLifecycleTimer auctionLifecycleTimer;
+    private final ClusterNodeRegistry clusterNodeRegistry;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startTimer() {
+        if (!auctionLifecycleTimer.isEnabled()) {
+            return;
+        }
+        // 담당 파티션을 먼저 확정한 뒤 재구성 (ZADD 덮어쓰기라 담당이 겹쳐도 결과가 같다)
+        clusterNodeRegistry.heartbeat();
+        int scheduled = auctionSchedulerService.rebuildLifecycleTimers(clusterNodeRegistry::owns);
+        auctionLifecycleTimer.start(this::fire);
+        int loaded = auctionLifecycleTimer.loadDue(clusterNodeRegistry::owns);
+        log.info("[AuctionLifecycle] 타이머 재구성 scheduled={} loaded={} node={}", scheduled, loaded, clusterNodeRegistry.nodeId());
+    }
+
+    /**
+     * horizon 안으로 들어온 담당 타이머를 wheel 에 적재 (노드 증감 시 담당이 바뀐 타이머도 여기서 이어받음)
+     */
+    @Scheduled(fixedDelayString = "${auction.lifecycle.load-interval-ms:10000}")
+    public void loadDueTimers() {
+        auctionLifecycleTimer.loadDue(clusterNodeRegistry::owns);
+    }
+
+    /**
+     * DB 기준 담당 경매 재구성 (예약 실패/Redis 유실 보정, 각 노드가 자기 파티션만)
+     */
+    @Scheduled(fixedDelayString = "${auction.lifecycle.reconcile-interval-ms:600000}",
+            initialDelayString = "${auction.lifecycle.reconcile-interval-ms:600000}")
+    public void reconcileTimers() {
+        if (auctionLifecycleTimer.isEnabled()) {
+            auctionSchedulerService.rebuildLifecycleTimers(clusterNodeRegistry::owns);
+        }
+    }
+
+    private void fire(Long auctionId, AuctionLifecycleTimer.Phase phase) {
+        switch (phase) {
+            case START -> auctionSchedulerService.startAuction(auctionId);
+            case DEADLINE -> auctionSchedulerService.deadlineAuction(auctionId);
+            case END -> auctionSchedulerService.endAuction(auctionId);
+            case RESULT -> auctionSchedulerService.finalizeAuction(auctionId);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package noonchissaum.backend.domain.auction.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import noonchissaum.backend.domain.auction.service.AuctionOutboxRelay;
+import noonchissaum.backend.global.cluster.SchedulerLeaderLease;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+
+/**
+ * 경매 outbox relay 구동 / dead-letter 정리
+ * 기동 전에 쌓인 행(직전 노드 종료로 남은 행 포함)은 relay 시작 직후 첫 배치에서 처리된다.
+ * 정리는 리더 노드만 수행한다.
+ */
+@RequiredArgsConstructor
+@Component
+@Slf4j
+public class AuctionOutboxScheduler {
+
+    private final AuctionOutboxRelay auctionOutboxRelay;
+    private final SchedulerLeaderLease schedulerLeaderLease;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startRelay() {
+        auctionOutboxRelay.start();
+    }
+
+    @Scheduled(cron = "0 40 4 * * *")
+    public void purgeDeadLettered() {
+        schedulerLeaderLease.runIfLeader("auction-outbox-purge", Duration.ofMinutes(30), () -> {
+            int deleted = auctionOutboxRelay.purgeDeadLettered();
+            if (deleted > 0) {
+                log.info("[AuctionOutbox] dead-letter purged={}", deleted);
+            }
+        });
+    }
+}
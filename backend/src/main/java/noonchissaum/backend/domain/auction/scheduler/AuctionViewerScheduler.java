@@ -0,0 +1,26 @@
+package noonchissaum.backend.domain.auction.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import noonchissaum.backend.domain.auction.service.AuctionViewerTracker;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class AuctionViewerScheduler {
+    private final AuctionViewerTracker auctionViewerTracker;
+
+    /**
+     * 이 노드의 경매별 시청자 수를 Redis 에 동기화 (redis relay 모드에서만 동작)
+     */
+    @Scheduled(fixedDelayString = "${auction.viewers.sync-interval-ms:2000}")
+    public void syncViewers() {
+        try {
+            auctionViewerTracker.syncToRedis();
+        } catch (Exception e) {
+            log.warn("[AuctionViewer] 시청자 수 동기화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package noonchissaum.backend.domain.auction.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import noonchissaum.backend.domain.auction.service.AuctionWriteBehindService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class AuctionWriteBehindScheduler {
+    private final AuctionWriteBehindService auctionWriteBehindService;
+
+    /**
+     * 입찰로 바뀐 경매 row 를 주기적으로 DB 에 반영 (경매당 최신 상태 1회)
+     */
+    @Scheduled(fixedDelayString = "${auction.write-behind.flush-interval-ms:200}")
+    public void flushAuctionUpdates() {
+        int flushed = auctionWriteBehindService.flushAll();
+        if (flushed > 0) {
+            log.debug("[AuctionWriteBehind] flushed={}", flushed);
+        }
+    }
+}
@@ -2,112 +2,57 @@ package noonchissaum.backend.domain.auction.scheduler;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import noonchissaum.backend.domain.auction.repository.BidRepository;
-import noonchissaum.backend.domain.auction.service.BidRecordService;
-import noonchissaum.backend.domain.wallet.entity.Wallet;
-import noonchissaum.backend.domain.wallet.repository.WalletRepository;
-import noonchissaum.backend.global.RedisKeys;
-import noonchissaum.backend.global.exception.ApiException;
-import noonchissaum.backend.global.exception.ErrorCode;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import noonchissaum.backend.domain.auction.service.PendingBidReconcileService;
+import noonchissaum.backend.domain.auction.service.PendingBidReconcileService.ReconcileResult;
+import noonchissaum.backend.domain.task.service.BidJournalConsumer;
+import noonchissaum.backend.domain.task.service.BidJournalConsumer.JournalLag;
+import noonchissaum.backend.global.cluster.SchedulerLeaderLease;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import java.math.BigDecimal;
-import java.util.Map;
-import java.util.Set;
+import java.time.Duration;
 
+/**
+ * 입찰 DB 반영 지연 감시
+ * 입찰은 bid_journal 스트림에 쌓이고 BidJournalConsumer 가 반영하므로, 여기서는 저널 지연만 확인한다.
+ * 저널 전환 이전에 남은 pending_bid_requests/pending_bid_info 는 PendingBidReconcileService 로 페이지 단위 정리한다.
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class PendingBidScheduler {
 
-    private final StringRedisTemplate redisTemplate;
-    private final BidRepository bidRepository;
-    private final BidRecordService bidRecordService;
-    private final WalletRepository walletRepository;
-
-    @Scheduled(fixedDelay = 5 * 60 * 1000)
-    public void reconcilePendingBids() {
-
-        Set<String> requestIds =
-                redisTemplate.opsForSet().members(RedisKeys.pendingBidRequestsSet());
-
-        if (requestIds == null || requestIds.isEmpty()) return;
-
-        for (String requestId : requestIds) {
-
-            String infoKey = RedisKeys.pendingBidInfo(requestId);
-            Map<Object, Object> info =
-                    redisTemplate.opsForHash().entries(infoKey);
-
-            // Already in DB: only cleanup pending markers.
-            if (bidRepository.existsByRequestId(requestId)) {
-                cleanupPendingKeys(requestId, infoKey, info);
-                continue;
-            }
-
-            try {
-                Long auctionId = Long.parseLong((String) info.get("auctionId"));
-                Long userId = Long.parseLong((String) info.get("userId"));
-                BigDecimal bidAmount = new BigDecimal((String) info.get("bidAmount"));
-
-                String rawPrev = (String) info.get("previousBidderId");
-                Long previousBidderId =
-                        (rawPrev == null || rawPrev.isBlank())
-                                ? -1L
-                                : Long.parseLong(rawPrev);
-
-                String rawRefund = (String) info.get("refundAmount");
-                BigDecimal refundAmount =
-                        (rawRefund == null || rawRefund.isBlank())
-                                ? BigDecimal.ZERO
-                                : new BigDecimal(rawRefund);
-
-                if (!bidRepository.existsByRequestId(requestId)) {
-                    bidRecordService.saveBidRecord(
-                            auctionId,
-                            userId,
-                            bidAmount,
-                            requestId
-                    );
-                }
-
-                Wallet newWallet = walletRepository.findByUserId(userId)
-                        .orElseThrow(() -> new ApiException(ErrorCode.CANNOT_FIND_WALLET));
-                newWallet.bid(bidAmount);
-
-                if (previousBidderId != null && previousBidderId != -1L) {
-                    Wallet prevWallet = walletRepository.findByUserId(previousBidderId)
-                            .orElseThrow(() -> new ApiException(ErrorCode.CANNOT_FIND_WALLET));
-                    prevWallet.bidCanceled(refundAmount);
-                }
-
-                cleanupPendingKeys(requestId, infoKey, info);
-
-            } catch (Exception e) {
-                log.error("Pending bid 저장 실패. requestId={}, reason={}", requestId, e.toString());
-            }
+    private final BidJournalConsumer bidJournalConsumer;
+    private final PendingBidReconcileService pendingBidReconcileService;
+    private final SchedulerLeaderLease schedulerLeaderLease;
+
+    // 가장 오래된 미반영 입찰이 이보다 오래되면 경고
+    @Value("${task.bid-journal.lag-warn-ms:30000}")
+    private long lagWarnMs;
+
+    /**
+     * 입찰 저널 지연 지표 갱신 (bid.journal.length / pending / oldest.age)
+     */
+    @Scheduled(fixedDelay = 10 * 1000)
+    public void monitorBidJournal() {
+        JournalLag lag = bidJournalConsumer.refreshLag();
+        if (lag.oldestAgeMs() > lagWarnMs) {
+            log.warn("입찰 저널 반영 지연 - length: {}, pending: {}, oldestAgeMs: {}",
+                    lag.length(), lag.pending(), lag.oldestAgeMs());
         }
     }
 
-    private void cleanupPendingKeys(String requestId, String infoKey, Map<Object, Object> info) {
-        redisTemplate.opsForSet().remove(RedisKeys.pendingBidRequestsSet(), requestId);
-
-        if (info != null && !info.isEmpty()) {
-            Object rawUserId = info.get("userId");
-            if (rawUserId instanceof String userId && !userId.isBlank()) {
-                redisTemplate.opsForSet().remove(RedisKeys.pendingUser(Long.parseLong(userId)), requestId);
-            }
-
-            Object rawPrev = info.get("previousBidderId");
-            if (rawPrev instanceof String prevUserId && !prevUserId.isBlank()) {
-                Long parsedPrevUserId = Long.parseLong(prevUserId);
-                if (parsedPrevUserId != -1L) {
-                    redisTemplate.opsForSet().remove(RedisKeys.pendingUser(parsedPrevUserId), requestId);
-                }
+    /**
+     * 저널 전환 이전 pending 데이터 정리 (legacy, SSCAN 페이지 단위)
+     */
+    @Scheduled(fixedDelay = 5 * 60 * 1000)
+    public void reconcilePendingBids() {
+        schedulerLeaderLease.runIfLeader("pending-bid-reconcile", Duration.ofMinutes(7), () -> {
+            ReconcileResult result = pendingBidReconcileService.reconcile();
+            if (result.total() > 0) {
+                log.info("Pending bid 정리 - recovered: {}, alreadyPersisted: {}, expired: {}, failed: {}",
+                        result.recovered(), result.alreadyPersisted(), result.expired(), result.failed());
             }
-        }
-
-        redisTemplate.delete(infoKey);
+        });
     }
-}
\ No newline at end of file
+}
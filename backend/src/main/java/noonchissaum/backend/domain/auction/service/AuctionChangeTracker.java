@@ -0,0 +1,65 @@
+package noonchissaum.backend.domain.auction.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import noonchissaum.backend.global.RedisKeys;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 실시간 스냅샷 재전송 대상(변경된 경매) 추적
+ * 입찰/연장/상태 전환 경로가 경매 ID 를 dirty set 에 넣고, 브로드캐스터는 tick 마다 꺼낸 ID 만 스냅샷을 보낸다.
+ * Redis SET 이라 어느 인스턴스에서 표시해도 모이고, SPOP 으로 꺼내므로 한 ID 는 한 인스턴스만 처리한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuctionChangeTracker {
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 변경 표시 (실패해도 입찰/전환 흐름은 막지 않는다 - 주기적 전체 재동기화가 보정)
+     */
+    public void markChanged(Long auctionId) {
+        try {
+            redisTemplate.opsForSet().add(RedisKeys.auctionBroadcastDirty(), String.valueOf(auctionId));
+        } catch (Exception e) {
+            log.warn("경매 변경 표시 실패 - auctionId: {}", auctionId, e);
+        }
+    }
+
+    public void markChanged(Collection<Long> auctionIds) {
+        if (auctionIds.isEmpty()) {
+            return;
+        }
+        String[] members = auctionIds.stream().map(String::valueOf).toArray(String[]::new);
+        try {
+            redisTemplate.opsForSet().add(RedisKeys.auctionBroadcastDirty(), members);
+        } catch (Exception e) {
+            log.warn("경매 변경 표시 실패 - count: {}", members.length, e);
+        }
+    }
+
+    /**
+     * 변경된 경매 ID 를 최대 count 개 꺼낸다 (꺼낸 ID 는 set 에서 제거)
+     */
+    public List<Long> popChanged(int count) {
+        List<String> popped = redisTemplate.opsForSet().pop(RedisKeys.auctionBroadcastDirty(), count);
+        List<Long> auctionIds = new ArrayList<>();
+        if (popped == null) {
+            return auctionIds;
+        }
+        for (String raw : popped) {
+            try {
+                auctionIds.add(Long.parseLong(raw));
+            } catch (NumberFormatException e) {
+                log.warn("잘못된 경매 변경 표시 무시 - value: {}", raw);
+            }
+        }
+        return auctionIds;
+    }
+}
@@ -0,0 +1,162 @@
+package noonchissaum.backend.domain.auction.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import noonchissaum.backend.domain.auction.dto.res.AuctionEventReplayRes;
+import noonchissaum.backend.global.RedisKeys;
+import noonchissaum.backend.global.dto.SocketMessageType;
+import noonchissaum.backend.global.dto.WsMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경매 토픽 이벤트 순번 + 최근 이벤트 버퍼
+ * 토픽으로 나가는 모든 이벤트에 경매별 순번(INCR)을 붙이고, 직렬화한 JSON 을 최근 replay-size 개만 남기는 stream 에 적재한다.
+ * 재연결한 클라이언트는 마지막으로 받은 순번 이후 이벤트만 replay 로 받는다.
+ * (노드가 여럿이면 stream 적재 순서와 순번이 어긋날 수 있어 replay 는 순번으로 정렬해 돌려준다)
+ * 주기 스냅샷은 버퍼를 차지하지 않도록 여기를 거치지 않는다 (AuctionMessageService.sendAuctionSnapshot).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuctionEventLog {
+
+    private static final String SEQ_FIELD = "seq";
+    private static final String DATA_FIELD = "data";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 경매별로 보관할 최근 이벤트 수 (MAXLEN ~)
+    @Value("${auction.events.replay-size:200}")
+    private int replaySize;
+
+    // 마지막 이벤트 이후 순번/버퍼 보관 시간
+    @Value("${auction.events.ttl-hours:24}")
+    private long ttlHours;
+
+    /**
+     * 순번을 붙여 직렬화하고 버퍼에 적재한 JSON 반환 (이 바이트를 그대로 브로드캐스트)
+     * Redis 장애 시에는 순번 없이 직렬화만 해 실시간 전송은 막지 않는다. 직렬화 실패 시 null.
+     */
+    public byte[] append(Long auctionId, SocketMessageType type, Object payload) {
+        Long seq;
+        try {
+            seq = redisTemplate.opsForValue().increment(RedisKeys.auctionEventSeq(auctionId));
+        } catch (Exception e) {
+            log.warn("경매 이벤트 순번 발급 실패 - 순번 없이 전송 auctionId: {}", auctionId, e);
+            return serialize(auctionId, WsMessage.of(type, payload));
+        }
+
+        byte[] json = serialize(auctionId, WsMessage.sequenced(seq, type, payload));
+        if (json == null) {
+            return null;
+        }
+        try {
+            store(auctionId, seq, new String(json, StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            log.warn("경매 이벤트 버퍼 적재 실패 - auctionId: {}, seq: {}", auctionId, seq, e);
+        }
+        return json;
+    }
+
+    /**
+     * afterSeq 이후 이벤트를 순번 순으로 반환
+     */
+    public AuctionEventReplayRes replay(Long auctionId, long afterSeq) {
+        List<MapRecord<String, Object, Object>> records =
+                redisTemplate.opsForStream().range(RedisKeys.auctionEvents(auctionId), Range.unbounded());
+        long lastSeq = parseSeq(redisTemplate.opsForValue().get(RedisKeys.auctionEventSeq(auctionId)));
+
+        List<BufferedEvent> buffered = new ArrayList<>();
+        if (records != null) {
+            for (MapRecord<String, Object, Object> record : records) {
+                Map<Object, Object> fields = record.getValue();
+                long seq = parseSeq(fields.get(SEQ_FIELD));
+                Object data = fields.get(DATA_FIELD);
+                if (seq > 0 && data != null) {
+                    buffered.add(new BufferedEvent(seq, data.toString()));
+                }
+            }
+        }
+        buffered.sort(Comparator.comparingLong(BufferedEvent::seq));
+
+        // afterSeq 다음부터 lastSeq 까지 순번이 빠짐없이 있어야 complete
+        // (순번이 만료로 다시 시작됐거나, 구간이 버퍼에서 밀려났거나, 적재 실패/다른 노드 적재 지연으로 빠진 순번이 있으면 스냅샷 재조회 필요)
+        long nextSeq = afterSeq + 1;
+        boolean contiguous = true;
+        List<JsonNode> events = new ArrayList<>();
+        for (BufferedEvent event : buffered) {
+            if (event.seq() < nextSeq) {
+                continue; // 이미 받은 이벤트 또는 중복 적재
+            }
+            if (event.seq() > nextSeq) {
+                contiguous = false;
+            }
+            nextSeq = event.seq() + 1;
+            try {
+                events.add(objectMapper.readTree(event.data()));
+            } catch (JsonProcessingException e) {
+                log.warn("경매 이벤트 파싱 실패 - auctionId: {}, seq: {}", auctionId, event.seq());
+            }
+        }
+        boolean complete = contiguous && afterSeq <= lastSeq && nextSeq == lastSeq + 1;
+        return new AuctionEventReplayRes(auctionId, lastSeq, complete, events);
+    }
+
+    private void store(Long auctionId, Long seq, String data) {
+        String streamKey = RedisKeys.auctionEvents(auctionId);
+        String seqKey = RedisKeys.auctionEventSeq(auctionId);
+        long ttlSeconds = TimeUnit.HOURS.toSeconds(ttlHours);
+        XAddOptions options = XAddOptions.maxlen(replaySize).approximateTrimming(true);
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.xAdd(
+                    StreamRecords.string(Map.of(SEQ_FIELD, String.valueOf(seq), DATA_FIELD, data)).withStreamKey(streamKey),
+                    options);
+            stringConnection.expire(streamKey, ttlSeconds);
+            stringConnection.expire(seqKey, ttlSeconds);
+            return null;
+        });
+    }
+
+    private byte[] serialize(Long auctionId, WsMessage<?> message) {
+        try {
+            return objectMapper.writeValueAsBytes(message);
+        } catch (JsonProcessingException e) {
+            log.error("경매 이벤트 직렬화 실패 - auctionId: {}", auctionId, e);
+            return null;
+        }
+    }
+
+    private long parseSeq(Object raw) {
+        if (raw == null) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(raw.toString());
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    private record BufferedEvent(long seq, String data) {
+    }
+}
@@ -2,50 +2,100 @@ package noonchissaum.backend.domain.auction.service;
 
 import lombok.RequiredArgsConstructor;
 import noonchissaum.backend.domain.auction.dto.ws.AuctionExtendedPayload;
-import noonchissaum.backend.domain.auction.entity.Auction;
-import noonchissaum.backend.domain.auction.repository.AuctionRepository;
+import noonchissaum.backend.domain.auction.entity.AuctionStatus;
+import noonchissaum.backend.domain.auction.redis.AuctionStateFields;
 import noonchissaum.backend.global.RedisKeys;
+import noonchissaum.backend.global.exception.ApiException;
+import noonchissaum.backend.global.exception.ErrorCode;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class AuctionExtensionService {
-    private final AuctionRepository auctionRepository;
+
+    private static final RedisScript<Long> EXTEND_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/extend_auction.lua"), Long.class);
+    // 연장 시간(분): 연장 알림을 보내는 AuctionOutboxRelay 도 같은 값을 사용
+    public static final int EXTEND_MINUTES = 3;
+    private static final List<String> EXTENSION_FIELDS = List.of(
+            AuctionStateFields.END_TIME,
+            AuctionStateFields.IMMINENT_MINUTES,
+            AuctionStateFields.IS_EXTENDED,
+            AuctionStateFields.STATUS
+    );
+
     private final StringRedisTemplate redisTemplate;
     private final AuctionMessageService auctionMessageService;
+    private final AuctionRedisService auctionRedisService;
+    private final AuctionLifecycleTimer auctionLifecycleTimer;
 
     /**
-    * 입찰 성공 이후 호출.
-    * - Auction.extendIfNeeded(now)로 DB endAt/isExtended 갱신
-    * - Redis endTime/isExtended 동기화
-    * - 연장 발생 시 WS AUCTION_EXTENDED 발행
-    */
-    @Transactional
-    public boolean extension(Long auctionId){
-        try{
-            Auction auction = auctionRepository.findById(auctionId)
-                    .orElseThrow(() -> new RuntimeException("auction not found"));
-            boolean extended = auction.extendIfNeeded(LocalDateTime.now());
-            if (!extended) return false;
-
-            redisTemplate.opsForValue().set(RedisKeys.auctionEndTime(auctionId), auction.getEndAt().toString());
-            redisTemplate.opsForValue().set(RedisKeys.auctionIsExtended(auctionId), "true");
-
-            // WS 이벤트 발행
-            AuctionExtendedPayload payload = AuctionExtendedPayload.builder()
-                    .auctionId(auctionId)
-                    .endAt(auction.getEndAt())
-                    .isExtended(true)
-                    .extendedMinutes(3)
-                    .build();
-            auctionMessageService.sendAuctionExtended(auctionId, payload);
-
-            return true;
-        } catch (Exception e){
-            return false;
+     * 입찰 성공 이후 호출 (Redis 기준 연장 판단, DB 접근 없음)
+     * - 마감 임박 구간(imminentMinutes) 또는 DEADLINE 상태이면 endTime 3분 연장
+     * - 연장은 compare-and-set 스크립트로 한 번만 반영 (동시 입찰 중 중복 연장 방지)
+     * - 연장 발생 시 WS AUCTION_EXTENDED 발행, DB 반영은 write-behind 가 담당
+     */
+    public ExtensionResult extendIfImminent(Long auctionId, LocalDateTime now) {
+        String stateKey = RedisKeys.auctionState(auctionId);
+        HashOperations<String, String, String> stateOps = redisTemplate.opsForHash();
+
+        List<String> values = stateOps.multiGet(stateKey, EXTENSION_FIELDS);
+        if (values.contains(null)) {
+            auctionRedisService.restoreState(auctionId);
+            values = stateOps.multiGet(stateKey, EXTENSION_FIELDS);
+        }
+
+        String rawEndTime = values.get(0);
+        if (rawEndTime == null || rawEndTime.isBlank()) {
+            // 복구 후에도 마감 시각이 없으면 연장 판단 불가
+            throw new ApiException(ErrorCode.AUCTION_REDIS_STATE_MISSING);
+        }
+        LocalDateTime endAt = LocalDateTime.parse(rawEndTime);
+        int imminentMinutes = values.get(1) == null || values.get(1).isBlank() ? 5 : Integer.parseInt(values.get(1));
+        boolean alreadyExtended = "true".equals(values.get(2));
+        boolean deadline = AuctionStatus.DEADLINE.name().equals(values.get(3));
+
+        if (alreadyExtended || now.isAfter(endAt)) {
+            return new ExtensionResult(endAt, false);
+        }
+        long remainSeconds = Duration.between(now, endAt).getSeconds();
+        if (remainSeconds > imminentMinutes * 60L && !deadline) {
+            return new ExtensionResult(endAt, false);
         }
+
+        LocalDateTime extendedEndAt = endAt.plusMinutes(EXTEND_MINUTES);
+        Long changed = redisTemplate.execute(EXTEND_SCRIPT, List.of(stateKey), rawEndTime, extendedEndAt.toString());
+        if (changed == null || changed != 1L) {
+            // 다른 입찰이 먼저 연장함 → 현재 endTime 그대로 사용
+            String current = stateOps.get(stateKey, AuctionStateFields.END_TIME);
+            return new ExtensionResult(current == null ? endAt : LocalDateTime.parse(current), false);
+        }
+
+        // 종료 타이머를 연장된 마감 시각으로 재예약
+        auctionLifecycleTimer.schedule(auctionId, AuctionLifecycleTimer.Phase.END, extendedEndAt);
+
+        AuctionExtendedPayload payload = AuctionExtendedPayload.builder()
+                .auctionId(auctionId)
+                .endAt(extendedEndAt)
+                .isExtended(true)
+                .extendedMinutes(EXTEND_MINUTES)
+                .build();
+        auctionMessageService.sendAuctionExtended(auctionId, payload);
+
+        return new ExtensionResult(extendedEndAt, true);
+    }
+
+    /**
+     * 연장 판단 결과
+     * endAt 은 연장 여부와 관계없이 현재 유효한 마감 시각
+     */
+    public record ExtensionResult(LocalDateTime endAt, boolean extended) {
     }
 }
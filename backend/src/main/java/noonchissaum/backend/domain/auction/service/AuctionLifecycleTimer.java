@@ -0,0 +1,346 @@
+package noonchissaum.backend.domain.auction.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import noonchissaum.backend.domain.auction.entity.Auction;
+import noonchissaum.backend.domain.auction.repository.AuctionLifecycleRow;
+import noonchissaum.backend.global.RedisKeys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.LongPredicate;
+
+/**
+ * 경매 생명주기 타이머 (READY -> RUNNING -> DEADLINE -> ENDED -> 결과)
+ * 전환 만기 시각은 Redis ZSET 에 두고(재기동/다중 노드 공유), horizon 이내로 다가온 것만 메모리의 hashed timing wheel 에 올려
+ * tick 단위(기본 100ms)로 발화한다. 발화 시 ZSET 에서 선점한 노드만 전환을 실행하므로 같은 타이머는 한 번만 처리된다.
+ * 연장으로 만기가 뒤로 밀리면 ZSET 점수만 바뀌고, 이전 만기로 wheel 에 올라가 있던 항목은 선점에 실패해 버려진다.
+ * 다중 노드에서는 경매 ID 기준으로 담당 노드를 나눠 적재하므로 노드 수만큼 처리량이 늘어난다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuctionLifecycleTimer {
+
+    // 일반 경매는 등록 5분 뒤 노출 (AuctionSchedulerService.expose 와 같은 기준)
+    private static final long READY_EXPOSE_MINUTES = 5;
+    private static final int DEFAULT_IMMINENT_MINUTES = 5;
+
+    private static final RedisScript<Long> CLAIM_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/claim_lifecycle_timer.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    // 다음 전환 대상 (member -> wheel 에 올린 만기), 같은 member 가 다른 만기로 다시 올라오면 이전 항목은 무시
+    private final Map<String, Long> armed = new ConcurrentHashMap<>();
+    private final Object wheelLock = new Object();
+    private List<List<WheelEntry>> slots;
+    private long tick;
+    private ScheduledExecutorService ticker;
+    private ExecutorService workers;
+    private volatile BiConsumer<Long, Phase> handler;
+
+    // timer: 만기 시각에 전환 / polling: 기존 1분 주기 일괄 전환
+    @Value("${auction.lifecycle.mode:timer}")
+    private String mode;
+
+    @Value("${auction.lifecycle.tick-ms:100}")
+    private long tickMs;
+
+    @Value("${auction.lifecycle.wheel-size:512}")
+    private int wheelSize;
+
+    // 이 시간 안에 만기가 오는 타이머만 wheel 에 올린다
+    @Value("${auction.lifecycle.horizon-ms:60000}")
+    private long horizonMs;
+
+    @Value("${auction.lifecycle.workers:4}")
+    private int workerCount;
+
+    // 전환 실패 시 재시도 간격
+    @Value("${auction.lifecycle.retry-delay-ms:5000}")
+    private long retryDelayMs;
+
+    // ENDED 이후 결과 확정까지 유예 (비동기 입찰 저널이 bids 에 반영될 시간)
+    @Value("${auction.lifecycle.result-grace-ms:3000}")
+    private long resultGraceMs;
+
+    public enum Phase {
+        START,      // READY -> RUNNING
+        DEADLINE,   // RUNNING -> DEADLINE
+        END,        // DEADLINE -> ENDED
+        RESULT      // ENDED -> SUCCESS / FAILED
+    }
+
+    public boolean isEnabled() {
+        return "timer".equalsIgnoreCase(mode);
+    }
+
+    /**
+     * 발화 처리기를 등록하고 wheel 구동
+     */
+    public synchronized void start(BiConsumer<Long, Phase> handler) {
+        if (!isEnabled() || ticker != null) {
+            return;
+        }
+        this.handler = handler;
+        List<List<WheelEntry>> wheel = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            wheel.add(new ArrayList<>());
+        }
+        this.slots = wheel;
+        this.workers = Executors.newFixedThreadPool(workerCount,
+                Thread.ofPlatform().name("auction-lifecycle-", 0).daemon().factory());
+        this.ticker = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("auction-lifecycle-wheel").daemon().factory());
+        ticker.scheduleAtFixedRate(this::advance, tickMs, tickMs, TimeUnit.MILLISECONDS);
+        log.info("[AuctionLifecycle] timing wheel 시작 tickMs={} wheelSize={} horizonMs={}", tickMs, wheelSize, horizonMs);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+            workers.shutdown();
+            ticker = null;
+        }
+    }
+
+    /**
+     * 전환 예약 (같은 경매/단계는 덮어쓴다 = 연장 시 재예약)
+     */
+    public void schedule(Long auctionId, Phase phase, LocalDateTime dueAt) {
+        if (!isEnabled() || dueAt == null) {
+            return;
+        }
+        add(member(auctionId, phase), toEpochMs(dueAt));
+    }
+
+    /**
+     * 결과 확정 (재)예약, 저널 반영 유예 후 발화
+     */
+    public void scheduleResult(Long auctionId) {
+        schedule(auctionId, Phase.RESULT, LocalDateTime.now().plus(Duration.ofMillis(resultGraceMs)));
+    }
+
+    /**
+     * 현재 상태 기준 다음 전환 예약
+     */
+    public void scheduleNext(Auction auction) {
+        if (!isEnabled()) {
+            return;
+        }
+        TypedTuple<String> next = nextTimer(AuctionLifecycleRow.of(auction));
+        if (next != null) {
+            add(next.getValue(), next.getScore().longValue());
+        }
+    }
+
+    private void add(String member, long dueMs) {
+        try {
+            redisTemplate.opsForZSet().add(RedisKeys.auctionLifecycleTimers(), member, dueMs);
+        } catch (Exception e) {
+            // 주기적 재구성(reconcile)이 보정
+            log.warn("[AuctionLifecycle] 타이머 예약 실패 - member: {}", member, e);
+            return;
+        }
+        armIfNear(member, dueMs);
+    }
+
+    /**
+     * 여러 경매의 다음 전환을 ZADD 1회로 예약 (기동 시/주기적 재구성)
+     */
+    public int scheduleNextAll(Collection<AuctionLifecycleRow> auctions) {
+        if (!isEnabled()) {
+            return 0;
+        }
+        Set<TypedTuple<String>> timers = new HashSet<>();
+        for (AuctionLifecycleRow auction : auctions) {
+            TypedTuple<String> next = nextTimer(auction);
+            if (next != null) {
+                timers.add(next);
+            }
+        }
+        if (timers.isEmpty()) {
+            return 0;
+        }
+        redisTemplate.opsForZSet().add(RedisKeys.auctionLifecycleTimers(), timers);
+        for (TypedTuple<String> timer : timers) {
+            armIfNear(timer.getValue(), timer.getScore().longValue());
+        }
+        return timers.size();
+    }
+
+    /**
+     * horizon 이내 만기(이미 지난 것 포함) 타이머 중 이 노드 담당 경매만 wheel 에 적재
+     */
+    public int loadDue(LongPredicate owns) {
+        if (!isEnabled() || slots == null) {
+            return 0;
+        }
+        long until = System.currentTimeMillis() + horizonMs;
+        Set<TypedTuple<String>> due = redisTemplate.opsForZSet()
+                .rangeByScoreWithScores(RedisKeys.auctionLifecycleTimers(), 0, until);
+        if (due == null) {
+            return 0;
+        }
+        int loaded = 0;
+        for (TypedTuple<String> timer : due) {
+            if (timer.getValue() == null || timer.getScore() == null || !owns.test(auctionIdOf(timer.getValue()))) {
+                continue;
+            }
+            if (arm(timer.getValue(), timer.getScore().longValue())) {
+                loaded++;
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * wheel 에 올라가 있는 타이머 수 (모니터링/테스트용)
+     */
+    public int armedCount() {
+        return armed.size();
+    }
+
+    private void armIfNear(String member, long dueMs) {
+        if (slots != null && dueMs <= System.currentTimeMillis() + horizonMs) {
+            arm(member, dueMs);
+        }
+    }
+
+    private boolean arm(String member, long dueMs) {
+        Long previous = armed.put(member, dueMs);
+        if (previous != null && previous == dueMs) {
+            return false;
+        }
+        long ticksAhead = Math.max(1, (dueMs - System.currentTimeMillis() + tickMs - 1) / tickMs);
+        synchronized (wheelLock) {
+            long targetTick = tick + ticksAhead;
+            slots.get((int) (targetTick % wheelSize)).add(new WheelEntry(member, dueMs, targetTick));
+        }
+        return true;
+    }
+
+    private void advance() {
+        List<WheelEntry> expired = new ArrayList<>();
+        synchronized (wheelLock) {
+            tick++;
+            Iterator<WheelEntry> it = slots.get((int) (tick % wheelSize)).iterator();
+            while (it.hasNext()) {
+                WheelEntry entry = it.next();
+                if (entry.targetTick() <= tick) {
+                    it.remove();
+                    expired.add(entry);
+                }
+            }
+        }
+        for (WheelEntry entry : expired) {
+            // 더 늦은 만기로 다시 올라간 항목이면 이전 것은 버린다
+            if (!armed.remove(entry.member(), entry.dueMs())) {
+                continue;
+            }
+            try {
+                workers.execute(() -> fire(entry));
+            } catch (Exception e) {
+                log.error("[AuctionLifecycle] 발화 작업 제출 실패 - member: {}", entry.member(), e);
+            }
+        }
+    }
+
+    private void fire(WheelEntry entry) {
+        Long auctionId = auctionIdOf(entry.member());
+        Phase phase = phaseOf(entry.member());
+        try {
+            // wheel 에 올린 만기보다 점수가 커졌으면(연장) 선점 실패 → 새 만기에 다시 발화
+            Long claimed = redisTemplate.execute(CLAIM_SCRIPT, List.of(RedisKeys.auctionLifecycleTimers()),
+                    entry.member(), String.valueOf(entry.dueMs()));
+            if (claimed == null || claimed != 1L) {
+                return;
+            }
+            handler.accept(auctionId, phase);
+        } catch (Exception e) {
+            log.error("[AuctionLifecycle] 전환 실패 - 재시도 예약 auctionId: {}, phase: {}", auctionId, phase, e);
+            schedule(auctionId, phase, LocalDateTime.now().plus(Duration.ofMillis(retryDelayMs)));
+        }
+    }
+
+    private TypedTuple<String> nextTimer(AuctionLifecycleRow auction) {
+        if (auction.id() == null || auction.status() == null) {
+            return null;
+        }
+        LocalDateTime dueAt;
+        Phase phase;
+        switch (auction.status()) {
+            case READY -> {
+                phase = Phase.START;
+                if (Boolean.TRUE.equals(auction.isHotDeal())) {
+                    dueAt = auction.startAt();
+                } else {
+                    LocalDateTime createdAt = auction.createdAt() == null ? LocalDateTime.now() : auction.createdAt();
+                    dueAt = createdAt.plusMinutes(READY_EXPOSE_MINUTES);
+                }
+            }
+            case RUNNING -> {
+                phase = Phase.DEADLINE;
+                int imminentMinutes = auction.imminentMinutes() == null ? DEFAULT_IMMINENT_MINUTES : auction.imminentMinutes();
+                dueAt = auction.endAt() == null ? null : auction.endAt().minusMinutes(imminentMinutes);
+            }
+            case DEADLINE -> {
+                phase = Phase.END;
+                dueAt = auction.endAt();
+            }
+            case ENDED -> {
+                phase = Phase.RESULT;
+                dueAt = LocalDateTime.now().plus(Duration.ofMillis(resultGraceMs));
+            }
+            default -> {
+                return null;
+            }
+        }
+        if (dueAt == null) {
+            return null;
+        }
+        return new DefaultTypedTuple<>(member(auction.id(), phase), (double) toEpochMs(dueAt));
+    }
+
+    private static String member(Long auctionId, Phase phase) {
+        return auctionId + ":" + phase.name();
+    }
+
+    private static Long auctionIdOf(String member) {
+        return Long.parseLong(member.substring(0, member.indexOf(':')));
+    }
+
+    private static Phase phaseOf(String member) {
+        return Phase.valueOf(member.substring(member.indexOf(':') + 1));
+    }
+
+    private static long toEpochMs(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private record WheelEntry(String member, long dueMs, long targetTick) {
+    }
+}
@@ -4,58 +4,84 @@ import lombok.RequiredArgsConstructor;
 import noonchissaum.backend.domain.auction.dto.ws.*;
 import noonchissaum.backend.global.dto.SocketMessageType;
 import noonchissaum.backend.global.dto.WsMessage;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import noonchissaum.backend.global.websocket.StompMessageRelay;
 import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class AuctionMessageService {
-    private final SimpMessagingTemplate messagingTemplate;
+    private final StompMessageRelay messageRelay;
+    private final BidEventCoalescer bidEventCoalescer;
+    private final AuctionEventLog auctionEventLog;
 
     /**
     * 경매 룸 브로드캐스트(topic)
-    * /topic/auction/{auctionId} */
+    * /topic/auction/{auctionId}
+    * 경매별 순번(seq)을 붙여 replay 버퍼에 적재한 JSON 을 그대로 전송 */
     public <T> void sendToAuctionTopic(Long auctionId, SocketMessageType type, T payload){
         String destination = "/topic/auction/" + auctionId;
-        messagingTemplate.convertAndSend(destination, WsMessage.of(type, payload));
+        byte[] json = auctionEventLog.append(auctionId, type, payload);
+        if (json != null) {
+            messageRelay.sendSerialized(destination, json);
+        }
     }
 
     /**
      * 개인 알림 (queue)
      * /queue/notifications */
     public <T> void sendToUserQueue(Long userId, SocketMessageType type, T payload){
-        messagingTemplate.convertAndSendToUser(
+        messageRelay.convertAndSendToUser(
                 String.valueOf(userId),
                 "/queue/notifications",
                 WsMessage.of(type, payload)
         );
     }
 
-    // 입찰 성공 브로드캐스트
+    /**
+     * 여러 사용자 개인 큐로 일괄 전송 (대량 알림)
+     */
+    public <T> void sendToUserQueues(SocketMessageType type, List<Map.Entry<Long, T>> payloads) {
+        List<StompMessageRelay.UserPayload> messages = new ArrayList<>(payloads.size());
+        for (Map.Entry<Long, T> entry : payloads) {
+            messages.add(new StompMessageRelay.UserPayload(String.valueOf(entry.getKey()), WsMessage.of(type, entry.getValue())));
+        }
+        messageRelay.convertAndSendToUsers("/queue/notifications", messages);
+    }
+
+    // 입찰 성공 브로드캐스트 (병합 창 안에서는 최신 1건만 전송)
     public void sendBidSucceeded(Long auctionId, BidSucceededPayload payload) {
-        sendToAuctionTopic(auctionId, SocketMessageType.BID_SUCCESSED, payload);
+        bidEventCoalescer.offer(auctionId, payload,
+                latest -> sendToAuctionTopic(auctionId, SocketMessageType.BID_SUCCESSED, latest));
     }
 
     // 이전 최고 입찰자에게 OUTBID 알림
     public void sendOutbid(Long userId, OutbidPayload payload) {
         sendToUserQueue(userId, SocketMessageType.OUTBID, payload);
     }
+    // 연장/종료/결과는 대기 중인 입찰 이벤트를 먼저 내보낸 뒤 전송
     public void sendAuctionExtended(Long auctionId, AuctionExtendedPayload payload){
-        sendToAuctionTopic(auctionId, SocketMessageType.AUCTION_EXTENDED, payload);
+        bidEventCoalescer.runFlushed(auctionId,
+                () -> sendToAuctionTopic(auctionId, SocketMessageType.AUCTION_EXTENDED, payload));
     }
 
     // 경매 전체 스냅샷 브로드캐스트 (주기적 중계용)
+    // 전체 상태라 놓쳐도 다음 스냅샷으로 대체되므로 순번/replay 버퍼를 쓰지 않음 (버퍼는 델타 이벤트 전용)
     public void sendAuctionSnapshot(Long auctionId, Object payload) {
-        sendToAuctionTopic(auctionId, SocketMessageType.NOTIFICATION, payload);
+        messageRelay.convertAndSend("/topic/auction/" + auctionId, WsMessage.of(SocketMessageType.NOTIFICATION, payload));
     }
 
     // 경매 종료 브로드 캐스트
     public void sendAuctionEnded(Long auctionId, AuctionEndedPayload payload) {
-        sendToAuctionTopic(auctionId, SocketMessageType.AUCTION_ENDED, payload);
+        bidEventCoalescer.runFlushed(auctionId,
+                () -> sendToAuctionTopic(auctionId, SocketMessageType.AUCTION_ENDED, payload));
     }
 
     public void sendAuctionResult(Long auctionId, AuctionResultPayload payload) {
-        sendToAuctionTopic(auctionId, SocketMessageType.AUCTION_RESULT, payload);
+        bidEventCoalescer.runFlushed(auctionId,
+                () -> sendToAuctionTopic(auctionId, SocketMessageType.AUCTION_RESULT, payload));
     }
 
 }
@@ -0,0 +1,269 @@
+package noonchissaum.backend.domain.auction.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import noonchissaum.backend.domain.auction.dto.ws.AuctionEndedPayload;
+import noonchissaum.backend.domain.auction.dto.ws.AuctionExtendedPayload;
+import noonchissaum.backend.domain.auction.dto.ws.BidSucceededPayload;
+import noonchissaum.backend.domain.auction.entity.Auction;
+import noonchissaum.backend.domain.auction.entity.AuctionEffect;
+import noonchissaum.backend.domain.auction.repository.AuctionOutboxRepository;
+import noonchissaum.backend.domain.auction.repository.AuctionOutboxRepository.OutboxRow;
+import noonchissaum.backend.domain.auction.repository.AuctionRepository;
+import noonchissaum.backend.domain.notification.constants.NotificationConstants;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * auction_outbox relay
+ * 커밋 직후(AuctionOutboxService 가 깨움) 또는 poll-interval-ms 마다 대기 행을 배치로 선점해,
+ * 같은 경매의 효과를 하나로 합친 뒤 커밋된 DB 상태 기준으로 한 번씩 반영한다.
+ * 반영은 모두 현재 상태를 다시 쓰는 방식이라 노드 장애로 같은 행이 두 번 처리돼도 결과가 같다.
+ * max-attempts 까지 실패한 행은 dead-letter 로 남기고(에러 로그 + 메트릭), 보관 기간이 지나면 정리한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AuctionOutboxRelay {
+
+    private final AuctionOutboxRepository auctionOutboxRepository;
+    private final AuctionRepository auctionRepository;
+    private final AuctionRedisService auctionRedisService;
+    private final AuctionIndexService auctionIndexService;
+    private final AuctionMessageService auctionMessageService;
+    private final AuctionRealtimeSnapshotService snapshotService;
+    private final MeterRegistry meterRegistry;
+
+    private final Object signal = new Object();
+    private boolean signaled;
+    private volatile boolean running;
+    private Thread relayThread;
+
+    private Counter relayed;
+    private Counter coalesced;
+    private Counter errors;
+    private Counter deadLettered;
+    private Timer lag;
+
+    @Value("${auction.outbox.batch-size:500}")
+    private int batchSize;
+
+    // 깨우는 신호가 없어도 다른 노드/재시도 행을 확인하는 주기
+    @Value("${auction.outbox.poll-interval-ms:1000}")
+    private long pollIntervalMs;
+
+    // 선점 후 이 시간 안에 처리하지 못하면(노드 종료 등) 다른 relay 가 다시 선점
+    @Value("${auction.outbox.lock-ms:30000}")
+    private long lockMs;
+
+    @Value("${auction.outbox.retry-delay-ms:5000}")
+    private long retryDelayMs;
+
+    @Value("${auction.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${auction.outbox.dead-letter-retention-days:14}")
+    private int deadLetterRetentionDays;
+
+    @PostConstruct
+    public void init() {
+        relayed = Counter.builder("auction.outbox.relayed")
+                .description("부수 효과를 반영한 경매 수 (합쳐진 뒤 기준)")
+                .register(meterRegistry);
+        coalesced = Counter.builder("auction.outbox.coalesced")
+                .description("같은 경매의 다른 행과 합쳐져 따로 반영되지 않은 outbox 행 수")
+                .register(meterRegistry);
+        errors = Counter.builder("auction.outbox.errors")
+                .description("반영 실패로 재시도 예약된 경매 수")
+                .register(meterRegistry);
+        deadLettered = Counter.builder("auction.outbox.dead_lettered")
+                .description("재시도를 모두 소진해 dead-letter 로 남긴 경매 수")
+                .register(meterRegistry);
+        lag = Timer.builder("auction.outbox.lag")
+                .description("outbox 저장부터 반영까지 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    /** 애플리케이션 기동 후 relay 스레드 시작 (AuctionOutboxScheduler) */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        relayThread = Thread.ofPlatform().name("auction-outbox-relay").daemon().start(this::loop);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        if (relayThread != null) {
+            relayThread.interrupt();
+        }
+    }
+
+    /** 커밋 직후 호출: 대기 중인 relay 를 즉시 깨움 */
+    public void wakeUp() {
+        synchronized (signal) {
+            signaled = true;
+            signal.notifyAll();
+        }
+    }
+
+    private void loop() {
+        while (running) {
+            try {
+                // 배치가 가득 찼으면 남은 행이 있을 수 있으므로 바로 다음 배치
+                while (running && relay() >= batchSize) {
+                    Thread.onSpinWait();
+                }
+                awaitSignal();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("[AuctionOutbox] relay 실패", e);
+                try {
+                    Thread.sleep(pollIntervalMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void awaitSignal() throws InterruptedException {
+        synchronized (signal) {
+            if (!signaled) {
+                signal.wait(pollIntervalMs);
+            }
+            signaled = false;
+        }
+    }
+
+    /**
+     * 대기 행 한 배치 반영
+     * @return 선점한 행 수
+     */
+    public int relay() {
+        String claimToken = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+        int claimed = auctionOutboxRepository.claim(claimToken, batchSize, maxAttempts, now, now.plus(Duration.ofMillis(lockMs)));
+        if (claimed == 0) {
+            return 0;
+        }
+        List<OutboxRow> rows = auctionOutboxRepository.findClaimed(claimToken);
+
+        Map<Long, Integer> effectsByAuction = new LinkedHashMap<>();
+        Map<Long, Integer> attemptsByAuction = new HashMap<>();
+        for (OutboxRow row : rows) {
+            effectsByAuction.merge(row.auctionId(), row.effects(), (a, b) -> a | b);
+            attemptsByAuction.merge(row.auctionId(), row.attempts(), Math::max);
+            lag.record(Duration.between(row.createdAt(), now));
+        }
+        coalesced.increment(rows.size() - effectsByAuction.size());
+
+        List<Long> failedIds = new ArrayList<>();
+        List<Long> exhaustedIds = new ArrayList<>();
+        for (Auction auction : auctionRepository.findByIdIn(new ArrayList<>(effectsByAuction.keySet()))) {
+            try {
+                apply(auction, effectsByAuction.get(auction.getId()));
+                relayed.increment();
+            } catch (Exception e) {
+                errors.increment();
+                if (attemptsByAuction.get(auction.getId()) + 1 >= maxAttempts) {
+                    exhaustedIds.add(auction.getId());
+                    log.error("[AuctionOutbox] 재시도 소진, dead-letter 처리 auctionId={} effects={}",
+                            auction.getId(), effectsByAuction.get(auction.getId()), e);
+                } else {
+                    failedIds.add(auction.getId());
+                    log.warn("[AuctionOutbox] 부수 효과 반영 실패 auctionId={}", auction.getId(), e);
+                }
+            }
+        }
+        auctionOutboxRepository.release(claimToken, failedIds, LocalDateTime.now().plus(Duration.ofMillis(retryDelayMs)));
+        auctionOutboxRepository.deadLetter(claimToken, exhaustedIds, LocalDateTime.now());
+        deadLettered.increment(exhaustedIds.size());
+        auctionOutboxRepository.deleteClaimed(claimToken);
+        return rows.size();
+    }
+
+    /**
+     * 보관 기간이 지난 dead-letter 행 정리 (리더 노드만, AuctionOutboxScheduler)
+     * @return 삭제한 행 수
+     */
+    public int purgeDeadLettered() {
+        LocalDateTime threshold = LocalDateTime.now().minusDays(deadLetterRetentionDays);
+        int total = 0;
+        int deleted;
+        do {
+            deleted = auctionOutboxRepository.deleteDeadLetteredBefore(threshold, 1000);
+            total += deleted;
+        } while (deleted == 1000);
+        return total;
+    }
+
+    private void apply(Auction auction, int effects) {
+        Long auctionId = auction.getId();
+        if (AuctionEffect.RELOAD.in(effects)) {
+            auctionRedisService.overwriteRedis(auction);
+        } else if (AuctionEffect.STATE.in(effects)) {
+            auctionRedisService.setRedis(auction);
+        }
+        if (AuctionEffect.PRICE_INDEX.in(effects)) {
+            auctionIndexService.updatePriceIndex(auctionId, auction.getItem().getCategory().getId(), auction.getCurrentPrice());
+        }
+        if (AuctionEffect.EXTENDED.in(effects)) {
+            auctionMessageService.sendAuctionExtended(auctionId, AuctionExtendedPayload.builder()
+                    .auctionId(auctionId)
+                    .endAt(auction.getEndAt())
+                    .isExtended(true)
+                    .extendedMinutes(AuctionExtensionService.EXTEND_MINUTES)
+                    .build());
+        }
+        if (AuctionEffect.BID_STATE.in(effects)) {
+            auctionMessageService.sendBidSucceeded(auctionId, BidSucceededPayload.builder()
+                    .auctionId(auctionId)
+                    .currentPrice(auction.getCurrentPrice().longValue())
+                    .currentBidderId(auction.getCurrentBidder() != null ? auction.getCurrentBidder().getId() : null)
+                    .bidCount(auction.getBidCount())
+                    .endAt(auction.getEndAt())
+                    .isExtended(auction.getIsExtended())
+                    .build());
+        }
+        if (AuctionEffect.ENDED.in(effects)) {
+            sendEndedPayload(auctionId, LocalDateTime.now());
+        }
+    }
+
+    private void sendEndedPayload(Long auctionId, LocalDateTime endedAt) {
+        // 스냅샷 기반으로 종료 payload 구성 (DB 접근 최소화)
+        var snap = snapshotService.getSnapshot(auctionId);
+
+        AuctionEndedPayload payload = AuctionEndedPayload.builder()
+                .auctionId(auctionId)
+                .winnerUserId(snap.getCurrentBidderId()) // 유찰이면 null일 수 있음
+                .finalPrice(snap.getCurrentPrice())
+                .bidCount(snap.getBidCount())
+                .endedAt(endedAt)
+                .message(snap.getCurrentBidderId() == null ?
+                        NotificationConstants.MSG_WS_AUCTION_ENDED_FAILED :
+                        NotificationConstants.MSG_WS_AUCTION_ENDED_SUCCESS)
+                .build();
+
+        auctionMessageService.sendAuctionEnded(auctionId, payload);
+    }
+}
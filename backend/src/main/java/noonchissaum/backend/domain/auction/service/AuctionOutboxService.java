@@ -0,0 +1,88 @@
+package noonchissaum.backend.domain.auction.service;
+
+import lombok.RequiredArgsConstructor;
+import noonchissaum.backend.domain.auction.entity.AuctionEffect;
+import noonchissaum.backend.domain.auction.repository.AuctionOutboxRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 경매 부수 효과(Redis 상태/가격 인덱스/WS 알림) 기록
+ * 트랜잭션 안에서는 경매별로 효과를 모아 두었다가 커밋 직전 auction_outbox 에 JDBC batch 1회로 저장하고,
+ * 커밋되면 AuctionOutboxRelay 를 깨워 반영한다. 롤백되면 저장도 반영도 되지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AuctionOutboxService {
+
+    // 트랜잭션별 효과 버퍼 리소스 키
+    private static final Object BUFFER_KEY = new Object();
+
+    private final AuctionOutboxRepository auctionOutboxRepository;
+    private final AuctionOutboxRelay auctionOutboxRelay;
+
+    public void record(Long auctionId, AuctionEffect... effects) {
+        recordAll(List.of(auctionId), effects);
+    }
+
+    public void recordAll(Collection<Long> auctionIds, AuctionEffect... effects) {
+        if (auctionIds.isEmpty()) {
+            return;
+        }
+        int mask = AuctionEffect.mask(effects);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 트랜잭션 밖 호출은 바로 저장 후 relay 호출
+            Map<Long, Integer> rows = new LinkedHashMap<>();
+            auctionIds.forEach(auctionId -> rows.merge(auctionId, mask, (a, b) -> a | b));
+            auctionOutboxRepository.insertAll(rows, LocalDateTime.now());
+            auctionOutboxRelay.wakeUp();
+            return;
+        }
+        Map<Long, Integer> buffer = transactionBuffer();
+        auctionIds.forEach(auctionId -> buffer.merge(auctionId, mask, (a, b) -> a | b));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Integer> transactionBuffer() {
+        Map<Long, Integer> buffer = (Map<Long, Integer>) TransactionSynchronizationManager.getResource(BUFFER_KEY);
+        if (buffer != null) {
+            return buffer;
+        }
+        Map<Long, Integer> created = new LinkedHashMap<>();
+        TransactionSynchronizationManager.bindResource(BUFFER_KEY, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            // REQUIRES_NEW 로 바깥 트랜잭션이 보류되는 동안 안쪽 트랜잭션은 자기 버퍼를 따로 쓴다
+            @Override
+            public void suspend() {
+                TransactionSynchronizationManager.unbindResourceIfPossible(BUFFER_KEY);
+            }
+
+            @Override
+            public void resume() {
+                TransactionSynchronizationManager.bindResource(BUFFER_KEY, created);
+            }
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                auctionOutboxRepository.insertAll(created, LocalDateTime.now());
+            }
+
+            @Override
+            public void afterCommit() {
+                auctionOutboxRelay.wakeUp();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(BUFFER_KEY);
+            }
+        });
+        return created;
+    }
+}
@@ -2,50 +2,40 @@ package noonchissaum.backend.domain.auction.service;
 
 import lombok.RequiredArgsConstructor;
 import noonchissaum.backend.domain.auction.dto.ws.AuctionSnapshotPayload;
-import noonchissaum.backend.global.RedisKeys;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import noonchissaum.backend.domain.auction.redis.AuctionStateFields;
 import org.springframework.stereotype.Service;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class AuctionRealtimeSnapshotService {
 
-    private final StringRedisTemplate redisTemplate;
     private final AuctionRedisService auctionRedisService;
 
     public AuctionSnapshotPayload getSnapshot(Long auctionId) {
-        String priceKey = RedisKeys.auctionCurrentPrice(auctionId);
-        String bidderKey = RedisKeys.auctionCurrentBidder(auctionId);
-        String bidCountKey = RedisKeys.auctionCurrentBidCount(auctionId);
-        String endTimeKey = RedisKeys.auctionEndTime(auctionId);
-        String imminentKey = RedisKeys.auctionImminentMinutes(auctionId);
-        String extendedKey = RedisKeys.auctionIsExtended(auctionId);
-
-        // 키가 하나라도 없으면 복구
-        if (!hasAllKeys(priceKey, bidderKey, bidCountKey, endTimeKey, imminentKey, extendedKey)) {
-            auctionRedisService.setRedis(auctionId);
+        // 상태 해시 1회 조회, 필드가 하나라도 없으면 복구 후 재조회
+        Map<Object, Object> state = auctionRedisService.getState(auctionId);
+        if (!AuctionStateFields.isComplete(state)) {
+            auctionRedisService.restoreState(auctionId);
+            state = auctionRedisService.getState(auctionId);
         }
+        return toSnapshot(auctionId, state);
+    }
 
-        String rawPrice = redisTemplate.opsForValue().get(priceKey);
-        String rawBidder = redisTemplate.opsForValue().get(bidderKey);
-        String rawBidCount = redisTemplate.opsForValue().get(bidCountKey);
-        String rawEndTime = redisTemplate.opsForValue().get(endTimeKey);
-        String rawImminent = redisTemplate.opsForValue().get(imminentKey);
-        String rawExtended = redisTemplate.opsForValue().get(extendedKey);
-
-        Long currentPrice = parseLongOrNull(rawPrice);
-        Integer bidCount = parseIntOrNull(rawBidCount);
+    AuctionSnapshotPayload toSnapshot(Long auctionId, Map<Object, Object> state) {
+        Long currentPrice = parseLongOrNull(field(state, AuctionStateFields.CURRENT_PRICE));
+        Integer bidCount = parseIntOrNull(field(state, AuctionStateFields.CURRENT_BID_COUNT));
 
         // bidder는 공백이면 null 처리
-        Long currentBidderId = parseBidderId(rawBidder);
+        Long currentBidderId = parseBidderId(field(state, AuctionStateFields.CURRENT_BIDDER));
 
-        LocalDateTime endAt = parseEndTime(rawEndTime);
-        Integer imminentMinutes = parseIntOrNull(rawImminent);
-        Boolean isExtended = parseBooleanOrNull(rawExtended);
+        LocalDateTime endAt = parseEndTime(field(state, AuctionStateFields.END_TIME));
+        Integer imminentMinutes = parseIntOrNull(field(state, AuctionStateFields.IMMINENT_MINUTES));
+        Boolean isExtended = parseBooleanOrNull(field(state, AuctionStateFields.IS_EXTENDED));
 
         return new AuctionSnapshotPayload(
                 auctionId,
@@ -54,17 +44,14 @@ public class AuctionRealtimeSnapshotService {
                 bidCount != null ? bidCount : 0,
                 endAt,
                 imminentMinutes,
-                isExtended
+                isExtended,
+                null
         );
     }
 
-    private boolean hasAllKeys(String... keys) {
-        for (String key : keys) {
-            if (Boolean.FALSE.equals(redisTemplate.hasKey(key))) {
-                return false;
-            }
-        }
-        return true;
+    private String field(Map<Object, Object> state, String name) {
+        Object value = state.get(name);
+        return value == null ? null : value.toString();
     }
 
     private Long parseBidderId(String raw) {
@@ -132,18 +119,13 @@ public class AuctionRealtimeSnapshotService {
     }
 
     public Optional<AuctionSnapshotPayload> getSnapshotIfPresent(Long auctionId) {
-        String priceKey = RedisKeys.auctionCurrentPrice(auctionId);
-        String bidderKey = RedisKeys.auctionCurrentBidder(auctionId);
-        String bidCountKey = RedisKeys.auctionCurrentBidCount(auctionId);
-        String endTimeKey = RedisKeys.auctionEndTime(auctionId);
-        String imminentKey = RedisKeys.auctionImminentMinutes(auctionId);
-        String extendedKey = RedisKeys.auctionIsExtended(auctionId);
+        Map<Object, Object> state = auctionRedisService.getState(auctionId);
 
         // 하나라도 없으면 "없다"로 처리 (복구 X)
-        if (!hasAllKeys(priceKey, bidderKey, bidCountKey, endTimeKey, imminentKey, extendedKey)) {
+        if (!AuctionStateFields.isComplete(state)) {
             return Optional.empty();
         }
 
-        return Optional.of(getSnapshot(auctionId));
+        return Optional.of(toSnapshot(auctionId, state));
     }
 }
@@ -2,17 +2,20 @@ package noonchissaum.backend.domain.auction.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import noonchissaum.backend.domain.auction.dto.ws.AuctionExtendedPayload;
 import noonchissaum.backend.domain.auction.entity.Auction;
+import noonchissaum.backend.domain.auction.entity.AuctionEffect;
+import noonchissaum.backend.domain.auction.redis.AuctionStateFields;
 import noonchissaum.backend.domain.auction.repository.AuctionRepository;
+import noonchissaum.backend.domain.auction.service.AuctionWriteBehindService.PendingAuctionUpdate;
 import noonchissaum.backend.domain.user.entity.User;
+import noonchissaum.backend.domain.user.entity.UserStatus;
 import noonchissaum.backend.domain.user.service.UserService;
 import noonchissaum.backend.global.exception.ApiException;
 import noonchissaum.backend.global.exception.ErrorCode;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
 
 @Service
 @RequiredArgsConstructor
@@ -21,10 +24,8 @@ public class AuctionRecordService {
 
     private final AuctionRepository auctionRepository;
     private final UserService userService;
+    private final AuctionOutboxService auctionOutboxService;
     private final AuctionRedisService auctionRedisService;
-    private final AuctionIndexService auctionIndexService;
-
-    private final AuctionMessageService auctionMessageService;
 
     @Transactional
     public void saveAuction(Long auctionId, Long userId, BigDecimal bidAmount) {
@@ -33,45 +34,49 @@ public class AuctionRecordService {
         User user = userService.getUserByUserId(userId);
 
         auction.updateBid(user, bidAmount);
-        // Redis 스냅샷 갱신
-        auctionRedisService.setRedis(auctionId);
-
-        // Redis ZSET 가격 인덱스 갱신 (카테고리+가격정렬 )
-        Long categoryId = auction.getItem().getCategory().getId();
-        auctionIndexService.updatePriceIndex(auctionId, categoryId, auction.getCurrentPrice());
+        // Redis 스냅샷 + 가격 인덱스(카테고리+가격정렬) 갱신은 커밋 후 outbox relay 가 반영
+        auctionOutboxService.record(auctionId, AuctionEffect.STATE, AuctionEffect.PRICE_INDEX);
     }
 
     /**
-     * 입찰 업데이트와 시간 연장 로직을 한 트랜잭션으로 처리하여 데이터 유실 방지
+     * write-behind flush: Redis 에서 확정된 최신 상태를 경매 row 에 한 번에 반영
+     * (Redis 가 원본이므로 setRedis 는 호출하지 않음)
+     * 스케줄러 전환 트랜잭션 안에서 선반영될 때 실패가 바깥 트랜잭션을 rollback-only 로 만들지 않도록 독립 트랜잭션으로 커밋
+     * 차단 롤백과 겹치지 않도록 경매 row 를 잠그고, 롤백으로 무효가 된 변경(다른 노드에 남아 있던 버퍼)은 버린다.
      */
-    @Transactional
-    public void updateAuctionWithExtension(Long auctionId, Long userId, BigDecimal bidAmount) {
-        Auction auction = auctionRepository.findById(auctionId)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void applyPendingUpdate(PendingAuctionUpdate update) {
+        Auction auction = auctionRepository.findByIdForUpdate(update.auctionId())
                 .orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND_AUCTIONS));
-        User user = userService.getUserByUserId(userId);
-
-        // 1. 입찰 정보 업데이트
-        auction.updateBid(user, bidAmount);
+        User bidder = userService.getUserByUserId(update.bidderId());
 
-        // 2. 시간 연장 로직 실행
-        boolean extended = auction.extendIfNeeded(LocalDateTime.now());
+        if (isRolledBack(update, bidder)) {
+            log.warn("롤백된 경매 write-behind 변경 폐기 - auctionId: {}, bidderId: {}, bidCount: {}",
+                    update.auctionId(), update.bidderId(), update.bidCount());
+            auction.syncExtension(update.extendedEndAt());
+            return;
+        }
 
-        // 3. Redis 동기화 (상태가 변한 후 한 번만 호출)
-        auctionRedisService.setRedis(auctionId);
+        boolean bidChanged = auction.syncBid(bidder, update.price(), update.bidCount());
+        auction.syncExtension(update.extendedEndAt());
 
-        // 4. 연장된 경우 웹소켓 알림 발송
-        if (extended) {
-            auctionMessageService.sendAuctionExtended(auctionId, 
-                AuctionExtendedPayload.builder()
-                    .auctionId(auctionId)
-                    .endAt(auction.getEndAt())
-                    .isExtended(true)
-                    .extendedMinutes(3)
-                    .build());
+        if (bidChanged) {
+            auctionOutboxService.record(auction.getId(), AuctionEffect.PRICE_INDEX);
         }
+    }
 
-        // 5. 가격 인덱스 갱신
-        Long categoryId = auction.getItem().getCategory().getId();
-        auctionIndexService.updatePriceIndex(auctionId, categoryId, auction.getCurrentPrice());
+    /**
+     * 차단된 입찰자이거나, Redis 입찰수가 버퍼보다 작으면(입찰 롤백으로 줄어듦) 무효한 변경
+     * Redis 상태가 없으면 판단할 수 없으므로 그대로 반영한다.
+     */
+    private boolean isRolledBack(PendingAuctionUpdate update, User bidder) {
+        if (bidder.getStatus() == UserStatus.BLOCKED) {
+            return true;
+        }
+        Object rawBidCount = auctionRedisService.getState(update.auctionId()).get(AuctionStateFields.CURRENT_BID_COUNT);
+        if (rawBidCount == null || rawBidCount.toString().isBlank()) {
+            return false;
+        }
+        return Integer.parseInt(rawBidCount.toString()) < update.bidCount();
     }
 }
@@ -3,27 +3,65 @@ package noonchissaum.backend.domain.auction.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import noonchissaum.backend.domain.auction.entity.Auction;
+import noonchissaum.backend.domain.auction.redis.AuctionStateFields;
 import noonchissaum.backend.domain.auction.repository.AuctionRepository;
 import noonchissaum.backend.global.RedisKeys;
 import noonchissaum.backend.global.exception.ApiException;
 import noonchissaum.backend.global.exception.ErrorCode;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class AuctionRedisService {
 
+    private static final RedisScript<Long> LOAD_STATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/load_auction_state.lua"), Long.class);
+
     private final AuctionRepository auctionRepository;
     private final StringRedisTemplate redisTemplate;
+    private final AuctionChangeTracker auctionChangeTracker;
 
     public void setRedis(Long auctionId) {
-        Auction auction = auctionRepository.findById(auctionId)
+        setRedis(findAuction(auctionId));
+    }
+
+    /**
+     * 이미 조회한 경매 엔티티 기준으로 상태 해시 갱신 (outbox relay 의 일괄 반영용)
+     * Redis 의 입찰/연장 정보가 DB 보다 앞서 있으면 해당 필드는 유지한다.
+     */
+    public void setRedis(Auction auction) {
+        loadState(auction, false);
+    }
+
+    /**
+     * DB 기준으로 상태 해시를 강제로 덮어씀
+     * 입찰 롤백처럼 DB 입찰수가 줄거나, 차단 해제로 마감 시각이 바뀌거나, 결과가 확정된 경우 사용
+     */
+    public void overwriteRedis(Long auctionId) {
+        overwriteRedis(findAuction(auctionId));
+    }
+
+    public void overwriteRedis(Auction auction) {
+        loadState(auction, true);
+    }
+
+    private Auction findAuction(Long auctionId) {
+        return auctionRepository.findById(auctionId)
                 .orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND_AUCTIONS));
+    }
+
+    private void loadState(Auction auction, boolean overwrite) {
+        Long auctionId = auction.getId();
 
         // TTL: endAt + 10분까지 유지, 음수면 최소 1분
         Duration ttl = Duration.between(LocalDateTime.now(), auction.getEndAt().plusMinutes(10));
@@ -62,26 +100,94 @@ public class AuctionRedisService {
                 ? "false"
                 : String.valueOf(auction.getIsExtended());
 
-        redisTemplate.opsForValue().set(RedisKeys.auctionCurrentPrice(auctionId), currentPrice, ttl);
-        redisTemplate.opsForValue().set(RedisKeys.auctionCurrentBidder(auctionId), bidderId, ttl);
-        redisTemplate.opsForValue().set(RedisKeys.auctionCurrentBidCount(auctionId), bidCount, ttl);
-        redisTemplate.opsForValue().set(RedisKeys.auctionStartPrice(auctionId), startPrice, ttl);
-        redisTemplate.opsForValue().set(RedisKeys.auctionStatus(auctionId), status, ttl);
-        redisTemplate.opsForValue().set(RedisKeys.auctionEndTime(auctionId), endAt, ttl);
-        redisTemplate.opsForValue().set(RedisKeys.auctionImminentMinutes(auctionId), imminentMinutes, ttl);
-        redisTemplate.opsForValue().set(RedisKeys.auctionIsExtended(auctionId), isExtended, ttl);
+        Map<String, String> state = new HashMap<>();
+        state.put(AuctionStateFields.CURRENT_PRICE, currentPrice);
+        state.put(AuctionStateFields.CURRENT_BIDDER, bidderId);
+        state.put(AuctionStateFields.CURRENT_BID_COUNT, bidCount);
+        state.put(AuctionStateFields.START_PRICE, startPrice);
+        state.put(AuctionStateFields.STATUS, status);
+        state.put(AuctionStateFields.END_TIME, endAt);
+        state.put(AuctionStateFields.IMMINENT_MINUTES, imminentMinutes);
+        state.put(AuctionStateFields.IS_EXTENDED, isExtended);
+
+        writeState(auctionId, state, ttl, overwrite);
+        // 상태 전환(노출/마감 임박/종료/차단 등)은 모두 여기서 Redis 에 반영되므로 스냅샷 재전송 대상으로 표시
+        auctionChangeTracker.markChanged(auctionId);
+    }
+
+    /**
+     * 경매 상태 해시 조회 (HGETALL 1회)
+     */
+    public Map<Object, Object> getState(Long auctionId) {
+        return redisTemplate.opsForHash().entries(RedisKeys.auctionState(auctionId));
+    }
+
+    /**
+     * 상태 해시가 없거나 일부 필드가 빠진 경우 복구
+     * 1) 구 키(필드별 String)가 남아 있으면 해시로 이관
+     * 2) 없으면 DB 기준으로 다시 적재
+     */
+    public void restoreState(Long auctionId) {
+        if (!migrateLegacyKeys(auctionId)) {
+            setRedis(auctionId);
+        }
+    }
+
+    /**
+     * 구 키 → 상태 해시 마이그레이션
+     * 구 키가 모두 남아 있을 때만 이관하고 구 키는 삭제한다.
+     */
+    public boolean migrateLegacyKeys(Long auctionId) {
+        List<String> legacyKeys = RedisKeys.legacyAuctionStateKeys(auctionId);
+        List<String> values = redisTemplate.opsForValue().multiGet(legacyKeys);
+        if (values == null || values.size() != legacyKeys.size() || values.contains(null)) {
+            return false;
+        }
+
+        Map<String, String> state = new HashMap<>();
+        for (int i = 0; i < AuctionStateFields.ALL.size(); i++) {
+            state.put(AuctionStateFields.ALL.get(i), values.get(i));
+        }
+
+        Duration ttl = Duration.ofMinutes(1);
+        String endTime = state.get(AuctionStateFields.END_TIME);
+        if (endTime != null && !endTime.isBlank()) {
+            Duration remain = Duration.between(LocalDateTime.now(), LocalDateTime.parse(endTime).plusMinutes(10));
+            if (!remain.isNegative() && !remain.isZero()) {
+                ttl = remain;
+            }
+        }
+
+        writeState(auctionId, state, ttl, false);
+        log.info("경매 Redis 상태 구 키 → 해시 이관 완료 - auctionId: {}", auctionId);
+        return true;
     }
 
     public void cancelAuction(Long auctionId) {
-        redisTemplate.delete(List.of(
-                RedisKeys.auctionCurrentPrice(auctionId),
-                RedisKeys.auctionCurrentBidder(auctionId),
-                RedisKeys.auctionCurrentBidCount(auctionId),
-                RedisKeys.auctionStartPrice(auctionId),
-                RedisKeys.auctionStatus(auctionId),
-                RedisKeys.auctionEndTime(auctionId),
-                RedisKeys.auctionImminentMinutes(auctionId),
-                RedisKeys.auctionIsExtended(auctionId)
-        ));
+        List<String> keys = new ArrayList<>(RedisKeys.legacyAuctionStateKeys(auctionId));
+        keys.add(RedisKeys.auctionState(auctionId));
+        keys.add(RedisKeys.auctionProxyBids(auctionId));
+        keys.add(RedisKeys.auctionProxyOrder(auctionId));
+        redisTemplate.delete(keys);
+    }
+
+    /**
+     * 상태 해시 적재 + EXPIRE (+ 구 키 정리)를 스크립트 1회로 전송
+     * overwrite 가 아니면 Redis 쪽 입찰/연장 정보가 DB 보다 앞서 있을 때(write-behind flush 전) 해당 필드는 유지한다.
+     */
+    private void writeState(Long auctionId, Map<String, String> state, Duration ttl, boolean overwrite) {
+        List<String> keys = new ArrayList<>();
+        keys.add(RedisKeys.auctionState(auctionId));
+        keys.addAll(RedisKeys.legacyAuctionStateKeys(auctionId));
+
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(ttl.toSeconds()));
+        args.add(overwrite ? "overwrite" : "merge");
+        state.forEach((field, value) -> {
+            args.add(field);
+            args.add(value);
+        });
+
+        redisTemplate.execute(LOAD_STATE_SCRIPT, keys, args.toArray());
     }
 }
@@ -0,0 +1,382 @@
+package noonchissaum.backend.domain.auction.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import noonchissaum.backend.domain.auction.dto.ws.AuctionResultPayload;
+import noonchissaum.backend.domain.auction.entity.Auction;
+import noonchissaum.backend.domain.auction.entity.AuctionStatus;
+import noonchissaum.backend.domain.auction.entity.Bid;
+import noonchissaum.backend.domain.auction.redis.AuctionStateFields;
+import noonchissaum.backend.domain.auction.repository.AuctionRepository;
+import noonchissaum.backend.domain.auction.repository.BidRepository;
+import noonchissaum.backend.domain.notification.constants.NotificationConstants;
+import noonchissaum.backend.domain.notification.dto.NotificationDraft;
+import noonchissaum.backend.domain.notification.entity.NotificationType;
+import noonchissaum.backend.domain.notification.service.AuctionNotificationService;
+import noonchissaum.backend.domain.order.service.OrderService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경매 결과 확정 (ENDED -> SUCCESS / FAILED)
+ * ENDED 경매를 chunk 단위로 가져와 낙찰 입찰/참여자를 chunk 전체에 대해 한 번씩 조회한 뒤,
+ * 경매별 트랜잭션(상태 선점 + 주문 생성 + 알림 저장)을 고정 크기 worker pool 에서 병렬로 처리한다.
+ * 한 경매가 실패해도 그 경매 트랜잭션만 롤백되고 다음 주기에 다시 시도된다.
+ * bids 는 입찰 저널이 비동기로 쓰므로, 낙찰 입찰이 경매의 flush 된 현재가/입찰자와 다르면 확정하지 않고 유예 후 재시도한다.
+ * 마감 후 max-defer-ms 가 지나도 맞지 않으면 더 미루지 않고 bids 최고가 입찰 기준으로 확정하고 경보를 남긴다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AuctionResultFinalizer {
+
+    private final AuctionRepository auctionRepository;
+    private final BidRepository bidRepository;
+    private final OrderService orderService;
+    private final AuctionRealtimeSnapshotService snapshotService;
+    private final AuctionMessageService auctionMessageService;
+    private final AuctionNotificationService auctionNotificationService;
+    private final AuctionRedisService auctionRedisService;
+    private final AuctionLifecycleTimer auctionLifecycleTimer;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private ExecutorService workers;
+    private Counter succeeded;
+    private Counter failed;
+    private Counter errors;
+    private Counter deferred;
+    private Counter forced;
+    private Timer chunkDuration;
+    private Timer resultLag;
+
+    // 한 번에 가져올 ENDED 경매 수
+    @Value("${auction.result.chunk-size:200}")
+    private int chunkSize;
+
+    @Value("${auction.result.workers:8}")
+    private int workerCount;
+
+    // 한 번 실행에서 처리할 최대 chunk 수 (다음 주기로 넘겨 스케줄러 스레드 점유를 제한)
+    @Value("${auction.result.max-chunks-per-run:50}")
+    private int maxChunksPerRun;
+
+    // 마감 후 이 시간이 지나면 저널 반영 유예를 멈추고 bids 최고가 입찰 기준으로 확정
+    @Value("${auction.result.max-defer-ms:300000}")
+    private long maxDeferMs;
+
+    @PostConstruct
+    public void init() {
+        workers = Executors.newFixedThreadPool(workerCount,
+                Thread.ofPlatform().name("auction-result-", 0).daemon().factory());
+        succeeded = finalizedCounter("success");
+        failed = finalizedCounter("failed");
+        errors = Counter.builder("auction.result.errors")
+                .description("결과 확정 중 예외로 롤백된 경매 수")
+                .register(meterRegistry);
+        deferred = Counter.builder("auction.result.deferred")
+                .description("입찰 저널 미반영으로 확정을 미룬 경매 수")
+                .register(meterRegistry);
+        forced = Counter.builder("auction.result.forced")
+                .description("유예 한도를 넘겨 bids 최고가 입찰 기준으로 확정한 경매 수")
+                .register(meterRegistry);
+        chunkDuration = Timer.builder("auction.result.chunk.duration")
+                .description("ENDED 경매 chunk 하나를 확정하는 데 걸린 시간")
+                .register(meterRegistry);
+        resultLag = Timer.builder("auction.result.lag")
+                .description("경매 마감부터 결과 확정까지 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    /**
+     * ENDED 경매 전체를 chunk 단위로 확정
+     * @return 확정된 경매 수
+     */
+    public int finalizeEnded() {
+        int finalized = 0;
+        long afterId = 0L;
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            List<Long> ids = auctionRepository.findIdsByStatusAfter(AuctionStatus.ENDED, afterId, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            finalized += finalizeAuctions(ids);
+            afterId = ids.get(ids.size() - 1);
+            if (ids.size() < chunkSize) {
+                break;
+            }
+        }
+        return finalized;
+    }
+
+    /**
+     * 주어진 경매들의 결과 확정 (낙찰 입찰/참여자는 chunk 단위 조회 1회씩)
+     */
+    public int finalizeAuctions(List<Long> auctionIds) {
+        if (auctionIds.isEmpty()) {
+            return 0;
+        }
+        long startedAt = System.nanoTime();
+        List<Auction> auctions = auctionRepository.findByIdIn(auctionIds).stream()
+                .filter(auction -> auction.getStatus() == AuctionStatus.ENDED)
+                .toList();
+        if (auctions.isEmpty()) {
+            return 0;
+        }
+        List<Long> endedIds = auctions.stream().map(Auction::getId).toList();
+        Map<Long, Bid> winners = winningBids(endedIds);
+        Map<Long, List<Long>> participants = participantIds(endedIds);
+
+        List<Callable<Boolean>> tasks = new ArrayList<>(auctions.size());
+        for (Auction auction : auctions) {
+            Bid winner = winners.get(auction.getId());
+            if (!isJournalApplied(auction, winner)) {
+                if (!isDeferralExpired(auction)) {
+                    // 상태 선점 전에 건너뛰어 ENDED 로 남겨 두고 유예 후 다시 확정
+                    deferred.increment();
+                    auctionLifecycleTimer.scheduleResult(auction.getId());
+                    log.debug("[AuctionResult] 입찰 저널 미반영 - 확정 유예 auctionId={}", auction.getId());
+                    continue;
+                }
+                // 유예 한도 초과: 지갑 기록과 함께 영속화된 bids 최고가 입찰을 기준으로 확정
+                forced.increment();
+                reportForcedFinalize(auction, winner);
+            }
+            List<Long> bidders = participants.getOrDefault(auction.getId(), List.of());
+            tasks.add(() -> finalizeSafely(auction, winner, bidders));
+        }
+
+        if (tasks.isEmpty()) {
+            return 0;
+        }
+        int finalized = 0;
+        if (tasks.size() == 1) {
+            finalized = runInline(tasks.get(0));
+        } else {
+            try {
+                for (Future<Boolean> future : workers.invokeAll(tasks)) {
+                    if (Boolean.TRUE.equals(future.get())) {
+                        finalized++;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                log.error("[AuctionResult] 결과 확정 작업 실패", e);
+            }
+        }
+        chunkDuration.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        if (finalized > 0) {
+            log.info("[AuctionResult] finalized={} chunk={} elapsedMs={}",
+                    finalized, auctions.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        }
+        return finalized;
+    }
+
+    private int runInline(Callable<Boolean> task) {
+        try {
+            return Boolean.TRUE.equals(task.call()) ? 1 : 0;
+        } catch (Exception e) {
+            log.error("[AuctionResult] 결과 확정 작업 실패", e);
+            return 0;
+        }
+    }
+
+    private boolean finalizeSafely(Auction auction, Bid winner, List<Long> bidderIds) {
+        Long auctionId = auction.getId();
+        try {
+            // 상태 선점 + 주문 + 알림 저장은 경매별 트랜잭션 (알림 푸시는 커밋 이후)
+            Boolean changed = transactionTemplate.execute(status -> finalizeInTransaction(auction, winner, bidderIds));
+            if (!Boolean.TRUE.equals(changed)) {
+                log.debug("[AuctionResult] skip duplicated finalize auctionId={}", auctionId);
+                return false;
+            }
+            AuctionStatus result = winner == null ? AuctionStatus.FAILED : AuctionStatus.SUCCESS;
+            (winner == null ? failed : succeeded).increment();
+            if (auction.getEndAt() != null) {
+                resultLag.record(Duration.between(auction.getEndAt(), LocalDateTime.now()));
+            }
+            auctionRedisService.overwriteRedis(auctionId);
+            sendResultPayload(auctionId, result, winner == null ? null : winner.getBidder().getId());
+            return true;
+        } catch (Exception e) {
+            // 한 건 실패해도 다음 경매 계속 처리
+            errors.increment();
+            log.error("Failed to finalize result for auctionId={}", auctionId, e);
+            return false;
+        }
+    }
+
+    private boolean finalizeInTransaction(Auction auction, Bid winner, List<Long> bidderIds) {
+        Long auctionId = auction.getId();
+        if (winner == null) {
+            // 유찰 : ENDED -> FAILED 선점
+            int changed = auctionRepository.finalizeAuctionStatus(auctionId, AuctionStatus.ENDED, AuctionStatus.FAILED);
+            if (changed != 1) {
+                return false;
+            }
+            sendFailureNotifications(auction);
+            return true;
+        }
+
+        // 낙찰 : ENDED -> SUCCESS 선점 후 주문 생성
+        int changed = auctionRepository.finalizeAuctionStatus(auctionId, AuctionStatus.ENDED, AuctionStatus.SUCCESS);
+        if (changed != 1) {
+            return false;
+        }
+        orderService.createOrder(auction, winner.getBidder(), winner.getBidPrice());
+        sendSuccessNotifications(auction, winner, bidderIds);
+        return true;
+    }
+
+    /**
+     * 낙찰 입찰이 경매의 flush 된 최종 상태와 일치하는지 (마지막 입찰까지 bids 에 반영됐는지)
+     * 무입찰 경매는 bids 에 행이 없어야 일치
+     */
+    private boolean isJournalApplied(Auction auction, Bid winner) {
+        if (auction.getCurrentBidder() == null) {
+            return winner == null;
+        }
+        return winner != null
+                && winner.getBidPrice().compareTo(auction.getCurrentPrice()) == 0
+                && winner.getBidder().getId().equals(auction.getCurrentBidder().getId());
+    }
+
+    private boolean isDeferralExpired(Auction auction) {
+        return auction.getEndAt() != null
+                && auction.getEndAt().plus(Duration.ofMillis(maxDeferMs)).isBefore(LocalDateTime.now());
+    }
+
+    /**
+     * 강제 확정 경보 - DB 경매 row / bids 최고가 / Redis 상태를 함께 남겨 어느 쪽이 밀렸는지 확인할 수 있게 한다.
+     */
+    private void reportForcedFinalize(Auction auction, Bid winner) {
+        Map<Object, Object> state = Map.of();
+        try {
+            state = auctionRedisService.getState(auction.getId());
+        } catch (Exception e) {
+            log.warn("[AuctionResult] Redis 상태 조회 실패 auctionId={}", auction.getId(), e);
+        }
+        log.error("[AuctionResult] 입찰 저널 유예 한도 초과 - bids 기준 강제 확정 auctionId={} "
+                        + "db(bidder={}, price={}) bid(bidder={}, price={}) redis(bidder={}, price={})",
+                auction.getId(),
+                auction.getCurrentBidder() == null ? null : auction.getCurrentBidder().getId(), auction.getCurrentPrice(),
+                winner == null ? null : winner.getBidder().getId(), winner == null ? null : winner.getBidPrice(),
+                state.get(AuctionStateFields.CURRENT_BIDDER), state.get(AuctionStateFields.CURRENT_PRICE));
+    }
+
+    /**
+     * 경매별 최고가 입찰 (같은 금액이면 먼저 들어온 입찰)
+     */
+    private Map<Long, Bid> winningBids(List<Long> auctionIds) {
+        Map<Long, Bid> winners = new HashMap<>();
+        for (Bid bid : bidRepository.findTopBidsByAuctionIds(auctionIds)) {
+            winners.merge(bid.getAuction().getId(), bid,
+                    (current, candidate) -> candidate.getId() < current.getId() ? candidate : current);
+        }
+        return winners;
+    }
+
+    private Map<Long, List<Long>> participantIds(List<Long> auctionIds) {
+        Map<Long, List<Long>> participants = new HashMap<>();
+        for (Object[] row : bidRepository.findDistinctAuctionBidderIds(auctionIds)) {
+            participants.computeIfAbsent((Long) row[0], key -> new ArrayList<>()).add((Long) row[1]);
+        }
+        return participants;
+    }
+
+    private void sendSuccessNotifications(Auction auction, Bid winnerBid, List<Long> participantIds) {
+        String itemTitle = auction.getItem().getTitle();
+        Long winnerId = winnerBid.getBidder().getId();
+
+        // 낙찰자(PURCHASED) / 패찰자(NO_PURCHASE) / 판매자(PURCHASED) 알림을 한 번에 저장 + 푸시
+        List<NotificationDraft> drafts = new ArrayList<>(participantIds.size() + 1);
+        for (Long participantId : participantIds) {
+            if (participantId.equals(winnerId)) {
+                drafts.add(new NotificationDraft(
+                        participantId,
+                        NotificationType.PURCHASED,
+                        String.format(NotificationConstants.MSG_AUCTION_WINNER, itemTitle),
+                        NotificationConstants.REF_TYPE_AUCTION,
+                        auction.getId()
+                ));
+            } else {
+                drafts.add(new NotificationDraft(
+                        participantId,
+                        NotificationType.NO_PURCHASE,
+                        String.format(NotificationConstants.MSG_AUCTION_LOSER, itemTitle),
+                        NotificationConstants.REF_TYPE_AUCTION,
+                        auction.getId()
+                ));
+            }
+        }
+
+        // 판매자에게 판매 완료 알림 (PURCHASED)
+        drafts.add(new NotificationDraft(
+                auction.getSeller().getId(),
+                NotificationType.PURCHASED,
+                String.format(NotificationConstants.MSG_AUCTION_SOLD, itemTitle),
+                NotificationConstants.REF_TYPE_AUCTION,
+                auction.getId()
+        ));
+        auctionNotificationService.sendNotifications(drafts);
+    }
+
+    private void sendFailureNotifications(Auction auction) {
+        String itemTitle = auction.getItem().getTitle();
+        // 판매자에게 유찰 알림 (NO_PURCHASE)
+        auctionNotificationService.sendNotification(
+                auction.getSeller().getId(),
+                NotificationType.NO_PURCHASE,
+                String.format(NotificationConstants.MSG_AUCTION_FAILED, itemTitle),
+                NotificationConstants.REF_TYPE_AUCTION,
+                auction.getId()
+        );
+    }
+
+    private void sendResultPayload(Long auctionId, AuctionStatus result, Long winnerId) {
+        var snap = snapshotService.getSnapshot(auctionId);
+
+        AuctionResultPayload payload = AuctionResultPayload.builder()
+                .auctionId(auctionId)
+                .result(result.name())
+                .winnerUserId(winnerId)
+                .finalPrice(result == AuctionStatus.FAILED ? null : snap.getCurrentPrice())
+                .bidCount(snap.getBidCount())
+                .decidedAt(LocalDateTime.now())
+                .build();
+
+        auctionMessageService.sendAuctionResult(auctionId, payload);
+    }
+
+    private Counter finalizedCounter(String result) {
+        return Counter.builder("auction.result.finalized")
+                .description("결과 확정된 경매 수 (처리량)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -2,31 +2,27 @@ package noonchissaum.backend.domain.auction.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import noonchissaum.backend.domain.auction.dto.ws.AuctionEndedPayload;
-import noonchissaum.backend.domain.auction.dto.ws.AuctionResultPayload;
 import noonchissaum.backend.domain.auction.entity.Auction;
+import noonchissaum.backend.domain.auction.entity.AuctionEffect;
 import noonchissaum.backend.domain.auction.entity.AuctionStatus;
-import noonchissaum.backend.domain.auction.entity.Bid;
+import noonchissaum.backend.domain.auction.redis.AuctionStateFields;
+import noonchissaum.backend.domain.auction.repository.AuctionLifecycleRow;
 import noonchissaum.backend.domain.auction.repository.AuctionRepository;
-import noonchissaum.backend.domain.auction.repository.BidRepository;
-import noonchissaum.backend.domain.notification.constants.NotificationConstants;
-import noonchissaum.backend.domain.notification.entity.NotificationType;
+import noonchissaum.backend.domain.notification.service.AuctionDigestService;
 import noonchissaum.backend.domain.notification.service.AuctionNotificationService;
-import noonchissaum.backend.domain.order.service.OrderService;
-import noonchissaum.backend.domain.user.entity.User;
-import noonchissaum.backend.domain.user.repository.CategorySubscriptionRepository;
 import noonchissaum.backend.domain.wallet.service.WalletService;
 import noonchissaum.backend.global.exception.ApiException;
 import noonchissaum.backend.global.exception.ErrorCode;
 import noonchissaum.backend.global.util.MoneyUtil;
-import noonchissaum.backend.global.service.MailService;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.function.LongPredicate;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -34,34 +30,80 @@ import java.util.Optional;
 public class AuctionSchedulerService {
 
     private final AuctionRepository auctionRepository;
-    private final BidRepository bidRepository;
-    private final OrderService orderService;
     private final AuctionRealtimeSnapshotService snapshotService;
     private final AuctionMessageService auctionMessageService;
     private final AuctionNotificationService auctionNotificationService;
     private final AuctionRedisService auctionRedisService;
     private final WalletService walletService;
-    private final CategorySubscriptionRepository categorySubscriptionRepository;
-    private final MailService mailService;
+    private final AuctionDigestService auctionDigestService;
+    private final AuctionWriteBehindService auctionWriteBehindService;
+    private final AuctionChangeTracker auctionChangeTracker;
+    private final AuctionViewerTracker auctionViewerTracker;
+    private final AuctionLifecycleTimer auctionLifecycleTimer;
+    private final AuctionResultFinalizer auctionResultFinalizer;
+    private final AuctionOutboxService auctionOutboxService;
+
+    // 한 번에 SPOP 으로 꺼낼 변경 경매 수
+    @Value("${auction.broadcast.batch-size:500}")
+    private int broadcastBatchSize;
+
+    // 타이머 재구성 시 한 번에 읽는 경매 수
+    @Value("${auction.lifecycle.rebuild-page-size:1000}")
+    private int lifecycleRebuildPageSize;
 
     /**
-     * 진행 중인 모든 경매의 상태를 실시간으로 중계합니다. (1초 주기)
+     * 마지막 tick 이후 변경된 경매만 스냅샷을 중계합니다. (1초 주기)
+     * 입찰/연장/상태 전환 경로가 AuctionChangeTracker 에 표시한 ID 만 꺼내므로 DB 조회 없이 변경 건수만큼만 Redis 를 읽는다.
      */
-    @Transactional(readOnly = true)
-    public void broadcastActiveAuctions() {
-        List<AuctionStatus> activeStatuses = List.of(AuctionStatus.RUNNING, AuctionStatus.DEADLINE);
-        List<Auction> activeAuctions = auctionRepository.findAllByStatusIn(activeStatuses);
-
-        for (Auction auction : activeAuctions) {
-            try {
-                var snapshot = snapshotService.getSnapshot(auction.getId());
-                auctionMessageService.sendAuctionSnapshot(auction.getId(), snapshot);
-            } catch (Exception e) {
-                log.error("Failed to broadcast auction snapshot for auctionId: {}", auction.getId(), e);
+    public int broadcastChangedAuctions() {
+        int sent = 0;
+        List<Long> failedIds = new ArrayList<>();
+        try {
+            while (true) {
+                List<Long> auctionIds = auctionChangeTracker.popChanged(broadcastBatchSize);
+                // 구독자가 없는 경매는 스냅샷 조회/전송 자체를 생략 (구독 시점에 클라이언트가 스냅샷을 직접 요청)
+                Map<Long, Integer> watched;
+                try {
+                    watched = auctionViewerTracker.watchedViewerCounts(auctionIds);
+                } catch (Exception e) {
+                    log.error("Failed to load viewer counts for changed auctions: {}", auctionIds, e);
+                    failedIds.addAll(auctionIds);
+                    return sent;
+                }
+                for (Map.Entry<Long, Integer> entry : watched.entrySet()) {
+                    Long auctionId = entry.getKey();
+                    try {
+                        var snapshot = snapshotService.getSnapshot(auctionId);
+                        snapshot.setViewerCount(entry.getValue());
+                        auctionMessageService.sendAuctionSnapshot(auctionId, snapshot);
+                        sent++;
+                    } catch (Exception e) {
+                        failedIds.add(auctionId);
+                        log.error("Failed to broadcast auction snapshot for auctionId: {}", auctionId, e);
+                    }
+                }
+                if (auctionIds.size() < broadcastBatchSize) {
+                    return sent;
+                }
+            }
+        } finally {
+            // 실패한 경매는 다음 tick 에 다시 보내도록 되돌림 (같은 tick 에서 다시 꺼내지 않게 끝난 뒤 한 번에)
+            if (!failedIds.isEmpty()) {
+                auctionChangeTracker.markChanged(failedIds);
             }
         }
     }
 
+    /**
+     * 진행 중인 경매 전체를 변경 표시 (표시 누락/유실 보정용 저빈도 재동기화, 엔티티가 아닌 ID 만 조회)
+     */
+    @Transactional(readOnly = true)
+    public int markActiveAuctionsChanged() {
+        List<Long> activeIds = auctionRepository.findIdsByStatusIn(List.of(AuctionStatus.RUNNING, AuctionStatus.DEADLINE));
+        auctionChangeTracker.markChanged(activeIds);
+        return activeIds.size();
+    }
+
     /**
      * READY -> RUNNING
      */
@@ -81,7 +123,7 @@ public class AuctionSchedulerService {
 
             int amount = MoneyUtil.calcDeposit(auction.getStartPrice().intValue());
             walletService.setAuctionDeposit(auction.getItem().getSeller().getId(), auction.getId(), amount, "refund");
-            auctionRedisService.setRedis(auction.getId());
+            auctionOutboxService.record(auction.getId(), AuctionEffect.STATE);
             notifyCategorySubscribers(auction);
             updated++;
         }
@@ -97,23 +139,11 @@ public class AuctionSchedulerService {
     }
 
     /**
-     * READY로 노출된 경매의 카테고리 구독자에게 메일 알림 전송
+     * READY로 노출된 경매를 카테고리 구독자 다이제스트에 추가
+     * 구독자 조회와 메일 적재는 AuctionDigestScheduler 주기에 구독자별 1통으로 묶어 처리한다.
      */
     private void notifyCategorySubscribers(Auction auction) {
-        Long categoryId = auction.getItem().getCategory().getId();
-        List<String> emails = categorySubscriptionRepository.findActiveUserEmailsByCategoryId(categoryId);
-        if (emails.isEmpty()) {
-            return;
-        }
-
-        String categoryName = auction.getItem().getCategory().getName();
-        String itemTitle = auction.getItem().getTitle();
-        var price = auction.getCurrentPrice();
-        Long auctionId = auction.getId();
-
-        for (String email : emails) {
-            mailService.sendAuctionReadyNoticeMail(email, categoryName, itemTitle, price, auctionId);
-        }
+        auctionDigestService.record(auction.getId());
     }
 
     /**
@@ -121,19 +151,21 @@ public class AuctionSchedulerService {
      */
     @Transactional
     public void markDeadline() {
+        // 입찰로 연장된 마감 시각이 DB 에 반영된 뒤 판단하도록 write-behind 선반영
+        auctionWriteBehindService.flushAll();
         LocalDateTime now = LocalDateTime.now();
 
-        // 1. DEADLINE으로 변경될 대상 ID 조회 (상태가 RUNNING인 것만)
-        List<Long> toDeadlineIds = auctionRepository.findRunningAuctionsToDeadline(now);
+        // 1. DEADLINE으로 변경될 대상 ID 조회 + 잠금 (deadline_at 도달한 RUNNING 만)
+        List<Long> toDeadlineIds = auctionRepository.lockIdsToDeadline(now);
 
         if (toDeadlineIds.isEmpty()) return;
 
-        // 2. DB 상태 변경 (RUNNING -> DEADLINE)
-        auctionRepository.markDeadlineAuctions(now);
+        // 2. DB 상태 변경 (RUNNING -> DEADLINE, 잠근 ID 만)
+        auctionRepository.transitionStatus(toDeadlineIds, AuctionStatus.RUNNING, AuctionStatus.DEADLINE);
 
-        // 3. 알림 발송 (확보된 ID 리스트 기반)
+        // 3. Redis 상태 반영은 커밋 후 outbox relay, 알림 발송 (확보된 ID 리스트 기반)
+        auctionOutboxService.recordAll(toDeadlineIds, AuctionEffect.STATE);
         for (Long auctionId : toDeadlineIds) {
-            auctionRedisService.setRedis(auctionId);
             auctionNotificationService.notifyImminent(auctionId);
         }
     }
@@ -143,199 +175,168 @@ public class AuctionSchedulerService {
      */
     @Transactional
     public int end(LocalDateTime now) {
-        List<Long> toEndIds = auctionRepository.findIdsToEnd(AuctionStatus.DEADLINE, now);
-
-        int updated = auctionRepository.endRunningAuctions(
-                AuctionStatus.DEADLINE,
-                AuctionStatus.ENDED,
-                now
-        );
-
-        // 종료 이벤트 발송
-        for (Long auctionId : toEndIds) {
-            try {
-                auctionRedisService.setRedis(auctionId);
-                // 스냅샷 기반으로 종료 payload 구성 (DB 접근 최소화)
-                var snap = snapshotService.getSnapshot(auctionId);
-
-                AuctionEndedPayload payload = AuctionEndedPayload.builder()
-                        .auctionId(auctionId)
-                        .winnerUserId(snap.getCurrentBidderId()) // 유찰이면 null일 수 있음
-                        .finalPrice(snap.getCurrentPrice())
-                        .bidCount(snap.getBidCount())
-                        .endedAt(now)
-                        .message(snap.getCurrentBidderId() == null ? 
-                                NotificationConstants.MSG_WS_AUCTION_ENDED_FAILED : 
-                                NotificationConstants.MSG_WS_AUCTION_ENDED_SUCCESS)
-                        .build();
-
-                auctionMessageService.sendAuctionEnded(auctionId, payload);
-
-            } catch (Exception e) {
-                log.error("Failed to send AUCTION_ENDED for auctionId={}", auctionId, e);
-            }
-        }
+        // 마감 직전 입찰/연장이 DB 에 반영된 뒤 종료 대상을 고르도록 write-behind 선반영
+        auctionWriteBehindService.flushAll();
+        List<Long> toEndIds = auctionRepository.lockIdsToEnd(now);
+        if (toEndIds.isEmpty()) return 0;
+
+        int updated = auctionRepository.transitionStatus(toEndIds, AuctionStatus.DEADLINE, AuctionStatus.ENDED);
+
+        // 종료 이벤트는 커밋 후 outbox relay 가 Redis 반영 뒤 발송
+        auctionOutboxService.recordAll(toEndIds, AuctionEffect.STATE, AuctionEffect.ENDED);
 
         return updated;
     }
 
     /**
-     * ended -> success or failed
+     * deadline_at 이 비어 있는 진행 중 경매 채우기 (컬럼 추가 전 생성분)
      */
-
     @Transactional
-    public void result() {
-        // ENDED 상태인 경매를 페이지 단위로 가져옴
-        Page<Auction> endedPage = auctionRepository.findAllByStatus(
-                AuctionStatus.ENDED,
-                PageRequest.of(0, 100)
-        );
-
-        List<Auction> endedAuctions = endedPage.getContent();
-
-        for (Auction auction : endedAuctions) {
-            Long auctionId = auction.getId();
-            try {
-                processAuctionResult(auction);
-            } catch (Exception e) {
-                // 한 건 실패해도 다음 경매 계속 처리
-                log.error("Failed to finalize result for auctionId={}", auctionId, e);
-            }
+    public int backfillDeadlines() {
+        int filled = auctionRepository.backfillDeadlineAt();
+        if (filled > 0) {
+            log.info("[AuctionDeadline] deadline_at backfilled={}", filled);
         }
+        return filled;
     }
 
-    private void processAuctionResult(Auction auction) {
-        Long auctionId = auction.getId();
-        Optional<Bid> winningBid = bidRepository.findFirstByAuctionIdOrderByBidPriceDesc(auctionId);
-
-        if (winningBid.isPresent()) {
-            Bid winnerBid = winningBid.get();
-
-            // 1) ENDED -> SUCCESS 선점
-            int changed = auctionRepository.finalizeAuctionStatus(
-                    auctionId,
-                    AuctionStatus.ENDED,
-                    AuctionStatus.SUCCESS
-            );
-
-            // 2) 선점 성공한 경우에만 주문 생성 + 이벤트 발송
-            if (changed == 1) {
-                auctionRedisService.setRedis(auctionId);
-                // 주문 생성
-                orderService.createOrder(auction, winnerBid.getBidder(), winnerBid.getBidPrice());
-
-                // 알림 발송 (낙찰자, 패찰자, 판매자)
-                sendSuccessNotifications(auction, winnerBid);
-
-                // WS 메시지 발송
-                sendResultPayload(auctionId, AuctionStatus.SUCCESS, winnerBid.getBidder().getId());
-            } else {
-                log.debug("[AuctionResult] skip duplicated success finalize auctionId={}", auctionId);
-            }
-
-        } else {
-            // 유찰 : failed
-            // 1) ENDED -> FAILED 선점
-            int changed = auctionRepository.finalizeAuctionStatus(
-                    auctionId,
-                    AuctionStatus.ENDED,
-                    AuctionStatus.FAILED
-            );
-
-            // 2) 선점 성공한 경우에만 이벤트 발송
-            if (changed == 1) {
-                auctionRedisService.setRedis(auctionId);
-                // 알림 발송 (판매자)
-                sendFailureNotifications(auction);
-
-                // WS 메시지 발송
-                sendResultPayload(auctionId, AuctionStatus.FAILED, null);
-            } else {
-                log.debug("[AuctionResult] skip duplicated failed finalize auctionId={}", auctionId);
-            }
-        }
+    /**
+     * ended -> success or failed
+     * chunk 단위 병렬 확정은 AuctionResultFinalizer 가 담당
+     */
+    public int result() {
+        return auctionResultFinalizer.finalizeEnded();
     }
 
-    private void sendSuccessNotifications(Auction auction, Bid winnerBid) {
-        String itemTitle = auction.getItem().getTitle();
-
-        // 1. 모든 참여자 조회 (중복 제거)
-        List<User> participants = bidRepository.findDistinctBiddersByAuctionId(auction.getId());
-
-        for (User participant : participants) {
-            if (participant.getId().equals(winnerBid.getBidder().getId())) {
-                // 1-1. 낙찰자에게 성공 알림 (PURCHASED)
-                auctionNotificationService.sendNotification(
-                        participant.getId(),
-                        NotificationType.PURCHASED,
-                        String.format(NotificationConstants.MSG_AUCTION_WINNER, itemTitle),
-                        NotificationConstants.REF_TYPE_AUCTION,
-                        auction.getId()
-                );
-            }
-            else {
-                // 1-2. 패찰자(나머지 참여자)에게 실패 알림 (NO_PURCHASE)
-                auctionNotificationService.sendNotification(
-                        participant.getId(),
-                        NotificationType.NO_PURCHASE,
-                        String.format(NotificationConstants.MSG_AUCTION_LOSER, itemTitle),
-                        NotificationConstants.REF_TYPE_AUCTION,
-                        auction.getId()
-                );
-            }
-        }
+    /**
+     * (핫딜) READY -> RUNNING (startAt 기준)
+     */
+    @Transactional
+    public int exposeHotDeals(LocalDateTime now) {
+        List<Long> ids = auctionRepository.findHotDealIdsToRun(AuctionStatus.READY, now);
+        if (ids.isEmpty()) return 0;
 
-        // 2. 판매자에게 판매 완료 알림 (PURCHASED)
-        auctionNotificationService.sendNotification(
-                auction.getSeller().getId(),
-                NotificationType.PURCHASED,
-                String.format(NotificationConstants.MSG_AUCTION_SOLD, itemTitle),
-                NotificationConstants.REF_TYPE_AUCTION,
-                auction.getId()
-        );
-    }
+        int updated = auctionRepository.runHotDeals(AuctionStatus.READY, AuctionStatus.RUNNING, now);
+        if (updated <= 0) return 0;
 
-    private void sendFailureNotifications(Auction auction) {
-        String itemTitle = auction.getItem().getTitle();
-        // 3. 판매자에게 유찰 알림 (NO_PURCHASE)
-        auctionNotificationService.sendNotification(
-                auction.getSeller().getId(),
-                NotificationType.NO_PURCHASE,
-                String.format(NotificationConstants.MSG_AUCTION_FAILED, itemTitle),
-                NotificationConstants.REF_TYPE_AUCTION,
-                auction.getId()
-        );
+        auctionOutboxService.recordAll(ids, AuctionEffect.STATE);
+        return updated;
     }
 
-    private void sendResultPayload(Long auctionId, AuctionStatus result, Long winnerId) {
-        var snap = snapshotService.getSnapshot(auctionId);
-
-        AuctionResultPayload payload = AuctionResultPayload.builder()
-                .auctionId(auctionId)
-                .result(result.name())
-                .winnerUserId(winnerId)
-                .finalPrice(result == AuctionStatus.FAILED ? null : snap.getCurrentPrice())
-                .bidCount(snap.getBidCount())
-                .decidedAt(LocalDateTime.now())
-                .build();
+    /**
+     * (타이머) READY -> RUNNING, 일반 경매는 보증금 처리 + 구독자 알림까지 expose 와 동일하게 수행
+     */
+    @Transactional
+    public void startAuction(Long auctionId) {
+        Auction auction = auctionRepository.findById(auctionId).orElse(null);
+        if (auction == null || auction.getStatus() != AuctionStatus.READY) {
+            return;
+        }
+        auction.run();
+        if (!Boolean.TRUE.equals(auction.getIsHotDeal())) {
+            int amount = MoneyUtil.calcDeposit(auction.getStartPrice().intValue());
+            walletService.setAuctionDeposit(auction.getItem().getSeller().getId(), auctionId, amount, "refund");
+            notifyCategorySubscribers(auction);
+        }
+        auctionOutboxService.record(auctionId, AuctionEffect.STATE);
+        auctionLifecycleTimer.scheduleNext(auction);
+    }
 
-        auctionMessageService.sendAuctionResult(auctionId, payload);
+    /**
+     * (타이머) RUNNING -> DEADLINE
+     */
+    @Transactional
+    public void deadlineAuction(Long auctionId) {
+        auctionWriteBehindService.flush(auctionId);
+        Auction auction = auctionRepository.findById(auctionId).orElse(null);
+        if (auction == null || auction.getStatus() != AuctionStatus.RUNNING) {
+            return;
+        }
+        int imminentMinutes = auction.getImminentMinutes() == null ? 5 : auction.getImminentMinutes();
+        LocalDateTime deadlineAt = effectiveEndAt(auction).minusMinutes(imminentMinutes);
+        if (deadlineAt.isAfter(LocalDateTime.now())) {
+            // 다른 노드의 write-behind 에 남아 있던 연장분만큼 뒤로 미룬다
+            auctionLifecycleTimer.schedule(auctionId, AuctionLifecycleTimer.Phase.DEADLINE, deadlineAt);
+            return;
+        }
+        auction.markDeadline();
+        auctionOutboxService.record(auctionId, AuctionEffect.STATE);
+        auctionNotificationService.notifyImminent(auctionId);
+        auctionLifecycleTimer.schedule(auctionId, AuctionLifecycleTimer.Phase.END, effectiveEndAt(auction));
     }
 
     /**
-     * (핫딜) READY -> RUNNING (startAt 기준)
+     * (타이머) DEADLINE -> ENDED
+     * 마감 직전 연장은 Redis endTime 에 먼저 반영되므로, DB 와 Redis 중 늦은 쪽이 아직 남았으면 그 시각으로 재예약한다.
      */
     @Transactional
-    public int exposeHotDeals(LocalDateTime now) {
-        List<Long> ids = auctionRepository.findHotDealIdsToRun(AuctionStatus.READY, now);
-        if (ids.isEmpty()) return 0;
+    public void endAuction(Long auctionId) {
+        auctionWriteBehindService.flush(auctionId);
+        Auction auction = auctionRepository.findById(auctionId).orElse(null);
+        if (auction == null || auction.getStatus() != AuctionStatus.DEADLINE) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime endAt = effectiveEndAt(auction);
+        if (endAt.isAfter(now)) {
+            auctionLifecycleTimer.schedule(auctionId, AuctionLifecycleTimer.Phase.END, endAt);
+            return;
+        }
+        auction.end();
+        auctionOutboxService.record(auctionId, AuctionEffect.STATE, AuctionEffect.ENDED);
+        auctionLifecycleTimer.scheduleNext(auction);
+    }
 
-        int updated = auctionRepository.runHotDeals(AuctionStatus.READY, AuctionStatus.RUNNING, now);
-        if (updated <= 0) return 0;
+    /**
+     * (타이머) ENDED -> SUCCESS / FAILED
+     */
+    public void finalizeAuction(Long auctionId) {
+        auctionResultFinalizer.finalizeAuctions(List.of(auctionId));
+    }
 
-        for (Long auctionId : ids) {
-            auctionRedisService.setRedis(auctionId);
+    /**
+     * 진행 중인 경매의 다음 전환을 DB 기준으로 다시 예약 (기동 시 + 주기적 보정)
+     * 엔티티 대신 예약에 필요한 컬럼만 id 순 페이지로 읽고, 이 노드 담당 경매만 예약한다.
+     */
+    @Transactional(readOnly = true)
+    public int rebuildLifecycleTimers(LongPredicate owns) {
+        List<AuctionStatus> statuses = List.of(
+                AuctionStatus.READY, AuctionStatus.RUNNING, AuctionStatus.DEADLINE, AuctionStatus.ENDED);
+        int scheduled = 0;
+        long afterId = 0L;
+        while (true) {
+            List<AuctionLifecycleRow> rows = auctionRepository.findLifecycleRowsAfter(
+                    statuses, afterId, PageRequest.of(0, lifecycleRebuildPageSize));
+            if (rows.isEmpty()) {
+                return scheduled;
+            }
+            List<AuctionLifecycleRow> owned = rows.stream()
+                    .filter(row -> owns.test(row.id()))
+                    .toList();
+            scheduled += auctionLifecycleTimer.scheduleNextAll(owned);
+            afterId = rows.get(rows.size() - 1).id();
+            if (rows.size() < lifecycleRebuildPageSize) {
+                return scheduled;
+            }
         }
-        return updated;
+    }
+
+    /**
+     * DB endAt 과 Redis endTime 중 늦은 시각 (write-behind 미반영 연장 대비)
+     */
+    private LocalDateTime effectiveEndAt(Auction auction) {
+        LocalDateTime endAt = auction.getEndAt();
+        try {
+            Object raw = auctionRedisService.getState(auction.getId()).get(AuctionStateFields.END_TIME);
+            if (raw != null) {
+                LocalDateTime redisEndAt = LocalDateTime.parse(raw.toString());
+                if (endAt == null || redisEndAt.isAfter(endAt)) {
+                    return redisEndAt;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("[AuctionLifecycle] Redis endTime 조회 실패 - DB 기준 사용 auctionId: {}", auction.getId(), e);
+        }
+        return endAt;
     }
 }
@@ -5,8 +5,10 @@ import noonchissaum.backend.domain.auction.dto.req.AuctionRegisterReq;
 import noonchissaum.backend.domain.auction.dto.res.AuctionListRes;
 import noonchissaum.backend.domain.auction.dto.res.AuctionRes;
 import noonchissaum.backend.domain.auction.entity.Auction;
+import noonchissaum.backend.domain.auction.entity.AuctionEffect;
 import noonchissaum.backend.domain.auction.entity.AuctionSortType;
 import noonchissaum.backend.domain.auction.entity.AuctionStatus;
+import noonchissaum.backend.domain.auction.redis.AuctionStateFields;
 import noonchissaum.backend.domain.auction.repository.AuctionRepository;
 import noonchissaum.backend.domain.auction.spec.AuctionSpecs;
 import noonchissaum.backend.domain.category.entity.Category;
@@ -34,6 +36,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @Service
@@ -50,11 +53,12 @@ public class AuctionService {
     private final AuctionRedisService auctionRedisService;
     private final AuctionRealtimeSnapshotService snapshotService;
     private final AuctionQueryService auctionQueryService;
-    private final AuctionIndexService auctionIndexService;
     private final WalletService walletService;
     private final UserViewRedisLogger userViewRedisLogger; // 상세 조회 시 Redis 조회 로그 기록
     private final RecommendationService recommendationService; // 추천 서비스 주입
     private final LocationService locationService;
+    private final AuctionLifecycleTimer auctionLifecycleTimer;
+    private final AuctionOutboxService auctionOutboxService;
 
     /**
      * 경매 등록을 처리한다.
@@ -85,11 +89,10 @@ public class AuctionService {
 
         walletService.setAuctionDeposit(userId, auction.getId(), amount, "set");
 
-        auctionRedisService.setRedis(auction.getId());
-
-        // 가격 인덱스(카테고리 기준) 반영
-        Long categoryId = category.getId();
-        auctionIndexService.updatePriceIndex(auction.getId(), categoryId, auction.getCurrentPrice());
+        // Redis 상태 + 가격 인덱스(카테고리 기준)는 커밋 후 outbox relay 가 반영
+        auctionOutboxService.record(auction.getId(), AuctionEffect.STATE, AuctionEffect.PRICE_INDEX);
+        // 등록 5분 뒤 노출(READY -> RUNNING) 예약
+        auctionLifecycleTimer.scheduleNext(auction);
 
         return auction.getId();
     }
@@ -195,18 +198,16 @@ public class AuctionService {
     }
 
     public void checkDeadline(Long auctionId) {
-        String rawEndTime = redisTemplate.opsForValue().get(RedisKeys.auctionEndTime(auctionId));
-        String rawImminentMinutes = redisTemplate.opsForValue().get(RedisKeys.auctionImminentMinutes(auctionId));
-        String isExtended = redisTemplate.opsForValue().get(RedisKeys.auctionIsExtended(auctionId));
-
-        if (rawEndTime == null || rawImminentMinutes == null || isExtended == null) {
-            auctionRedisService.setRedis(auctionId);
-
-            rawEndTime = redisTemplate.opsForValue().get(RedisKeys.auctionEndTime(auctionId));
-            rawImminentMinutes = redisTemplate.opsForValue().get(RedisKeys.auctionImminentMinutes(auctionId));
-            isExtended = redisTemplate.opsForValue().get(RedisKeys.auctionIsExtended(auctionId));
+        Map<Object, Object> state = auctionRedisService.getState(auctionId);
+        if (!AuctionStateFields.isComplete(state)) {
+            auctionRedisService.restoreState(auctionId);
+            state = auctionRedisService.getState(auctionId);
         }
 
+        String rawEndTime = (String) state.get(AuctionStateFields.END_TIME);
+        String rawImminentMinutes = (String) state.get(AuctionStateFields.IMMINENT_MINUTES);
+        String isExtended = (String) state.get(AuctionStateFields.IS_EXTENDED);
+
         LocalDateTime endTime = LocalDateTime.parse(rawEndTime);
         Integer imminentMinutes = Integer.parseInt(rawImminentMinutes);
 
@@ -222,8 +223,10 @@ public class AuctionService {
 
         endTime = endTime.plusMinutes(3);
 
-        redisTemplate.opsForValue().set(RedisKeys.auctionEndTime(auctionId), endTime.toString());
-        redisTemplate.opsForValue().set(RedisKeys.auctionIsExtended(auctionId), "true");
+        redisTemplate.opsForHash().putAll(RedisKeys.auctionState(auctionId), Map.of(
+                AuctionStateFields.END_TIME, endTime.toString(),
+                AuctionStateFields.IS_EXTENDED, "true"
+        ));
     }
 
     /**
@@ -372,6 +375,7 @@ public class AuctionService {
                 .build();
 
         auctionRepository.save(auction);
+        auctionLifecycleTimer.scheduleNext(auction);
 
         return auction.getId();
     }
@@ -0,0 +1,242 @@
+package noonchissaum.backend.domain.auction.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import noonchissaum.backend.global.RedisKeys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 경매 토픽(/topic/auction/{id}) 구독자 수 추적
+ * 이 노드의 STOMP 구독/해제/연결 종료 이벤트로 경매별 시청자 수를 세고,
+ * redis relay 모드(다중 인스턴스)에서는 노드별 hash 로 주기 동기화해 전체 노드 합계를 계산한다.
+ * 노드 hash 는 TTL 로 만료되므로 비정상 종료한 노드의 시청자는 동기화 주기 3회 안에 사라진다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuctionViewerTracker {
+
+    private static final String AUCTION_TOPIC_PREFIX = "/topic/auction/";
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    // sessionId -> (subscriptionId -> auctionId), UNSUBSCRIBE 프레임에는 destination 이 없어 구독 ID 로 찾는다
+    private final Map<String, Map<String, Long>> subscriptions = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> localViewers = new ConcurrentHashMap<>();
+
+    @Value("${websocket.relay.mode:local}")
+    private String relayMode;
+
+    @Value("${auction.viewers.sync-interval-ms:2000}")
+    private long syncIntervalMs;
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Long auctionId = parseAuctionId(accessor.getDestination());
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        if (auctionId == null || sessionId == null || subscriptionId == null) {
+            return;
+        }
+        Long previous = subscriptions.computeIfAbsent(sessionId, key -> new ConcurrentHashMap<>())
+                .put(subscriptionId, auctionId);
+        if (previous != null) {
+            decrement(previous);
+        }
+        localViewers.merge(auctionId, 1, Integer::sum);
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        if (sessionId == null || subscriptionId == null) {
+            return;
+        }
+        Map<String, Long> session = subscriptions.get(sessionId);
+        Long auctionId = session == null ? null : session.remove(subscriptionId);
+        if (auctionId != null) {
+            decrement(auctionId);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, Long> session = subscriptions.remove(event.getSessionId());
+        if (session != null) {
+            session.values().forEach(this::decrement);
+        }
+    }
+
+    /**
+     * 경매 시청자 수 (전체 노드 합계, Redis 조회 실패 시 이 노드 기준)
+     */
+    public int viewerCount(Long auctionId) {
+        return viewerCounts(List.of(auctionId)).getOrDefault(auctionId, 0);
+    }
+
+    /**
+     * 시청자가 있는 경매만 골라 시청자 수와 함께 반환 (입력 순서 유지)
+     * 다른 노드 집계를 못 읽으면 브로드캐스트가 누락되지 않도록 전부 시청 중으로 본다.
+     */
+    public Map<Long, Integer> watchedViewerCounts(List<Long> auctionIds) {
+        Map<Long, Integer> counts;
+        boolean complete = true;
+        try {
+            counts = clusterCounts(auctionIds);
+        } catch (Exception e) {
+            log.warn("경매 시청자 수 조회 실패 - 전체 대상으로 처리", e);
+            counts = localCounts(auctionIds);
+            complete = false;
+        }
+        Map<Long, Integer> watched = new LinkedHashMap<>();
+        for (Long auctionId : auctionIds) {
+            int count = counts.getOrDefault(auctionId, 0);
+            if (count > 0 || !complete) {
+                watched.put(auctionId, count);
+            }
+        }
+        return watched;
+    }
+
+    /**
+     * 이 노드의 시청자 수를 노드 hash 로 덮어쓰고 살아있는 노드 목록 갱신 (redis relay 모드에서만)
+     * 임시 키에 쓴 뒤 RENAME 해서 읽는 쪽이 비어 있는 중간 상태를 보지 않게 한다.
+     */
+    public void syncToRedis() {
+        if (!isClusterMode()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long ttlMs = syncIntervalMs * 3;
+        String nodeKey = RedisKeys.auctionViewersNode(nodeId);
+        String tempKey = nodeKey + ":tmp";
+        Map<String, String> snapshot = new HashMap<>();
+        localViewers.forEach((auctionId, count) -> snapshot.put(String.valueOf(auctionId), String.valueOf(count)));
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            if (snapshot.isEmpty()) {
+                stringConnection.del(nodeKey);
+            } else {
+                stringConnection.del(tempKey);
+                stringConnection.hMSet(tempKey, snapshot);
+                stringConnection.pExpire(tempKey, ttlMs);
+                stringConnection.rename(tempKey, nodeKey);
+            }
+            stringConnection.zAdd(RedisKeys.auctionViewerNodes(), now, nodeId);
+            stringConnection.zRemRangeByScore(RedisKeys.auctionViewerNodes(), 0, now - ttlMs);
+            return null;
+        });
+    }
+
+    @PreDestroy
+    public void leave() {
+        if (!isClusterMode()) {
+            return;
+        }
+        try {
+            redisTemplate.delete(RedisKeys.auctionViewersNode(nodeId));
+            redisTemplate.opsForZSet().remove(RedisKeys.auctionViewerNodes(), nodeId);
+        } catch (Exception e) {
+            log.warn("경매 시청자 노드 정리 실패 - nodeId: {}", nodeId, e);
+        }
+    }
+
+    private Map<Long, Integer> clusterCounts(List<Long> auctionIds) {
+        Map<Long, Integer> counts = localCounts(auctionIds);
+        if (!isClusterMode() || auctionIds.isEmpty()) {
+            return counts;
+        }
+        List<String> peers = livePeers();
+        if (peers.isEmpty()) {
+            return counts;
+        }
+        String[] fields = auctionIds.stream().map(String::valueOf).toArray(String[]::new);
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (String peer : peers) {
+                stringConnection.hMGet(RedisKeys.auctionViewersNode(peer), fields);
+            }
+            return null;
+        });
+        for (Object result : results) {
+            if (!(result instanceof List<?> values)) {
+                continue;
+            }
+            for (int i = 0; i < values.size() && i < auctionIds.size(); i++) {
+                if (values.get(i) instanceof String raw) {
+                    counts.merge(auctionIds.get(i), parseCount(raw), Integer::sum);
+                }
+            }
+        }
+        return counts;
+    }
+
+    private Map<Long, Integer> localCounts(Collection<Long> auctionIds) {
+        Map<Long, Integer> counts = new HashMap<>();
+        for (Long auctionId : auctionIds) {
+            counts.put(auctionId, localViewers.getOrDefault(auctionId, 0));
+        }
+        return counts;
+    }
+
+    private List<String> livePeers() {
+        long since = System.currentTimeMillis() - syncIntervalMs * 3;
+        Set<String> nodes = redisTemplate.opsForZSet().rangeByScore(RedisKeys.auctionViewerNodes(), since, Double.MAX_VALUE);
+        List<String> peers = new ArrayList<>();
+        if (nodes != null) {
+            nodes.stream().filter(node -> !nodeId.equals(node)).forEach(peers::add);
+        }
+        return peers;
+    }
+
+    private void decrement(Long auctionId) {
+        localViewers.computeIfPresent(auctionId, (id, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private Long parseAuctionId(String destination) {
+        if (destination == null || !destination.startsWith(AUCTION_TOPIC_PREFIX)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(destination.substring(AUCTION_TOPIC_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private int parseCount(String raw) {
+        try {
+            return Integer.parseInt(raw);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private boolean isClusterMode() {
+        return "redis".equalsIgnoreCase(relayMode);
+    }
+}
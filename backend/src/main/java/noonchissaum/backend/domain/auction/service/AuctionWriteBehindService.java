@@ -0,0 +1,103 @@
+package noonchissaum.backend.domain.auction.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 경매 row write-behind 버퍼
+ * 입찰 경로에서는 Redis 에 확정된 최신 상태(현재가/입찰자/입찰수/연장 마감시각)만 경매별로 모아두고,
+ * flush 시점에 경매당 한 번만 DB 에 반영한다. 같은 경매에 입찰이 몰리면 중간 상태는 버려진다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AuctionWriteBehindService {
+
+    private final AuctionRecordService auctionRecordService;
+
+    private final ConcurrentHashMap<Long, PendingAuctionUpdate> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 입찰 반영 결과 적재 (입찰수가 더 큰 쪽이 최신)
+     */
+    public void recordBid(Long auctionId, Long bidderId, BigDecimal price, int bidCount, LocalDateTime extendedEndAt) {
+        PendingAuctionUpdate update = new PendingAuctionUpdate(auctionId, bidderId, price, bidCount, extendedEndAt);
+        pending.merge(auctionId, update, PendingAuctionUpdate::merge);
+    }
+
+    /**
+     * 쌓인 경매 변경을 모두 DB 에 반영
+     */
+    public int flushAll() {
+        List<Long> auctionIds = new ArrayList<>(pending.keySet());
+        int flushed = 0;
+        for (Long auctionId : auctionIds) {
+            if (flush(auctionId)) {
+                flushed++;
+            }
+        }
+        return flushed;
+    }
+
+    /**
+     * 특정 경매의 변경만 DB 에 반영 (마감/결과 처리 직전 호출)
+     */
+    public boolean flush(Long auctionId) {
+        PendingAuctionUpdate update = pending.remove(auctionId);
+        if (update == null) {
+            return false;
+        }
+        try {
+            auctionRecordService.applyPendingUpdate(update);
+            return true;
+        } catch (Exception e) {
+            // 실패 시 다음 flush 에서 재시도 (그 사이 들어온 더 최신 상태와 병합)
+            pending.merge(auctionId, update, PendingAuctionUpdate::merge);
+            log.error("경매 write-behind 반영 실패 - auctionId: {}", auctionId, e);
+            return false;
+        }
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        int flushed = flushAll();
+        if (flushed > 0) {
+            log.info("종료 전 경매 write-behind 반영 - count: {}", flushed);
+        }
+    }
+
+    /**
+     * 경매별 최신 변경 상태
+     * extendedEndAt 은 연장이 일어난 경우에만 값이 있다.
+     */
+    public record PendingAuctionUpdate(
+            Long auctionId,
+            Long bidderId,
+            BigDecimal price,
+            int bidCount,
+            LocalDateTime extendedEndAt
+    ) {
+        PendingAuctionUpdate merge(PendingAuctionUpdate other) {
+            PendingAuctionUpdate latest = other.bidCount >= this.bidCount ? other : this;
+            LocalDateTime endAt = later(this.extendedEndAt, other.extendedEndAt);
+            return new PendingAuctionUpdate(auctionId, latest.bidderId, latest.price, latest.bidCount, endAt);
+        }
+
+        private static LocalDateTime later(LocalDateTime a, LocalDateTime b) {
+            if (a == null) return b;
+            if (b == null) return a;
+            return a.isAfter(b) ? a : b;
+        }
+    }
+}
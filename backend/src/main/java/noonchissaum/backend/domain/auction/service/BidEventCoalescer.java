@@ -0,0 +1,235 @@
+package noonchissaum.backend.domain.auction.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import noonchissaum.backend.domain.auction.dto.ws.BidSucceededPayload;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * 경매별 입찰 성공 이벤트 병합 (throttle)
+ * 창이 닫혀 있으면 첫 입찰은 바로 보내고 창(window-ms)을 연다. 창이 열려 있는 동안의 입찰은 최신 1건만 남겨 두었다가
+ * 창이 닫힐 때 보내므로, 경매당 송신 수는 입찰 속도와 관계없이 창 하나당 최대 1건이다.
+ * 연장/종료/결과 같은 제어 이벤트는 runFlushed 로 보내 남아 있는 입찰 이벤트가 항상 먼저 나가도록 한다.
+ * (병합은 노드 단위이며, 경매별 락 아래에서는 보낼 이벤트를 경매별 송신 큐에 넣기만 하고
+ *  실제 전송(이벤트 로그 적재 + 브로커 송신)은 락 밖에서 큐 순서대로 한 스레드씩 처리한다.
+ *  입찰/제어 이벤트는 호출 스레드가, 창 닫힘 전송은 송신 풀이 큐를 비운다)
+ */
+@Component
+@Slf4j
+public class BidEventCoalescer {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final Map<Long, Window> windows = new ConcurrentHashMap<>();
+    private final Map<Long, SendQueue> sendQueues = new ConcurrentHashMap<>();
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("bid-event-coalescer").daemon().factory());
+    private ExecutorService sender;
+
+    // 병합 창 크기 (0 이하면 병합하지 않고 매번 전송)
+    @Value("${auction.broadcast.bid-coalesce-ms:100}")
+    private long windowMs;
+
+    // 창이 닫힐 때 남은 이벤트를 보내는 송신 스레드 수 (스케줄러 스레드는 전송하지 않음)
+    @Value("${auction.broadcast.bid-coalesce-senders:4}")
+    private int senderThreads;
+
+    public BidEventCoalescer() {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        sender = Executors.newFixedThreadPool(senderThreads,
+                Thread.ofPlatform().name("bid-event-sender-", 0).daemon().factory());
+    }
+
+    /**
+     * 입찰 성공 이벤트 제출 (sink 는 실제 전송)
+     */
+    public void offer(Long auctionId, BidSucceededPayload payload, Consumer<BidSucceededPayload> sink) {
+        if (windowMs <= 0) {
+            sink.accept(payload);
+            return;
+        }
+        synchronized (lockOf(auctionId)) {
+            Window window = windows.get(auctionId);
+            if (window != null) {
+                window.stash(payload, sink);
+                return;
+            }
+            window = new Window(payload);
+            windows.put(auctionId, window);
+            enqueue(auctionId, () -> sink.accept(payload));
+            scheduleClose(auctionId, window);
+        }
+        drain(auctionId);
+    }
+
+    /**
+     * 남아 있는 입찰 이벤트를 먼저 보낸 뒤 제어 이벤트 전송 (창은 닫는다)
+     */
+    public void runFlushed(Long auctionId, Runnable send) {
+        synchronized (lockOf(auctionId)) {
+            Window window = windows.remove(auctionId);
+            if (window != null) {
+                enqueue(auctionId, window.takeLatest());
+            }
+            enqueue(auctionId, send);
+        }
+        drain(auctionId);
+    }
+
+    /**
+     * 창이 열려 있는 경매 수 (모니터링/테스트용)
+     */
+    public int openWindows() {
+        return windows.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Long auctionId : windows.keySet()) {
+            runFlushed(auctionId, () -> { });
+        }
+        scheduler.shutdown();
+        if (sender != null) {
+            sender.shutdown();
+        }
+    }
+
+    private void close(Long auctionId, Window window) {
+        synchronized (lockOf(auctionId)) {
+            // 그 사이 제어 이벤트로 닫히고 새로 열린 창이면 건드리지 않는다
+            if (windows.get(auctionId) != window) {
+                return;
+            }
+            Runnable send = window.takeLatest();
+            if (send == null) {
+                windows.remove(auctionId);
+                return;
+            }
+            enqueue(auctionId, send);
+            // 방금 보냈으므로 창을 한 번 더 유지해 송신 간격을 보장
+            scheduleClose(auctionId, window);
+        }
+        sender.execute(() -> drain(auctionId));
+    }
+
+    private void scheduleClose(Long auctionId, Window window) {
+        scheduler.schedule(() -> {
+            try {
+                close(auctionId, window);
+            } catch (Exception e) {
+                log.error("입찰 이벤트 병합 전송 예약 실패 - auctionId: {}", auctionId, e);
+                windows.remove(auctionId, window);
+            }
+        }, windowMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 경매별 송신 큐에 전송 작업 추가 (경매별 락 안에서 호출해 락 획득 순서 = 전송 순서)
+     */
+    private void enqueue(Long auctionId, Runnable send) {
+        if (send != null) {
+            sendQueues.computeIfAbsent(auctionId, id -> new SendQueue()).pending.add(send);
+        }
+    }
+
+    /**
+     * 락 밖에서 송신 큐 비우기
+     * 이미 다른 스레드가 비우는 중이면 그 스레드가 이어서 보내므로 바로 돌아가고, 빈 큐는 락 안에서 정리한다.
+     */
+    private void drain(Long auctionId) {
+        SendQueue queue = sendQueues.get(auctionId);
+        if (queue == null) {
+            return;
+        }
+        while (!queue.pending.isEmpty() && queue.draining.compareAndSet(false, true)) {
+            try {
+                Runnable send;
+                while ((send = queue.pending.poll()) != null) {
+                    try {
+                        send.run();
+                    } catch (Exception e) {
+                        log.error("입찰 이벤트 전송 실패 - auctionId: {}", auctionId, e);
+                    }
+                }
+            } finally {
+                queue.draining.set(false);
+            }
+        }
+        synchronized (lockOf(auctionId)) {
+            if (queue.pending.isEmpty() && !queue.draining.get()) {
+                sendQueues.remove(auctionId, queue);
+            }
+        }
+    }
+
+    private Object lockOf(Long auctionId) {
+        return locks[Math.floorMod(auctionId.hashCode(), LOCK_STRIPES)];
+    }
+
+    /**
+     * 열린 창에 쌓인 최신 입찰 1건 (입찰 수가 더 큰 쪽이 최신, 이미 보낸 것보다 오래된 이벤트는 버린다)
+     */
+    private static final class Window {
+        private BidSucceededPayload latest;
+        private Consumer<BidSucceededPayload> sink;
+        private int sentBidCount;
+
+        Window(BidSucceededPayload sent) {
+            this.sentBidCount = bidCountOf(sent);
+        }
+
+        void stash(BidSucceededPayload payload, Consumer<BidSucceededPayload> sink) {
+            int bidCount = bidCountOf(payload);
+            if (bidCount < sentBidCount) {
+                return;
+            }
+            if (latest == null || bidCount >= bidCountOf(latest)) {
+                this.latest = payload;
+                this.sink = sink;
+            }
+        }
+
+        /** 쌓인 최신 이벤트를 보낸 것으로 표시하고 전송 작업으로 반환 (없으면 null) */
+        Runnable takeLatest() {
+            if (latest == null) {
+                return null;
+            }
+            BidSucceededPayload payload = latest;
+            Consumer<BidSucceededPayload> target = sink;
+            latest = null;
+            sentBidCount = bidCountOf(payload);
+            return () -> target.accept(payload);
+        }
+
+        private static int bidCountOf(BidSucceededPayload payload) {
+            return payload.getBidCount() == null ? 0 : payload.getBidCount();
+        }
+    }
+
+    /**
+     * 경매별 전송 대기 작업 (draining 을 잡은 스레드 하나만 순서대로 보낸다)
+     */
+    private static final class SendQueue {
+        private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+    }
+}
@@ -1,59 +1,161 @@
 package noonchissaum.backend.domain.auction.service;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import noonchissaum.backend.domain.auction.entity.Auction;
+import noonchissaum.backend.domain.auction.entity.AuctionEffect;
 import noonchissaum.backend.domain.auction.entity.AuctionStatus;
 import noonchissaum.backend.domain.auction.entity.Bid;
+import noonchissaum.backend.domain.auction.redis.AuctionStateFields;
 import noonchissaum.backend.domain.auction.repository.AuctionRepository;
 import noonchissaum.backend.domain.auction.repository.BidRepository;
 import noonchissaum.backend.domain.user.entity.User;
 import noonchissaum.backend.domain.wallet.service.WalletRecordService;
 import noonchissaum.backend.domain.wallet.service.WalletService;
+import noonchissaum.backend.global.RedisKeys;
+import noonchissaum.backend.global.exception.ApiException;
+import noonchissaum.backend.global.exception.ErrorCode;
 import noonchissaum.backend.global.util.UserLockExecutor;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 차단 유저가 최상위 입찰자인 경매를 해당 유저 최초 입찰 전으로 롤백
+ * 입찰은 Redis 에 먼저 확정되고 DB 는 입찰 저널/write-behind 로 뒤따라오므로,
+ * 경매 락을 잡은 채로 DB 가 Redis 를 따라잡은 뒤 롤백하고 Redis 를 덮어쓴 다음에 락을 푼다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class BidRollbackService {
 
+    private static final long JOURNAL_POLL_MS = 100;
+
     private final AuctionRepository auctionRepository;
     private final BidRepository bidRepository;
-    private final AuctionRedisService auctionRedisService;
-    private final AuctionIndexService auctionIndexService;
-    private final AuctionMessageService auctionMessageService;
+    private final AuctionOutboxService auctionOutboxService;
     private final WalletService walletService;
     private final WalletRecordService walletRecordService;
     private final UserLockExecutor userLockExecutor;
+    private final AuctionRedisService auctionRedisService;
+    private final AuctionWriteBehindService auctionWriteBehindService;
+    private final RedissonClient redissonClient;
+    private final PlatformTransactionManager transactionManager;
+
+    // 입찰 저널이 Redis 입찰수만큼 DB 에 반영되기를 기다리는 최대 시간
+    @Value("${auction.rollback.journal-wait-ms:5000}")
+    private long journalWaitMs;
+
+    // 경매별 롤백은 락 안에서 커밋되어야 하므로 차단 처리 트랜잭션과 분리
+    private TransactionTemplate rollbackTransaction;
+
+    @PostConstruct
+    public void init() {
+        rollbackTransaction = new TransactionTemplate(transactionManager);
+        rollbackTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
 
     /**
      * 차단 유저가 최상위 입찰자인 경매들을 롤백
+     * 실패하면 예외를 그대로 던져 차단 처리도 중단한다.
      */
-    @Transactional
     public void rollbackAuctionsForBlockedUser(Long blockedUserId) {
-        List<Auction> auctions = auctionRepository.findByCurrentBidder_IdAndStatusIn(
+        List<Long> auctionIds = auctionRepository.findRollbackCandidateIds(
                 blockedUserId,
                 List.of(AuctionStatus.RUNNING, AuctionStatus.DEADLINE)
         );
 
-        for (Auction auction : auctions) {
+        for (Long auctionId : auctionIds) {
             try {
-                rollbackAuctionIfHasCompetingBids(auction, blockedUserId);
+                withAuctionLock(auctionId, () -> rollbackIfBlockedUserLeads(auctionId, blockedUserId));
             } catch (Exception e) {
-                log.error("경매 {} 롤백 실패 - userId: {}", auction.getId(), blockedUserId, e);
-                throw e; // 롤백 실패 시 트랜잭션 롤백
+                log.error("경매 {} 롤백 실패 - userId: {}", auctionId, blockedUserId, e);
+                throw e;
+            }
+        }
+    }
+
+    private void withAuctionLock(Long auctionId, Runnable action) {
+        RLock lock = redissonClient.getLock(RedisKeys.auctionLock(auctionId));
+        boolean locked = false;
+        try {
+            locked = lock.tryLock(3, TimeUnit.SECONDS);
+            if (!locked) {
+                throw new ApiException(ErrorCode.BID_LOCK_ACQUISITION);
+            }
+            action.run();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(ErrorCode.BID_LOCK_ACQUISITION);
+        } finally {
+            if (locked) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 경매 락 안에서 실행
+     * 1) Redis 기준 현재 1등이 차단 유저인지 확인
+     * 2) 이 노드의 write-behind 버퍼를 먼저 반영하고, 입찰 저널이 Redis 입찰수만큼 반영될 때까지 대기
+     * 3) DB 롤백 커밋 후 Redis 상태를 DB 기준으로 덮어씀 (락 해제 전이므로 뒤이은 입찰을 지우지 않음)
+     */
+    private void rollbackIfBlockedUserLeads(Long auctionId, Long blockedUserId) {
+        Map<Object, Object> state = auctionRedisService.getState(auctionId);
+        if (!AuctionStateFields.isComplete(state)) {
+            auctionRedisService.restoreState(auctionId);
+            state = auctionRedisService.getState(auctionId);
+        }
+        if (!String.valueOf(blockedUserId).equals(String.valueOf(state.get(AuctionStateFields.CURRENT_BIDDER)))) {
+            return; // 이미 다른 유저가 1등
+        }
+        BigDecimal blockedUserLockedAmount = new BigDecimal(state.get(AuctionStateFields.CURRENT_PRICE).toString());
+        int redisBidCount = Integer.parseInt(state.get(AuctionStateFields.CURRENT_BID_COUNT).toString());
+
+        auctionWriteBehindService.flush(auctionId);
+        awaitJournal(auctionId, redisBidCount);
+
+        Boolean rolledBack = rollbackTransaction.execute(status ->
+                rollbackAuctionIfHasCompetingBids(auctionId, blockedUserId, blockedUserLockedAmount));
+
+        if (Boolean.TRUE.equals(rolledBack)) {
+            // 입찰수가 줄어드는 변경이므로 Redis 쪽이 앞서 있어도 DB 기준으로 덮어쓴다
+            auctionRedisService.overwriteRedis(auctionId);
+        }
+    }
+
+    /**
+     * Redis 입찰수만큼 Bid row 가 쌓일 때까지 대기 (입찰 저널 반영 지연 대비)
+     */
+    private void awaitJournal(Long auctionId, int redisBidCount) {
+        long deadline = System.currentTimeMillis() + journalWaitMs;
+        while (bidRepository.countByAuctionId(auctionId) < redisBidCount) {
+            if (System.currentTimeMillis() >= deadline) {
+                throw new ApiException(ErrorCode.BID_JOURNAL_PENDING);
+            }
+            try {
+                Thread.sleep(JOURNAL_POLL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ApiException(ErrorCode.BID_JOURNAL_PENDING);
             }
         }
     }
 
-    private void rollbackAuctionIfHasCompetingBids(Auction auction, Long blockedUserId) {
+    private boolean rollbackAuctionIfHasCompetingBids(Long auctionId, Long blockedUserId, BigDecimal blockedUserLockedAmount) {
+        Auction auction = auctionRepository.findByIdForUpdate(auctionId)
+                .orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND_AUCTIONS));
         List<Bid> bids = bidRepository.findByAuctionIdOrderByCreatedAtAsc(auction.getId());
 
         // 경쟁 입찰 여부: blockedUserId 외 다른 bidder가 있는지
@@ -61,7 +163,7 @@ public class BidRollbackService {
                 .anyMatch(b -> !b.getBidder().getId().equals(blockedUserId));
 
         if (!hasCompetingBids) {
-            return; // 롤백 대상 아님
+            return false; // 롤백 대상 아님
         }
 
         // blocked 유저의 첫 입찰 인덱스
@@ -73,7 +175,7 @@ public class BidRollbackService {
             }
         }
         if (firstBlockedBidIndex < 0) {
-            return;
+            return false;
         }
 
         User previousBidder;
@@ -96,8 +198,6 @@ public class BidRollbackService {
             previousBidderId = previousBidder.getId();
         }
 
-        BigDecimal blockedUserLockedAmount = auction.getCurrentPrice(); // 차단 유저가 잠근 금액
-
         // 1. DB: Bid 삭제 (차단 유저 입찰만)
         bidRepository.deleteByAuctionIdAndBidderId(auction.getId(), blockedUserId);
 
@@ -105,12 +205,13 @@ public class BidRollbackService {
         auction.rollbackBid(previousBidder, rollbackPrice, rollbackBidCount);
         auctionRepository.save(auction);
 
-        // 3. Redis: 경매 상태 갱신
-        auctionRedisService.setRedis(auction.getId());
+        // 3. 가격 인덱스 갱신, 입찰 롤백 알림(갱신된 상태로 브로드캐스트)은 커밋 후 outbox relay 가 반영
+        // (Redis 상태는 경매 락 안에서 직접 덮어쓰므로 RELOAD 는 기록하지 않음)
+        auctionOutboxService.record(auction.getId(), AuctionEffect.PRICE_INDEX, AuctionEffect.BID_STATE);
 
         // 4. Wallet: Redis + DB 역처리 (유저 락으로 동시성 제어)
-        List<Long> lockUserIds = new java.util.ArrayList<>(List.of(blockedUserId));
-        if (previousBidderId != null && previousBidderId != -1L) {
+        List<Long> lockUserIds = new ArrayList<>(List.of(blockedUserId));
+        if (previousBidderId != -1L) {
             lockUserIds.add(previousBidderId);
         }
         lockUserIds.sort(Long::compareTo);
@@ -130,26 +231,12 @@ public class BidRollbackService {
 
         // 5. 캐시 무효화
         walletService.clearWalletCache(blockedUserId);
-        if (previousBidderId != null && previousBidderId != -1L) {
+        if (previousBidderId != -1L) {
             walletService.clearWalletCache(previousBidderId);
         }
 
-        // 6. Redis ZSET 가격 인덱스 갱신
-        Long categoryId = auction.getItem().getCategory().getId();
-        auctionIndexService.updatePriceIndex(auction.getId(), categoryId, rollbackPrice);
-
-        // 7. 실시간 메시지: 입찰 롤백 알림 (갱신된 상태로 브로드캐스트)
-        auctionMessageService.sendBidSucceeded(auction.getId(),
-                noonchissaum.backend.domain.auction.dto.ws.BidSucceededPayload.builder()
-                        .auctionId(auction.getId())
-                        .currentPrice(rollbackPrice.longValue())
-                        .currentBidderId(previousBidder != null ? previousBidder.getId() : null)
-                        .bidCount(rollbackBidCount)
-                        .endAt(auction.getEndAt())
-                        .isExtended(auction.getIsExtended())
-                        .build());
-
         log.info("경매 {} 롤백 완료 - blockedUserId: {}, rollbackPrice: {}, rollbackBidCount: {}",
                 auction.getId(), blockedUserId, rollbackPrice, rollbackBidCount);
+        return true;
     }
 }
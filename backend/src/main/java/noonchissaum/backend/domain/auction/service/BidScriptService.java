@@ -0,0 +1,173 @@
+package noonchissaum.backend.domain.auction.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import noonchissaum.backend.domain.auction.redis.AuctionStateFields;
+import noonchissaum.backend.global.RedisKeys;
+import noonchissaum.backend.global.exception.ApiException;
+import noonchissaum.backend.global.exception.ErrorCode;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 입찰 Lua 스크립트 실행기
+ * 검증/지갑 처리/경매 상태 갱신/입찰 저널 적재를 EVALSHA 한 번으로 처리한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BidScriptService {
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> PLACE_BID_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/place_bid.lua"), List.class);
+
+    private static final Duration IDEMPOTENCY_TTL = Duration.ofMinutes(10);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * bidAmount 는 원 단위 정수여야 한다 (BidService 에서 검증, 스크립트도 쓰기 전에 한 번 더 거름)
+     * 이전 입찰자 지갑/락 키는 현재 입찰자를 먼저 읽어 KEYS 로 넘긴다. 그 사이 바뀌면 STATE_CHANGED.
+     */
+    @SuppressWarnings("unchecked")
+    public BidScriptResult execute(Long auctionId, Long userId, BigDecimal bidAmount, String requestId) {
+        Object rawBidder = redisTemplate.opsForHash().get(RedisKeys.auctionState(auctionId), AuctionStateFields.CURRENT_BIDDER);
+        Long previousBidderId = rawBidder == null || rawBidder.toString().isBlank()
+                ? -1L
+                : Long.parseLong(rawBidder.toString());
+
+        List<String> keys = new ArrayList<>(List.of(
+                RedisKeys.bidIdempotency(requestId),
+                RedisKeys.auctionState(auctionId),
+                RedisKeys.userBalance(userId),
+                RedisKeys.userLockedBalance(userId),
+                RedisKeys.bidJournal(),
+                RedisKeys.pendingUser(userId),
+                RedisKeys.auctionLock(auctionId),
+                RedisKeys.userLock(userId)
+        ));
+        if (previousBidderId != -1L) {
+            keys.add(RedisKeys.userBalance(previousBidderId));
+            keys.add(RedisKeys.userLockedBalance(previousBidderId));
+            keys.add(RedisKeys.pendingUser(previousBidderId));
+            keys.add(RedisKeys.userLock(previousBidderId));
+        }
+
+        // 소수점 없는 정수 문자열로 정규화 ("12000.00" 같은 표기가 상태 해시에 남지 않도록)
+        String amount = bidAmount.toBigIntegerExact().toString();
+        List<Object> raw = redisTemplate.execute(
+                PLACE_BID_SCRIPT,
+                keys,
+                String.valueOf(userId),
+                amount,
+                amount,
+                LocalDateTime.now().toString(),
+                requestId,
+                String.valueOf(auctionId),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(IDEMPOTENCY_TTL.toSeconds()),
+                String.valueOf(previousBidderId)
+        );
+
+        if (raw == null || raw.isEmpty()) {
+            log.error("입찰 스크립트 응답 없음 - auctionId: {}, requestId: {}", auctionId, requestId);
+            throw new ApiException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+        return BidScriptResult.from(raw);
+    }
+
+    /**
+     * 스크립트 실행 결과
+     * - OK              : previousBidderId / previousPrice / bidCount 채워짐
+     * - STATE_MISSING   : 경매 상태 해시 없음 → restoreState 후 재시도
+     * - BALANCE_MISSING : missingUserId 지갑 캐시 없음 → getBalance 후 재시도
+     * - STATE_CHANGED   : KEYS 구성 후 이전 입찰자가 바뀜 → 그대로 재시도
+     * - BID_LOCK_ACQUISITION : 경매/유저 락이 잡혀 있음 → 잠시 후 재시도
+     * - 그 외           : ErrorCode 이름
+     */
+    public record BidScriptResult(
+            String code,
+            Long previousBidderId,
+            BigDecimal previousPrice,
+            Integer bidCount,
+            Long missingUserId
+    ) {
+        public static final String OK = "OK";
+        public static final String STATE_MISSING = "STATE_MISSING";
+        public static final String BALANCE_MISSING = "BALANCE_MISSING";
+        public static final String STATE_CHANGED = "STATE_CHANGED";
+        public static final String LOCKED = "BID_LOCK_ACQUISITION";
+
+        static BidScriptResult from(List<Object> raw) {
+            String code = String.valueOf(raw.get(0));
+            if (OK.equals(code)) {
+                return new BidScriptResult(
+                        code,
+                        Long.parseLong(String.valueOf(raw.get(1))),
+                        new BigDecimal(String.valueOf(raw.get(2))),
+                        Integer.parseInt(String.valueOf(raw.get(3))),
+                        null
+                );
+            }
+            if (BALANCE_MISSING.equals(code)) {
+                return new BidScriptResult(code, null, null, null, Long.parseLong(String.valueOf(raw.get(1))));
+            }
+            return new BidScriptResult(code, null, null, null, null);
+        }
+
+        public boolean isSuccess() {
+            return OK.equals(code);
+        }
+
+        public boolean isStateMissing() {
+            return STATE_MISSING.equals(code);
+        }
+
+        public boolean isBalanceMissing() {
+            return BALANCE_MISSING.equals(code);
+        }
+
+        public boolean isStateChanged() {
+            return STATE_CHANGED.equals(code);
+        }
+
+        public boolean isLocked() {
+            return LOCKED.equals(code);
+        }
+
+        /**
+         * 캐시 복구/락 대기/키 재구성 후 다시 실행하면 되는 결과
+         */
+        public boolean isRetryable() {
+            return isStateMissing() || isBalanceMissing() || isStateChanged() || isLocked();
+        }
+
+        /**
+         * 실패 코드 → ApiException
+         */
+        public ApiException toException() {
+            if (isStateMissing()) {
+                return new ApiException(ErrorCode.AUCTION_REDIS_STATE_MISSING);
+            }
+            if (isBalanceMissing()) {
+                return new ApiException(ErrorCode.CANNOT_FIND_WALLET);
+            }
+            if (isStateChanged()) {
+                return new ApiException(ErrorCode.BID_LOCK_ACQUISITION);
+            }
+            try {
+                return new ApiException(ErrorCode.valueOf(code));
+            } catch (IllegalArgumentException e) {
+                return new ApiException(ErrorCode.INTERNAL_SERVER_ERROR);
+            }
+        }
+    }
+}
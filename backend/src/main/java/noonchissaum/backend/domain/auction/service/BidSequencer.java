@@ -0,0 +1,268 @@
+package noonchissaum.backend.domain.auction.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import noonchissaum.backend.domain.auction.redis.AuctionStateFields;
+import noonchissaum.backend.global.RedisKeys;
+import noonchissaum.backend.global.exception.ApiException;
+import noonchissaum.backend.global.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 경매별 단일 writer 입찰 시퀀서 (sequencer 모드)
+ * 같은 경매의 입찰은 경매별 메일박스에 쌓이고, 가상 스레드 하나가 순서대로 꺼내 처리한 뒤 호출자에게 결과를 돌려준다.
+ * 요청 스레드는 락 대기 없이 결과만 기다리며, 이미 처리된 입찰가 이하의 입찰은 메일박스에 넣기 전에 즉시 거절한다.
+ * (롤백/RELOAD 로 현재가가 내려갔을 수 있으므로 거절 전에 Redis 현재가로 수락 상한을 한 번 갱신한다)
+ * (노드 간 라우팅은 아직 없으므로 writer는 기존 경매 락을 그대로 잡는다. 단일 노드에서는 경합이 없다.)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BidSequencer {
+
+    private final StringRedisTemplate redisTemplate;
+    private final ConcurrentHashMap<Long, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+    // 경매별 대기 입찰 상한 (초과 시 즉시 거절)
+    @Value("${auction.bid.sequencer.max-pending:2000}")
+    private int maxPending;
+
+    // 호출자가 결과를 기다리는 최대 시간
+    @Value("${auction.bid.sequencer.timeout-ms:5000}")
+    private long timeoutMs;
+
+    /**
+     * 입찰 작업을 경매 메일박스에 넣고 처리 결과를 기다린다.
+     * work 에서 던진 예외는 호출 스레드에서 그대로 다시 던진다.
+     */
+    public <T> T submit(Long auctionId, BigDecimal bidAmount, Supplier<T> work) {
+        Mailbox current = mailboxes.get(auctionId);
+        if (current != null && isAtOrBelowAccepted(auctionId, current, bidAmount)) {
+            throw new ApiException(ErrorCode.LOW_BID_AMOUNT);
+        }
+        BidTask<T> task = new BidTask<>(bidAmount, work);
+
+        while (true) {
+            Mailbox mailbox = mailboxes.computeIfAbsent(auctionId, id -> new Mailbox());
+            Offer offer = mailbox.offer(task, maxPending);
+            if (offer == Offer.CLOSED) {
+                // writer가 막 종료한 메일박스 → 새로 만들어 재시도
+                mailboxes.remove(auctionId, mailbox);
+                continue;
+            }
+            if (offer == Offer.FULL) {
+                throw new ApiException(ErrorCode.BID_LOCK_ACQUISITION);
+            }
+            if (offer == Offer.START_WRITER) {
+                Thread.ofVirtual()
+                        .name("bid-sequencer-" + auctionId)
+                        .start(() -> drain(auctionId, mailbox));
+            }
+            break;
+        }
+        return await(task);
+    }
+
+    /**
+     * 현재 대기 중인 입찰 수 (모니터링/테스트용)
+     */
+    public int pendingCount(Long auctionId) {
+        Mailbox mailbox = mailboxes.get(auctionId);
+        return mailbox == null ? 0 : mailbox.size();
+    }
+
+    private void drain(Long auctionId, Mailbox mailbox) {
+        try {
+            BidTask<?> task;
+            while ((task = mailbox.next()) != null) {
+                process(auctionId, mailbox, task);
+            }
+        } finally {
+            mailboxes.remove(auctionId, mailbox);
+        }
+    }
+
+    private <T> void process(Long auctionId, Mailbox mailbox, BidTask<T> task) {
+        // 호출자가 이미 포기한 입찰은 처리하지 않음
+        if (!task.claim()) {
+            return;
+        }
+
+        // 대기 중에 앞에서 수락된 입찰가 이하가 됐으면 바로 거절
+        if (isAtOrBelowAccepted(auctionId, mailbox, task.bidAmount)) {
+            task.future.completeExceptionally(new ApiException(ErrorCode.LOW_BID_AMOUNT));
+            return;
+        }
+
+        try {
+            T result = task.work.get();
+            mailbox.highestAccepted.set(task.bidAmount);
+            task.future.complete(result);
+        } catch (Throwable e) {
+            task.future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * 앞에서 수락된 입찰가 이하인지 확인
+     * 입찰가는 롤백/RELOAD 때만 내려가므로, 거절할 때만 Redis 현재가를 읽어 더 낮으면 수락 상한을 내린 뒤 다시 비교한다.
+     */
+    private boolean isAtOrBelowAccepted(Long auctionId, Mailbox mailbox, BigDecimal bidAmount) {
+        BigDecimal highest = mailbox.highestAccepted.get();
+        if (highest == null || bidAmount.compareTo(highest) > 0) {
+            return false;
+        }
+        BigDecimal currentPrice = currentPrice(auctionId);
+        if (currentPrice == null || currentPrice.compareTo(highest) >= 0) {
+            return true;
+        }
+        mailbox.highestAccepted.compareAndSet(highest, currentPrice);
+        return bidAmount.compareTo(currentPrice) <= 0;
+    }
+
+    private BigDecimal currentPrice(Long auctionId) {
+        try {
+            Object raw = redisTemplate.opsForHash().get(RedisKeys.auctionState(auctionId), AuctionStateFields.CURRENT_PRICE);
+            return raw == null ? null : new BigDecimal(raw.toString());
+        } catch (Exception e) {
+            log.warn("입찰 시퀀서 현재가 조회 실패 - auctionId: {}", auctionId, e);
+            return null;
+        }
+    }
+
+    private <T> T await(BidTask<T> task) {
+        try {
+            return task.future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (task.abandon()) {
+                log.warn("입찰 시퀀서 대기 시간 초과 - bidAmount: {}", task.bidAmount);
+                throw new ApiException(ErrorCode.BID_LOCK_ACQUISITION);
+            }
+            // 이미 writer가 처리 중이면 결과를 끝까지 기다림 (Redis 반영 여부와 응답을 일치시키기 위함)
+            return join(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (task.abandon()) {
+                throw new ApiException(ErrorCode.BID_LOCK_ACQUISITION);
+            }
+            return join(task);
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        }
+    }
+
+    private <T> T join(BidTask<T> task) {
+        try {
+            return task.future.join();
+        } catch (CompletionException e) {
+            throw rethrow(e.getCause());
+        }
+    }
+
+    private RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    private enum Offer {
+        QUEUED, START_WRITER, FULL, CLOSED
+    }
+
+    /**
+     * 경매별 메일박스
+     * 큐/실행 상태는 lock 으로 보호하고, highestAccepted 는 writer 가 올리고 현재가 갱신 시에만 CAS 로 내린다.
+     * (가상 스레드 pinning 을 피하려고 synchronized 대신 ReentrantLock 사용)
+     */
+    private static final class Mailbox {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ArrayDeque<BidTask<?>> queue = new ArrayDeque<>();
+        private boolean running;
+        private boolean closed;
+        private final AtomicReference<BigDecimal> highestAccepted = new AtomicReference<>();
+
+        Offer offer(BidTask<?> task, int maxPending) {
+            lock.lock();
+            try {
+                if (closed) return Offer.CLOSED;
+                if (queue.size() >= maxPending) return Offer.FULL;
+                queue.addLast(task);
+                if (running) return Offer.QUEUED;
+                running = true;
+                return Offer.START_WRITER;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 다음 입찰을 꺼냄. 비어 있으면 메일박스를 닫고 null 반환
+         */
+        BidTask<?> next() {
+            lock.lock();
+            try {
+                BidTask<?> task = queue.pollFirst();
+                if (task == null) {
+                    running = false;
+                    closed = true;
+                }
+                return task;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int size() {
+            lock.lock();
+            try {
+                return queue.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private static final class BidTask<T> {
+        private static final int PENDING = 0;
+        private static final int RUNNING = 1;
+        private static final int ABANDONED = 2;
+
+        private final BigDecimal bidAmount;
+        private final Supplier<T> work;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+
+        BidTask(BigDecimal bidAmount, Supplier<T> work) {
+            this.bidAmount = bidAmount;
+            this.work = work;
+        }
+
+        // writer 가 처리 시작
+        boolean claim() {
+            return state.compareAndSet(PENDING, RUNNING);
+        }
+
+        // 호출자가 대기 포기 (writer 가 아직 집어가지 않은 경우에만 성공)
+        boolean abandon() {
+            return state.compareAndSet(PENDING, ABANDONED);
+        }
+    }
+}
@@ -9,22 +9,27 @@ import noonchissaum.backend.domain.auction.dto.ws.OutbidPayload;
 import noonchissaum.backend.domain.auction.entity.Auction;
 import noonchissaum.backend.domain.auction.entity.AuctionStatus;
 import noonchissaum.backend.domain.auction.entity.Bid;
+import noonchissaum.backend.domain.auction.redis.AuctionStateFields;
+import noonchissaum.backend.domain.auction.redis.BidJournalFields;
 import noonchissaum.backend.domain.auction.repository.AuctionRepository;
 import noonchissaum.backend.domain.auction.repository.BidRepository;
+import noonchissaum.backend.domain.auction.service.AuctionExtensionService.ExtensionResult;
+import noonchissaum.backend.domain.auction.service.BidScriptService.BidScriptResult;
 import noonchissaum.backend.domain.notification.constants.NotificationConstants;
 import noonchissaum.backend.domain.notification.entity.NotificationType;
 import noonchissaum.backend.domain.notification.service.NotificationService;
 import noonchissaum.backend.domain.wallet.service.WalletService;
 import noonchissaum.backend.global.RedisKeys;
-import noonchissaum.backend.domain.task.dto.DbUpdateEvent;
 import noonchissaum.backend.global.exception.ApiException;
 import noonchissaum.backend.global.exception.ErrorCode;
 import noonchissaum.backend.global.util.UserLockExecutor;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
-import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.connection.stream.StreamRecords;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -48,16 +53,50 @@ public class BidService {
     private final WalletService walletService;
     private final BidRepository bidRepository;
     private final AuctionRepository auctionRepository;
-    private final ApplicationEventPublisher eventPublisher;
     private final AuctionRedisService auctionRedisService;
     private final AuctionMessageService auctionMessageService;
-    private final AuctionRecordService auctionRecordService;
+    private final AuctionWriteBehindService auctionWriteBehindService;
+    private final AuctionExtensionService auctionExtensionService;
     private final NotificationService notificationService;
     private final UserLockExecutor userLockExecutor;
+    private final BidScriptService bidScriptService;
+    private final BidSequencer bidSequencer;
+    private final ProxyBidService proxyBidService;
+    private final AuctionChangeTracker auctionChangeTracker;
     private static final BigDecimal BID_INCREMENT_RATE = new BigDecimal("0.10");
     private static final BigDecimal MIN_BID_INCREMENT = new BigDecimal("100");
+    private static final String BID_ENGINE_SCRIPT = "script";
+    private static final String BID_ENGINE_SEQUENCER = "sequencer";
+    // 입찰 직전 상태 (이전 입찰자, 현재가, 입찰수)
+    private static final List<String> CURRENT_STATE_FIELDS = List.of(
+            AuctionStateFields.CURRENT_BIDDER,
+            AuctionStateFields.CURRENT_PRICE,
+            AuctionStateFields.CURRENT_BID_COUNT
+    );
+    // 경매 상태/지갑 캐시 복구 + 락 대기 + 이전 입찰자 변경으로 인한 script 재실행 횟수
+    private static final int MAX_SCRIPT_RELOAD = 5;
+    // 경매/유저 락이 잡혀 있을 때 script 재실행 전 대기 시간
+    private static final long SCRIPT_LOCK_RETRY_MS = 50;
+
+    /**
+     * 입찰 엔진 모드
+     * - lock   : Redisson 경매/유저 락 기반 (기본값)
+     * - script : Lua 스크립트 한 번으로 검증~입찰 저널 적재까지 원자 처리 (락을 잡지 않고, 잡혀 있는 락은 기다림)
+     * - sequencer : 경매별 단일 writer(가상 스레드)가 순서대로 처리 (BidSequencer)
+     */
+    @Value("${auction.bid.engine:lock}")
+    private String bidEngine;
 
     public void placeBid(Long auctionId, Long userId, BigDecimal bidAmount, String requestId) {
+        // 지갑/상태 해시는 원 단위 정수로만 다루므로 소수 금액은 엔진에 들어가기 전에 거절
+        if (bidAmount == null || bidAmount.signum() <= 0 || bidAmount.stripTrailingZeros().scale() > 0) {
+            throw new ApiException(ErrorCode.BID_AMOUNT_NOT_INTEGER);
+        }
+        if (BID_ENGINE_SCRIPT.equalsIgnoreCase(bidEngine)) {
+            placeBidWithScript(auctionId, userId, bidAmount, requestId);
+            return;
+        }
+
         // 1. 멱등성 체크 (락 획득 전 수행하여 불필요한 대기 방지)
         // requestId는 FE가 UUID를 이용해서 담당
         String requestKey = RedisKeys.bidIdempotency(requestId);
@@ -65,11 +104,28 @@ public class BidService {
             throw new ApiException(ErrorCode.DUPLICATE_BID_REQUEST);
         }
 
+        try {
+            // sequencer 모드: 경매별 writer 한 개가 순서대로 처리 (요청 스레드는 락 대기 없음)
+            AcceptedBid accepted = BID_ENGINE_SEQUENCER.equalsIgnoreCase(bidEngine)
+                    ? bidSequencer.submit(auctionId, bidAmount,
+                            () -> applyBidWithAuctionLock(auctionId, userId, bidAmount, requestId))
+                    : applyBidWithAuctionLock(auctionId, userId, bidAmount, requestId);
+
+            afterBidAccepted(auctionId, userId, bidAmount, accepted.previousBidderId(), accepted.previousPrice(),
+                    accepted.bidCount());
+        } catch (Exception e) {
+            redisTemplate.delete(requestKey);
+            throw e;
+        }
+    }
+
+    /**
+     * 경매 락을 잡고 입찰을 Redis 에 반영 (lock / sequencer 모드 공통)
+     * 검증 → 지갑 처리 → 경매 상태 갱신 → 입찰 저널 적재
+     */
+    private AcceptedBid applyBidWithAuctionLock(Long auctionId, Long userId, BigDecimal bidAmount, String requestId) {
         RLock lock = redissonClient.getLock(RedisKeys.auctionLock(auctionId));
-        List<RLock> userLocks = new ArrayList<>();
         boolean auctionLocked = false;
-        Long previousBidderId;
-        BigDecimal currentPrice;
         try{
             boolean available = lock.tryLock(3,  TimeUnit.SECONDS);
             // 입찰 조건 확인 로직
@@ -78,26 +134,26 @@ public class BidService {
                 throw new ApiException(ErrorCode.BID_LOCK_ACQUISITION);
             }
             auctionLocked = true;
-            String priceKey = RedisKeys.auctionCurrentPrice(auctionId);
-            String bidderKey = RedisKeys.auctionCurrentBidder(auctionId);
-            String bidCount = RedisKeys.auctionCurrentBidCount(auctionId);
+            String stateKey = RedisKeys.auctionState(auctionId);
+            HashOperations<String, String, String> stateOps = redisTemplate.opsForHash();
 
-            String rawPreviousBidderId = redisTemplate.opsForValue().get(bidderKey);
-            String rawPrice = redisTemplate.opsForValue().get(priceKey);
-            String rawBidCount  = redisTemplate.opsForValue().get(bidCount);
+            List<String> current = stateOps.multiGet(stateKey, CURRENT_STATE_FIELDS);
+            String rawPreviousBidderId = current.get(0);
+            String rawPrice = current.get(1);
+            String rawBidCount = current.get(2);
 
             if (rawPreviousBidderId == null || rawPrice == null || rawBidCount == null) {
-                auctionRedisService.setRedis(auctionId);
+                auctionRedisService.restoreState(auctionId);
 
                 // 휘발된 데이터 다시 읽어오기
-                rawPreviousBidderId = redisTemplate.opsForValue().get(bidderKey);
-                rawPrice = redisTemplate.opsForValue().get(priceKey);
-                rawBidCount  = redisTemplate.opsForValue().get(bidCount);
-
+                current = stateOps.multiGet(stateKey, CURRENT_STATE_FIELDS);
+                rawPreviousBidderId = current.get(0);
+                rawPrice = current.get(1);
+                rawBidCount = current.get(2);
             }
 
-            previousBidderId = !rawPreviousBidderId.isBlank() ? Long.parseLong(rawPreviousBidderId) : -1L;
-            currentPrice = new BigDecimal(rawPrice);
+            Long previousBidderId = !rawPreviousBidderId.isBlank() ? Long.parseLong(rawPreviousBidderId) : -1L;
+            BigDecimal currentPrice = new BigDecimal(rawPrice);
 
             //유저락 추가 - 이전 입찰자가 충전하는 도중 타 경매의
             List<Long> lockUserIds = new ArrayList<>();
@@ -109,7 +165,7 @@ public class BidService {
             // 데드락 방지: 항상 작은 id부터 락
             lockUserIds.sort(Long::compareTo);
 
-            final String initialBidCount = rawBidCount;
+            final int newBidCount = Integer.parseInt(rawBidCount) + 1;
 
             userLockExecutor.withUserLocks(lockUserIds, ()->{
 
@@ -139,20 +195,16 @@ public class BidService {
                     auctionMessageService.sendOutbid(previousBidderId, outbidPayload);
                 }
 
-                Integer bidCountInt = Integer.parseInt(initialBidCount);
-                // Redis 새로운 1등 정보 저장
-                redisTemplate.opsForValue().set(priceKey, String.valueOf(bidAmount));
-                redisTemplate.opsForValue().set(bidderKey, String.valueOf(userId));
-                redisTemplate.opsForValue().set(bidCount, String.valueOf(++bidCountInt));
-
-                //검증용 데이터 (Bid,Wallet 재저장용 데이터)
-                Map<String, String> bidInfo = getStringStringMap(auctionId, userId, bidAmount, requestId, previousBidderId, currentPrice);
+                // Redis 새로운 1등 정보 저장 (HSET 1회)
+                Map<String, String> newState = new HashMap<>();
+                newState.put(AuctionStateFields.CURRENT_PRICE, String.valueOf(bidAmount));
+                newState.put(AuctionStateFields.CURRENT_BIDDER, String.valueOf(userId));
+                newState.put(AuctionStateFields.CURRENT_BID_COUNT, String.valueOf(newBidCount));
+                stateOps.putAll(stateKey, newState);
 
-                String infoKey = RedisKeys.pendingBidInfo(requestId);
-
-                redisTemplate.opsForHash().putAll(infoKey, bidInfo);
-                redisTemplate.expire(infoKey, Duration.ofMinutes(10));
-                redisTemplate.opsForSet().add(RedisKeys.pendingBidRequestsSet(), requestId);
+                // 입찰 저널 적재 (Bid, Wallet DB 반영은 BidJournalConsumer 가 처리)
+                Map<String, String> journal = BidJournalFields.of(auctionId, userId, bidAmount, requestId, previousBidderId, currentPrice);
+                redisTemplate.opsForStream().add(StreamRecords.string(journal).withStreamKey(RedisKeys.bidJournal()));
 
                 String userPendingKey = RedisKeys.pendingUser(userId);
                 redisTemplate.opsForSet().add(userPendingKey, requestId);
@@ -162,54 +214,109 @@ public class BidService {
                 }
             });
 
-            if (lock.isHeldByCurrentThread()) {
+            return new AcceptedBid(previousBidderId, currentPrice, newBidCount);
+        }
+        catch (InterruptedException e){
+            Thread.currentThread().interrupt();
+            throw new ApiException(ErrorCode.BID_LOCK_ACQUISITION);
+        } finally {
+            // 락 해제
+            if (auctionLocked || lock.isHeldByCurrentThread()){
                 lock.unlock();
-                auctionLocked = false;
             }
+        }
+    }
 
-            eventPublisher.publishEvent(new DbUpdateEvent(userId, previousBidderId, bidAmount, currentPrice, auctionId, requestId));
+    /**
+     * script 모드 입찰
+     * 멱등성/검증/지갑 처리/경매 상태/입찰 저널 적재를 Lua 스크립트 한 번으로 처리하므로 분산 락을 잡지 않는다.
+     * 대신 스크립트가 경매/유저 락이 잡혀 있는지 확인하고, 잡혀 있으면 쓰지 않고 돌아오므로 잠시 후 재실행한다.
+     * 캐시 미스(경매 상태, 지갑)일 때는 DB에서 로드 후 재실행한다.
+     */
+    private void placeBidWithScript(Long auctionId, Long userId, BigDecimal bidAmount, String requestId) {
+        BidScriptResult result = bidScriptService.execute(auctionId, userId, bidAmount, requestId);
+
+        for (int reload = 0; reload < MAX_SCRIPT_RELOAD && result.isRetryable(); reload++) {
+            if (result.isStateMissing()) {
+                auctionRedisService.restoreState(auctionId);
+            } else if (result.isBalanceMissing()) {
+                walletService.getBalance(result.missingUserId());
+            } else if (result.isLocked()) {
+                waitForLockRelease();
+            }
+            result = bidScriptService.execute(auctionId, userId, bidAmount, requestId);
+        }
 
-            // 경매 정보 및 시간 연장은 동기적으로 즉시 업데이트 (데이터 정합성 유지)
-            auctionRecordService.updateAuctionWithExtension(auctionId, userId, bidAmount);
+        if (!result.isSuccess()) {
+            throw result.toException();
+        }
+
+        Long previousBidderId = result.previousBidderId();
+        BigDecimal currentPrice = result.previousPrice();
 
-            // Stomp 메세지 발행 로직 - 갱신된 경매 정보로 payload 구성 (모든 시청자 화면 실시간 반영)
-            Auction updatedAuction = auctionRepository.findById(auctionId)
-                    .orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND_AUCTIONS));
-            BidSucceededPayload bidSucceededPayload = BidSucceededPayload
+        if (previousBidderId != -1L) {
+            OutbidPayload outbidPayload = OutbidPayload
                     .builder()
                     .auctionId(auctionId)
-                    .currentPrice(bidAmount.longValueExact())
-                    .currentBidderId(userId)
-                    .bidCount(updatedAuction.getBidCount())
-                    .endAt(updatedAuction.getEndAt())
+                    .myBidPrice(currentPrice)
+                    .newCurrentPrice(bidAmount)
+                    .message(NotificationConstants.MSG_AUCTION_OUTBID)
                     .build();
-            auctionMessageService.sendBidSucceeded(auctionId, bidSucceededPayload);
-
-            if (previousBidderId != -1L){
-                String msg = NotificationConstants.MSG_AUCTION_OUTBID;
-                notificationService.create(
-                        previousBidderId,
-                        NotificationType.OUTBID,
-                        msg,
-                        NotificationConstants.REF_TYPE_AUCTION,
-                        auctionId
-                );
-            }
+            auctionMessageService.sendOutbid(previousBidderId, outbidPayload);
         }
-        catch (InterruptedException e){
+
+        afterBidAccepted(auctionId, userId, bidAmount, previousBidderId, currentPrice, result.bidCount());
+    }
+
+    private void waitForLockRelease() {
+        try {
+            Thread.sleep(SCRIPT_LOCK_RETRY_MS);
+        } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
-            return ;
-        } catch (Exception e) {
-            redisTemplate.delete(requestKey);
-            throw e;
-        } finally {
-            // 락 해제
-            if (auctionLocked || lock.isHeldByCurrentThread()){
-                lock.unlock();
-            }
+            throw new ApiException(ErrorCode.BID_LOCK_ACQUISITION);
         }
     }
 
+    /**
+     * Redis 반영이 끝난 입찰의 후처리
+     * Redis 기준 마감 연장, 경매 row write-behind 적재, WS 브로드캐스트, OUTBID 알림, 자동 입찰 응수
+     * (경매 row 는 AuctionWriteBehindService 가 경매별로 모아서 반영하므로 여기서는 DB 에 접근하지 않는다)
+     */
+    private void afterBidAccepted(Long auctionId, Long userId, BigDecimal bidAmount,
+                                  Long previousBidderId, BigDecimal currentPrice, int bidCount) {
+        // 마감 임박 연장은 Redis 상태 기준으로 판단 (연장 시 AUCTION_EXTENDED 발행)
+        ExtensionResult extension = auctionExtensionService.extendIfImminent(auctionId, LocalDateTime.now());
+        auctionWriteBehindService.recordBid(auctionId, userId, bidAmount, bidCount,
+                extension.extended() ? extension.endAt() : null);
+
+        // Stomp 메세지 발행 로직 - Redis 에 확정된 값으로 payload 구성 (모든 시청자 화면 실시간 반영)
+        BidSucceededPayload bidSucceededPayload = BidSucceededPayload
+                .builder()
+                .auctionId(auctionId)
+                .currentPrice(bidAmount.longValueExact())
+                .currentBidderId(userId)
+                .bidCount(bidCount)
+                .endAt(extension.endAt())
+                .build();
+        auctionMessageService.sendBidSucceeded(auctionId, bidSucceededPayload);
+        // 가격/입찰수/연장된 마감 시각이 바뀌었으므로 다음 tick 스냅샷 대상
+        auctionChangeTracker.markChanged(auctionId);
+
+        if (previousBidderId != -1L){
+            String msg = NotificationConstants.MSG_AUCTION_OUTBID;
+            notificationService.create(
+                    previousBidderId,
+                    NotificationType.OUTBID,
+                    msg,
+                    NotificationConstants.REF_TYPE_AUCTION,
+                    auctionId
+            );
+        }
+
+        // 등록된 자동 입찰이 있으면 이번 입찰에 응수 (경쟁은 스크립트 한 번으로 해소)
+        proxyBidService.resolve(auctionId, userId);
+    }
+
     /**
      * 특정 경매의 입찰 이력 조회
      */
@@ -260,6 +367,16 @@ public class BidService {
         });
     }
 
+    /**
+     * 최소 입찰 증가폭 = max(최초가의 10%(올림), 100원)
+     */
+    static BigDecimal minBidIncrement(BigDecimal startPrice) {
+        BigDecimal incrementByStartPrice = startPrice
+                .multiply(BID_INCREMENT_RATE)
+                .setScale(0, RoundingMode.CEILING);
+        return incrementByStartPrice.max(MIN_BID_INCREMENT);
+    }
+
     /**
      * 입찰 조건 검증 로직:
      * 1. 현재 최고 입찰가보다 10%(10원 단위 올림) 이상 높은 금액인지 체크.
@@ -272,21 +389,17 @@ public class BidService {
             Long userId,
             BigDecimal bidAmount
     ) {
-        String priceKey = RedisKeys.auctionCurrentPrice(auctionId);
-        String bidderKey = RedisKeys.auctionCurrentBidder(auctionId);
-        String bidCountKey = RedisKeys.auctionCurrentBidCount(auctionId);
-        String startPriceKey = RedisKeys.auctionStartPrice(auctionId);
-        String statusKey = RedisKeys.auctionStatus(auctionId);
-        String endTimeKey = RedisKeys.auctionEndTime(auctionId);
         String userBalance = RedisKeys.userBalance(userId);
 
-        String rawPrice = redisTemplate.opsForValue().get(priceKey);
-        String rawBidCount = redisTemplate.opsForValue().get(bidCountKey);
-        String rawStartPrice = redisTemplate.opsForValue().get(startPriceKey);
-        if (rawStartPrice == null || rawStartPrice.isBlank()) {
-            auctionRedisService.setRedis(auctionId);
-            rawStartPrice = redisTemplate.opsForValue().get(startPriceKey);
+        // 경매 상태 해시 1회 조회
+        Map<Object, Object> state = auctionRedisService.getState(auctionId);
+        if (isBlank(stateField(state, AuctionStateFields.START_PRICE))) {
+            auctionRedisService.restoreState(auctionId);
+            state = auctionRedisService.getState(auctionId);
         }
+        String rawPrice = stateField(state, AuctionStateFields.CURRENT_PRICE);
+        String rawBidCount = stateField(state, AuctionStateFields.CURRENT_BID_COUNT);
+        String rawStartPrice = stateField(state, AuctionStateFields.START_PRICE);
         BigDecimal currentPrice = (rawPrice == null || rawPrice.isBlank()) ? BigDecimal.ZERO : new BigDecimal(rawPrice);
         log.info("currentPrice:" + currentPrice);
 
@@ -303,10 +416,7 @@ public class BidService {
         BigDecimal baseStartPrice = (rawStartPrice == null || rawStartPrice.isBlank())
                 ? BigDecimal.ZERO
                 : new BigDecimal(rawStartPrice);
-        BigDecimal incrementByStartPrice = baseStartPrice
-                .multiply(BID_INCREMENT_RATE)
-                .setScale(0, RoundingMode.CEILING);
-        BigDecimal minIncrement = incrementByStartPrice.max(MIN_BID_INCREMENT);
+        BigDecimal minIncrement = minBidIncrement(baseStartPrice);
         BigDecimal minBid = (bidCount == 0) ? currentPrice : currentPrice.add(minIncrement);
 
         if (bidAmount.compareTo(minBid) < 0) {
@@ -314,7 +424,7 @@ public class BidService {
         }
 
         //연속 입찰 체크
-        String rawBidderId = redisTemplate.opsForValue().get(bidderKey);
+        String rawBidderId = stateField(state, AuctionStateFields.CURRENT_BIDDER);
         if (rawBidderId != null && !rawBidderId.isBlank()) {
             Long currentBidderId = Long.parseLong(rawBidderId);
             if (currentBidderId.equals(userId)) {
@@ -323,8 +433,8 @@ public class BidService {
         }
 
         // 경매 상태/시간 체크 Redis 기반
-        String rawStatus = redisTemplate.opsForValue().get(statusKey);
-        String rawEndTime = redisTemplate.opsForValue().get(endTimeKey);
+        String rawStatus = stateField(state, AuctionStateFields.STATUS);
+        String rawEndTime = stateField(state, AuctionStateFields.END_TIME);
         if (isBlank(rawStatus) || isBlank(rawEndTime)) {
             throw new ApiException(ErrorCode.AUCTION_REDIS_STATE_MISSING);
         }
@@ -361,24 +471,18 @@ public class BidService {
         return value == null || value.isBlank();
     }
 
-    /**
-     * 검증용 데이터
-     * Bid,Wallet 저장에 필요한 데이터를 HashMap 형태로 반환
-     */
-    private static Map<String, String> getStringStringMap(Long auctionId, Long userId, BigDecimal bidAmount, String requestId, Long previousBidderId, BigDecimal currentPrice) {
-        Map<String, String> bidInfo = new HashMap<>();
-        bidInfo.put("auctionId", String.valueOf(auctionId));
-        bidInfo.put("userId", String.valueOf(userId));
-        bidInfo.put("bidAmount", bidAmount.toPlainString());
-        bidInfo.put("requestId", requestId);
-
-        bidInfo.put("previousBidderId", String.valueOf(previousBidderId));   // wallet 용
-        bidInfo.put("refundAmount", currentPrice.toPlainString());          // wallet 용
-        bidInfo.put("createdAt", String.valueOf(System.currentTimeMillis()));
-        return bidInfo;
+    private String stateField(Map<Object, Object> state, String field) {
+        Object value = state.get(field);
+        return value == null ? null : value.toString();
     }
 
     public boolean isExistRequestId(String requestId){
         return bidRepository.existsByRequestId(requestId);
     }
+
+    /**
+     * Redis 반영이 끝난 입찰의 직전 1등 정보
+     */
+    private record AcceptedBid(Long previousBidderId, BigDecimal previousPrice, int bidCount) {
+    }
 }
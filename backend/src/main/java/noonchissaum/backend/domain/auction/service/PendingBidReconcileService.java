@@ -0,0 +1,252 @@
+package noonchissaum.backend.domain.auction.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import noonchissaum.backend.domain.auction.redis.BidJournalFields;
+import noonchissaum.backend.domain.auction.repository.BidRepository;
+import noonchissaum.backend.domain.task.dto.DbUpdateEvent;
+import noonchissaum.backend.domain.task.service.DbUpdateBatchProcessor;
+import noonchissaum.backend.global.RedisKeys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 저널 전환 이전 pending 입찰(pending_bid_requests / pending_bid_info) 정리
+ * SSCAN 으로 page-size 만큼씩 끊어 읽고, 페이지 단위로
+ * info 해시 일괄 조회(파이프라인) → bids 존재 여부 IN 조회 1회 → 미반영분 배치 트랜잭션 1회 → pending 일괄 제거 순으로 처리한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PendingBidReconcileService {
+
+    private final StringRedisTemplate redisTemplate;
+    private final BidRepository bidRepository;
+    private final DbUpdateBatchProcessor dbUpdateBatchProcessor;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicLong legacySize = new AtomicLong();
+    private final AtomicLong oldestAgeMs = new AtomicLong();
+    private Counter recovered;
+    private Counter alreadyPersisted;
+    private Counter expired;
+    private Counter failed;
+    private Timer duration;
+
+    // SSCAN 한 페이지 크기 (= 한 트랜잭션에 반영할 최대 건수)
+    @Value("${task.pending-reconcile.page-size:500}")
+    private int pageSize;
+
+    @PostConstruct
+    public void registerMetrics() {
+        Gauge.builder("bid.pending.legacy.size", legacySize, AtomicLong::get)
+                .description("정리 대기 중인 legacy pending 입찰 수")
+                .register(meterRegistry);
+        Gauge.builder("bid.pending.legacy.oldest.age", oldestAgeMs, AtomicLong::get)
+                .description("마지막 정리 시점의 가장 오래된 legacy pending 입찰 나이")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        recovered = reconcileCounter("recovered");
+        alreadyPersisted = reconcileCounter("already_persisted");
+        expired = reconcileCounter("expired");
+        failed = reconcileCounter("failed");
+        duration = Timer.builder("bid.pending.reconcile.duration").register(meterRegistry);
+    }
+
+    /**
+     * 전체 legacy pending 을 페이지 단위로 정리하고 결과를 반환
+     */
+    public ReconcileResult reconcile() {
+        long startedAt = System.nanoTime();
+        ReconcileResult total = ReconcileResult.EMPTY;
+        long maxAge = 0L;
+
+        ScanOptions options = ScanOptions.scanOptions().count(pageSize).build();
+        try (Cursor<String> cursor = redisTemplate.opsForSet().scan(RedisKeys.pendingBidRequestsSet(), options)) {
+            List<String> page = new ArrayList<>(pageSize);
+            while (cursor.hasNext()) {
+                page.add(cursor.next());
+                if (page.size() >= pageSize) {
+                    PageResult result = reconcilePage(page);
+                    total = total.plus(result.counts());
+                    maxAge = Math.max(maxAge, result.oldestAgeMs());
+                    page = new ArrayList<>(pageSize);
+                }
+            }
+            if (!page.isEmpty()) {
+                PageResult result = reconcilePage(page);
+                total = total.plus(result.counts());
+                maxAge = Math.max(maxAge, result.oldestAgeMs());
+            }
+        }
+
+        Long remaining = redisTemplate.opsForSet().size(RedisKeys.pendingBidRequestsSet());
+        legacySize.set(remaining == null ? 0L : remaining);
+        oldestAgeMs.set(maxAge);
+        duration.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return total;
+    }
+
+    /**
+     * 한 페이지 정리: DB 왕복은 IN 조회 1회 + 배치 트랜잭션 1회
+     */
+    PageResult reconcilePage(List<String> requestIds) {
+        List<Map<Object, Object>> infos = fetchInfos(requestIds);
+        Set<String> persisted = new HashSet<>(bidRepository.findExistingRequestIds(requestIds));
+
+        long now = System.currentTimeMillis();
+        long maxAge = 0L;
+        List<String> cleanup = new ArrayList<>();
+        List<DbUpdateEvent> targets = new ArrayList<>();
+        int expiredCount = 0;
+        int persistedCount = 0;
+
+        for (int i = 0; i < requestIds.size(); i++) {
+            String requestId = requestIds.get(i);
+            Map<Object, Object> info = infos.get(i);
+            maxAge = Math.max(maxAge, ageOf(info, now));
+
+            if (persisted.contains(requestId)) {
+                persistedCount++;
+                cleanup.add(requestId);
+                continue;
+            }
+            if (info == null || info.isEmpty()) {
+                // TTL 만료로 복구할 데이터가 없음 → 기록만 남기고 제거
+                log.error("Pending bid info 만료 - 복구 불가, 수동 확인 필요. requestId={}", requestId);
+                expiredCount++;
+                cleanup.add(requestId);
+                continue;
+            }
+            try {
+                targets.add(BidJournalFields.toEvent(info));
+            } catch (RuntimeException e) {
+                log.error("Pending bid info 파싱 실패 - requestId={}, info={}", requestId, info, e);
+                expiredCount++;
+                cleanup.add(requestId);
+            }
+        }
+
+        // 미반영분은 bids/wallets/wallet_transactions/tasks 를 한 트랜잭션으로 반영 (pending:user 도 함께 정리)
+        List<DbUpdateEvent> completed = dbUpdateBatchProcessor.process(targets);
+        completed.forEach(event -> cleanup.add(event.requestId()));
+        int failedCount = targets.size() - completed.size();
+
+        removeLegacyKeys(cleanup, requestIds, infos);
+
+        ReconcileResult counts = new ReconcileResult(completed.size(), persistedCount, expiredCount, failedCount);
+        increment(counts);
+        return new PageResult(counts, maxAge);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<Object, Object>> fetchInfos(List<String> requestIds) {
+        List<Object> raw = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (String requestId : requestIds) {
+                stringConnection.hGetAll(RedisKeys.pendingBidInfo(requestId));
+            }
+            return null;
+        });
+        List<Map<Object, Object>> infos = new ArrayList<>(requestIds.size());
+        for (int i = 0; i < requestIds.size(); i++) {
+            Object value = i < raw.size() ? raw.get(i) : null;
+            infos.add(value instanceof Map<?, ?> map ? (Map<Object, Object>) map : Map.of());
+        }
+        return infos;
+    }
+
+    /**
+     * 정리 대상의 pending_bid_requests / pending_bid_info / pending:user 를 파이프라인 한 번으로 제거
+     */
+    private void removeLegacyKeys(List<String> cleanup, List<String> requestIds, List<Map<Object, Object>> infos) {
+        if (cleanup.isEmpty()) {
+            return;
+        }
+        Set<String> targets = new HashSet<>(cleanup);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.sRem(RedisKeys.pendingBidRequestsSet(), targets.toArray(String[]::new));
+            for (int i = 0; i < requestIds.size(); i++) {
+                String requestId = requestIds.get(i);
+                if (!targets.contains(requestId)) {
+                    continue;
+                }
+                removePendingUser(stringConnection, infos.get(i).get(BidJournalFields.USER_ID), requestId);
+                removePendingUser(stringConnection, infos.get(i).get(BidJournalFields.PREVIOUS_BIDDER_ID), requestId);
+                stringConnection.del(RedisKeys.pendingBidInfo(requestId));
+            }
+            return null;
+        });
+    }
+
+    private void removePendingUser(StringRedisConnection connection, Object rawUserId, String requestId) {
+        if (rawUserId instanceof String userId && !userId.isBlank() && !"-1".equals(userId)) {
+            connection.sRem(RedisKeys.pendingUser(Long.parseLong(userId)), requestId);
+        }
+    }
+
+    private long ageOf(Map<Object, Object> info, long now) {
+        Object createdAt = info == null ? null : info.get(BidJournalFields.CREATED_AT);
+        if (createdAt instanceof String value && !value.isBlank()) {
+            try {
+                return Math.max(0L, now - Long.parseLong(value));
+            } catch (NumberFormatException ignored) {
+                return 0L;
+            }
+        }
+        return 0L;
+    }
+
+    private Counter reconcileCounter(String result) {
+        return Counter.builder("bid.pending.reconcile")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private void increment(ReconcileResult counts) {
+        recovered.increment(counts.recovered());
+        alreadyPersisted.increment(counts.alreadyPersisted());
+        expired.increment(counts.expired());
+        failed.increment(counts.failed());
+    }
+
+    /**
+     * 정리 결과 (복구 / 이미 반영됨 / 데이터 만료 / 실패)
+     */
+    public record ReconcileResult(int recovered, int alreadyPersisted, int expired, int failed) {
+        static final ReconcileResult EMPTY = new ReconcileResult(0, 0, 0, 0);
+
+        ReconcileResult plus(ReconcileResult other) {
+            return new ReconcileResult(
+                    recovered + other.recovered,
+                    alreadyPersisted + other.alreadyPersisted,
+                    expired + other.expired,
+                    failed + other.failed);
+        }
+
+        public int total() {
+            return recovered + alreadyPersisted + expired + failed;
+        }
+    }
+
+    record PageResult(ReconcileResult counts, long oldestAgeMs) {
+    }
+}
@@ -0,0 +1,343 @@
+package noonchissaum.backend.domain.auction.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import noonchissaum.backend.domain.auction.dto.ws.BidSucceededPayload;
+import noonchissaum.backend.domain.auction.dto.ws.OutbidPayload;
+import noonchissaum.backend.domain.auction.redis.AuctionStateFields;
+import noonchissaum.backend.domain.auction.service.AuctionExtensionService.ExtensionResult;
+import noonchissaum.backend.domain.notification.constants.NotificationConstants;
+import noonchissaum.backend.domain.notification.dto.NotificationDraft;
+import noonchissaum.backend.domain.notification.entity.NotificationType;
+import noonchissaum.backend.domain.notification.service.NotificationService;
+import noonchissaum.backend.domain.wallet.service.WalletService;
+import noonchissaum.backend.global.RedisKeys;
+import noonchissaum.backend.global.exception.ApiException;
+import noonchissaum.backend.global.exception.ErrorCode;
+import noonchissaum.backend.global.util.UserLockExecutor;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 자동 입찰(최대 입찰가) 서비스
+ * 경매별 자동 입찰 목록은 경매 상태 해시 옆(auction:{id}:proxy)에 두고,
+ * 등록/입찰 직후 resolve_proxy_bids.lua 한 번으로 자동 입찰끼리의 경쟁을 끝까지 해소한다.
+ * 발생한 입찰은 스크립트가 입찰 저널에 적재하므로 DB 반영은 일반 입찰과 같이 DbUpdateEvent 경로를 탄다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProxyBidService {
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RESOLVE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/resolve_proxy_bids.lua"), List.class);
+
+    private static final String BID_ENGINE_SCRIPT = "script";
+    // 경매 상태 + 참여자 지갑 캐시 복구 횟수 (자동 입찰 참여자 수만큼 누락될 수 있어 입찰보다 넉넉히)
+    private static final int MAX_SCRIPT_RELOAD = 10;
+
+    private final RedissonClient redissonClient;
+    private final StringRedisTemplate redisTemplate;
+    private final WalletService walletService;
+    private final AuctionRedisService auctionRedisService;
+    private final AuctionMessageService auctionMessageService;
+    private final AuctionWriteBehindService auctionWriteBehindService;
+    private final AuctionExtensionService auctionExtensionService;
+    private final NotificationService notificationService;
+    private final AuctionChangeTracker auctionChangeTracker;
+    private final UserLockExecutor userLockExecutor;
+
+    // lock / sequencer 모드는 입찰이 경매 락 + 유저 락 안에서 상태/지갑을 읽고 쓰므로 해소 스크립트도 같은 락 안에서 실행한다.
+    @Value("${auction.bid.engine:lock}")
+    private String bidEngine;
+
+    /**
+     * 자동 입찰 등록 (같은 유저가 다시 등록하면 최대 입찰가 갱신)
+     * 등록과 동시에 경쟁을 해소하므로, 응답 시점에는 이미 자동 입찰 결과가 반영되어 있다.
+     */
+    public void register(Long auctionId, Long userId, BigDecimal maxAmount) {
+        ProxyResolution resolution = withAuctionLock(auctionId, userId, () -> execute(auctionId, userId, maxAmount));
+        if (!resolution.isSuccess()) {
+            throw resolution.toException();
+        }
+        publish(auctionId, resolution);
+    }
+
+    /**
+     * 자동 입찰 취소 (이미 발생한 입찰은 유지)
+     */
+    public void cancel(Long auctionId, Long userId) {
+        Long removed = redisTemplate.opsForZSet().remove(RedisKeys.auctionProxyBids(auctionId), String.valueOf(userId));
+        if (removed == null || removed == 0L) {
+            throw new ApiException(ErrorCode.PROXY_BID_NOT_FOUND);
+        }
+        redisTemplate.opsForHash().delete(RedisKeys.auctionProxyOrder(auctionId), String.valueOf(userId));
+    }
+
+    /**
+     * 일반 입찰 직후 자동 입찰 응수
+     * 입찰은 이미 확정됐으므로 여기서의 실패는 로그만 남긴다. (다음 입찰/등록 때 다시 해소됨)
+     * 응수할 자동 입찰(방금 입찰한 유저 외)이 없으면 락/스크립트 없이 바로 끝낸다.
+     */
+    public void resolve(Long auctionId, Long bidderId) {
+        // 최대가 상위 2건만 보면 입찰자 본인 외 자동 입찰이 있는지 알 수 있다
+        Set<String> topProxyUserIds = redisTemplate.opsForZSet().reverseRange(RedisKeys.auctionProxyBids(auctionId), 0, 1);
+        if (topProxyUserIds == null || topProxyUserIds.isEmpty()
+                || (topProxyUserIds.size() == 1 && topProxyUserIds.contains(String.valueOf(bidderId)))) {
+            return;
+        }
+        try {
+            ProxyResolution resolution = withAuctionLock(auctionId, null, () -> execute(auctionId, null, null));
+            if (resolution.isSuccess()) {
+                publish(auctionId, resolution);
+            }
+        } catch (Exception e) {
+            log.warn("자동 입찰 해소 실패 - auctionId: {}", auctionId, e);
+        }
+    }
+
+    /**
+     * 스크립트 실행 (경매 상태/지갑 캐시 미스면 로드 후 재실행)
+     */
+    private ProxyResolution execute(Long auctionId, Long userId, BigDecimal maxAmount) {
+        ProxyResolution resolution = executeScript(auctionId, userId, maxAmount);
+        for (int reload = 0; reload < MAX_SCRIPT_RELOAD
+                && (resolution.isStateMissing() || resolution.isBalanceMissing()); reload++) {
+            if (resolution.isStateMissing()) {
+                auctionRedisService.restoreState(auctionId);
+            } else {
+                walletService.getBalance(resolution.missingUserId());
+            }
+            resolution = executeScript(auctionId, userId, maxAmount);
+        }
+        return resolution;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ProxyResolution executeScript(Long auctionId, Long userId, BigDecimal maxAmount) {
+        List<String> keys = List.of(
+                RedisKeys.auctionState(auctionId),
+                RedisKeys.auctionProxyBids(auctionId),
+                RedisKeys.auctionProxyOrder(auctionId),
+                RedisKeys.bidJournal()
+        );
+        List<Object> raw = redisTemplate.execute(
+                RESOLVE_SCRIPT,
+                keys,
+                String.valueOf(auctionId),
+                LocalDateTime.now().toString(),
+                String.valueOf(System.currentTimeMillis()),
+                userId == null ? "" : String.valueOf(userId),
+                maxAmount == null ? "" : String.valueOf(maxAmount.longValue()),
+                UUID.randomUUID().toString()
+        );
+        if (raw == null || raw.isEmpty()) {
+            log.error("자동 입찰 스크립트 응답 없음 - auctionId: {}", auctionId);
+            throw new ApiException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+        return ProxyResolution.from(raw);
+    }
+
+    private ProxyResolution withAuctionLock(Long auctionId, Long userId, Supplier<ProxyResolution> action) {
+        if (BID_ENGINE_SCRIPT.equalsIgnoreCase(bidEngine)) {
+            return action.get();
+        }
+        RLock lock = redissonClient.getLock(RedisKeys.auctionLock(auctionId));
+        boolean locked = false;
+        try {
+            locked = lock.tryLock(3, TimeUnit.SECONDS);
+            if (!locked) {
+                throw new ApiException(ErrorCode.BID_LOCK_ACQUISITION);
+            }
+            // 충전/환불 등 다른 경매의 지갑 변경과 겹치지 않도록 일반 입찰과 같은 순서(경매 락 → 정렬된 유저 락)로 잠근다
+            return userLockExecutor.withUserLocks(participantIds(auctionId, userId), action);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(ErrorCode.BID_LOCK_ACQUISITION);
+        } finally {
+            if (locked) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 해소 스크립트가 지갑을 바꿀 수 있는 유저 (등록자 + 현재 1등 + 자동 입찰자)
+     * 경매 락 안에서 읽으므로 그 사이 새 자동 입찰이 끼어들지 않는다.
+     */
+    private List<Long> participantIds(Long auctionId, Long userId) {
+        List<Long> userIds = new ArrayList<>();
+        if (userId != null) {
+            userIds.add(userId);
+        }
+        Object currentBidder = redisTemplate.opsForHash().get(RedisKeys.auctionState(auctionId), AuctionStateFields.CURRENT_BIDDER);
+        if (currentBidder != null && !currentBidder.toString().isBlank()) {
+            userIds.add(Long.parseLong(currentBidder.toString()));
+        }
+        Set<String> proxyUserIds = redisTemplate.opsForZSet().range(RedisKeys.auctionProxyBids(auctionId), 0, -1);
+        if (proxyUserIds != null) {
+            proxyUserIds.forEach(proxyUserId -> userIds.add(Long.parseLong(proxyUserId)));
+        }
+        return userIds;
+    }
+
+    /**
+     * 해소 결과 후처리
+     * 여러 건이 한 번에 발생해도 시청자에게는 최종 상태 한 번만 브로드캐스트하고,
+     * 밀려난 입찰자에게는 마지막으로 밀려난 금액 기준으로 한 번씩 OUTBID 를 보낸다.
+     */
+    private void publish(Long auctionId, ProxyResolution resolution) {
+        if (!resolution.removedUserIds().isEmpty()) {
+            log.info("자동 입찰 종료 - auctionId: {}, userIds: {}", auctionId, resolution.removedUserIds());
+        }
+        if (resolution.bids().isEmpty()) {
+            return;
+        }
+        AppliedProxyBid last = resolution.bids().get(resolution.bids().size() - 1);
+
+        ExtensionResult extension = auctionExtensionService.extendIfImminent(auctionId, LocalDateTime.now());
+        auctionWriteBehindService.recordBid(auctionId, last.userId(), last.bidAmount(), last.bidCount(),
+                extension.extended() ? extension.endAt() : null);
+
+        BidSucceededPayload bidSucceededPayload = BidSucceededPayload
+                .builder()
+                .auctionId(auctionId)
+                .currentPrice(last.bidAmount().longValueExact())
+                .currentBidderId(last.userId())
+                .bidCount(last.bidCount())
+                .endAt(extension.endAt())
+                .build();
+        auctionMessageService.sendBidSucceeded(auctionId, bidSucceededPayload);
+        auctionChangeTracker.markChanged(auctionId);
+
+        Map<Long, BigDecimal> outbidPrices = new LinkedHashMap<>();
+        for (AppliedProxyBid bid : resolution.bids()) {
+            if (bid.previousBidderId() != -1L && !bid.previousBidderId().equals(last.userId())) {
+                outbidPrices.put(bid.previousBidderId(), bid.previousPrice());
+            }
+        }
+        if (outbidPrices.isEmpty()) {
+            return;
+        }
+        List<NotificationDraft> drafts = new ArrayList<>(outbidPrices.size());
+        outbidPrices.forEach((userId, myBidPrice) -> {
+            OutbidPayload outbidPayload = OutbidPayload
+                    .builder()
+                    .auctionId(auctionId)
+                    .myBidPrice(myBidPrice)
+                    .newCurrentPrice(last.bidAmount())
+                    .message(NotificationConstants.MSG_AUCTION_OUTBID)
+                    .build();
+            auctionMessageService.sendOutbid(userId, outbidPayload);
+            drafts.add(new NotificationDraft(
+                    userId,
+                    NotificationType.OUTBID,
+                    NotificationConstants.MSG_AUCTION_OUTBID,
+                    NotificationConstants.REF_TYPE_AUCTION,
+                    auctionId
+            ));
+        });
+        // 밀려난 입찰자 알림은 batch insert 1회로 저장
+        notificationService.createAll(drafts);
+    }
+
+    /**
+     * 자동 입찰로 발생한 입찰 한 건
+     */
+    public record AppliedProxyBid(
+            Long userId,
+            BigDecimal bidAmount,
+            Long previousBidderId,
+            BigDecimal previousPrice,
+            int bidCount
+    ) {
+    }
+
+    /**
+     * 스크립트 실행 결과
+     * - OK              : bids (발생 순서), removedUserIds (종료된 자동 입찰)
+     * - NOT_RUNNING     : 진행 중이 아닌 경매 (해소만 할 때)
+     * - STATE_MISSING   : 경매 상태 해시 없음 → restoreState 후 재시도
+     * - BALANCE_MISSING : missingUserId 지갑 캐시 없음 → getBalance 후 재시도
+     * - 그 외           : ErrorCode 이름 (등록 검증 실패)
+     */
+    public record ProxyResolution(
+            String code,
+            List<AppliedProxyBid> bids,
+            List<Long> removedUserIds,
+            Long missingUserId
+    ) {
+        public static final String OK = "OK";
+        public static final String STATE_MISSING = "STATE_MISSING";
+        public static final String BALANCE_MISSING = "BALANCE_MISSING";
+
+        @SuppressWarnings("unchecked")
+        static ProxyResolution from(List<Object> raw) {
+            String code = String.valueOf(raw.get(0));
+            if (OK.equals(code)) {
+                List<AppliedProxyBid> bids = new ArrayList<>();
+                for (Object rawBid : (List<Object>) raw.get(1)) {
+                    List<Object> bid = (List<Object>) rawBid;
+                    bids.add(new AppliedProxyBid(
+                            Long.parseLong(String.valueOf(bid.get(0))),
+                            new BigDecimal(String.valueOf(bid.get(1))),
+                            Long.parseLong(String.valueOf(bid.get(2))),
+                            new BigDecimal(String.valueOf(bid.get(3))),
+                            Integer.parseInt(String.valueOf(bid.get(4)))
+                    ));
+                }
+                List<Long> removed = new ArrayList<>();
+                for (Object userId : (List<Object>) raw.get(2)) {
+                    removed.add(Long.parseLong(String.valueOf(userId)));
+                }
+                return new ProxyResolution(code, bids, removed, null);
+            }
+            if (BALANCE_MISSING.equals(code)) {
+                return new ProxyResolution(code, List.of(), List.of(), Long.parseLong(String.valueOf(raw.get(1))));
+            }
+            return new ProxyResolution(code, List.of(), List.of(), null);
+        }
+
+        public boolean isSuccess() {
+            return OK.equals(code);
+        }
+
+        public boolean isStateMissing() {
+            return STATE_MISSING.equals(code);
+        }
+
+        public boolean isBalanceMissing() {
+            return BALANCE_MISSING.equals(code);
+        }
+
+        public ApiException toException() {
+            if (isStateMissing()) {
+                return new ApiException(ErrorCode.AUCTION_REDIS_STATE_MISSING);
+            }
+            if (isBalanceMissing()) {
+                return new ApiException(ErrorCode.CANNOT_FIND_WALLET);
+            }
+            try {
+                return new ApiException(ErrorCode.valueOf(code));
+            } catch (IllegalArgumentException e) {
+                return new ApiException(ErrorCode.INTERNAL_SERVER_ERROR);
+            }
+        }
+    }
+}
@@ -6,7 +6,6 @@ import noonchissaum.backend.domain.chat.repository.ChatRoomRepository;
 import noonchissaum.backend.global.exception.ApiException;
 import noonchissaum.backend.global.exception.ErrorCode;
 import org.springframework.stereotype.Service;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.transaction.annotation.Transactional;
 import noonchissaum.backend.domain.chat.dto.ws.ChatMessagePayload;
 import noonchissaum.backend.domain.chat.entity.ChatRoom;
@@ -17,6 +16,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import noonchissaum.backend.domain.chat.dto.res.ChatMessagePageRes;
 import noonchissaum.backend.domain.chat.dto.res.ChatMessageRes;
+import noonchissaum.backend.global.websocket.StompMessageRelay;
 import java.util.List;
 
 @Service
@@ -25,7 +25,7 @@ public class ChatMessageService {
 
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMessageRepository chatMessageRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final StompMessageRelay messageRelay;
     private final UserService userService;
 
     //채팅 메세지 전송
@@ -62,7 +62,7 @@ public class ChatMessageService {
         );
 
         // 브로드캐스트
-        messagingTemplate.convertAndSend("/topic/chat." + room.getId(), payload);
+        messageRelay.convertAndSend("/topic/chat." + room.getId(), payload);
 
         return payload;
     }
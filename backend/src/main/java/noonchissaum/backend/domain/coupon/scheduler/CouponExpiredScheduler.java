@@ -4,8 +4,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import noonchissaum.backend.domain.coupon.repository.CouponIssuedRepository;
 import noonchissaum.backend.domain.coupon.service.CouponIssueService;
+import noonchissaum.backend.global.cluster.SchedulerLeaderLease;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import java.time.Duration;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -13,12 +15,13 @@ import org.springframework.stereotype.Component;
 public class CouponExpiredScheduler {
     private final CouponIssueService couponIssueService;
     private final CouponIssuedRepository couponIssuedRepository;
+    private final SchedulerLeaderLease schedulerLeaderLease;
 
     /**
      * 만료시간이 지난 쿠폰을 만료 상태로 전환합니다.
      * */
     @Scheduled(cron = "0 1 0 * * *")
     public void deleteExpiredCoupons() {
-        couponIssueService.expireCoupons();
+        schedulerLeaderLease.runIfLeader("coupon-expire", Duration.ofMinutes(30), couponIssueService::expireCoupons);
     }
 }
@@ -0,0 +1,15 @@
+package noonchissaum.backend.domain.notification.dto;
+
+import noonchissaum.backend.global.service.MailTemplate;
+
+/**
+ * 발송을 위해 선점한 메일 대기열 행
+ */
+public record MailOutboxEntry(
+        Long id,
+        String recipient,
+        MailTemplate template,
+        String payload,
+        int attempts
+) {
+}
@@ -0,0 +1,16 @@
+package noonchissaum.backend.domain.notification.dto;
+
+import noonchissaum.backend.domain.notification.entity.MailOutboxStatus;
+import java.time.LocalDateTime;
+
+/**
+ * 발송 실패 행의 다음 상태 (PENDING 재시도 또는 FAILED 확정)
+ */
+public record MailOutboxRetry(
+        Long id,
+        int attempts,
+        MailOutboxStatus status,
+        LocalDateTime nextAttemptAt,
+        String lastError
+) {
+}
@@ -0,0 +1,12 @@
+package noonchissaum.backend.domain.notification.dto;
+
+import noonchissaum.backend.domain.notification.dto.res.NotificationRes;
+
+/**
+ * 대량 생성된 알림과 푸시 대상 사용자
+ */
+public record NotificationDelivery(
+        Long userId,
+        NotificationRes payload
+) {
+}
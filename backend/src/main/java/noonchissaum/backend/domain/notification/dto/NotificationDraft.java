@@ -0,0 +1,15 @@
+package noonchissaum.backend.domain.notification.dto;
+
+import noonchissaum.backend.domain.notification.entity.NotificationType;
+
+/**
+ * 대량 알림 생성 단위 (수신자 1명분)
+ */
+public record NotificationDraft(
+        Long userId,
+        NotificationType type,
+        String message,
+        String refType,
+        Long refId
+) {
+}
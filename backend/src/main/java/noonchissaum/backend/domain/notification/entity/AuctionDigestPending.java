@@ -0,0 +1,29 @@
+package noonchissaum.backend.domain.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * 구독자 다이제스트에 묶을 신규 노출 경매 (노출 트랜잭션 안에서 저장, AuctionDigestService 가 주기마다 소비)
+ * 적재/조회/삭제는 AuctionDigestPendingRepository(JDBC)로 처리한다.
+ */
+@Entity
+@Table(name = "auction_digest_pending")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AuctionDigestPending {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "auction_digest_pending_id")
+    private Long id;
+
+    @Column(name = "auction_id", nullable = false)
+    private Long auctionId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
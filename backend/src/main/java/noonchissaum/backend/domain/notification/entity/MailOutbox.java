@@ -0,0 +1,65 @@
+package noonchissaum.backend.domain.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import noonchissaum.backend.global.entity.BaseTimeEntity;
+import noonchissaum.backend.global.service.MailTemplate;
+import java.time.LocalDateTime;
+
+/**
+ * 메일 발송 대기열 (업무 트랜잭션 안에서 저장, MailOutboxService 가 배치로 발송)
+ * 적재/선점/상태 변경은 MailOutboxBulkRepository(JDBC)로 처리한다.
+ */
+@Entity
+@Table(
+        name = "mail_outbox",
+        indexes = {
+                @Index(name = "idx_mail_outbox_status_next", columnList = "status, next_attempt_at"),
+                @Index(name = "idx_mail_outbox_claim", columnList = "claim_token")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MailOutbox extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "mail_outbox_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private MailTemplate template;
+
+    // 템플릿 치환 값 (JSON object)
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private MailOutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 발송 중인 worker 의 선점 토큰 / 선점 만료 시각 (만료되면 다른 worker 가 다시 선점)
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+}
@@ -0,0 +1,5 @@
+package noonchissaum.backend.domain.notification.entity;
+
+public enum MailOutboxStatus {
+    PENDING, SENDING, SENT, FAILED
+}
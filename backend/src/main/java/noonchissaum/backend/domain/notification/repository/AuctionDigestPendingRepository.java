@@ -0,0 +1,51 @@
+package noonchissaum.backend.domain.notification.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * auction_digest_pending 적재 / 조회 / 삭제 (JDBC)
+ * 모두 호출한 트랜잭션에 참여하므로, 적재는 경매 노출과 함께, 삭제는 메일 outbox 적재와 함께 커밋된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuctionDigestPendingRepository {
+
+    private static final String INSERT_PENDING =
+            "INSERT INTO auction_digest_pending (auction_id, created_at) VALUES (?, ?)";
+
+    private static final String FIND_OLDEST =
+            "SELECT auction_digest_pending_id, auction_id FROM auction_digest_pending "
+                    + "ORDER BY auction_digest_pending_id LIMIT ? FOR UPDATE";
+
+    private static final String DELETE_PENDING =
+            "DELETE FROM auction_digest_pending WHERE auction_digest_pending_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insert(Long auctionId, LocalDateTime now) {
+        jdbcTemplate.update(INSERT_PENDING, auctionId, Timestamp.valueOf(now));
+    }
+
+    /** 오래된 순으로 최대 limit 건 잠금 조회 (소비 트랜잭션 안에서 호출) */
+    public List<PendingRow> findOldestForUpdate(int limit) {
+        return jdbcTemplate.query(FIND_OLDEST, (rs, rowNum) -> new PendingRow(
+                rs.getLong("auction_digest_pending_id"),
+                rs.getLong("auction_id")
+        ), limit);
+    }
+
+    public void deleteAll(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(DELETE_PENDING, ids, ids.size(), (ps, id) -> ps.setLong(1, id));
+    }
+
+    public record PendingRow(Long id, Long auctionId) {
+    }
+}
@@ -0,0 +1,136 @@
+package noonchissaum.backend.domain.notification.repository;
+
+import lombok.RequiredArgsConstructor;
+import noonchissaum.backend.domain.notification.dto.MailOutboxEntry;
+import noonchissaum.backend.domain.notification.dto.MailOutboxRetry;
+import noonchissaum.backend.global.service.MailTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * mail_outbox 대량 적재 / 선점 / 상태 변경 (JDBC)
+ * 선점은 UPDATE ... ORDER BY ... LIMIT 한 번으로 claim_token 을 찍어 여러 노드의 worker 가 같은 행을 보내지 않게 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MailOutboxBulkRepository {
+
+    private static final String INSERT_MAIL =
+            "INSERT INTO mail_outbox (recipient, template, payload, status, attempts, next_attempt_at, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, 'PENDING', 0, ?, ?, ?)";
+
+    private static final String CLAIM =
+            "UPDATE mail_outbox SET status = 'SENDING', claim_token = ?, locked_until = ?, updated_at = ? "
+                    + "WHERE (status = 'PENDING' AND next_attempt_at <= ?) OR (status = 'SENDING' AND locked_until < ?) "
+                    + "ORDER BY mail_outbox_id LIMIT ?";
+
+    private static final String FIND_CLAIMED =
+            "SELECT mail_outbox_id, recipient, template, payload, attempts FROM mail_outbox "
+                    + "WHERE claim_token = ? AND status = 'SENDING' ORDER BY mail_outbox_id";
+
+    private static final String MARK_SENT =
+            "UPDATE mail_outbox SET status = 'SENT', sent_at = ?, claim_token = NULL, locked_until = NULL, updated_at = ? "
+                    + "WHERE mail_outbox_id = ? AND claim_token = ?";
+
+    private static final String MARK_RETRY =
+            "UPDATE mail_outbox SET status = ?, attempts = ?, next_attempt_at = ?, last_error = ?, "
+                    + "claim_token = NULL, locked_until = NULL, updated_at = ? "
+                    + "WHERE mail_outbox_id = ? AND claim_token = ?";
+
+    private static final String DELETE_SENT =
+            "DELETE FROM mail_outbox WHERE status = 'SENT' AND sent_at < ? LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 수신자별 1행 적재 (호출한 트랜잭션에 참여) */
+    public int insertAll(List<String> recipients, MailTemplate template, String payload, LocalDateTime now) {
+        if (recipients.isEmpty()) {
+            return 0;
+        }
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(INSERT_MAIL, recipients, recipients.size(), (ps, recipient) -> {
+            ps.setString(1, recipient);
+            ps.setString(2, template.name());
+            ps.setString(3, payload);
+            ps.setTimestamp(4, timestamp);
+            ps.setTimestamp(5, timestamp);
+            ps.setTimestamp(6, timestamp);
+        });
+        return recipients.size();
+    }
+
+    /** 수신자별 치환 값이 다른 메일 적재 (호출한 트랜잭션에 참여) */
+    public int insertEach(MailTemplate template, Map<String, String> payloadByRecipient, LocalDateTime now) {
+        if (payloadByRecipient.isEmpty()) {
+            return 0;
+        }
+        Timestamp timestamp = Timestamp.valueOf(now);
+        List<Map.Entry<String, String>> rows = List.copyOf(payloadByRecipient.entrySet());
+        jdbcTemplate.batchUpdate(INSERT_MAIL, rows, rows.size(), (ps, row) -> {
+            ps.setString(1, row.getKey());
+            ps.setString(2, template.name());
+            ps.setString(3, row.getValue());
+            ps.setTimestamp(4, timestamp);
+            ps.setTimestamp(5, timestamp);
+            ps.setTimestamp(6, timestamp);
+        });
+        return rows.size();
+    }
+
+    /**
+     * 발송 가능한 행(PENDING 만기 도래 + 선점 만료된 SENDING)을 최대 limit 건 선점
+     * @return 선점한 행 수
+     */
+    public int claim(String claimToken, int limit, LocalDateTime now, LocalDateTime lockedUntil) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        return jdbcTemplate.update(CLAIM, claimToken, Timestamp.valueOf(lockedUntil), timestamp, timestamp, timestamp, limit);
+    }
+
+    public List<MailOutboxEntry> findClaimed(String claimToken) {
+        return jdbcTemplate.query(FIND_CLAIMED, (rs, rowNum) -> new MailOutboxEntry(
+                rs.getLong("mail_outbox_id"),
+                rs.getString("recipient"),
+                MailTemplate.valueOf(rs.getString("template")),
+                rs.getString("payload"),
+                rs.getInt("attempts")
+        ), claimToken);
+    }
+
+    public void markSent(List<Long> ids, String claimToken, LocalDateTime now) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(MARK_SENT, ids, ids.size(), (ps, id) -> {
+            ps.setTimestamp(1, timestamp);
+            ps.setTimestamp(2, timestamp);
+            ps.setLong(3, id);
+            ps.setString(4, claimToken);
+        });
+    }
+
+    public void markRetry(List<MailOutboxRetry> retries, String claimToken, LocalDateTime now) {
+        if (retries.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(MARK_RETRY, retries, retries.size(), (ps, retry) -> {
+            ps.setString(1, retry.status().name());
+            ps.setInt(2, retry.attempts());
+            ps.setTimestamp(3, Timestamp.valueOf(retry.nextAttemptAt()));
+            ps.setString(4, retry.lastError());
+            ps.setTimestamp(5, timestamp);
+            ps.setLong(6, retry.id());
+            ps.setString(7, claimToken);
+        });
+    }
+
+    /** 보관 기간이 지난 SENT 행 삭제 (한 번에 최대 limit 건) */
+    public int deleteSentBefore(LocalDateTime threshold, int limit) {
+        return jdbcTemplate.update(DELETE_SENT, Timestamp.valueOf(threshold), limit);
+    }
+}
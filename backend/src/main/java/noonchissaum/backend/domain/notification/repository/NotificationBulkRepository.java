@@ -0,0 +1,72 @@
+package noonchissaum.backend.domain.notification.repository;
+
+import lombok.RequiredArgsConstructor;
+import noonchissaum.backend.domain.notification.dto.NotificationDraft;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * notifications 대량 insert (JDBC batch 1회, 생성된 id 를 입력 순서대로 반환)
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationBulkRepository {
+
+    private static final String INSERT_NOTIFICATION =
+            "INSERT INTO notifications (user_id, type, message, ref_type, ref_id, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<Long> insertAll(List<NotificationDraft> drafts, LocalDateTime now) {
+        if (drafts.isEmpty()) {
+            return List.of();
+        }
+        Timestamp timestamp = Timestamp.valueOf(now);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_NOTIFICATION, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        NotificationDraft draft = drafts.get(i);
+                        ps.setLong(1, draft.userId());
+                        ps.setString(2, draft.type().name());
+                        ps.setString(3, draft.message());
+                        ps.setString(4, draft.refType());
+                        if (draft.refId() == null) {
+                            ps.setNull(5, Types.BIGINT);
+                        } else {
+                            ps.setLong(5, draft.refId());
+                        }
+                        ps.setTimestamp(6, timestamp);
+                        ps.setTimestamp(7, timestamp);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return drafts.size();
+                    }
+                },
+                keyHolder);
+
+        List<Long> ids = new ArrayList<>(drafts.size());
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            Object id = keys.values().stream().findFirst().orElse(null);
+            ids.add(id == null ? null : ((Number) id).longValue());
+        }
+        return ids;
+    }
+}
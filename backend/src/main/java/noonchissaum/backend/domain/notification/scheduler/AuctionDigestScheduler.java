@@ -0,0 +1,24 @@
+package noonchissaum.backend.domain.notification.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import noonchissaum.backend.domain.notification.service.AuctionDigestService;
+import noonchissaum.backend.global.cluster.SchedulerLeaderLease;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+
+/**
+ * 관심 카테고리 신규 경매 다이제스트 발송 주기 (리더 노드만 대기 목록을 소비)
+ */
+@Component
+@RequiredArgsConstructor
+public class AuctionDigestScheduler {
+
+    private final AuctionDigestService auctionDigestService;
+    private final SchedulerLeaderLease schedulerLeaderLease;
+
+    @Scheduled(fixedDelayString = "${mail.digest.interval-ms:300000}")
+    public void flushDigests() {
+        schedulerLeaderLease.runIfLeader("auction-digest", Duration.ofMinutes(5), auctionDigestService::flush);
+    }
+}
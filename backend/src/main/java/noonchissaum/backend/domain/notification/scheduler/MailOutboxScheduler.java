@@ -0,0 +1,40 @@
+package noonchissaum.backend.domain.notification.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import noonchissaum.backend.domain.notification.service.MailOutboxService;
+import noonchissaum.backend.global.cluster.SchedulerLeaderLease;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+
+/**
+ * 메일 대기열 발송 / 정리
+ * 발송은 행 단위 선점이라 모든 노드에서 돌고, 정리는 리더 노드만 수행한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MailOutboxScheduler {
+
+    private final MailOutboxService mailOutboxService;
+    private final SchedulerLeaderLease schedulerLeaderLease;
+
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval-ms:1000}")
+    public void dispatch() {
+        int sent = mailOutboxService.dispatch();
+        if (sent > 0) {
+            log.info("[MailOutbox] sent={}", sent);
+        }
+    }
+
+    @Scheduled(cron = "0 30 4 * * *")
+    public void purgeSent() {
+        schedulerLeaderLease.runIfLeader("mail-outbox-purge", Duration.ofMinutes(30), () -> {
+            int deleted = mailOutboxService.purgeSent();
+            if (deleted > 0) {
+                log.info("[MailOutbox] purged={}", deleted);
+            }
+        });
+    }
+}
@@ -0,0 +1,136 @@
+package noonchissaum.backend.domain.notification.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import noonchissaum.backend.domain.auction.entity.Auction;
+import noonchissaum.backend.domain.auction.entity.AuctionStatus;
+import noonchissaum.backend.domain.auction.repository.AuctionRepository;
+import noonchissaum.backend.domain.notification.repository.AuctionDigestPendingRepository;
+import noonchissaum.backend.domain.notification.repository.AuctionDigestPendingRepository.PendingRow;
+import noonchissaum.backend.domain.user.service.CategorySubscriberIndex;
+import noonchissaum.backend.global.service.MailService;
+import noonchissaum.backend.global.service.MailTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 관심 카테고리 신규 경매 다이제스트
+ * 노출된 경매 ID 만 노출 트랜잭션 안에서 DB 대기 목록(auction_digest_pending)에 쌓아 두고,
+ * 발송 주기마다 구독자별로 묶어 메일 1통씩 outbox 에 적재한다.
+ * (경매 1건이면 단건 알림 템플릿, 여러 건이면 목록 템플릿)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AuctionDigestService {
+
+    private final AuctionDigestPendingRepository auctionDigestPendingRepository;
+    private final AuctionRepository auctionRepository;
+    private final CategorySubscriberIndex categorySubscriberIndex;
+    private final MailOutboxService mailOutboxService;
+    private final MailService mailService;
+    private final TransactionTemplate transactionTemplate;
+
+    // 한 번의 발송 주기에서 묶을 최대 경매 수 (나머지는 다음 주기)
+    @Value("${mail.digest.max-auctions-per-flush:2000}")
+    private int maxAuctionsPerFlush;
+
+    // 다이제스트 메일 1통에 나열할 최대 경매 수
+    @Value("${mail.digest.max-items-per-mail:20}")
+    private int maxItemsPerMail;
+
+    /** 노출된 경매를 다이제스트 대기 목록에 추가 (호출한 트랜잭션과 함께 커밋/롤백) */
+    public void record(Long auctionId) {
+        auctionDigestPendingRepository.insert(auctionId, LocalDateTime.now());
+    }
+
+    /**
+     * 대기 중인 경매를 구독자별 메일로 묶어 outbox 에 적재
+     * 대기 행 삭제와 메일 적재가 한 트랜잭션이라, 실패하면 둘 다 롤백되어 다음 주기에 다시 묶는다.
+     * @return 적재한 메일 수
+     */
+    public int flush() {
+        Integer enqueued = transactionTemplate.execute(status -> {
+            List<PendingRow> pending = auctionDigestPendingRepository.findOldestForUpdate(maxAuctionsPerFlush);
+            if (pending.isEmpty()) {
+                return 0;
+            }
+            List<Long> auctionIds = pending.stream().map(PendingRow::auctionId).distinct().toList();
+            int mails = enqueueDigests(auctionIds);
+            auctionDigestPendingRepository.deleteAll(pending.stream().map(PendingRow::id).toList());
+            return mails;
+        });
+        return enqueued == null ? 0 : enqueued;
+    }
+
+    private int enqueueDigests(List<Long> auctionIds) {
+        List<Auction> auctions = auctionRepository.findByIdIn(auctionIds).stream()
+                .filter(auction -> auction.getStatus() == AuctionStatus.RUNNING || auction.getStatus() == AuctionStatus.DEADLINE)
+                .sorted(Comparator.comparing(Auction::getId))
+                .toList();
+        if (auctions.isEmpty()) {
+            return 0;
+        }
+        Map<Long, Set<String>> subscribers = categorySubscriberIndex.getActiveEmails(
+                auctions.stream().map(auction -> auction.getItem().getCategory().getId()).toList());
+
+        Map<String, List<Map<String, String>>> itemsByRecipient = new LinkedHashMap<>();
+        for (Auction auction : auctions) {
+            Set<String> emails = subscribers.getOrDefault(auction.getItem().getCategory().getId(), Set.of());
+            if (emails.isEmpty()) {
+                continue;
+            }
+            Map<String, String> item = auctionParams(auction);
+            for (String email : emails) {
+                itemsByRecipient.computeIfAbsent(email, k -> new ArrayList<>()).add(item);
+            }
+        }
+
+        Map<String, Map<String, String>> singles = new LinkedHashMap<>();
+        Map<String, Map<String, String>> digests = new LinkedHashMap<>();
+        // 같은 경매 항목은 수신자가 달라도 한 번만 렌더링
+        Map<Map<String, String>, String> renderedItems = new IdentityHashMap<>();
+        itemsByRecipient.forEach((email, items) -> {
+            if (items.size() == 1) {
+                singles.put(email, items.get(0));
+            } else {
+                digests.put(email, digestParams(items, renderedItems));
+            }
+        });
+
+        int enqueued = mailOutboxService.enqueueEach(MailTemplate.AUCTION_READY_NOTICE, singles)
+                + mailOutboxService.enqueueEach(MailTemplate.AUCTION_DIGEST, digests);
+        log.info("[AuctionDigest] auctions={} mails={} (single={}, digest={})",
+                auctions.size(), enqueued, singles.size(), digests.size());
+        return enqueued;
+    }
+
+    private Map<String, String> auctionParams(Auction auction) {
+        return Map.of(
+                "categoryName", auction.getItem().getCategory().getName(),
+                "itemTitle", auction.getItem().getTitle(),
+                "price", auction.getCurrentPrice().toPlainString(),
+                "auctionLink", mailService.auctionLink(auction.getId())
+        );
+    }
+
+    private Map<String, String> digestParams(List<Map<String, String>> items, Map<Map<String, String>, String> renderedItems) {
+        StringBuilder html = new StringBuilder();
+        for (Map<String, String> item : items.subList(0, Math.min(items.size(), maxItemsPerMail))) {
+            html.append(renderedItems.computeIfAbsent(item, MailTemplate.AUCTION_DIGEST_ITEM::render));
+        }
+        return Map.of(
+                "auctionCount", String.valueOf(items.size()),
+                "auctionItems", html.toString()
+        );
+    }
+}
@@ -1,10 +1,13 @@
 package noonchissaum.backend.domain.notification.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import noonchissaum.backend.domain.auction.repository.AuctionRepository;
 import noonchissaum.backend.domain.auction.repository.BidRepository;
 import noonchissaum.backend.domain.auction.service.AuctionMessageService;
 import noonchissaum.backend.domain.notification.constants.NotificationConstants;
+import noonchissaum.backend.domain.notification.dto.NotificationDelivery;
+import noonchissaum.backend.domain.notification.dto.NotificationDraft;
 import noonchissaum.backend.domain.notification.dto.res.NotificationRes;
 import noonchissaum.backend.domain.notification.entity.Notification;
 import noonchissaum.backend.domain.notification.entity.NotificationType;
@@ -12,11 +15,17 @@ import noonchissaum.backend.global.dto.SocketMessageType;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 @RequiredArgsConstructor
 @Service
+@Slf4j
 public class AuctionNotificationService {
 
     private final AuctionRepository auctionRepository;
@@ -38,6 +47,35 @@ public class AuctionNotificationService {
         auctionMessageService.sendToUserQueue(userId, SocketMessageType.NOTIFICATION, response);
     }
 
+    /**
+     * 대량 알림 생성 및 전송 (1:N)
+     * 저장은 batch insert 1회, WS 푸시는 커밋 이후 일괄 1회
+     */
+    @Transactional
+    public void sendNotifications(List<NotificationDraft> drafts) {
+        List<NotificationDelivery> created = notificationService.createAll(drafts);
+        if (created.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Long, NotificationRes>> payloads = new ArrayList<>(created.size());
+        for (NotificationDelivery delivery : created) {
+            payloads.add(Map.entry(delivery.userId(), delivery.payload()));
+        }
+        runAfterCommit(() -> auctionMessageService.sendToUserQueues(SocketMessageType.NOTIFICATION, payloads));
+    }
+
+    /**
+     * 같은 알림을 여러 사용자에게 전송
+     */
+    @Transactional
+    public void sendNotifications(Collection<Long> userIds, NotificationType type, String message, String refType, Long refId) {
+        List<NotificationDraft> drafts = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            drafts.add(new NotificationDraft(userId, type, message, refType, refId));
+        }
+        sendNotifications(drafts);
+    }
+
     /**
      * 마감 임박 알림 (1:N)
      * 참여자 전원에게 알림 저장 후 WS 푸시
@@ -50,28 +88,35 @@ public class AuctionNotificationService {
         Boolean first = redisTemplate.opsForValue().setIfAbsent(dedupKey, "1", Duration.ofMinutes(5));
         if (Boolean.FALSE.equals(first)) return;
 
-        // 1. 판매자에게 알림
-        auctionRepository.findById(auctionId).ifPresent(auction -> {
-            sendNotification(
-                    auction.getSeller().getId(),
-                    NotificationType.IMMINENT,
-                    NotificationConstants.MSG_AUCTION_IMMINENT,
-                    NotificationConstants.REF_TYPE_AUCTION,
-                    auctionId
-            );
-        });
+        // 판매자 + 참여자 전원에게 한 번에 알림
+        List<Long> recipientIds = new ArrayList<>();
+        auctionRepository.findById(auctionId).ifPresent(auction -> recipientIds.add(auction.getSeller().getId()));
+        recipientIds.addAll(bidRepository.findDistinctBidderIdsByAuctionId(auctionId));
+
+        sendNotifications(
+                recipientIds,
+                NotificationType.IMMINENT,
+                NotificationConstants.MSG_AUCTION_IMMINENT,
+                NotificationConstants.REF_TYPE_AUCTION,
+                auctionId
+        );
+    }
 
-        // 2. 참여자 전원에게 알림
-        List<Long> participantIds = bidRepository.findDistinctBidderIdsByAuctionId(auctionId);
-        for (Long userId : participantIds) {
-            sendNotification(
-                    userId,
-                    NotificationType.IMMINENT,
-                    NotificationConstants.MSG_AUCTION_IMMINENT,
-                    NotificationConstants.REF_TYPE_AUCTION,
-                    auctionId
-            );
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
         }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    action.run();
+                } catch (Exception e) {
+                    log.error("[Notification] 대량 알림 푸시 실패", e);
+                }
+            }
+        });
     }
 }
 
@@ -0,0 +1,318 @@
+package noonchissaum.backend.domain.notification.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import noonchissaum.backend.domain.notification.dto.MailOutboxEntry;
+import noonchissaum.backend.domain.notification.dto.MailOutboxRetry;
+import noonchissaum.backend.domain.notification.entity.MailOutboxStatus;
+import noonchissaum.backend.domain.notification.repository.MailOutboxBulkRepository;
+import noonchissaum.backend.global.RedisKeys;
+import noonchissaum.backend.global.service.MailService;
+import noonchissaum.backend.global.service.MailService.OutboundMail;
+import noonchissaum.backend.global.service.MailTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * 메일 발송 대기열 (transactional outbox)
+ * 업무 트랜잭션은 mail_outbox 에 행만 적재하고, 발송은 worker 가 배치 단위로 선점해 SMTP 연결 하나로 보낸다.
+ * 발송량은 Redis 초 단위 카운터로 전 노드 합산 rate-per-second 를 넘지 않게 제한하고,
+ * 실패한 메일은 지수 backoff 로 재시도하다 max-attempts 를 넘기면 FAILED 로 남긴다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MailOutboxService {
+
+    private static final TypeReference<Map<String, String>> PAYLOAD_TYPE = new TypeReference<>() {
+    };
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final MailOutboxBulkRepository mailOutboxBulkRepository;
+    private final MailService mailService;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private ExecutorService workers;
+    private Counter sent;
+    private Counter retried;
+    private Counter dead;
+    private Timer batchDuration;
+
+    // 한 번에 선점하는 메일 수 (SMTP 연결 1회로 보내는 최대 건수)
+    @Value("${mail.outbox.batch-size:20}")
+    private int batchSize;
+
+    @Value("${mail.outbox.workers:2}")
+    private int workerCount;
+
+    // 한 번 실행에서 worker 하나가 처리할 최대 배치 수
+    @Value("${mail.outbox.max-batches-per-run:10}")
+    private int maxBatchesPerRun;
+
+    // SMTP 제공자 발송 한도 (전 노드 합산, 초당 건수)
+    @Value("${mail.outbox.rate-per-second:10}")
+    private int ratePerSecond;
+
+    @Value("${mail.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${mail.outbox.backoff-base-ms:30000}")
+    private long backoffBaseMs;
+
+    @Value("${mail.outbox.backoff-max-ms:3600000}")
+    private long backoffMaxMs;
+
+    // 선점 후 이 시간 안에 결과를 남기지 못하면(노드 종료 등) 다른 worker 가 다시 선점
+    @Value("${mail.outbox.lock-ms:120000}")
+    private long lockMs;
+
+    // SENT 행 보관 기간
+    @Value("${mail.outbox.retention-days:7}")
+    private int retentionDays;
+
+    @PostConstruct
+    public void init() {
+        workers = Executors.newFixedThreadPool(workerCount,
+                Thread.ofPlatform().name("mail-outbox-", 0).daemon().factory());
+        sent = Counter.builder("mail.outbox.sent")
+                .description("발송 완료된 메일 수")
+                .register(meterRegistry);
+        retried = Counter.builder("mail.outbox.retried")
+                .description("발송 실패 후 재시도 예약된 메일 수")
+                .register(meterRegistry);
+        dead = Counter.builder("mail.outbox.dead")
+                .description("최대 재시도 횟수를 넘겨 FAILED 처리된 메일 수")
+                .register(meterRegistry);
+        batchDuration = Timer.builder("mail.outbox.batch.duration")
+                .description("선점한 메일 배치 하나를 발송하는 데 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    /**
+     * 메일 적재 (호출한 트랜잭션과 함께 커밋/롤백)
+     * @return 적재한 메일 수
+     */
+    public int enqueueAll(List<String> recipients, MailTemplate template, Map<String, String> params) {
+        if (recipients.isEmpty()) {
+            return 0;
+        }
+        return mailOutboxBulkRepository.insertAll(recipients, template, toPayload(params), LocalDateTime.now());
+    }
+
+    /**
+     * 수신자마다 치환 값이 다른 메일 적재 (호출한 트랜잭션과 함께 커밋/롤백)
+     * @return 적재한 메일 수
+     */
+    public int enqueueEach(MailTemplate template, Map<String, Map<String, String>> paramsByRecipient) {
+        if (paramsByRecipient.isEmpty()) {
+            return 0;
+        }
+        Map<String, String> payloadByRecipient = new LinkedHashMap<>();
+        paramsByRecipient.forEach((recipient, params) -> payloadByRecipient.put(recipient, toPayload(params)));
+        return mailOutboxBulkRepository.insertEach(template, payloadByRecipient, LocalDateTime.now());
+    }
+
+    /**
+     * 대기 중인 메일을 worker 수만큼 병렬로 발송
+     * @return 발송 완료된 메일 수
+     */
+    public int dispatch() {
+        List<Callable<Integer>> tasks = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            tasks.add(this::drain);
+        }
+        int total = 0;
+        try {
+            for (Future<Integer> future : workers.invokeAll(tasks)) {
+                total += future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.warn("[MailOutbox] 발송 worker 실패 reason={}", e.getCause().getMessage(), e.getCause());
+        }
+        return total;
+    }
+
+    private int drain() {
+        int total = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int count = sendBatch();
+            if (count < 0) {
+                break;
+            }
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * 배치 하나 선점 후 발송
+     * @return 발송 완료 수 (선점할 메일이 없으면 -1)
+     */
+    public int sendBatch() {
+        String claimToken = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+        int claimed = mailOutboxBulkRepository.claim(claimToken, batchSize, now, now.plus(Duration.ofMillis(lockMs)));
+        if (claimed == 0) {
+            return -1;
+        }
+        List<MailOutboxEntry> entries = mailOutboxBulkRepository.findClaimed(claimToken);
+        long startedAt = System.nanoTime();
+
+        Map<Long, String> failures = new HashMap<>();
+        List<OutboundMail> mails = render(entries, failures);
+        int offset = 0;
+        while (offset < mails.size()) {
+            int permits = acquirePermits(mails.size() - offset);
+            if (permits == 0) {
+                break;
+            }
+            failures.putAll(mailService.sendBatch(mails.subList(offset, offset + permits)));
+            offset += permits;
+        }
+        // 인터럽트 등으로 보내지 못한 나머지는 시도 횟수 증가 없이 곧바로 재선점 가능하게 돌려놓음
+        Set<Long> unsentIds = mails.subList(offset, mails.size()).stream()
+                .map(OutboundMail::id)
+                .collect(Collectors.toSet());
+
+        List<Long> sentIds = new ArrayList<>(entries.size());
+        List<MailOutboxRetry> retries = new ArrayList<>();
+        LocalDateTime finishedAt = LocalDateTime.now();
+        for (MailOutboxEntry entry : entries) {
+            if (unsentIds.contains(entry.id())) {
+                retries.add(new MailOutboxRetry(entry.id(), entry.attempts(), MailOutboxStatus.PENDING, finishedAt, null));
+            } else if (failures.containsKey(entry.id())) {
+                retries.add(retry(entry, failures.get(entry.id()), finishedAt));
+            } else {
+                sentIds.add(entry.id());
+            }
+        }
+        mailOutboxBulkRepository.markSent(sentIds, claimToken, finishedAt);
+        mailOutboxBulkRepository.markRetry(retries, claimToken, finishedAt);
+
+        sent.increment(sentIds.size());
+        batchDuration.record(Duration.ofNanos(System.nanoTime() - startedAt));
+        if (!failures.isEmpty()) {
+            log.warn("[MailOutbox] 발송 실패 count={} sample={}", failures.size(), failures.values().iterator().next());
+        }
+        return sentIds.size();
+    }
+
+    /**
+     * 보관 기간이 지난 SENT 행 정리 (FAILED 는 확인용으로 남김)
+     * @return 삭제한 행 수
+     */
+    public int purgeSent() {
+        LocalDateTime threshold = LocalDateTime.now().minusDays(retentionDays);
+        int total = 0;
+        int deleted;
+        do {
+            deleted = mailOutboxBulkRepository.deleteSentBefore(threshold, 1000);
+            total += deleted;
+        } while (deleted == 1000);
+        return total;
+    }
+
+    /** 같은 템플릿/치환 값(한 경매의 구독자 알림 등)은 본문을 한 번만 렌더링 */
+    private List<OutboundMail> render(List<MailOutboxEntry> entries, Map<Long, String> failures) {
+        Map<String, String> rendered = new HashMap<>();
+        List<OutboundMail> mails = new ArrayList<>(entries.size());
+        for (MailOutboxEntry entry : entries) {
+            MailTemplate template = entry.template();
+            String html = rendered.computeIfAbsent(template.name() + '\n' + entry.payload(), key -> {
+                try {
+                    return template.render(objectMapper.readValue(entry.payload(), PAYLOAD_TYPE));
+                } catch (JsonProcessingException e) {
+                    return null;
+                }
+            });
+            if (html == null) {
+                failures.put(entry.id(), "invalid payload");
+                continue;
+            }
+            mails.add(new OutboundMail(entry.id(), entry.recipient(), template.subject(), html));
+        }
+        return mails;
+    }
+
+    private MailOutboxRetry retry(MailOutboxEntry entry, String error, LocalDateTime now) {
+        int attempts = entry.attempts() + 1;
+        String lastError = error == null ? null : error.substring(0, Math.min(error.length(), MAX_ERROR_LENGTH));
+        if (attempts >= maxAttempts) {
+            dead.increment();
+            return new MailOutboxRetry(entry.id(), attempts, MailOutboxStatus.FAILED, now, lastError);
+        }
+        retried.increment();
+        long delayMs = Math.min(backoffMaxMs, backoffBaseMs << Math.min(attempts - 1, 20));
+        delayMs += ThreadLocalRandom.current().nextLong(delayMs / 5 + 1);
+        return new MailOutboxRetry(entry.id(), attempts, MailOutboxStatus.PENDING,
+                now.plus(Duration.ofMillis(delayMs)), lastError);
+    }
+
+    /**
+     * 현재 1초 window 에서 최대 requested 건의 발송 허용량 확보 (window 가 가득 찼으면 다음 window 까지 대기)
+     * @return 확보한 건수 (인터럽트되면 0)
+     */
+    private int acquirePermits(int requested) {
+        int wanted = Math.min(requested, ratePerSecond);
+        while (true) {
+            long nowMs = System.currentTimeMillis();
+            String key = RedisKeys.mailRateWindow(nowMs / 1000);
+            Long used = redisTemplate.opsForValue().increment(key, wanted);
+            if (used != null && used == wanted) {
+                redisTemplate.expire(key, Duration.ofSeconds(2));
+            }
+            long granted = used == null ? wanted : Math.min(wanted, ratePerSecond - (used - wanted));
+            if (granted > 0) {
+                return (int) granted;
+            }
+            try {
+                Thread.sleep(1000 - nowMs % 1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return 0;
+            }
+        }
+    }
+
+    private String toPayload(Map<String, String> params) {
+        try {
+            return objectMapper.writeValueAsString(params);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("메일 치환 값 직렬화 실패", e);
+        }
+    }
+}
@@ -1,28 +1,39 @@
 package noonchissaum.backend.domain.notification.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import noonchissaum.backend.domain.notification.dto.NotificationDelivery;
+import noonchissaum.backend.domain.notification.dto.NotificationDraft;
 import noonchissaum.backend.domain.notification.dto.res.NotificationRes;
 import noonchissaum.backend.domain.notification.entity.Notification;
 import noonchissaum.backend.domain.notification.entity.NotificationType;
+import noonchissaum.backend.domain.notification.repository.NotificationBulkRepository;
 import noonchissaum.backend.domain.notification.repository.NotificationRepository;
 import noonchissaum.backend.domain.user.entity.User;
+import noonchissaum.backend.domain.user.repository.UserRepository;
 import noonchissaum.backend.domain.user.service.UserService;
 import noonchissaum.backend.global.exception.ApiException;
 import noonchissaum.backend.global.exception.ErrorCode;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import noonchissaum.backend.global.websocket.StompMessageRelay;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
+@Slf4j
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
     private final UserService userService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final StompMessageRelay messageRelay;
+    private final UserRepository userRepository;
+    private final NotificationBulkRepository notificationBulkRepository;
 
     /**
      * 알림 생성
@@ -41,6 +52,45 @@ public class NotificationService {
         return notificationRepository.save(notification);
     }
 
+    /**
+     * 대량 알림 생성 (1:N)
+     * 수신자 존재 여부는 ID 조회 1회로 확인하고, 알림 row 는 JDBC batch insert 1회로 저장한다.
+     * 존재하지 않는 수신자는 건너뛴다.
+     */
+    @Transactional
+    public List<NotificationDelivery> createAll(List<NotificationDraft> drafts) {
+        if (drafts.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> userIds = drafts.stream().map(NotificationDraft::userId).collect(Collectors.toSet());
+        Set<Long> existingIds = new HashSet<>(userRepository.findExistingIds(userIds));
+        List<NotificationDraft> targets = new ArrayList<>(drafts.size());
+        for (NotificationDraft draft : drafts) {
+            if (existingIds.contains(draft.userId())) {
+                targets.add(draft);
+            } else {
+                log.warn("[Notification] 존재하지 않는 수신자 건너뜀 - userId: {}, type: {}", draft.userId(), draft.type());
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = notificationBulkRepository.insertAll(targets, now);
+        List<NotificationDelivery> created = new ArrayList<>(targets.size());
+        for (int i = 0; i < targets.size(); i++) {
+            NotificationDraft draft = targets.get(i);
+            NotificationRes payload = NotificationRes.builder()
+                    .id(i < ids.size() ? ids.get(i) : null)
+                    .type(draft.type())
+                    .message(draft.message())
+                    .refType(draft.refType())
+                    .refId(draft.refId())
+                    .createdAt(now)
+                    .build();
+            created.add(new NotificationDelivery(draft.userId(), payload));
+        }
+        return created;
+    }
+
     /**
      * 알림 생성 + WS 푸시
      */
@@ -49,7 +99,7 @@ public class NotificationService {
         Notification saved = create(userId, type, message, refType, refId);
         NotificationRes payload = NotificationRes.from(saved);
 
-        messagingTemplate.convertAndSendToUser(
+        messageRelay.convertAndSendToUser(
                 String.valueOf(userId),
                 "/queue/notifications",
                 payload
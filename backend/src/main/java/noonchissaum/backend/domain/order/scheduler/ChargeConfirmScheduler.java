@@ -6,10 +6,12 @@ import noonchissaum.backend.domain.order.entity.CheckStatus;
 import noonchissaum.backend.domain.order.repository.ChargeCheckRepository;
 import noonchissaum.backend.domain.order.service.ChargeRecordService;
 import noonchissaum.backend.domain.task.service.TaskService;
+import noonchissaum.backend.global.cluster.SchedulerLeaderLease;
 import noonchissaum.backend.global.util.UserLockExecutor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -22,11 +24,17 @@ public class ChargeConfirmScheduler {
     private final ChargeRecordService chargeRecordService;
     private final TaskService taskService;
     private final UserLockExecutor userLockExecutor;
+    private final SchedulerLeaderLease schedulerLeaderLease;
 
     private static final int BATCH_SIZE = 100;
 
     @Scheduled(cron = "10 0 0 * * *")
     public void autoConfirmExpiredCharges() {
+        // 같은 시각에 모든 노드에서 깨어나므로 lease 를 잡은 노드만 처리
+        schedulerLeaderLease.runIfLeader("charge-auto-confirm", Duration.ofMinutes(30), this::confirmExpiredCharges);
+    }
+
+    private void confirmExpiredCharges() {
         LocalDateTime threshold = LocalDateTime.now().minusDays(7);
 
         List<Long> expiredIds = chargeCheckRepository.findExpiredUncheckedIds(
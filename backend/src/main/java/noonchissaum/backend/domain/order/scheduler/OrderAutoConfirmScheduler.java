@@ -3,22 +3,27 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import noonchissaum.backend.domain.order.service.OrderService;
+import noonchissaum.backend.global.cluster.SchedulerLeaderLease;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.scheduling.annotation.Scheduled;
+import java.time.Duration;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class OrderAutoConfirmScheduler {
     private final OrderService orderService;
+    private final SchedulerLeaderLease schedulerLeaderLease;
 
     @Transactional
     @Scheduled(cron = "0 10 0 * * *") // 매일 00:10
     public void run() {
-        int updated = orderService.autoConfirmDeliveredOrders();
-        if (updated > 0) {
-            log.info("[AutoConfirm] updated={}", updated);
-        }
+        schedulerLeaderLease.runIfLeader("order-auto-confirm", Duration.ofMinutes(30), () -> {
+            int updated = orderService.autoConfirmDeliveredOrders();
+            if (updated > 0) {
+                log.info("[AutoConfirm] updated={}", updated);
+            }
+        });
     }
 }
@@ -6,10 +6,12 @@ import noonchissaum.backend.domain.order.entity.Shipment;
 import noonchissaum.backend.domain.order.repository.ShipmentRepository;
 import noonchissaum.backend.domain.order.client.SweetTrackerClient;
 import noonchissaum.backend.domain.order.dto.shipment.res.SweetTrackerTrackingInfoRes;
+import noonchissaum.backend.global.cluster.SchedulerLeaderLease;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.data.domain.PageRequest;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -20,10 +22,16 @@ public class ShipmentStatusSyncScheduler {
 
     private final ShipmentRepository shipmentRepository;
     private final SweetTrackerClient sweetTrackerClient;
+    private final SchedulerLeaderLease schedulerLeaderLease;
 
     @Transactional
     @Scheduled(fixedDelay = 10 * 60 * 1000L) // 10분마다
     public void syncDeliveredStatus() {
+        // 외부 조회 요금/트래픽이 노드 수만큼 늘지 않도록 리더 노드만 조회
+        schedulerLeaderLease.runIfLeader("shipment-status-sync", Duration.ofMinutes(15), this::syncTargets);
+    }
+
+    private void syncTargets() {
         LocalDateTime now = LocalDateTime.now();
 
         // 한 번에 50건만 (요금/트래픽 보호)
@@ -2,10 +2,11 @@ package noonchissaum.backend.domain.report.service;
 
 import lombok.RequiredArgsConstructor;
 import noonchissaum.backend.domain.auction.entity.Auction;
+import noonchissaum.backend.domain.auction.entity.AuctionEffect;
 import noonchissaum.backend.domain.auction.entity.AuctionStatus;
 import noonchissaum.backend.domain.auction.repository.AuctionRepository;
 import noonchissaum.backend.domain.auction.repository.BidRepository;
-import noonchissaum.backend.domain.auction.service.AuctionRedisService;
+import noonchissaum.backend.domain.auction.service.AuctionOutboxService;
 import noonchissaum.backend.domain.notification.constants.NotificationConstants;
 import noonchissaum.backend.domain.notification.entity.NotificationType;
 import noonchissaum.backend.domain.notification.service.AuctionNotificationService;
@@ -34,7 +35,7 @@ public class ReportService {
     private final Map<ReportTargetType, ReportTargetHandler> handlerMap;
     private final AuctionRepository auctionRepository;
     private final BidRepository bidRepository;
-    private final AuctionRedisService auctionRedisService;
+    private final AuctionOutboxService auctionOutboxService;
     private final AuctionNotificationService auctionNotificationService;
 
     /** 신고 생성-유저*/
@@ -93,7 +94,7 @@ public class ReportService {
 
         auction.getItem().delete();
         auction.tempBlock();
-        auctionRedisService.setRedis(auction.getId());
+        auctionOutboxService.record(auction.getId(), AuctionEffect.STATE);
         notifyAuctionParticipants(
                 auction,
                 NotificationType.AUCTION_TEMP_BLOCKED,
@@ -104,14 +105,12 @@ public class ReportService {
     private void notifyAuctionParticipants(Auction auction, NotificationType type, String message) {
         List<Long> participantIds = bidRepository.findDistinctBidderIdsByAuctionId(auction.getId());
         participantIds.add(auction.getSeller().getId());
-        for (Long userId : participantIds) {
-            auctionNotificationService.sendNotification(
-                    userId,
-                    type,
-                    message,
-                    NotificationConstants.REF_TYPE_AUCTION,
-                    auction.getId()
-            );
-        }
+        auctionNotificationService.sendNotifications(
+                participantIds,
+                type,
+                message,
+                NotificationConstants.REF_TYPE_AUCTION,
+                auction.getId()
+        );
     }
 }
@@ -2,12 +2,14 @@ package noonchissaum.backend.domain.statistics.scheduler;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import noonchissaum.backend.global.cluster.SchedulerLeaderLease;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import java.time.Duration;
 
 /**
  * 배치 스케줄러
@@ -24,12 +26,19 @@ public class BatchScheduler {
     /** 실행할 Job */
     private final Job dailyStatisticsJob;
 
+    /** 다중 노드 중 한 노드만 실행 */
+    private final SchedulerLeaderLease schedulerLeaderLease;
+
     /**
      * 매일 자정(00:00:00)에 실행
      * 초 분 시 일 월 요일
      */
     @Scheduled(cron = "0 0 0 * * *")
     public void runDailyStatisticsJob() {
+        schedulerLeaderLease.runIfLeader("daily-statistics", Duration.ofMinutes(30), this::launchDailyStatisticsJob);
+    }
+
+    private void launchDailyStatisticsJob() {
         try {
             // 매번 다른 파라미터로 새로운 실행으로 인식시킴
             JobParameters params = new JobParametersBuilder()
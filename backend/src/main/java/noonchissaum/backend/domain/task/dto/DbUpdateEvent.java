@@ -1,6 +1,7 @@
 package noonchissaum.backend.domain.task.dto;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 public record DbUpdateEvent(
         Long userId,              // 신규 입찰자 ID
@@ -8,6 +9,11 @@ public record DbUpdateEvent(
         BigDecimal bidAmount,     // 신규 입찰 금액 (차감 및 동결할 금액)
         BigDecimal refundAmount,   // 이전 입찰자에게 돌려줄 금액
         Long auctionId,         //bid 저장용 auctionId
-        String requestId        //bid 저장용 requestId
+        String requestId,       //bid 저장용 requestId
+        LocalDateTime createdAt // 입찰 시각 (저널 적재 시각, 없으면 DB 반영 시각)
 ) {
-}
\ No newline at end of file
+    public DbUpdateEvent(Long userId, Long previousBidderId, BigDecimal bidAmount, BigDecimal refundAmount,
+                         Long auctionId, String requestId) {
+        this(userId, previousBidderId, bidAmount, refundAmount, auctionId, requestId, null);
+    }
+}
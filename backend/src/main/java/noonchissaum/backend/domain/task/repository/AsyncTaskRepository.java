@@ -13,4 +13,6 @@ public interface AsyncTaskRepository extends JpaRepository<AsyncTask,Integer> {
 
     boolean existsByUserIdAndIsSuccess(long userId, boolean isSuccess);
 
+    boolean existsByRequestIdAndIsSuccess(String requestId, boolean isSuccess);
+
 }
@@ -0,0 +1,33 @@
+package noonchissaum.backend.domain.task.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import noonchissaum.backend.domain.task.service.BidJournalConsumer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class BidJournalScheduler {
+    private final BidJournalConsumer bidJournalConsumer;
+
+    /**
+     * 입찰 저널의 새 엔트리를 마이크로 배치로 DB 반영
+     */
+    @Scheduled(fixedDelayString = "${task.db-batch.flush-interval-ms:100}")
+    public void consumeBidJournal() {
+        int processed = bidJournalConsumer.consume();
+        if (processed > 0) {
+            log.debug("[BidJournal] processed={}", processed);
+        }
+    }
+
+    /**
+     * 멈춘 컨슈머가 잡고 있던 엔트리 재할당
+     */
+    @Scheduled(fixedDelayString = "${task.bid-journal.reclaim-interval-ms:30000}")
+    public void reclaimBidJournal() {
+        bidJournalConsumer.reclaim();
+    }
+}
@@ -38,4 +38,12 @@ public class AsyncTaskTxService {
         task.taskSuccess();
         // dirty checking으로 업데이트됨
     }
-}
\ No newline at end of file
+
+    /**
+     * 성공 마킹까지 끝났는지 확인 (단건 경로는 실패해도 @Recover 로 예외 없이 끝나므로 결과 확인용)
+     */
+    @Transactional(readOnly = true)
+    public boolean isSuccess(String requestId) {
+        return asyncTaskRepository.existsByRequestIdAndIsSuccess(requestId, true);
+    }
+}
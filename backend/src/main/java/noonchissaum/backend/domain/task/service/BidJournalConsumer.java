@@ -0,0 +1,279 @@
+package noonchissaum.backend.domain.task.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import noonchissaum.backend.domain.auction.redis.BidJournalFields;
+import noonchissaum.backend.domain.task.dto.DbUpdateEvent;
+import noonchissaum.backend.global.RedisKeys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 입찰 저널(bid_journal 스트림) 영속화 워커
+ * 컨슈머 그룹으로 엔트리를 읽어 DbUpdateBatchProcessor 로 반영하고, DB 커밋이 끝난 엔트리만 ACK + XDEL 한다.
+ * ACK 되지 않은 엔트리는 reclaim-idle-ms 가 지나면 XAUTOCLAIM 으로 다른(또는 재시작한) 컨슈머가 가져가 재처리한다.
+ * 전달 횟수를 넘겨 단건 경로로 넘긴 엔트리도 단건 경로가 성공한 것만 ACK 하고, 실패하면 다음 재할당 때 다시 넘긴다.
+ * 스트림에는 아직 DB 에 반영되지 않은 입찰만 남으므로 길이/가장 오래된 엔트리 나이가 곧 영속화 지연이다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BidJournalConsumer {
+
+    public static final String GROUP = "bid_journal_persist";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RECLAIM_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/reclaim_bid_journal.lua"), List.class);
+    private static final String CURSOR_START = "0-0";
+
+    private final StringRedisTemplate redisTemplate;
+    private final DbUpdateBatchProcessor dbUpdateBatchProcessor;
+    private final MeterRegistry meterRegistry;
+
+    // 노드별 고정 컨슈머 이름 (pid@host)
+    private final String consumerName = ManagementFactory.getRuntimeMXBean().getName();
+
+    private final AtomicLong journalLength = new AtomicLong();
+    private final AtomicLong pendingEntries = new AtomicLong();
+    private final AtomicLong oldestEntryAgeMs = new AtomicLong();
+    private volatile boolean groupReady;
+    private Counter giveUpFailures;
+
+    // 한 번에 읽어 한 트랜잭션으로 반영할 최대 엔트리 수
+    @Value("${task.db-batch.max-size:200}")
+    private int maxBatchSize;
+
+    // 이 시간 이상 ACK 되지 않은 엔트리는 재할당 대상
+    @Value("${task.bid-journal.reclaim-idle-ms:60000}")
+    private long reclaimIdleMs;
+
+    // 전달 횟수가 이 값을 넘으면 단건 경로로 넘기고 저널에서 제거
+    @Value("${task.bid-journal.max-deliveries:5}")
+    private int maxDeliveries;
+
+    @PostConstruct
+    public void registerMetrics() {
+        Gauge.builder("bid.journal.length", journalLength, AtomicLong::get)
+                .description("DB 반영 대기 중인 입찰 저널 엔트리 수")
+                .register(meterRegistry);
+        Gauge.builder("bid.journal.pending", pendingEntries, AtomicLong::get)
+                .description("읽혔지만 ACK 되지 않은 엔트리 수")
+                .register(meterRegistry);
+        Gauge.builder("bid.journal.oldest.age", oldestEntryAgeMs, AtomicLong::get)
+                .description("가장 오래된 미반영 엔트리 나이")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        giveUpFailures = Counter.builder("bid.journal.give_up.failed")
+                .description("단건 경로 반영에도 실패해 저널에 남긴 엔트리 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 새 엔트리를 배치 단위로 읽어 반영하고 처리한 엔트리 수를 반환
+     */
+    public int consume() {
+        ensureGroup();
+        int processed = 0;
+        while (true) {
+            List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+                    Consumer.from(GROUP, consumerName),
+                    StreamReadOptions.empty().count(maxBatchSize),
+                    StreamOffset.create(RedisKeys.bidJournal(), ReadOffset.lastConsumed()));
+            if (records == null || records.isEmpty()) {
+                return processed;
+            }
+            processed += persist(records);
+            if (records.size() < maxBatchSize) {
+                return processed;
+            }
+        }
+    }
+
+    /**
+     * 오래 ACK 되지 않은 엔트리를 가져와 재처리 (전달 횟수 초과분은 단건 경로로 이관)
+     */
+    @SuppressWarnings("unchecked")
+    public int reclaim() {
+        ensureGroup();
+        int reclaimed = 0;
+        String cursor = CURSOR_START;
+        do {
+            List<Object> raw = redisTemplate.execute(RECLAIM_SCRIPT, List.of(RedisKeys.bidJournal()),
+                    GROUP, consumerName, String.valueOf(reclaimIdleMs), cursor, String.valueOf(maxBatchSize));
+            if (raw == null || raw.isEmpty()) {
+                break;
+            }
+            cursor = String.valueOf(raw.get(0));
+
+            List<MapRecord<String, Object, Object>> retry = new ArrayList<>();
+            Map<RecordId, DbUpdateEvent> exhausted = new LinkedHashMap<>();
+            for (Object rawEntry : raw.subList(1, raw.size())) {
+                List<Object> entry = (List<Object>) rawEntry;
+                MapRecord<String, Object, Object> record = toRecord(entry);
+                if (Integer.parseInt(String.valueOf(entry.get(1))) > maxDeliveries) {
+                    DbUpdateEvent event = toEvent(record);
+                    if (event != null) {
+                        exhausted.put(record.getId(), event);
+                    }
+                } else {
+                    retry.add(record);
+                }
+            }
+
+            if (!exhausted.isEmpty()) {
+                giveUp(exhausted);
+            }
+            if (!retry.isEmpty()) {
+                persist(retry);
+            }
+            reclaimed += exhausted.size() + retry.size();
+        } while (!CURSOR_START.equals(cursor));
+
+        if (reclaimed > 0) {
+            log.warn("입찰 저널 재할당 처리 - consumer: {}, count: {}", consumerName, reclaimed);
+        }
+        return reclaimed;
+    }
+
+    /**
+     * 저널 길이/미ACK 수/가장 오래된 엔트리 나이를 갱신해 반환 (지표 및 지연 경보용)
+     */
+    public JournalLag refreshLag() {
+        ensureGroup();
+        String key = RedisKeys.bidJournal();
+        Long length = redisTemplate.opsForStream().size(key);
+        PendingMessagesSummary summary = redisTemplate.opsForStream().pending(key, GROUP);
+        List<MapRecord<String, Object, Object>> oldest =
+                redisTemplate.opsForStream().range(key, Range.unbounded(), Limit.limit().count(1));
+
+        long oldestAge = (oldest == null || oldest.isEmpty())
+                ? 0L
+                : Math.max(0L, System.currentTimeMillis() - oldest.get(0).getId().getTimestamp());
+        JournalLag lag = new JournalLag(
+                length == null ? 0L : length,
+                summary == null ? 0L : summary.getTotalPendingMessages(),
+                oldestAge);
+
+        journalLength.set(lag.length());
+        pendingEntries.set(lag.pending());
+        oldestEntryAgeMs.set(lag.oldestAgeMs());
+        return lag;
+    }
+
+    /**
+     * 단건 경로로 넘기고 성공한 엔트리만 ACK (실패분은 pending 으로 남아 다음 재할당 때 다시 시도)
+     */
+    private void giveUp(Map<RecordId, DbUpdateEvent> exhausted) {
+        Map<String, RecordId> recordIdByRequest = new HashMap<>();
+        exhausted.forEach((recordId, event) -> recordIdByRequest.put(event.requestId(), recordId));
+
+        List<RecordId> done = new ArrayList<>();
+        for (DbUpdateEvent event : dbUpdateBatchProcessor.giveUp(new ArrayList<>(exhausted.values()))) {
+            done.add(recordIdByRequest.get(event.requestId()));
+        }
+        acknowledge(done);
+
+        int failed = exhausted.size() - done.size();
+        if (failed > 0) {
+            giveUpFailures.increment(failed);
+            log.error("입찰 저널 단건 경로 반영 실패 - 저널에 남김. consumer: {}, count: {}", consumerName, failed);
+        }
+    }
+
+    private int persist(List<MapRecord<String, Object, Object>> records) {
+        Map<String, List<RecordId>> recordIdsByRequest = new HashMap<>();
+        List<DbUpdateEvent> events = new ArrayList<>();
+        List<RecordId> malformed = new ArrayList<>();
+        for (MapRecord<String, Object, Object> record : records) {
+            DbUpdateEvent event = toEvent(record);
+            if (event == null) {
+                malformed.add(record.getId());
+                continue;
+            }
+            events.add(event);
+            recordIdsByRequest.computeIfAbsent(event.requestId(), id -> new ArrayList<>()).add(record.getId());
+        }
+
+        List<RecordId> done = new ArrayList<>(malformed);
+        for (DbUpdateEvent event : dbUpdateBatchProcessor.process(events)) {
+            done.addAll(recordIdsByRequest.getOrDefault(event.requestId(), List.of()));
+        }
+        acknowledge(done);
+        return done.size();
+    }
+
+    private void acknowledge(List<RecordId> recordIds) {
+        if (recordIds.isEmpty()) {
+            return;
+        }
+        RecordId[] ids = recordIds.toArray(RecordId[]::new);
+        redisTemplate.opsForStream().acknowledge(RedisKeys.bidJournal(), GROUP, ids);
+        // DB 에 반영된 엔트리는 저널에서 제거 (스트림에는 미반영 입찰만 남긴다)
+        redisTemplate.opsForStream().delete(RedisKeys.bidJournal(), ids);
+    }
+
+    private DbUpdateEvent toEvent(MapRecord<String, Object, Object> record) {
+        try {
+            return BidJournalFields.toEvent(record.getValue());
+        } catch (RuntimeException e) {
+            log.error("입찰 저널 엔트리 파싱 실패 - 제거. id: {}, value: {}", record.getId(), record.getValue(), e);
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private MapRecord<String, Object, Object> toRecord(List<Object> entry) {
+        List<Object> flatFields = (List<Object>) entry.get(2);
+        Map<Object, Object> fields = new HashMap<>();
+        for (int i = 0; i + 1 < flatFields.size(); i += 2) {
+            fields.put(flatFields.get(i), flatFields.get(i + 1));
+        }
+        return MapRecord.create(RedisKeys.bidJournal(), fields).withId(RecordId.of(String.valueOf(entry.get(0))));
+    }
+
+    private void ensureGroup() {
+        if (groupReady) {
+            return;
+        }
+        try {
+            redisTemplate.opsForStream().createGroup(RedisKeys.bidJournal(), ReadOffset.from(CURSOR_START), GROUP);
+        } catch (RuntimeException e) {
+            String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            if (message == null || !message.contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+        groupReady = true;
+    }
+
+    /**
+     * 저널 영속화 지연 상태
+     */
+    public record JournalLag(long length, long pending, long oldestAgeMs) {
+    }
+}
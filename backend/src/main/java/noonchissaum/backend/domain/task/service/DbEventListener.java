@@ -7,12 +7,10 @@ import noonchissaum.backend.domain.auction.service.BidService;
 import noonchissaum.backend.domain.wallet.service.WalletRecordService;
 import noonchissaum.backend.global.RedisKeys;
 import noonchissaum.backend.domain.task.dto.DbUpdateEvent;
-import org.springframework.context.event.EventListener;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Recover;
 import org.springframework.retry.annotation.Retryable;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
@@ -29,8 +27,10 @@ public class DbEventListener {
     private final StringRedisTemplate redisTemplate;
     private final AsyncTaskTxService asyncTaskTxService;
 
-    @Async("DBTaskExcutor")
-    @EventListener
+    /**
+     * 이벤트 단건 반영
+     * 평소에는 입찰 저널을 DbUpdateBatchProcessor 가 배치로 처리하고, 재시도 한도를 넘긴 엔트리만 이 경로로 넘어온다.
+     */
     @Transactional
     @Retryable(
             value = {Exception.class},
@@ -0,0 +1,95 @@
+package noonchissaum.backend.domain.task.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import noonchissaum.backend.domain.task.dto.DbUpdateEvent;
+import noonchissaum.backend.global.RedisKeys;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DbUpdateEvent 마이크로 배치 처리기
+ * 입찰 저널에서 읽은 묶음을 DbUpdateBatchWriter 로 한 번에 반영하고, 실패하면 한 건씩 나눠 다시 반영한다.
+ * 반영이 끝난 이벤트만 반환하므로, 호출 측(BidJournalConsumer)은 반환된 것만 ACK 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DbUpdateBatchProcessor {
+
+    private final DbUpdateBatchWriter dbUpdateBatchWriter;
+    private final DbEventListener dbEventListener;
+    private final StringRedisTemplate redisTemplate;
+    private final AsyncTaskTxService asyncTaskTxService;
+
+    /**
+     * 묶음 반영 후 DB 커밋까지 끝난 이벤트 목록을 반환
+     */
+    public List<DbUpdateEvent> process(List<DbUpdateEvent> batch) {
+        if (batch.isEmpty()) {
+            return List.of();
+        }
+        List<DbUpdateEvent> completed;
+        try {
+            completed = dbUpdateBatchWriter.write(batch);
+        } catch (Exception e) {
+            log.warn("DB 배치 반영 실패 - 단건 처리로 재시도. size: {}", batch.size(), e);
+            completed = processOneByOne(batch);
+        }
+        // 커밋이 끝난 뒤에만 pending 제거
+        cleanupPending(completed);
+        return completed;
+    }
+
+    /**
+     * 재시도 한도를 넘긴 이벤트는 기존 단건 경로로 넘기고, 성공 마킹까지 끝난 이벤트만 반환한다.
+     * (단건 경로가 실패한 이벤트는 호출 측이 ACK 하지 않고 저널에 남겨 다음 재할당 때 다시 넘긴다)
+     */
+    public List<DbUpdateEvent> giveUp(List<DbUpdateEvent> events) {
+        List<DbUpdateEvent> completed = new ArrayList<>();
+        for (DbUpdateEvent event : events) {
+            log.error("입찰 저널 재시도 한도 초과 - 단건 경로로 이관. requestId: {}", event.requestId());
+            try {
+                dbEventListener.handleWalletUpdate(event);
+                if (asyncTaskTxService.isSuccess(event.requestId())) {
+                    completed.add(event);
+                }
+            } catch (Exception e) {
+                log.error("단건 경로 반영 실패 - requestId: {}", event.requestId(), e);
+            }
+        }
+        return completed;
+    }
+
+    private List<DbUpdateEvent> processOneByOne(List<DbUpdateEvent> batch) {
+        List<DbUpdateEvent> completed = new ArrayList<>();
+        for (DbUpdateEvent event : batch) {
+            try {
+                completed.addAll(dbUpdateBatchWriter.write(List.of(event)));
+            } catch (Exception e) {
+                log.error("DB 단건 반영 실패 - requestId: {}", event.requestId(), e);
+            }
+        }
+        return completed;
+    }
+
+    private void cleanupPending(List<DbUpdateEvent> completed) {
+        if (completed.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (DbUpdateEvent event : completed) {
+                stringConnection.sRem(RedisKeys.pendingUser(event.userId()), event.requestId());
+                if (event.previousBidderId() != null && event.previousBidderId() != -1L) {
+                    stringConnection.sRem(RedisKeys.pendingUser(event.previousBidderId()), event.requestId());
+                }
+            }
+            return null;
+        });
+    }
+}
@@ -0,0 +1,168 @@
+package noonchissaum.backend.domain.task.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import noonchissaum.backend.domain.task.dto.DbUpdateEvent;
+import noonchissaum.backend.domain.wallet.entity.TransactionType;
+import noonchissaum.backend.global.exception.ApiException;
+import noonchissaum.backend.global.exception.ErrorCode;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * DbUpdateEvent 묶음을 한 트랜잭션에서 JDBC batch 로 반영
+ * bids insert / wallets 증감 update / wallet_transactions insert / tasks upsert 를 각각 한 번의 batch 로 보낸다.
+ * requestId 기준 멱등: 이미 성공한 task 는 건너뛰고, 이미 저장된 bid 는 다시 넣지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DbUpdateBatchWriter {
+
+    private static final String SELECT_DONE_TASKS =
+            "SELECT request_id FROM tasks WHERE is_success = true AND request_id IN (:requestIds)";
+    private static final String SELECT_SAVED_BIDS =
+            "SELECT request_id FROM bids WHERE request_id IN (:requestIds)";
+    private static final String INSERT_BID =
+            "INSERT INTO bids (auction_id, bidder_id, bid_price, request_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+    // 잔액이 모자라면 0 row 가 갱신되어 배치 전체를 롤백한다 (Wallet.bid 와 같은 검증)
+    private static final String UPDATE_WALLET =
+            "UPDATE wallets SET balance = balance + ?, locked_balance = locked_balance - ?, updated_at = ? "
+                    + "WHERE user_id = ? AND balance + ? >= 0";
+    private static final String INSERT_WALLET_TRANSACTION =
+            "INSERT INTO wallet_transactions (wallet_id, amount, type, ref_type, ref_id, memo, created_at) "
+                    + "SELECT wallet_id, ?, ?, ?, ?, ?, ? FROM wallets WHERE user_id = ?";
+    private static final String UPSERT_TASK =
+            "INSERT INTO tasks (request_id, is_success, user_id, auction_id) VALUES (?, true, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE is_success = true";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 이벤트 묶음을 반영하고, 이번에 처리 완료로 확정된 이벤트 목록을 반환
+     * (이미 성공 처리된 requestId 도 pending 정리를 위해 결과에 포함)
+     */
+    @Transactional
+    public List<DbUpdateEvent> write(List<DbUpdateEvent> events) {
+        Map<String, DbUpdateEvent> byRequestId = new LinkedHashMap<>();
+        for (DbUpdateEvent event : events) {
+            byRequestId.putIfAbsent(event.requestId(), event);
+        }
+        if (byRequestId.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> doneRequestIds = selectRequestIds(SELECT_DONE_TASKS, byRequestId.keySet());
+        List<DbUpdateEvent> targets = byRequestId.values().stream()
+                .filter(event -> !doneRequestIds.contains(event.requestId()))
+                .toList();
+
+        if (!targets.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            insertBids(targets, now);
+            updateWallets(targets, now);
+            insertWalletTransactions(targets, now);
+            upsertTasks(targets);
+        }
+
+        log.debug("[DbUpdateBatch] size={}, applied={}, skipped={}",
+                byRequestId.size(), targets.size(), doneRequestIds.size());
+        return new ArrayList<>(byRequestId.values());
+    }
+
+    private void insertBids(List<DbUpdateEvent> targets, LocalDateTime now) {
+        Set<String> requestIds = new HashSet<>();
+        targets.forEach(event -> requestIds.add(event.requestId()));
+        Set<String> savedRequestIds = selectRequestIds(SELECT_SAVED_BIDS, requestIds);
+
+        // created_at 은 입찰 시각(저널) 그대로, updated_at 만 반영 시각
+        Timestamp updatedAt = Timestamp.valueOf(now);
+        List<Object[]> rows = targets.stream()
+                .filter(event -> !savedRequestIds.contains(event.requestId()))
+                .map(event -> new Object[]{
+                        event.auctionId(), event.userId(), event.bidAmount(), event.requestId(),
+                        event.createdAt() == null ? updatedAt : Timestamp.valueOf(event.createdAt()), updatedAt})
+                .toList();
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_BID, rows);
+        }
+    }
+
+    /**
+     * 유저별 증감을 합산해 지갑당 update 1회
+     * (user_id 순으로 갱신해 동시 배치 간 row lock 순서를 고정)
+     */
+    private void updateWallets(List<DbUpdateEvent> targets, LocalDateTime now) {
+        Map<Long, BigDecimal> balanceDeltas = new TreeMap<>();
+        for (DbUpdateEvent event : targets) {
+            balanceDeltas.merge(event.userId(), event.bidAmount().negate(), BigDecimal::add);
+            if (hasPreviousBidder(event)) {
+                balanceDeltas.merge(event.previousBidderId(), event.refundAmount(), BigDecimal::add);
+            }
+        }
+
+        Timestamp updatedAt = Timestamp.valueOf(now);
+        List<Long> userIds = new ArrayList<>(balanceDeltas.keySet());
+        List<Object[]> rows = userIds.stream()
+                .map(userId -> {
+                    BigDecimal delta = balanceDeltas.get(userId);
+                    return new Object[]{delta, delta, updatedAt, userId, delta};
+                })
+                .toList();
+
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_WALLET, rows);
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                log.warn("[DbUpdateBatch] 지갑 반영 실패 - userId: {}, delta: {}", userIds.get(i), balanceDeltas.get(userIds.get(i)));
+                throw new ApiException(ErrorCode.INSUFFICIENT_BALANCE);
+            }
+        }
+    }
+
+    private void insertWalletTransactions(List<DbUpdateEvent> targets, LocalDateTime now) {
+        Timestamp createdAt = Timestamp.valueOf(now);
+        List<Object[]> rows = new ArrayList<>();
+        for (DbUpdateEvent event : targets) {
+            rows.add(transactionRow(event.userId(), TransactionType.BID_HOLD, event.bidAmount(), event.auctionId(), createdAt));
+            if (hasPreviousBidder(event)) {
+                rows.add(transactionRow(event.previousBidderId(), TransactionType.BID_RELEASE, event.refundAmount(), event.auctionId(), createdAt));
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_WALLET_TRANSACTION, rows);
+    }
+
+    private void upsertTasks(List<DbUpdateEvent> targets) {
+        List<Object[]> rows = targets.stream()
+                .map(event -> new Object[]{event.requestId(), event.userId(), event.auctionId()})
+                .toList();
+        jdbcTemplate.batchUpdate(UPSERT_TASK, rows);
+    }
+
+    private Object[] transactionRow(Long userId, TransactionType type, BigDecimal amount, Long auctionId, Timestamp createdAt) {
+        return new Object[]{
+                type.apply(amount), type.name(), type.getDefaultRefType().name(), auctionId, type.getMemo(), createdAt, userId};
+    }
+
+    private Set<String> selectRequestIds(String sql, Set<String> requestIds) {
+        MapSqlParameterSource params = new MapSqlParameterSource("requestIds", requestIds);
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(sql, params, String.class));
+    }
+
+    private boolean hasPreviousBidder(DbUpdateEvent event) {
+        return event.previousBidderId() != null && event.previousBidderId() != -1L;
+    }
+}
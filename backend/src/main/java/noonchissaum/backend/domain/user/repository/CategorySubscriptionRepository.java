@@ -4,6 +4,7 @@ import noonchissaum.backend.domain.user.entity.CategorySubscription;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import java.util.Collection;
 import java.util.List;
 
 public interface CategorySubscriptionRepository extends JpaRepository<CategorySubscription, Long> {
@@ -25,13 +26,17 @@ public interface CategorySubscriptionRepository extends JpaRepository<CategorySu
 
     void deleteByUser_IdAndCategory_Id(Long userId, Long categoryId);
 
-    /** 특정 카테고리를 구독 중인 활성 유저 이메일 목록 조회 */
+    /** 카테고리별 구독 중인 활성 유저 이메일 조회 ([categoryId, email]) */
     @Query("""
-            select distinct u.email
+            select cs.category.id, u.email
             from CategorySubscription cs
             join cs.user u
-            where cs.category.id = :categoryId
+            where cs.category.id in :categoryIds
               and u.status = noonchissaum.backend.domain.user.entity.UserStatus.ACTIVE
             """)
-    List<String> findActiveUserEmailsByCategoryId(@Param("categoryId") Long categoryId);
+    List<Object[]> findActiveUserEmailsByCategoryIds(@Param("categoryIds") Collection<Long> categoryIds);
+
+    /** 유저가 구독 중인 카테고리 ID 목록 */
+    @Query("select cs.category.id from CategorySubscription cs where cs.user.id = :userId")
+    List<Long> findCategoryIdsByUserId(@Param("userId") Long userId);
 }
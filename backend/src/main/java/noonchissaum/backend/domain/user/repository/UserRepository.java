@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -37,4 +38,8 @@ public interface UserRepository extends JpaRepository<User,Long> {
     // 활성 사용자 (삭제 또는 차단되지 않은)의 모든 ID를 찾습니다.
     @Query("SELECT u.id FROM User u WHERE u.status != 'DELETED' AND u.status != 'BLOCKED'")
     List<Long> findAllActiveUserIds();
+
+    // (대량 알림) 엔티티 로딩 없이 존재하는 사용자 ID 만 조회
+    @Query("SELECT u.id FROM User u WHERE u.id IN :userIds")
+    List<Long> findExistingIds(@Param("userIds") Collection<Long> userIds);
 }
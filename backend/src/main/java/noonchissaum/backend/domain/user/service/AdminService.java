@@ -2,10 +2,11 @@ package noonchissaum.backend.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
 import noonchissaum.backend.domain.auction.entity.Auction;
+import noonchissaum.backend.domain.auction.entity.AuctionEffect;
 import noonchissaum.backend.domain.auction.entity.AuctionStatus;
 import noonchissaum.backend.domain.auction.repository.BidRepository;
 import noonchissaum.backend.domain.auction.repository.AuctionRepository;
-import noonchissaum.backend.domain.auction.service.AuctionRedisService;
+import noonchissaum.backend.domain.auction.service.AuctionOutboxService;
 import lombok.extern.slf4j.Slf4j;
 import noonchissaum.backend.domain.auction.service.BidRollbackService;
 import noonchissaum.backend.domain.inquiry.service.InquiryService;
@@ -49,7 +50,7 @@ public class AdminService {
     private final UserRepository userRepository;
     private final AuctionRepository auctionRepository;
     private final BidRepository bidRepository;
-    private final AuctionRedisService auctionRedisService;
+    private final AuctionOutboxService auctionOutboxService;
     private final WalletService walletService;
     private final WalletRecordService walletRecordService;
     private final AuctionNotificationService auctionNotificationService;
@@ -57,6 +58,7 @@ public class AdminService {
     private final InquiryService inquiryService;
     private final DailyStatisticsRepository dailyStatisticsRepository;
     private final BidRollbackService bidRollbackService;
+    private final CategorySubscriberIndex categorySubscriberIndex;
 
     /* ================= 신고 관리 ================= */
     /**
@@ -240,7 +242,7 @@ public class AdminService {
 
         refundCurrentBidder(auction);
 
-        auctionRedisService.setRedis(auction.getId());
+        auctionOutboxService.record(auction.getId(), AuctionEffect.STATE);
         notifyAuctionStatusChange(auction, NotificationType.AUCTION_BLOCKED, String.format(NotificationConstants.MSG_AUCTION_BLOCKED,auction.getItem().getTitle()));
     }
 
@@ -319,7 +321,8 @@ public class AdminService {
 
         item.restore();
         auction.reopen();
-        auctionRedisService.setRedis(auction.getId());
+        // 차단 기간만큼 마감 시각이 뒤로 밀리므로 Redis 연장 여부와 무관하게 DB 기준으로 덮어쓴다
+        auctionOutboxService.record(auction.getId(), AuctionEffect.RELOAD);
         notifyAuctionStatusChange(auction, NotificationType.AUCTION_UNBLOCKED, String.format(NotificationConstants.MSG_AUCTION_UNBLOCKED,auction.getItem().getTitle()));
 
         reportRepository.updateStatusByTargetTypeAndTargetIdAndStatus(
@@ -362,15 +365,13 @@ public class AdminService {
     private void notifyAuctionStatusChange(Auction auction, NotificationType type, String message) {
         List<Long> participantIds = bidRepository.findDistinctBidderIdsByAuctionId(auction.getId());
         participantIds.add(auction.getSeller().getId());
-        for (Long userId : participantIds) {
-            auctionNotificationService.sendNotification(
-                    userId,
-                    type,
-                    message,
-                    NotificationConstants.REF_TYPE_AUCTION,
-                    auction.getId()
-            );
-        }
+        auctionNotificationService.sendNotifications(
+                participantIds,
+                type,
+                message,
+                NotificationConstants.REF_TYPE_AUCTION,
+                auction.getId()
+        );
     }
 
     /**
@@ -434,6 +435,7 @@ public class AdminService {
         bidRollbackService.rollbackAuctionsForBlockedUser(userId);
 
         user.block(reason);
+        categorySubscriberIndex.evictUser(userId);
 
         return AdminBlockUserRes.from(user);
     }
@@ -452,6 +454,7 @@ public class AdminService {
         }
 
         user.unblock();
+        categorySubscriberIndex.evictUser(userId);
     }
 
     /**
@@ -0,0 +1,134 @@
+package noonchissaum.backend.domain.user.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import noonchissaum.backend.domain.user.repository.CategorySubscriptionRepository;
+import noonchissaum.backend.global.RedisKeys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 관심 카테고리 구독자 이메일 인덱스 (Redis set, 카테고리별)
+ * 캐시에 없는 카테고리만 DB 에서 한 번에 조회해 채우고, 구독 변경/회원 상태 변경 시 커밋 후 해당 카테고리 키를 지운다.
+ * 무효화를 놓친 경우에도 cache-ttl-ms 가 지나면 DB 기준으로 다시 채워진다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CategorySubscriberIndex {
+
+    // 구독자가 없는 카테고리도 캐시하기 위한 자리표시 멤버 (빈 set 은 Redis 에 저장되지 않음)
+    private static final String EMPTY_MEMBER = "";
+
+    private final CategorySubscriptionRepository categorySubscriptionRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${category.subscribers.cache-ttl-ms:600000}")
+    private long cacheTtlMs;
+
+    /**
+     * 카테고리별 활성 구독자 이메일
+     * @return 모든 요청 카테고리를 키로 가진 map (구독자가 없으면 빈 set)
+     */
+    public Map<Long, Set<String>> getActiveEmails(Collection<Long> categoryIds) {
+        List<Long> ids = List.copyOf(new HashSet<>(categoryIds));
+        Map<Long, Set<String>> result = new HashMap<>();
+        if (ids.isEmpty()) {
+            return result;
+        }
+
+        List<Object> cached = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Long categoryId : ids) {
+                stringConnection.sMembers(RedisKeys.categorySubscribers(categoryId));
+            }
+            return null;
+        });
+        List<Long> missed = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            @SuppressWarnings("unchecked")
+            Set<String> members = (Set<String>) cached.get(i);
+            if (members == null || members.isEmpty()) {
+                missed.add(ids.get(i));
+                continue;
+            }
+            Set<String> emails = new HashSet<>(members);
+            emails.remove(EMPTY_MEMBER);
+            result.put(ids.get(i), emails);
+        }
+
+        if (!missed.isEmpty()) {
+            Map<Long, Set<String>> loaded = load(missed);
+            store(loaded);
+            result.putAll(loaded);
+        }
+        return result;
+    }
+
+    /** 카테고리 구독 변경 시 인덱스 무효화 (트랜잭션 커밋 후) */
+    public void evict(Long categoryId) {
+        evictAll(List.of(categoryId));
+    }
+
+    /** 회원 탈퇴/차단/해제 시 그 회원이 구독한 카테고리 인덱스 무효화 (트랜잭션 커밋 후) */
+    public void evictUser(Long userId) {
+        evictAll(categorySubscriptionRepository.findCategoryIdsByUserId(userId));
+    }
+
+    private void evictAll(Collection<Long> categoryIds) {
+        if (categoryIds.isEmpty()) {
+            return;
+        }
+        List<String> keys = categoryIds.stream().map(RedisKeys::categorySubscribers).toList();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            redisTemplate.delete(keys);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    redisTemplate.delete(keys);
+                } catch (Exception e) {
+                    log.warn("[CategorySubscriberIndex] 인덱스 무효화 실패 keys={}", keys, e);
+                }
+            }
+        });
+    }
+
+    private Map<Long, Set<String>> load(List<Long> categoryIds) {
+        Map<Long, Set<String>> loaded = new HashMap<>();
+        for (Long categoryId : categoryIds) {
+            loaded.put(categoryId, new HashSet<>());
+        }
+        for (Object[] row : categorySubscriptionRepository.findActiveUserEmailsByCategoryIds(categoryIds)) {
+            loaded.get((Long) row[0]).add((String) row[1]);
+        }
+        return loaded;
+    }
+
+    private void store(Map<Long, Set<String>> loaded) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            loaded.forEach((categoryId, emails) -> {
+                String key = RedisKeys.categorySubscribers(categoryId);
+                stringConnection.del(key);
+                stringConnection.sAdd(key, emails.isEmpty() ? new String[]{EMPTY_MEMBER} : emails.toArray(String[]::new));
+                stringConnection.pExpire(key, cacheTtlMs);
+            });
+            return null;
+        });
+    }
+}
@@ -42,6 +42,7 @@ public class UserService {
     private final CategorySubscriptionRepository categorySubscriptionRepository;
     private final WalletService walletService;
     private final StringRedisTemplate redisTemplate;
+    private final CategorySubscriberIndex categorySubscriberIndex;
 
     /**본인 프로필 조회*/
     public ProfileRes getMyProfile(Long userId) {
@@ -140,6 +141,7 @@ public class UserService {
         //탈퇴 처리
         user.delete();
         walletService.clearWalletCache(userId);
+        categorySubscriberIndex.evictUser(userId);
         clearDeleteAttempt(userId);
 
         if (balance.compareTo(BigDecimal.ZERO) > 0) {
@@ -215,6 +217,7 @@ public class UserService {
 
         if (!categorySubscriptionRepository.existsByUser_IdAndCategory_Id(userId, categoryId)) {
             categorySubscriptionRepository.save(CategorySubscription.of(user, category));
+            categorySubscriberIndex.evict(categoryId);
         }
 
         return new CategorySubscriptionRes(getSubscriptionItems(userId));
@@ -228,6 +231,7 @@ public class UserService {
         }
 
         categorySubscriptionRepository.deleteByUser_IdAndCategory_Id(userId, categoryId);
+        categorySubscriberIndex.evict(categoryId);
         return new CategorySubscriptionRes(getSubscriptionItems(userId));
     }
 
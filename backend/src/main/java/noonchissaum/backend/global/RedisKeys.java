@@ -1,5 +1,7 @@
 package noonchissaum.backend.global;
 
+import java.util.List;
+
 public final class RedisKeys {
 
     private RedisKeys() {}
@@ -49,32 +51,120 @@ public final class RedisKeys {
         return "lock:auction:" + auctionId;
     }
 
+    /**
+     * 경매 실시간 상태 해시 (필드: AuctionStateFields)
+     */
+    public static String auctionState(Long auctionId) {
+        return "auction:" + auctionId + ":state";
+    }
+
+    /**
+     * 실시간 스냅샷을 다시 보내야 하는 경매 ID (set, AuctionChangeTracker)
+     */
+    public static String auctionBroadcastDirty() {
+        return "auction:broadcast:dirty";
+    }
+
+    /**
+     * 경매 생명주기 타이머 (ZSET, member = {auctionId}:{phase}, score = 만기 epoch ms)
+     */
+    public static String auctionLifecycleTimers() {
+        return "auction:lifecycle:timers";
+    }
+
+    /**
+     * 경매 토픽 이벤트 순번 (INCR)
+     */
+    public static String auctionEventSeq(Long auctionId) {
+        return "auction:" + auctionId + ":event:seq";
+    }
+
+    /**
+     * 경매 토픽 최근 이벤트 (capped stream, 필드: seq / data)
+     */
+    public static String auctionEvents(Long auctionId) {
+        return "auction:" + auctionId + ":events";
+    }
+
+    /**
+     * 노드별 경매 시청자 수 (hash, auctionId -> 구독 수, AuctionViewerTracker 가 주기적으로 덮어쓰고 TTL 로 만료)
+     */
+    public static String auctionViewersNode(String nodeId) {
+        return "auction:viewers:node:" + nodeId;
+    }
+
+    /**
+     * 시청자 수를 올리는 살아있는 노드 목록 (zset, member=nodeId, score=마지막 동기화 epoch millis)
+     */
+    public static String auctionViewerNodes() {
+        return "auction:viewers:nodes";
+    }
+
+    /**
+     * 경매별 자동 입찰 목록 (zset, member=userId, score=최대 입찰가)
+     */
+    public static String auctionProxyBids(Long auctionId) {
+        return "auction:" + auctionId + ":proxy";
+    }
+
+    /**
+     * 자동 입찰 등록 시각 (hash, userId -> epoch millis, 최대 입찰가 동률 시 우선순위)
+     */
+    public static String auctionProxyOrder(Long auctionId) {
+        return "auction:" + auctionId + ":proxy:order";
+    }
+
+    /**
+     * 구 경매 상태 키 (필드별 String)
+     * auctionState 해시로 통합됨 - 남아있는 키 마이그레이션/정리 용도로만 사용
+     */
+    public static List<String> legacyAuctionStateKeys(Long auctionId) {
+        return List.of(
+                auctionCurrentPrice(auctionId),
+                auctionCurrentBidder(auctionId),
+                auctionCurrentBidCount(auctionId),
+                auctionStartPrice(auctionId),
+                auctionStatus(auctionId),
+                auctionEndTime(auctionId),
+                auctionImminentMinutes(auctionId),
+                auctionIsExtended(auctionId)
+        );
+    }
+
+    @Deprecated
     public static String auctionCurrentPrice(Long auctionId) {
         return "auction:" + auctionId + ":currentPrice";
     }
 
+    @Deprecated
     public static String auctionCurrentBidder(Long auctionId) {
         return "auction:" + auctionId + ":currentBidder";
     }
 
+    @Deprecated
     public static String auctionCurrentBidCount(Long auctionId) {
         return "auction:" + auctionId + ":currentBidCount";
     }
 
+    @Deprecated
     public static String auctionStartPrice(Long auctionId) {
         return "auction:" + auctionId + ":startPrice";
     }
 
+    @Deprecated
     public static String auctionStatus(Long auctionId) {
         return "auction:" + auctionId + ":status";
     }
 
+    @Deprecated
     public static String auctionEndTime(Long auctionId) {
         return "auction:" + auctionId + ":endTime";
     }
 
+    @Deprecated
     public static String auctionImminentMinutes(Long auctionId) { return "auction:" + auctionId + ":imminentMinutes"; }
 
+    @Deprecated
     public static String auctionIsExtended(Long auctionId) { return "auction:" + auctionId + ":isExtended"; }
 
     /**
@@ -84,14 +174,53 @@ public final class RedisKeys {
         return "bid_idempotency:" + requestId;
     }
 
+    /**
+     * 입찰 저널 (DB 반영 대기 입찰을 쌓는 Redis Stream)
+     */
+    public static String bidJournal() {
+        return "bid_journal";
+    }
+
+    // 저널 전환 이전 pending 데이터 (PendingBidScheduler 가 정리)
+    @Deprecated
     public static String pendingBidInfo(String requestId) {
         return "pending_bid_info:" + requestId;
     }
 
+    @Deprecated
     public static String pendingBidRequestsSet() {
         return "pending_bid_requests";
     }
 
+    /**
+     * scheduler
+     * 스케줄러 노드 목록 (zset, member=nodeId, score=마지막 heartbeat epoch millis)
+     */
+    public static String schedulerNodes() {
+        return "scheduler:nodes";
+    }
+
+    /**
+     * 스케줄 작업별 리더 lease (value=nodeId, PX 만료)
+     */
+    public static String schedulerLease(String job) {
+        return "scheduler:lease:" + job;
+    }
+
+    /**
+     * 메일 발송 rate limit 초 단위 window (string 카운터, 2초 만료)
+     */
+    public static String mailRateWindow(long epochSecond) {
+        return "mail:rate:" + epochSecond;
+    }
+
+    /**
+     * 관심 카테고리 구독자(활성 유저) 이메일 인덱스 (set, 구독 변경 시 삭제 후 재적재)
+     */
+    public static String categorySubscribers(Long categoryId) {
+        return "category:" + categoryId + ":subscribers";
+    }
+
     /**
      * auth
      */
@@ -0,0 +1,25 @@
+package noonchissaum.backend.global.cluster;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ClusterHeartbeatScheduler {
+    private final ClusterNodeRegistry clusterNodeRegistry;
+
+    /**
+     * 스케줄러 노드 heartbeat + 살아있는 노드 목록 갱신 (파티션 재분배 기준)
+     */
+    @Scheduled(fixedDelayString = "${scheduler.cluster.heartbeat-interval-ms:5000}")
+    public void heartbeat() {
+        try {
+            clusterNodeRegistry.heartbeat();
+        } catch (Exception e) {
+            log.warn("[Cluster] heartbeat 실패", e);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package noonchissaum.backend.global.cluster;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import noonchissaum.backend.global.RedisKeys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 스케줄러 노드 목록 + 파티션 소유 판단
+ * 각 노드가 주기적으로 heartbeat 를 남기고, 살아있는 노드 목록 기준 rendezvous hashing 으로 경매 ID 의 담당 노드를 정한다.
+ * 노드가 늘거나 줄면 그 노드 몫의 ID 만 옮겨가므로(나머지 담당은 유지) 별도 재분배 작업 없이 다음 heartbeat 부터 반영된다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ClusterNodeRegistry {
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private volatile List<String> liveNodes = List.of();
+
+    // redis: 노드 간 분담 / local: 단일 인스턴스 (모든 작업을 이 노드가 담당)
+    @Value("${scheduler.cluster.mode:redis}")
+    private String mode;
+
+    // heartbeat 가 이 시간 이상 끊긴 노드는 목록에서 제외
+    @Value("${scheduler.cluster.node-ttl-ms:15000}")
+    private long nodeTtlMs;
+
+    public boolean isClusterMode() {
+        return "redis".equalsIgnoreCase(mode);
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    /**
+     * heartbeat 기록 + 만료 노드 정리 + 살아있는 노드 목록 갱신
+     */
+    public List<String> heartbeat() {
+        if (!isClusterMode()) {
+            return List.of(nodeId);
+        }
+        long now = System.currentTimeMillis();
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.zAdd(RedisKeys.schedulerNodes(), now, nodeId);
+            stringConnection.zRemRangeByScore(RedisKeys.schedulerNodes(), 0, now - nodeTtlMs);
+            stringConnection.zRange(RedisKeys.schedulerNodes(), 0, -1);
+            return null;
+        });
+        @SuppressWarnings("unchecked")
+        Set<String> members = (Set<String>) results.get(2);
+        List<String> nodes = members == null ? List.of(nodeId) : members.stream().sorted().toList();
+        if (!nodes.equals(liveNodes)) {
+            log.info("[Cluster] 스케줄러 노드 변경 nodes={} self={}", nodes.size(), nodeId);
+        }
+        liveNodes = nodes;
+        return nodes;
+    }
+
+    /**
+     * 이 노드가 해당 키(경매 ID 등)의 담당인지 (rendezvous hashing)
+     */
+    public boolean owns(long key) {
+        if (!isClusterMode()) {
+            return true;
+        }
+        return nodeId.equals(ownerOf(key, liveNodes, nodeId));
+    }
+
+    /**
+     * 살아있는 노드 중 점수가 가장 높은 노드가 담당 (아직 heartbeat 전이면 자신도 후보에 포함)
+     */
+    static String ownerOf(long key, List<String> nodes, String self) {
+        String owner = self;
+        long best = score(self, key);
+        for (String node : nodes) {
+            long candidate = score(node, key);
+            if (candidate > best || (candidate == best && node.compareTo(owner) < 0)) {
+                best = candidate;
+                owner = node;
+            }
+        }
+        return owner;
+    }
+
+    private static long score(String node, long key) {
+        // splitmix64 finalizer 로 노드/키 조합을 고르게 섞는다
+        long z = node.hashCode() * 0x9E3779B97F4A7C15L + key;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    @PreDestroy
+    public void leave() {
+        if (!isClusterMode()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForZSet().remove(RedisKeys.schedulerNodes(), nodeId);
+        } catch (Exception e) {
+            log.warn("스케줄러 노드 정리 실패 - nodeId: {}", nodeId, e);
+        }
+    }
+}
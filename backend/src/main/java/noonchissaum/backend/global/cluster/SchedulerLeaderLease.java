@@ -0,0 +1,55 @@
+package noonchissaum.backend.global.cluster;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import noonchissaum.backend.global.RedisKeys;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 스케줄 작업 리더 lease
+ * 모든 노드에서 같은 @Scheduled 가 돌더라도 lease 를 쥔 노드만 실행한다.
+ * 리더는 실행할 때마다 lease 를 연장하므로 같은 노드가 계속 맡고, 리더가 죽으면 lease 만료 후 다른 노드가 이어받는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SchedulerLeaderLease {
+
+    private static final RedisScript<Long> ACQUIRE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/acquire_scheduler_lease.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ClusterNodeRegistry clusterNodeRegistry;
+
+    /**
+     * 리더일 때만 실행 (lease 는 작업 주기보다 길게)
+     * @return 실행 여부
+     */
+    public boolean runIfLeader(String job, Duration lease, Runnable task) {
+        if (!isLeader(job, lease)) {
+            return false;
+        }
+        task.run();
+        return true;
+    }
+
+    public boolean isLeader(String job, Duration lease) {
+        if (!clusterNodeRegistry.isClusterMode()) {
+            return true;
+        }
+        try {
+            Long acquired = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(RedisKeys.schedulerLease(job)),
+                    clusterNodeRegistry.nodeId(), String.valueOf(lease.toMillis()));
+            return acquired != null && acquired == 1L;
+        } catch (Exception e) {
+            // Redis 장애 시 중복 실행보다 건너뛰는 쪽을 택한다 (다음 주기에 재시도)
+            log.warn("[Cluster] 리더 lease 확인 실패 - job: {}", job, e);
+            return false;
+        }
+    }
+}
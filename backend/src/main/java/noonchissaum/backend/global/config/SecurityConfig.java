@@ -1,5 +1,6 @@
 package noonchissaum.backend.global.config;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import noonchissaum.backend.domain.auth.oauth2.handler.OAuth2FailureHandler;
 import noonchissaum.backend.domain.auth.oauth2.handler.OAuth2SuccessHandler;
@@ -7,6 +8,7 @@ import noonchissaum.backend.domain.auth.oauth2.service.CustomOAuth2UserService;
 import noonchissaum.backend.global.handler.JwtAccessDeniedHandler;
 import noonchissaum.backend.global.handler.JwtAuthenticationEntryPoint;
 import noonchissaum.backend.global.security.JwtAuthenticationFilter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -19,6 +21,8 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -42,6 +46,13 @@ public class SecurityConfig {
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
 
+    // actuator 전용 포트 (서비스 포트와 같거나 없으면 prometheus 는 허용하지 않음)
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
+    @Value("${server.port:8080}")
+    private int serverPort;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
 
@@ -80,6 +91,8 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/auctions/{auctionId}").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/auctions/search").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/auctions/hot-deals").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/auctions/{auctionId}/viewers").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/auctions/{auctionId}/events").permitAll()
 
                         .requestMatchers("/api/auctions").hasAnyRole("USER", "ADMIN")
 
@@ -111,6 +124,13 @@ public class SecurityConfig {
                         // websocket
                         .requestMatchers("/ws/**").permitAll()
 
+                        // 모니터링: health 만 공개, prometheus 수집은 내부망 전용 management 포트로 들어온 요청만 허용
+                        .requestMatchers(new AntPathRequestMatcher("/actuator/health")).permitAll()
+                        .requestMatchers(new AndRequestMatcher(
+                                new AntPathRequestMatcher("/actuator/prometheus"),
+                                this::isManagementPortRequest)).permitAll()
+                        .requestMatchers(new AntPathRequestMatcher("/actuator/**")).denyAll()
+
                         // coupon
                         .requestMatchers("/api/coupons/issues/**").hasAnyRole("USER", "ADMIN")
                         .requestMatchers("/api/coupons/**").hasRole("ADMIN")
@@ -129,6 +149,11 @@ public class SecurityConfig {
                         UsernamePasswordAuthenticationFilter.class);
         return http.build();
     }
+
+    private boolean isManagementPortRequest(HttpServletRequest request) {
+        return managementPort > 0 && managementPort != serverPort && request.getLocalPort() == managementPort;
+    }
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -1,13 +1,18 @@
 package noonchissaum.backend.global.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import noonchissaum.backend.global.websocket.SlowConsumerHandlerDecorator;
 import noonchissaum.backend.global.websocket.StompJwtChannelInterceptor;
+import noonchissaum.backend.global.websocket.WebSocketSessionMetrics;
 
 
 @Configuration
@@ -15,12 +20,54 @@ import noonchissaum.backend.global.websocket.StompJwtChannelInterceptor;
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     private final StompJwtChannelInterceptor stompJwtChannelInterceptor;
+    private final WebSocketSessionMetrics webSocketSessionMetrics;
+
+    // 서버 -> 클라이언트 송신 스레드 풀 (큐가 차면 해당 프레임은 버리고 ws.outbound.dropped 로 집계)
+    @Value("${websocket.outbound.core-pool-size:8}")
+    private int outboundCorePoolSize;
+
+    @Value("${websocket.outbound.max-pool-size:16}")
+    private int outboundMaxPoolSize;
+
+    @Value("${websocket.outbound.queue-capacity:50000}")
+    private int outboundQueueCapacity;
+
+    // 세션별 송신 제한 (넘기면 느린 소비자로 보고 연결 종료)
+    @Value("${websocket.outbound.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+
+    @Value("${websocket.outbound.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    // 느린 소비자 종료 시 close reason 으로 알려줄 재연결 대기 시간
+    @Value("${websocket.outbound.reconnect-hint-ms:1000}")
+    private long reconnectHintMs;
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         registration.interceptors(stompJwtChannelInterceptor);
     }
 
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("ws-outbound-");
+        registration.taskExecutor(executor)
+                .corePoolSize(outboundCorePoolSize)
+                .maxPoolSize(outboundMaxPoolSize)
+                .queueCapacity(outboundQueueCapacity);
+        registration.interceptors(webSocketSessionMetrics);
+        webSocketSessionMetrics.bindOutboundExecutor(executor);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .addDecoratorFactory(handler ->
+                        new SlowConsumerHandlerDecorator(handler, webSocketSessionMetrics, reconnectHintMs));
+    }
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry){
         // 클라이언트가 연결하는 endpoint
@@ -14,10 +14,16 @@ public class WsMessage<T> {
     private SocketMessageType type;
     private String ts; //
     private T payload;
+    // 경매 토픽 이벤트 순번 (경매별 단조 증가, 재연결 시 이어받기 기준)
+    private Long seq;
 
 
     public static <T> WsMessage<T> of(SocketMessageType type, T payload) {
-        return new WsMessage<>(type, OffsetDateTime.now().toString(), payload);
+        return new WsMessage<>(type, OffsetDateTime.now().toString(), payload, null);
+    }
+
+    public static <T> WsMessage<T> sequenced(Long seq, SocketMessageType type, T payload) {
+        return new WsMessage<>(type, OffsetDateTime.now().toString(), payload, seq);
     }
 
 }
@@ -100,6 +100,9 @@ public enum ErrorCode {
     DUPLICATE_BID_REQUEST(HttpStatus.CONFLICT, "B004", "이미 처리중인 입찰입니다."),
     BID_LOCK_ACQUISITION(HttpStatus.TOO_MANY_REQUESTS, "B005", "입찰자가 많아 처리에 실패했습니다. 다시 시도해주세요"),
     BID_INVALID_PAGE(HttpStatus.BAD_REQUEST, "B006", "페이지 요청 값이 올바르지 않습니다."),
+    PROXY_BID_NOT_FOUND(HttpStatus.NOT_FOUND, "B007", "등록된 자동 입찰이 없습니다."),
+    BID_JOURNAL_PENDING(HttpStatus.SERVICE_UNAVAILABLE, "B008", "입찰 반영이 지연되고 있습니다. 잠시 후 다시 시도해주세요"),
+    BID_AMOUNT_NOT_INTEGER(HttpStatus.BAD_REQUEST, "B009", "입찰 금액은 원 단위 정수여야 합니다."),
 
     // Wallet Error
     INSUFFICIENT_BALANCE(HttpStatus.PAYMENT_REQUIRED, "W001", "잔액이 부족합니다."),
@@ -242,7 +242,7 @@ public class RecommendationService {
         return userIds;
     }
 
-    private double jaccard(Set<Long> a, Set<Long> b) {
+    static double jaccard(Set<Long> a, Set<Long> b) {
         if (a.isEmpty() && b.isEmpty()) {
             return 0.0;
         }
@@ -6,13 +6,18 @@ import noonchissaum.backend.global.exception.ApiException;
 import noonchissaum.backend.global.exception.ErrorCode;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.UriComponentsBuilder;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
-import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -33,7 +38,7 @@ public class MailService {
     @Value("${app.front.paths.auction-detail:/auctions/{auctionId}}")
     private String auctionDetailPath;
 
-    /** 비밀번호 재설정 메일 발송 */
+    /** 비밀번호 재설정 메일 발송 (사용자 요청 응답에 결과가 필요하므로 즉시 발송) */
     public void sendPasswordResetMail(String toEmail, String token) {
         String resetLink = UriComponentsBuilder
                 .fromUriString(frontBaseUrl)
@@ -42,75 +47,82 @@ public class MailService {
                 .build()
                 .toUriString();
 
-        String subject = "[IgLoo] 비밀번호 재설정 안내";
-        String html = """
-                <html>
-                <body style="font-family: Arial, sans-serif; line-height: 1.6; color: #111;">
-                    <h2 style="margin-bottom: 16px;">비밀번호 재설정 안내</h2>
-                    <p>아래 버튼을 눌러 비밀번호를 재설정해주세요.</p>
-                    <p style="margin: 24px 0;">
-                        <a href="%s"
-                           style="display: inline-block; padding: 10px 16px; background: #2563eb; color: #fff; text-decoration: none; border-radius: 6px;">
-                            비밀번호 재설정
-                        </a>
-                    </p>
-                    <p>버튼이 동작하지 않으면 아래 링크를 직접 열어주세요.</p>
-                    <p><a href="%s">%s</a></p>
-                    <p style="margin-top: 24px; color: #666;">링크는 15분 동안만 유효합니다.</p>
-                </body>
-                </html>
-                """.formatted(resetLink, resetLink, resetLink);
+        MailTemplate template = MailTemplate.PASSWORD_RESET;
+        String html = template.render(Map.of("resetLink", resetLink));
         try {
-            sendHtmlMail(toEmail, subject, html);
+            sendHtmlMail(toEmail, template.subject(), html);
         } catch (MailException | MessagingException e) {
             log.error("비밀번호 재설정 메일 발송 실패. to={}, reason={}", toEmail, e.getMessage(), e);
             throw new ApiException(ErrorCode.PASSWORD_RESET_MAIL_SEND_FAILED);
         }
     }
 
-    /** 관심 카테고리 신규 경매 알림 메일 발송 */
-    public void sendAuctionReadyNoticeMail(String toEmail, String categoryName, String itemTitle, BigDecimal price, Long auctionId) {
-        String auctionLink = UriComponentsBuilder
+    /** 경매 상세 화면 링크 */
+    public String auctionLink(Long auctionId) {
+        return UriComponentsBuilder
                 .fromUriString(frontBaseUrl)
                 .path(auctionDetailPath)
                 .buildAndExpand(auctionId)
                 .toUriString();
+    }
 
-        String subject = "[IgLoo] 관심 카테고리 신규 경매 알림";
-        String html = """
-                <html>
-                <body style="font-family: Arial, sans-serif; line-height: 1.6; color: #111;">
-                    <h2 style="margin-bottom: 16px;">관심 카테고리에 새 경매가 시작되었어요</h2>
-                    <p><strong>카테고리:</strong> %s</p>
-                    <p><strong>상품명:</strong> %s</p>
-                    <p><strong>시작가:</strong> %s원</p>
-                    <p style="margin-top: 16px;">
-                        <a href="%s"
-                           style="display: inline-block; padding: 10px 16px; background: #2563eb; color: #fff; text-decoration: none; border-radius: 6px;">
-                            경매 보러가기
-                        </a>
-                    </p>
-                    <p>버튼이 동작하지 않으면 아래 링크를 직접 열어주세요.</p>
-                    <p><a href="%s">%s</a></p>
-                </body>
-                </html>
-                """.formatted(categoryName, itemTitle, price.toPlainString(), auctionLink, auctionLink, auctionLink);
+    /**
+     * 여러 메일을 SMTP 연결 하나로 발송 (JavaMailSender.send(MimeMessage...) 는 한 번 연결한 transport 로 전부 보낸다)
+     * @return 발송 실패한 메일 id 와 사유
+     */
+    public Map<Long, String> sendBatch(List<OutboundMail> mails) {
+        Map<Long, String> failures = new HashMap<>();
+        Map<MimeMessage, Long> ids = new IdentityHashMap<>();
+        List<MimeMessage> messages = new ArrayList<>(mails.size());
+        for (OutboundMail mail : mails) {
+            try {
+                MimeMessage message = createHtmlMessage(mail.toEmail(), mail.subject(), mail.html());
+                messages.add(message);
+                ids.put(message, mail.id());
+            } catch (MessagingException e) {
+                failures.put(mail.id(), e.getMessage());
+            }
+        }
+        if (messages.isEmpty()) {
+            return failures;
+        }
 
         try {
-            sendHtmlMail(toEmail, subject, html);
-        } catch (MailException | MessagingException e) {
-            log.warn("관심 카테고리 알림 메일 발송 실패. to={}, reason={}", toEmail, e.getMessage());
+            mailSender.send(messages.toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                ids.values().forEach(id -> failures.put(id, e.getMessage()));
+            } else {
+                e.getFailedMessages().forEach((message, cause) -> {
+                    Long id = ids.get(message);
+                    if (id != null) {
+                        failures.put(id, cause.getMessage());
+                    }
+                });
+            }
+        } catch (MailException e) {
+            // 인증/연결 실패 등 배치 전체 실패
+            ids.values().forEach(id -> failures.put(id, e.getMessage()));
         }
+        return failures;
     }
 
     /** HTML 메일 공통 전송 메서드 */
     private void sendHtmlMail(String toEmail, String subject, String html) throws MessagingException {
+        mailSender.send(createHtmlMessage(toEmail, subject, html));
+    }
+
+    private MimeMessage createHtmlMessage(String toEmail, String subject, String html) throws MessagingException {
         MimeMessage message = mailSender.createMimeMessage();
         MimeMessageHelper helper = new MimeMessageHelper(message, "UTF-8");
         helper.setFrom(fromEmail);
         helper.setTo(toEmail);
         helper.setSubject(subject);
         helper.setText(html, true);
-        mailSender.send(message);
+        return message;
+    }
+
+    /** 배치 발송 단위 */
+    public record OutboundMail(Long id, String toEmail, String subject, String html) {
     }
 }
@@ -0,0 +1,129 @@
+package noonchissaum.backend.global.service;
+
+import org.springframework.web.util.HtmlUtils;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메일 HTML 템플릿
+ * 본문의 {{name}} 자리표시자를 enum 초기화 시점에 한 번만 분해해 두고, 발송 시에는 조각을 이어 붙이기만 한다.
+ * 치환 값은 HTML escape 후 삽입하고, 이미 렌더링한 조각을 넣는 {{&name}} 만 그대로 삽입한다.
+ */
+public enum MailTemplate {
+
+    PASSWORD_RESET("[IgLoo] 비밀번호 재설정 안내", """
+            <html>
+            <body style="font-family: Arial, sans-serif; line-height: 1.6; color: #111;">
+                <h2 style="margin-bottom: 16px;">비밀번호 재설정 안내</h2>
+                <p>아래 버튼을 눌러 비밀번호를 재설정해주세요.</p>
+                <p style="margin: 24px 0;">
+                    <a href="{{resetLink}}"
+                       style="display: inline-block; padding: 10px 16px; background: #2563eb; color: #fff; text-decoration: none; border-radius: 6px;">
+                        비밀번호 재설정
+                    </a>
+                </p>
+                <p>버튼이 동작하지 않으면 아래 링크를 직접 열어주세요.</p>
+                <p><a href="{{resetLink}}">{{resetLink}}</a></p>
+                <p style="margin-top: 24px; color: #666;">링크는 15분 동안만 유효합니다.</p>
+            </body>
+            </html>
+            """),
+
+    AUCTION_READY_NOTICE("[IgLoo] 관심 카테고리 신규 경매 알림", """
+            <html>
+            <body style="font-family: Arial, sans-serif; line-height: 1.6; color: #111;">
+                <h2 style="margin-bottom: 16px;">관심 카테고리에 새 경매가 시작되었어요</h2>
+                <p><strong>카테고리:</strong> {{categoryName}}</p>
+                <p><strong>상품명:</strong> {{itemTitle}}</p>
+                <p><strong>시작가:</strong> {{price}}원</p>
+                <p style="margin-top: 16px;">
+                    <a href="{{auctionLink}}"
+                       style="display: inline-block; padding: 10px 16px; background: #2563eb; color: #fff; text-decoration: none; border-radius: 6px;">
+                        경매 보러가기
+                    </a>
+                </p>
+                <p>버튼이 동작하지 않으면 아래 링크를 직접 열어주세요.</p>
+                <p><a href="{{auctionLink}}">{{auctionLink}}</a></p>
+            </body>
+            </html>
+            """),
+
+    AUCTION_DIGEST("[IgLoo] 관심 카테고리 신규 경매 모아보기", """
+            <html>
+            <body style="font-family: Arial, sans-serif; line-height: 1.6; color: #111;">
+                <h2 style="margin-bottom: 16px;">관심 카테고리에 새 경매 {{auctionCount}}건이 시작되었어요</h2>
+                <ul style="padding-left: 20px;">
+            {{&auctionItems}}
+                </ul>
+            </body>
+            </html>
+            """),
+
+    // AUCTION_DIGEST 목록 항목 조각 (단독 발송용 아님)
+    AUCTION_DIGEST_ITEM("", """
+                    <li style="margin-bottom: 12px;">
+                        <strong>[{{categoryName}}]</strong> <a href="{{auctionLink}}">{{itemTitle}}</a><br>
+                        시작가 {{price}}원
+                    </li>
+            """);
+
+    private final String subject;
+    // 짝수 index: 고정 문자열, 홀수 index: 자리표시자 이름
+    private final String[] segments;
+    // 자리표시자별 escape 생략 여부 ({{&name}})
+    private final boolean[] raw;
+    private final int literalLength;
+
+    MailTemplate(String subject, String body) {
+        this.subject = subject;
+        this.segments = compile(body);
+        this.raw = new boolean[segments.length];
+        int length = 0;
+        for (int i = 0; i < segments.length; i++) {
+            if ((i & 1) == 0) {
+                length += segments[i].length();
+            } else if (segments[i].startsWith("&")) {
+                raw[i] = true;
+                segments[i] = segments[i].substring(1).trim();
+            }
+        }
+        this.literalLength = length;
+    }
+
+    public String subject() {
+        return subject;
+    }
+
+    /** 자리표시자를 치환한 HTML 본문 (없는 값은 빈 문자열) */
+    public String render(Map<String, String> params) {
+        StringBuilder html = new StringBuilder(literalLength + 256);
+        for (int i = 0; i < segments.length; i++) {
+            if ((i & 1) == 0) {
+                html.append(segments[i]);
+            } else {
+                String value = params.get(segments[i]);
+                if (value != null) {
+                    html.append(raw[i] ? value : HtmlUtils.htmlEscape(value, "UTF-8"));
+                }
+            }
+        }
+        return html.toString();
+    }
+
+    private static String[] compile(String body) {
+        List<String> parts = new ArrayList<>();
+        int from = 0;
+        while (true) {
+            int open = body.indexOf("{{", from);
+            int close = open < 0 ? -1 : body.indexOf("}}", open + 2);
+            if (close < 0) {
+                parts.add(body.substring(from));
+                return parts.toArray(String[]::new);
+            }
+            parts.add(body.substring(from, open));
+            parts.add(body.substring(open + 2, close).trim());
+            from = close + 2;
+        }
+    }
+}
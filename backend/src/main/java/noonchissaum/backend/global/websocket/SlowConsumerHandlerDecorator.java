@@ -0,0 +1,61 @@
+package noonchissaum.backend.global.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+import java.io.IOException;
+
+/**
+ * 느린 소비자 세션 정리 + 재연결 힌트
+ * 세션별 송신 버퍼/시간 제한(send-buffer-size-limit, send-time-limit)을 넘기면 STOMP 핸들러가 세션을 SESSION_NOT_RELIABLE 로 닫는다.
+ * 이때 close reason 에 재연결 대기 시간을 실어 보내, 클라이언트가 잠시 뒤 재연결하고 놓친 경매 이벤트는 replay 로 이어받게 한다.
+ */
+@Slf4j
+public class SlowConsumerHandlerDecorator extends WebSocketHandlerDecorator {
+
+    public static final String SLOW_CONSUMER_REASON = "SLOW_CONSUMER";
+
+    private final WebSocketSessionMetrics metrics;
+    private final long reconnectHintMs;
+
+    public SlowConsumerHandlerDecorator(WebSocketHandler delegate, WebSocketSessionMetrics metrics, long reconnectHintMs) {
+        super(delegate);
+        this.metrics = metrics;
+        this.reconnectHintMs = reconnectHintMs;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        metrics.sessionOpened();
+        super.afterConnectionEstablished(new EvictionHintSession(session));
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+        metrics.sessionClosed();
+        super.afterConnectionClosed(session, closeStatus);
+    }
+
+    /**
+     * 제한 초과로 닫힐 때 reason 에 재연결 힌트를 붙이는 세션
+     */
+    private final class EvictionHintSession extends WebSocketSessionDecorator {
+
+        private EvictionHintSession(WebSocketSession session) {
+            super(session);
+        }
+
+        @Override
+        public void close(CloseStatus status) throws IOException {
+            if (status.getCode() == CloseStatus.SESSION_NOT_RELIABLE.getCode()) {
+                metrics.sessionEvicted();
+                log.warn("느린 소비자 세션 종료 sessionId={}", getId());
+                status = CloseStatus.SESSION_NOT_RELIABLE.withReason(SLOW_CONSUMER_REASON + ";retry-after-ms=" + reconnectHintMs);
+            }
+            super.close(status);
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package noonchissaum.backend.global.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 서버 → 클라이언트 STOMP 메시지 전송 창구
+ * 두 모드 모두 메시지당 JSON 직렬화는 한 번이며, 메시지 컨버터를 거치지 않고 직렬화된 byte[] 를 브로커에 넘긴다.
+ * - local: 이 노드의 simple broker 로 바로 전달 (단일 인스턴스)
+ * - redis: 페이로드를 한 번만 JSON 직렬화해 Redis pub/sub 으로 발행하고,
+ *          모든 노드(발행 노드 포함)가 구독해 자기 세션에 직렬화된 바이트 그대로 전달
+ *
+ * 발행 포맷: destination \n user(없으면 빈 값) \n JSON 페이로드
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StompMessageRelay implements MessageListener {
+
+    private static final byte SEPARATOR = '\n';
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+    private static final int MAX_POOLED_BUFFER_SIZE = 64 * 1024;
+    private static final ThreadLocal<PooledBuffer> BUFFERS = ThreadLocal.withInitial(PooledBuffer::new);
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+
+    @Value("${websocket.relay.mode:local}")
+    private String mode;
+
+    // 모든 노드가 같은 채널을 구독
+    @Value("${websocket.relay.channel:ws:relay}")
+    private String channel;
+
+    @PostConstruct
+    public void subscribe() {
+        if (isRedisMode()) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+            log.info("STOMP Redis relay 구독 시작 channel={}", channel);
+        }
+    }
+
+    /**
+     * topic 브로드캐스트 (/topic/auction/{id}, /topic/chat.{roomId} 등)
+     */
+    public void convertAndSend(String destination, Object payload) {
+        send(destination, null, payload);
+    }
+
+    /**
+     * 개인 큐 전송 (/user/{userId}/queue/...)
+     */
+    public void convertAndSendToUser(String user, String destination, Object payload) {
+        send(destination, user, payload);
+    }
+
+    /**
+     * 여러 사용자 큐로 한 번에 전송 (대량 알림용, redis 모드는 파이프라인 발행 1회)
+     */
+    public void convertAndSendToUsers(String destination, List<UserPayload> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        boolean redis = isRedisMode();
+        List<byte[]> frames = new ArrayList<>(messages.size());
+        List<Integer> jsonOffsets = new ArrayList<>(messages.size());
+        PooledBuffer buffer = BUFFERS.get();
+        try {
+            for (UserPayload message : messages) {
+                buffer.reset();
+                if (redis) {
+                    writeHeader(buffer, destination, message.user());
+                }
+                jsonOffsets.add(buffer.size());
+                objectMapper.writeValue(buffer, message.payload());
+                frames.add(buffer.toByteArray());
+            }
+        } catch (IOException e) {
+            log.error("STOMP relay 직렬화 실패 destination={}", destination, e);
+            return;
+        } finally {
+            buffer.release();
+        }
+
+        if (!redis) {
+            for (int i = 0; i < frames.size(); i++) {
+                deliver(destination, messages.get(i).user(), frames.get(i));
+            }
+            return;
+        }
+        byte[] channelBytes = channel.getBytes(StandardCharsets.UTF_8);
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (byte[] frame : frames) {
+                    connection.publish(channelBytes, frame);
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("STOMP relay 일괄 발행 실패 - 로컬 전달로 대체 destination={}, count={}", destination, frames.size(), e);
+            for (int i = 0; i < frames.size(); i++) {
+                byte[] frame = frames.get(i);
+                deliver(destination, messages.get(i).user(), Arrays.copyOfRange(frame, jsonOffsets.get(i), frame.length));
+            }
+        }
+    }
+
+    /**
+     * 이미 직렬화된 JSON 을 topic 으로 전송 (경매 이벤트처럼 직렬화 결과를 다른 곳에도 쓰는 경우)
+     */
+    public void sendSerialized(String destination, byte[] json) {
+        if (!isRedisMode()) {
+            deliver(destination, null, json);
+            return;
+        }
+        PooledBuffer buffer = BUFFERS.get();
+        byte[] frame;
+        try {
+            writeHeader(buffer, destination, null);
+            int jsonOffset = buffer.size();
+            buffer.writeBytes(json);
+            frame = buffer.toByteArray();
+            publish(destination, null, frame, jsonOffset);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * 스레드별 재사용 버퍼에 (redis 모드면 헤더 +) JSON 을 한 번에 쓰고, 완성된 byte[] 한 개만 새로 만든다.
+     * 이후 구독 세션 수와 무관하게 같은 byte[] 를 공유한다.
+     */
+    private void send(String destination, String user, Object payload) {
+        boolean redis = isRedisMode();
+        PooledBuffer buffer = BUFFERS.get();
+        byte[] frame;
+        int jsonOffset;
+        try {
+            if (redis) {
+                writeHeader(buffer, destination, user);
+            }
+            jsonOffset = buffer.size();
+            objectMapper.writeValue(buffer, payload);
+            frame = buffer.toByteArray();
+        } catch (IOException e) {
+            log.error("STOMP relay 직렬화 실패 destination={}", destination, e);
+            return;
+        } finally {
+            buffer.release();
+        }
+
+        if (!redis) {
+            deliver(destination, user, frame);
+            return;
+        }
+        publish(destination, user, frame, jsonOffset);
+    }
+
+    private void publish(String destination, String user, byte[] frame, int jsonOffset) {
+        byte[] channelBytes = channel.getBytes(StandardCharsets.UTF_8);
+        try {
+            redisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(channelBytes, frame));
+        } catch (RuntimeException e) {
+            // Redis 장애 시 최소한 이 노드의 세션에는 전달
+            log.warn("STOMP relay 발행 실패 - 로컬 전달로 대체 destination={}", destination, e);
+            deliver(destination, user, Arrays.copyOfRange(frame, jsonOffset, frame.length));
+        }
+    }
+
+    @Override
+    public void onMessage(org.springframework.data.redis.connection.Message message, byte[] pattern) {
+        byte[] body = message.getBody();
+        int first = indexOf(body, 0);
+        int second = first < 0 ? -1 : indexOf(body, first + 1);
+        if (second < 0) {
+            log.warn("STOMP relay 메시지 포맷 오류 length={}", body.length);
+            return;
+        }
+        String destination = new String(body, 0, first, StandardCharsets.UTF_8);
+        String user = new String(body, first + 1, second - first - 1, StandardCharsets.UTF_8);
+        byte[] json = Arrays.copyOfRange(body, second + 1, body.length);
+        deliver(destination, user.isEmpty() ? null : user, json);
+    }
+
+    /**
+     * 이미 직렬화된 JSON 을 로컬 브로커로 전달 (메시지 컨버터를 거치지 않음)
+     */
+    private void deliver(String destination, String user, byte[] json) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        Message<byte[]> message = MessageBuilder.createMessage(json, accessor.getMessageHeaders());
+
+        String target = user == null ? destination : messagingTemplate.getUserDestinationPrefix() + user + destination;
+        messagingTemplate.send(target, message);
+    }
+
+    private static void writeHeader(ByteArrayOutputStream out, String destination, String user) {
+        out.writeBytes(destination.getBytes(StandardCharsets.UTF_8));
+        out.write(SEPARATOR);
+        if (user != null) {
+            out.writeBytes(user.getBytes(StandardCharsets.UTF_8));
+        }
+        out.write(SEPARATOR);
+    }
+
+    private static int indexOf(byte[] body, int from) {
+        for (int i = from; i < body.length; i++) {
+            if (body[i] == SEPARATOR) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isRedisMode() {
+        return "redis".equalsIgnoreCase(mode);
+    }
+
+    /**
+     * 사용자별 전송 단위
+     */
+    public record UserPayload(String user, Object payload) {
+    }
+
+    /**
+     * 직렬화용 재사용 버퍼 (스레드당 1개, 큰 메시지로 커진 버퍼는 반납 시 버린다)
+     */
+    private static final class PooledBuffer extends ByteArrayOutputStream {
+
+        PooledBuffer() {
+            super(INITIAL_BUFFER_SIZE);
+        }
+
+        void release() {
+            if (buf.length > MAX_POOLED_BUFFER_SIZE) {
+                buf = new byte[INITIAL_BUFFER_SIZE];
+            }
+            reset();
+        }
+    }
+}
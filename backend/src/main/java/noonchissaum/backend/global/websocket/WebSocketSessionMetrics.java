@@ -0,0 +1,130 @@
+package noonchissaum.backend.global.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * WebSocket 세션/구독/송신 지표
+ * - ws.sessions.active: 연결된 세션 수
+ * - ws.subscriptions{kind}: 목적지 종류별 구독 수 (경매 id 별로 쪼개면 카디널리티가 커서 종류로 묶는다)
+ * - ws.outbound.queue.depth: clientOutbound 실행기 대기 프레임 수
+ * - ws.outbound.dropped: 실행기 큐가 가득 차 버린 프레임 수 / ws.sessions.evicted: 느린 소비자로 끊은 세션 수
+ */
+@Component
+@RequiredArgsConstructor
+public class WebSocketSessionMetrics implements ChannelInterceptor {
+
+    private static final List<String> DESTINATION_KINDS = List.of("auction", "chat", "queue", "other");
+
+    private final MeterRegistry meterRegistry;
+    // 브로커 설정 이후에 만들어지므로 지표를 읽을 때 조회
+    private final ObjectProvider<SimpUserRegistry> userRegistryProvider;
+
+    private final AtomicInteger activeSessions = new AtomicInteger();
+    private volatile ThreadPoolTaskExecutor outboundExecutor;
+    private Counter droppedFrames;
+    private Counter evictedSessions;
+
+    @PostConstruct
+    public void registerMetrics() {
+        Gauge.builder("ws.sessions.active", activeSessions, AtomicInteger::get)
+                .description("연결된 WebSocket 세션 수")
+                .register(meterRegistry);
+        for (String kind : DESTINATION_KINDS) {
+            Gauge.builder("ws.subscriptions", this, metrics -> metrics.subscriptionCount(kind))
+                    .description("목적지 종류별 구독 수")
+                    .tag("kind", kind)
+                    .register(meterRegistry);
+        }
+        Gauge.builder("ws.outbound.queue.depth", this, WebSocketSessionMetrics::outboundQueueDepth)
+                .description("clientOutbound 실행기에서 대기 중인 프레임 수")
+                .register(meterRegistry);
+        droppedFrames = Counter.builder("ws.outbound.dropped")
+                .description("송신 큐 초과로 버린 프레임 수")
+                .register(meterRegistry);
+        evictedSessions = Counter.builder("ws.sessions.evicted")
+                .description("송신 버퍼/시간 제한 초과로 끊은 느린 소비자 세션 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 큐 깊이를 읽을 clientOutbound 실행기 연결 (WebSocketConfig 에서 호출)
+     */
+    public void bindOutboundExecutor(ThreadPoolTaskExecutor executor) {
+        this.outboundExecutor = executor;
+    }
+
+    public void sessionOpened() {
+        activeSessions.incrementAndGet();
+    }
+
+    public void sessionClosed() {
+        activeSessions.decrementAndGet();
+    }
+
+    public void sessionEvicted() {
+        evictedSessions.increment();
+    }
+
+    /**
+     * clientOutbound 채널 송신 실패(실행기 큐 초과 등) = 해당 세션에 전달하지 못하고 버린 프레임
+     */
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        if (ex != null) {
+            droppedFrames.increment();
+        }
+    }
+
+    /**
+     * 목적지 종류(auction/chat/queue/other)별 구독 수
+     */
+    public int subscriptionCount(String kind) {
+        SimpUserRegistry registry = userRegistryProvider.getIfAvailable();
+        if (registry == null) {
+            return 0;
+        }
+        return registry.findSubscriptions(subscription -> kind.equals(kindOf(subscription.getDestination()))).size();
+    }
+
+    public double outboundQueueDepth() {
+        ThreadPoolTaskExecutor executor = outboundExecutor;
+        if (executor == null) {
+            return 0;
+        }
+        try {
+            return executor.getThreadPoolExecutor().getQueue().size();
+        } catch (IllegalStateException e) {
+            // 아직 초기화 전
+            return 0;
+        }
+    }
+
+    private static String kindOf(String destination) {
+        if (destination == null) {
+            return "other";
+        }
+        if (destination.startsWith("/topic/auction/")) {
+            return "auction";
+        }
+        if (destination.startsWith("/topic/chat.")) {
+            return "chat";
+        }
+        if (destination.startsWith("/user/") || destination.startsWith("/queue/")) {
+            return "queue";
+        }
+        return "other";
+    }
+}
@@ -0,0 +1,21 @@
+--[[
+  스케줄러 리더 lease 획득/연장
+  비어 있으면 이 노드로 잡고, 이미 이 노드가 쥐고 있으면 만료만 연장한다.
+
+  KEYS[1]  scheduler:lease:{job}
+  ARGV[1]  nodeId
+  ARGV[2]  lease 시간 (ms)
+
+  반환: 1 리더 / 0 다른 노드가 보유 중
+]]
+
+local holder = redis.call('GET', KEYS[1])
+if holder == ARGV[1] then
+    redis.call('PEXPIRE', KEYS[1], ARGV[2])
+    return 1
+end
+if not holder then
+    redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+    return 1
+end
+return 0
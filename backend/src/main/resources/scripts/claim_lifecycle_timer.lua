@@ -0,0 +1,18 @@
+--[[
+  경매 생명주기 타이머 선점
+  만기가 지난 타이머만 ZSET 에서 제거하고 1 을 반환한다. (여러 노드 중 한 노드만 실행)
+  그 사이 연장 등으로 만기가 뒤로 밀렸으면 제거하지 않는다.
+
+  KEYS[1]  auction:lifecycle:timers
+  ARGV[1]  member ({auctionId}:{phase})
+  ARGV[2]  wheel 에 올린 만기 (epoch ms)
+
+  반환: 1 선점 / 0 이미 처리됐거나 아직 만기 전
+]]
+
+local score = redis.call('ZSCORE', KEYS[1], ARGV[1])
+if not score or tonumber(score) > tonumber(ARGV[2]) then
+    return 0
+end
+redis.call('ZREM', KEYS[1], ARGV[1])
+return 1
@@ -0,0 +1,17 @@
+--[[
+  마감 연장 (anti-sniping) compare-and-set
+  호출 측이 읽은 endTime 그대로이고 아직 연장 전일 때만 새 endTime 으로 바꾼다.
+
+  KEYS[1]  auction:{id}:state
+  ARGV[1]  expected endTime
+  ARGV[2]  extended endTime
+
+  반환: 1 연장됨 / 0 이미 연장됐거나 endTime 이 바뀜
+]]
+
+local state = redis.call('HMGET', KEYS[1], 'endTime', 'isExtended')
+if state[1] ~= ARGV[1] or state[2] == 'true' then
+    return 0
+end
+redis.call('HSET', KEYS[1], 'endTime', ARGV[2], 'isExtended', 'true')
+return 1
@@ -0,0 +1,51 @@
+--[[
+  경매 상태 해시 적재 (DB → Redis)
+  merge: write-behind 로 DB 반영이 늦을 수 있으므로, Redis 쪽이 더 최신이면 해당 필드는 덮어쓰지 않는다. (캐시 누락 복구/상태 전환)
+  overwrite: DB 가 기준인 변경(입찰 롤백, 차단 해제로 인한 마감 이동, 결과 확정)은 두 보호 조건 없이 그대로 덮어쓴다.
+
+  KEYS[1]    auction:{id}:state
+  KEYS[2..]  구 필드별 키 (있으면 삭제)
+
+  ARGV[1]    TTL (seconds)
+  ARGV[2]    적재 모드 (merge | overwrite)
+  ARGV[3..]  field, value 쌍 (AuctionStateFields)
+]]
+
+local incoming = {}
+for i = 3, #ARGV, 2 do
+    incoming[ARGV[i]] = ARGV[i + 1]
+end
+
+if ARGV[2] ~= 'overwrite' then
+    local existing = redis.call('HMGET', KEYS[1], 'currentBidCount', 'isExtended')
+    local existingCount = tonumber(existing[1])
+    local incomingCount = tonumber(incoming['currentBidCount']) or 0
+
+    -- 입찰 필드: Redis 입찰수가 더 크면 아직 DB 에 flush 되지 않은 입찰이 있는 것
+    if existingCount ~= nil and existingCount > incomingCount then
+        incoming['currentPrice'] = nil
+        incoming['currentBidder'] = nil
+        incoming['currentBidCount'] = nil
+    end
+
+    -- 연장 필드: Redis 에서 이미 연장됐는데 DB 는 아직이면 유지
+    if existing[2] == 'true' and incoming['isExtended'] ~= 'true' then
+        incoming['endTime'] = nil
+        incoming['isExtended'] = nil
+    end
+end
+
+local args = {}
+for field, value in pairs(incoming) do
+    args[#args + 1] = field
+    args[#args + 1] = value
+end
+if #args > 0 then
+    redis.call('HSET', KEYS[1], unpack(args))
+end
+redis.call('EXPIRE', KEYS[1], ARGV[1])
+
+if #KEYS > 1 then
+    redis.call('DEL', unpack(KEYS, 2))
+end
+return 1
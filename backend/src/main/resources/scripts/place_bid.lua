@@ -0,0 +1,165 @@
+--[[
+  입찰 엔진 (script 모드)
+  검증 -> 지갑 차감/환불 -> 경매 상태 갱신 -> 입찰 저널 적재를 하나의 원자적 스크립트로 처리한다.
+
+  KEYS[1]  bid_idempotency:{requestId}
+  KEYS[2]  auction:{id}:state (hash, AuctionStateFields)
+  KEYS[3]  user:{userId}:balance
+  KEYS[4]  user:{userId}:lockedBalance
+  KEYS[5]  bid_journal (stream)
+  KEYS[6]  pending:user:{userId}
+  KEYS[7]  lock:auction:{id} (Redisson 경매 락)
+  KEYS[8]  lock:user:{userId} (Redisson 유저 락)
+  KEYS[9]  user:{previousBidderId}:balance        (이전 입찰자가 있을 때만)
+  KEYS[10] user:{previousBidderId}:lockedBalance  (이전 입찰자가 있을 때만)
+  KEYS[11] pending:user:{previousBidderId}        (이전 입찰자가 있을 때만)
+  KEYS[12] lock:user:{previousBidderId}           (이전 입찰자가 있을 때만)
+
+  ARGV[1]  userId
+  ARGV[2]  bidAmount (정수 문자열, 가격 저장용)
+  ARGV[3]  walletAmount (정수 문자열, 지갑 차감용)
+  ARGV[4]  now (LocalDateTime ISO)
+  ARGV[5]  requestId
+  ARGV[6]  auctionId
+  ARGV[7]  createdAt (epoch millis)
+  ARGV[8]  idempotency TTL (seconds)
+  ARGV[9]  호출 측이 읽은 이전 입찰자 ID (없으면 -1)
+
+  이전 입찰자 키는 호출 측이 현재 입찰자를 미리 읽어 KEYS 로 넘기고,
+  스크립트 안에서 그 사이 입찰자가 바뀌었으면 STATE_CHANGED 로 돌려보내 다시 구성하게 한다.
+  락 기반 작업(차단 롤백, 충전/출금 등 지갑 변경)과 겹치지 않도록 관련 Redisson 락이 잡혀 있으면 아무것도 쓰지 않고 BID_LOCK_ACQUISITION 을 반환한다.
+
+  반환: { code, previousBidderId, previousPrice, bidCount }
+  code 는 OK / STATE_MISSING / BALANCE_MISSING / STATE_CHANGED 이거나 ErrorCode 이름
+]]
+
+-- LocalDateTime.toString()은 초가 0이면 생략하므로 비교 전에 맞춰준다.
+local function normalizeTime(value)
+    if string.len(value) == 16 then
+        return value .. ':00'
+    end
+    return value
+end
+
+-- 금액은 원 단위 정수만 허용 (INCRBY/DECRBY 가 실패하면 앞선 쓰기가 남으므로 쓰기 전에 거른다)
+if not string.match(ARGV[2], '^%d+$') or ARGV[2] ~= ARGV[3] then
+    return { 'BID_AMOUNT_NOT_INTEGER' }
+end
+
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    return { 'DUPLICATE_BID_REQUEST' }
+end
+
+local state = redis.call('HMGET', KEYS[2],
+        'currentPrice', 'currentBidder', 'currentBidCount', 'startPrice', 'status', 'endTime')
+local rawPrice = state[1]
+local rawBidder = state[2]
+local rawBidCount = state[3]
+local rawStartPrice = state[4]
+local rawStatus = state[5]
+local rawEndTime = state[6]
+
+if not rawPrice or not rawBidder or not rawBidCount or not rawStartPrice or not rawStatus or not rawEndTime then
+    return { 'STATE_MISSING' }
+end
+if rawStatus == '' or rawEndTime == '' then
+    return { 'AUCTION_REDIS_STATE_MISSING' }
+end
+
+local userId = ARGV[1]
+local previousBidderId = rawBidder
+if previousBidderId == '' then
+    previousBidderId = '-1'
+end
+local hasPrevious = previousBidderId ~= '-1'
+
+-- 호출 측이 KEYS 를 구성한 뒤 입찰자가 바뀌었으면 다시 구성
+if previousBidderId ~= ARGV[9] then
+    return { 'STATE_CHANGED' }
+end
+if not string.match(rawPrice, '^%d+$') then
+    return { 'AUCTION_REDIS_STATE_INVALID' }
+end
+
+-- 락 기반 작업이 진행 중이면 끝날 때까지 쓰지 않음
+if redis.call('EXISTS', KEYS[7]) == 1 or redis.call('EXISTS', KEYS[8]) == 1
+        or (hasPrevious and redis.call('EXISTS', KEYS[12]) == 1) then
+    return { 'BID_LOCK_ACQUISITION' }
+end
+
+-- 지갑 캐시가 없으면 호출 측에서 DB 로드 후 재시도
+local rawBalance = redis.call('GET', KEYS[3])
+if not rawBalance or redis.call('EXISTS', KEYS[4]) == 0 then
+    return { 'BALANCE_MISSING', userId }
+end
+
+local prevBalanceKey = KEYS[9]
+local prevLockedKey = KEYS[10]
+if hasPrevious and (redis.call('EXISTS', prevBalanceKey) == 0 or redis.call('EXISTS', prevLockedKey) == 0) then
+    return { 'BALANCE_MISSING', previousBidderId }
+end
+
+-- 최소 입찰가 = 현재가 + max(최초가의 10%(올림), 100원)
+local bidAmount = tonumber(ARGV[2])
+local currentPrice = tonumber(rawPrice) or 0
+local bidCount = tonumber(rawBidCount) or 0
+local startPrice = tonumber(rawStartPrice) or 0
+local minIncrement = math.max(math.ceil(startPrice / 10), 100)
+local minBid = currentPrice
+if bidCount > 0 then
+    minBid = currentPrice + minIncrement
+end
+if bidAmount < minBid then
+    return { 'LOW_BID_AMOUNT' }
+end
+
+-- 연속 입찰 체크
+if rawBidder == userId then
+    return { 'CANNOT_BID_CONTINUOUS' }
+end
+
+-- 경매 상태/시간 체크
+if rawStatus == 'TEMP_BLOCKED' or rawStatus == 'BLOCKED' or rawStatus == 'BLOCKED_ENDED' then
+    return { 'AUCTION_BLOCKED' }
+end
+if rawStatus ~= 'RUNNING' and rawStatus ~= 'DEADLINE' then
+    return { 'AUCTION_NOT_RUNNING' }
+end
+if normalizeTime(ARGV[4]) > normalizeTime(rawEndTime) then
+    return { 'AUCTION_ENDED' }
+end
+
+-- 가용 잔액 체크
+if tonumber(rawBalance) < bidAmount then
+    return { 'INSUFFICIENT_BALANCE' }
+end
+
+-- 신규 입찰자 동결 + 이전 입찰자 환불
+redis.call('DECRBY', KEYS[3], ARGV[3])
+redis.call('INCRBY', KEYS[4], ARGV[3])
+if hasPrevious then
+    redis.call('INCRBY', prevBalanceKey, rawPrice)
+    redis.call('DECRBY', prevLockedKey, rawPrice)
+end
+
+-- 새로운 1등 정보 저장 (HSET 은 setRedis 로 잡힌 TTL 유지)
+redis.call('HSET', KEYS[2], 'currentPrice', ARGV[2], 'currentBidder', userId)
+local newBidCount = redis.call('HINCRBY', KEYS[2], 'currentBidCount', 1)
+
+-- 입찰 저널 적재 (Bid, Wallet DB 반영용, 필드는 BidJournalFields 와 동일)
+redis.call('XADD', KEYS[5], '*',
+        'auctionId', ARGV[6],
+        'userId', userId,
+        'bidAmount', ARGV[2],
+        'requestId', ARGV[5],
+        'previousBidderId', previousBidderId,
+        'refundAmount', rawPrice,
+        'createdAt', ARGV[7])
+redis.call('SADD', KEYS[6], ARGV[5])
+if hasPrevious then
+    redis.call('SADD', KEYS[11], ARGV[5])
+end
+
+redis.call('SET', KEYS[1], 'Y', 'EX', ARGV[8])
+
+return { 'OK', previousBidderId, rawPrice, tostring(newBidCount) }
@@ -0,0 +1,36 @@
+--[[
+  입찰 저널 재할당
+  죽었거나 멈춘 컨슈머가 잡고 있던(min idle 이상 ACK 안 된) 엔트리를 현재 컨슈머로 가져온다.
+
+  KEYS[1]  bid_journal (stream)
+
+  ARGV[1]  group
+  ARGV[2]  consumer
+  ARGV[3]  min idle (ms)
+  ARGV[4]  start id (처음은 0-0)
+  ARGV[5]  count
+
+  반환: { nextStartId, { id, deliveryCount, { field, value, ... } }, ... }
+  nextStartId 가 0-0 이면 한 바퀴 다 돈 것
+]]
+
+local claimed = redis.call('XAUTOCLAIM', KEYS[1], ARGV[1], ARGV[2], ARGV[3], ARGV[4], 'COUNT', ARGV[5])
+local result = { claimed[1] }
+
+for _, entry in ipairs(claimed[2]) do
+    local id = entry[1]
+    local fields = entry[2]
+    if fields then
+        local pending = redis.call('XPENDING', KEYS[1], ARGV[1], id, id, 1)
+        local deliveries = 0
+        if pending[1] then
+            deliveries = pending[1][4]
+        end
+        table.insert(result, { id, tostring(deliveries), fields })
+    else
+        -- 이미 지워진 엔트리가 PEL 에만 남은 경우 (Redis 6.2) → 정리
+        redis.call('XACK', KEYS[1], ARGV[1], id)
+    end
+end
+
+return result
@@ -0,0 +1,263 @@
+--[[
+  자동 입찰(최대 입찰가) 등록 + 경쟁 해소
+  경매별 자동 입찰 목록을 읽어, 자동 입찰끼리의 경쟁을 한 번의 원자적 스크립트로 끝까지 해소한다.
+  실제로 발생한 입찰만 지갑/경매 상태에 반영하고 입찰 저널에 적재한다. (place_bid.lua 와 같은 필드/키 포맷)
+
+  KEYS[1]  auction:{id}:state (hash, AuctionStateFields)
+  KEYS[2]  auction:{id}:proxy (zset, member=userId, score=최대 입찰가)
+  KEYS[3]  auction:{id}:proxy:order (hash, userId -> 등록 시각, 최대 입찰가가 같으면 먼저 등록한 쪽 우선)
+  KEYS[4]  bid_journal (stream)
+
+  ARGV[1]  auctionId
+  ARGV[2]  now (LocalDateTime ISO)
+  ARGV[3]  createdAt (epoch millis)
+  ARGV[4]  등록 userId (해소만 할 때는 빈 문자열)
+  ARGV[5]  등록 최대 입찰가 (정수 문자열)
+  ARGV[6]  실행 ID (UUID, 이번 실행에서 발생한 입찰 requestId 의 접두)
+
+  경쟁 규칙 (최소 증가폭 = max(최초가의 10%(올림), 100원), BidService.validateBidConditions 와 동일)
+  - 현재 1등이 아닌 자동 입찰 중 최대가가 가장 높은 쪽(동률이면 먼저 등록한 쪽)이 도전한다.
+  - 1등에게 자동 입찰이 없으면 최소 입찰가로 입찰한다.
+  - 도전자가 1등의 최대가를 넘으면 min(도전자 최대가, max(최소 입찰가, 1등 최대가 + 증가폭)) 으로 입찰한다.
+  - 넘지 못하면 도전자는 자기 최대가로 입찰하고, 다음 차례에 1등의 자동 입찰이 되받는다. 최대가가 같으면 도전하지 않는다.
+  - 최대가가 최소 입찰가에 못 미치거나 가용 잔액이 모자란 자동 입찰은 목록에서 제거한다. (어떤 입찰도 최소 입찰가 아래로 나가지 않는다)
+
+  반환: { code, {userId, bidAmount, previousBidderId, previousPrice, bidCount}..., {제거된 userId...} }
+  code 는 OK / NOT_RUNNING / STATE_MISSING / BALANCE_MISSING 이거나 ErrorCode 이름
+  (BALANCE_MISSING 이면 두 번째 값이 userId)
+]]
+
+local function normalizeTime(value)
+    if string.len(value) == 16 then
+        return value .. ':00'
+    end
+    return value
+end
+
+local function amountString(value)
+    return string.format('%d', value)
+end
+
+local function balanceKey(userId)
+    return 'user:' .. userId .. ':balance'
+end
+
+local function lockedKey(userId)
+    return 'user:' .. userId .. ':lockedBalance'
+end
+
+local state = redis.call('HMGET', KEYS[1],
+        'currentPrice', 'currentBidder', 'currentBidCount', 'startPrice', 'status', 'endTime')
+local rawPrice = state[1]
+local rawBidder = state[2]
+local rawBidCount = state[3]
+local rawStartPrice = state[4]
+local rawStatus = state[5]
+local rawEndTime = state[6]
+
+if not rawPrice or not rawBidder or not rawBidCount or not rawStartPrice or not rawStatus or not rawEndTime then
+    return { 'STATE_MISSING' }
+end
+
+local registrant = ARGV[4]
+local registering = registrant ~= ''
+
+-- 상태/시간 체크 (해소만 할 때는 조용히 종료)
+local statusError
+if rawStatus == '' or rawEndTime == '' then
+    statusError = 'AUCTION_REDIS_STATE_MISSING'
+elseif rawStatus == 'TEMP_BLOCKED' or rawStatus == 'BLOCKED' or rawStatus == 'BLOCKED_ENDED' then
+    statusError = 'AUCTION_BLOCKED'
+elseif rawStatus ~= 'RUNNING' and rawStatus ~= 'DEADLINE' then
+    statusError = 'AUCTION_NOT_RUNNING'
+elseif normalizeTime(ARGV[2]) > normalizeTime(rawEndTime) then
+    statusError = 'AUCTION_ENDED'
+end
+if statusError then
+    if registering then
+        return { statusError }
+    end
+    return { 'NOT_RUNNING' }
+end
+
+local price = tonumber(rawPrice) or 0
+local bidCount = tonumber(rawBidCount) or 0
+local startPrice = tonumber(rawStartPrice) or 0
+local increment = math.max(math.ceil(startPrice / 10), 100)
+local bidder = rawBidder
+
+local function minNextBid()
+    if bidCount > 0 then
+        return price + increment
+    end
+    return price
+end
+
+-- 지갑 캐시 확인 (변경 전에 모두 확인해 부분 반영을 막는다)
+local participants = redis.call('ZRANGE', KEYS[2], 0, -1)
+if registering then
+    table.insert(participants, registrant)
+end
+if bidder ~= '' then
+    table.insert(participants, bidder)
+end
+for _, userId in ipairs(participants) do
+    if redis.call('EXISTS', balanceKey(userId)) == 0 or redis.call('EXISTS', lockedKey(userId)) == 0 then
+        return { 'BALANCE_MISSING', userId }
+    end
+end
+
+-- 등록: 1등 본인은 현재가 초과, 그 외는 최소 입찰가 이상 + 가용 잔액(1등이면 동결분 포함)으로 감당 가능해야 한다
+if registering then
+    local maxAmount = tonumber(ARGV[5])
+    local available = tonumber(redis.call('GET', balanceKey(registrant)))
+    if registrant == bidder then
+        if maxAmount <= price then
+            return { 'LOW_BID_AMOUNT' }
+        end
+        available = available + price
+    elseif maxAmount < minNextBid() then
+        return { 'LOW_BID_AMOUNT' }
+    end
+    if available < maxAmount then
+        return { 'INSUFFICIENT_BALANCE' }
+    end
+    redis.call('ZADD', KEYS[2], ARGV[5], registrant)
+    redis.call('HSET', KEYS[3], registrant, ARGV[3])
+    -- 자동 입찰 목록은 경매 상태 해시와 같은 시점에 만료
+    local ttl = redis.call('PTTL', KEYS[1])
+    if ttl > 0 then
+        redis.call('PEXPIRE', KEYS[2], ttl)
+        redis.call('PEXPIRE', KEYS[3], ttl)
+    end
+end
+
+-- 자동 입찰 목록: 최대가 내림차순, 동률이면 먼저 등록한 순
+local proxies = {}
+local rawProxies = redis.call('ZRANGE', KEYS[2], 0, -1, 'WITHSCORES')
+for i = 1, #rawProxies, 2 do
+    local userId = rawProxies[i]
+    table.insert(proxies, {
+        userId = userId,
+        max = tonumber(rawProxies[i + 1]),
+        order = tonumber(redis.call('HGET', KEYS[3], userId)) or 0
+    })
+end
+table.sort(proxies, function(a, b)
+    if a.max ~= b.max then
+        return a.max > b.max
+    end
+    return a.order < b.order
+end)
+
+local bids = {}
+local removed = {}
+
+local function removeProxy(index)
+    local proxy = table.remove(proxies, index)
+    redis.call('ZREM', KEYS[2], proxy.userId)
+    redis.call('HDEL', KEYS[3], proxy.userId)
+    table.insert(removed, proxy.userId)
+end
+
+local function proxyOf(userId)
+    for _, proxy in ipairs(proxies) do
+        if proxy.userId == userId then
+            return proxy
+        end
+    end
+    return nil
+end
+
+local function outranks(a, b)
+    return a.max > b.max or (a.max == b.max and a.order < b.order)
+end
+
+-- 자동 입찰 한 건 반영: 신규 입찰자 동결 + 이전 입찰자 환불 + 상태 갱신 + 저널 적재
+local function applyBid(userId, amount)
+    local bidAmount = amountString(amount)
+    local previousBidderId = bidder
+    if previousBidderId == '' then
+        previousBidderId = '-1'
+    end
+    local previousPrice = amountString(price)
+
+    redis.call('DECRBY', balanceKey(userId), bidAmount)
+    redis.call('INCRBY', lockedKey(userId), bidAmount)
+    if previousBidderId ~= '-1' then
+        redis.call('INCRBY', balanceKey(previousBidderId), previousPrice)
+        redis.call('DECRBY', lockedKey(previousBidderId), previousPrice)
+    end
+
+    redis.call('HSET', KEYS[1], 'currentPrice', bidAmount, 'currentBidder', userId)
+    local newBidCount = redis.call('HINCRBY', KEYS[1], 'currentBidCount', 1)
+
+    -- 자동 입찰 requestId = 실행 ID + 실행 내 순번 (롤백으로 입찰 횟수가 되돌아가도 이전 requestId 와 겹치지 않음)
+    local requestId = 'proxy:' .. ARGV[1] .. ':' .. ARGV[6] .. ':' .. (#bids + 1)
+    redis.call('XADD', KEYS[4], '*',
+            'auctionId', ARGV[1],
+            'userId', userId,
+            'bidAmount', bidAmount,
+            'requestId', requestId,
+            'previousBidderId', previousBidderId,
+            'refundAmount', previousPrice,
+            'createdAt', ARGV[3])
+    redis.call('SADD', 'pending:user:' .. userId, requestId)
+    if previousBidderId ~= '-1' then
+        redis.call('SADD', 'pending:user:' .. previousBidderId, requestId)
+    end
+
+    table.insert(bids, { userId, bidAmount, previousBidderId, previousPrice, tostring(newBidCount) })
+    price = amount
+    bidder = userId
+    bidCount = newBidCount
+end
+
+-- 자동 입찰 하나당 최대 두 번(도전/응수)만 입찰하므로 반복 상한을 둔다
+local maxRounds = #proxies * 2 + 2
+for _ = 1, maxRounds do
+    local minBid = minNextBid()
+    local defender = proxyOf(bidder)
+
+    -- 최대가가 최소 입찰가에 못 미치는 도전자 제거 후 가장 강한 도전자 선택
+    local challengerIndex
+    local i = 1
+    while i <= #proxies do
+        local proxy = proxies[i]
+        if proxy.userId ~= bidder and proxy.max < minBid then
+            removeProxy(i)
+        else
+            if proxy.userId ~= bidder and not challengerIndex then
+                challengerIndex = i
+            end
+            i = i + 1
+        end
+    end
+    if not challengerIndex then
+        break
+    end
+
+    -- 남은 도전자는 모두 최대가 >= 최소 입찰가이므로 아래 금액은 최소 입찰가 이상이다
+    local challenger = proxies[challengerIndex]
+    local amount
+    if not defender then
+        amount = minBid
+    elseif outranks(challenger, defender) then
+        amount = math.min(challenger.max, math.max(minBid, defender.max + increment))
+    elseif challenger.max < defender.max then
+        amount = challenger.max
+    else
+        amount = nil
+    end
+
+    if not amount then
+        -- 최대가 동률이면 먼저 등록한 1등이 현재가 그대로 유지
+        removeProxy(challengerIndex)
+    elseif tonumber(redis.call('GET', balanceKey(challenger.userId))) < amount then
+        removeProxy(challengerIndex)
+    else
+        applyBid(challenger.userId, amount)
+    end
+end
+
+return { 'OK', bids, removed }
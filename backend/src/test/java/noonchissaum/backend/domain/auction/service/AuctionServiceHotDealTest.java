@@ -58,7 +58,7 @@ class AuctionServiceHotDealTest {
     @Mock private AuctionRedisService auctionRedisService;
     @Mock private AuctionRealtimeSnapshotService snapshotService;
     @Mock private AuctionQueryService auctionQueryService;
-    @Mock private AuctionIndexService auctionIndexService;
+    @Mock private AuctionOutboxService auctionOutboxService;
     @Mock private WalletService walletService;
     @Mock private UserViewRedisLogger userViewRedisLogger;
     @Mock private RecommendationService recommendationService;
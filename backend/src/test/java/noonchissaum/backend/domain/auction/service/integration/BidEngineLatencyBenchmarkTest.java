@@ -0,0 +1,179 @@
+package noonchissaum.backend.domain.auction.service.integration;
+
+import noonchissaum.backend.domain.auction.entity.Auction;
+import noonchissaum.backend.domain.auction.repository.AuctionRepository;
+import noonchissaum.backend.domain.auction.service.AuctionRedisService;
+import noonchissaum.backend.domain.auction.service.BidService;
+import noonchissaum.backend.domain.category.entity.Category;
+import noonchissaum.backend.domain.category.repository.CategoryRepository;
+import noonchissaum.backend.domain.item.entity.Item;
+import noonchissaum.backend.domain.item.repository.ItemRepository;
+import noonchissaum.backend.domain.user.entity.User;
+import noonchissaum.backend.domain.user.entity.UserRole;
+import noonchissaum.backend.domain.user.entity.UserStatus;
+import noonchissaum.backend.domain.user.repository.UserRepository;
+import noonchissaum.backend.domain.wallet.entity.Wallet;
+import noonchissaum.backend.domain.wallet.repository.WalletRepository;
+import noonchissaum.backend.global.RedisKeys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 입찰 엔진별 지연시간 비교 (lock vs sequencer)
+ * 한 경매에 N명이 동시에 입찰할 때 호출 지연의 p50/p99/max 를 출력한다.
+ * 실제 Redis/DB 가 필요하므로 기본 test 태스크에서는 제외되고 benchmarkTest 로만 실행한다.
+ */
+@SpringBootTest
+@Tag("benchmark")
+class BidEngineLatencyBenchmarkTest {
+
+    @Autowired
+    private BidService bidService;
+    @Autowired
+    private AuctionRedisService auctionRedisService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private WalletRepository walletRepository;
+    @Autowired
+    private AuctionRepository auctionRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @ParameterizedTest(name = "{0} 엔진 / 동시 입찰자 {1}명")
+    @CsvSource({
+            "lock, 50", "sequencer, 50",
+            "lock, 200", "sequencer, 200",
+            "lock, 1000", "sequencer, 1000"
+    })
+    @DisplayName("단일 경매 동시 입찰 지연시간 측정")
+    void measureBidLatency(String engine, int bidders) throws InterruptedException {
+        ReflectionTestUtils.setField(AopTestUtils.getTargetObject(bidService), "bidEngine", engine);
+
+        List<User> users = createBidders(bidders);
+        Auction auction = createAuction(users.get(0));
+
+        AtomicLongArray latencies = new AtomicLongArray(bidders);
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger failure = new AtomicInteger();
+        CountDownLatch ready = new CountDownLatch(bidders);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(bidders);
+        ExecutorService executor = Executors.newFixedThreadPool(bidders);
+
+        for (int i = 0; i < bidders; i++) {
+            final int index = i;
+            executor.submit(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    BigDecimal amount = new BigDecimal("10000").add(BigDecimal.valueOf(index * 100L));
+                    long begin = System.nanoTime();
+                    try {
+                        bidService.placeBid(auction.getId(), users.get(index).getId(), amount, UUID.randomUUID().toString());
+                        success.incrementAndGet();
+                    } catch (Exception e) {
+                        failure.incrementAndGet();
+                    } finally {
+                        latencies.set(index, System.nanoTime() - begin);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        ready.await(1, TimeUnit.MINUTES);
+        long wallStart = System.nanoTime();
+        start.countDown();
+        done.await(5, TimeUnit.MINUTES);
+        long wallMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - wallStart);
+        executor.shutdown();
+
+        long[] sorted = new long[bidders];
+        for (int i = 0; i < bidders; i++) {
+            sorted[i] = latencies.get(i);
+        }
+        Arrays.sort(sorted);
+
+        System.out.printf("[bid-latency] engine=%s bidders=%d success=%d failure=%d wall=%dms p50=%.1fms p99=%.1fms max=%.1fms%n",
+                engine, bidders, success.get(), failure.get(), wallMillis,
+                toMillis(percentile(sorted, 50)), toMillis(percentile(sorted, 99)), toMillis(sorted[bidders - 1]));
+
+        assertThat(success.get() + failure.get()).isEqualTo(bidders);
+        assertThat(success.get()).isGreaterThan(0);
+    }
+
+    private List<User> createBidders(int count) {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            User user = userRepository.save(User.builder()
+                    .nickname("bench_" + suffix + "_" + i)
+                    .email("bench_" + suffix + "_" + i + "@example.com")
+                    .role(UserRole.USER)
+                    .status(UserStatus.ACTIVE)
+                    .build());
+            Wallet wallet = walletRepository.save(Wallet.builder()
+                    .user(user)
+                    .balance(new BigDecimal("1000000"))
+                    .lockedBalance(BigDecimal.ZERO)
+                    .build());
+            redisTemplate.opsForValue().set(RedisKeys.userBalance(user.getId()), wallet.getBalance().toPlainString());
+            redisTemplate.opsForValue().set(RedisKeys.userLockedBalance(user.getId()), "0");
+            users.add(user);
+        }
+        return users;
+    }
+
+    private Auction createAuction(User seller) {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        Category category = categoryRepository.save(new Category("bench-" + suffix, null));
+        Item item = itemRepository.save(new Item(seller, category, "bench-item-" + suffix, "desc"));
+        Auction auction = Auction.builder()
+                .item(item)
+                .startPrice(new BigDecimal("1000"))
+                .startAt(LocalDateTime.now().minusMinutes(10))
+                .endAt(LocalDateTime.now().plusHours(1))
+                .build();
+        auction.run();
+        auctionRepository.save(auction);
+        auctionRedisService.setRedis(auction.getId());
+        return auction;
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
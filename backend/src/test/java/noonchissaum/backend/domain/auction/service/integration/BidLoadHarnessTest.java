@@ -0,0 +1,393 @@
+package noonchissaum.backend.domain.auction.service.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import noonchissaum.backend.domain.auction.entity.Auction;
+import noonchissaum.backend.domain.auction.redis.AuctionStateFields;
+import noonchissaum.backend.domain.auction.repository.AuctionRepository;
+import noonchissaum.backend.domain.auction.service.AuctionLifecycleTimer;
+import noonchissaum.backend.domain.auction.service.AuctionRedisService;
+import noonchissaum.backend.domain.auction.service.AuctionWriteBehindService;
+import noonchissaum.backend.domain.auction.service.BidService;
+import noonchissaum.backend.domain.category.entity.Category;
+import noonchissaum.backend.domain.category.repository.CategoryRepository;
+import noonchissaum.backend.domain.item.entity.Item;
+import noonchissaum.backend.domain.item.repository.ItemRepository;
+import noonchissaum.backend.domain.task.service.BidJournalConsumer;
+import noonchissaum.backend.domain.user.entity.User;
+import noonchissaum.backend.domain.user.entity.UserRole;
+import noonchissaum.backend.domain.user.entity.UserStatus;
+import noonchissaum.backend.domain.user.repository.UserRepository;
+import noonchissaum.backend.domain.wallet.entity.Wallet;
+import noonchissaum.backend.domain.wallet.repository.WalletRepository;
+import noonchissaum.backend.global.RedisKeys;
+import noonchissaum.backend.global.exception.ApiException;
+import noonchissaum.backend.global.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 입찰 경로 부하 하네스 (인스턴스 사이징 / 입찰 경로 회귀 확인용)
+ * N명의 입찰자가 M개 경매에 placeBid 를 반복 호출하고 처리량, p50/p95/p99/max 지연,
+ * 락 획득 실패율, 입찰 저널(비동기 DB 반영 큐) 깊이를 출력한다.
+ * 실제 Redis(로컬 docker) 와 test 프로파일 DB 가 필요하므로 benchmarkTest 로만 실행한다.
+ * 끝나면 만든 유저/경매와 관련 행, Redis 키를 지우고 입찰 엔진 설정을 되돌린다 (같은 컨텍스트를 쓰는 다른 테스트에 영향 없게).
+ *
+ * 설정 (-D 로 전달, 예: ./gradlew benchmarkTest --tests '*BidLoadHarnessTest' -Dbid.load.skew=uniform)
+ * - bid.load.engine          : lock / script / sequencer (기본 lock)
+ * - bid.load.bidders         : 동시 입찰자 수 N (기본 200)
+ * - bid.load.auctions        : 경매 수 M (기본 20)
+ * - bid.load.bids-per-bidder : 입찰자당 시도 횟수 (기본 20)
+ * - bid.load.skew            : hot (한 경매 집중) / uniform (균등 분산) (기본 hot)
+ * - bid.load.hot-ratio       : hot 일 때 첫 경매로 가는 비율 (기본 0.8)
+ */
+@SpringBootTest
+@Tag("benchmark")
+class BidLoadHarnessTest {
+
+    private static final BigDecimal START_PRICE = new BigDecimal("1000");
+    // 시작가 1000원 → 최소 증가폭 max(100, 100) = 100원
+    private static final BigDecimal BID_INCREMENT = new BigDecimal("100");
+    private static final long SAMPLE_INTERVAL_MS = 100L;
+
+    @Autowired
+    private BidService bidService;
+    @Autowired
+    private AuctionRedisService auctionRedisService;
+    @Autowired
+    private AuctionWriteBehindService auctionWriteBehindService;
+    @Autowired
+    private BidJournalConsumer bidJournalConsumer;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private WalletRepository walletRepository;
+    @Autowired
+    private AuctionRepository auctionRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    // 정리 대상 (테스트가 만든 행/키만 지운다)
+    private final List<Long> userIds = new ArrayList<>();
+    private final List<Long> auctionIds = new ArrayList<>();
+    private final List<Long> itemIds = new ArrayList<>();
+    private final List<Long> categoryIds = new ArrayList<>();
+    private Object originalBidEngine;
+
+    @AfterEach
+    void cleanUp() {
+        if (originalBidEngine != null) {
+            ReflectionTestUtils.setField(AopTestUtils.getTargetObject(bidService), "bidEngine", originalBidEngine);
+        }
+        // 비동기 반영이 끝난 뒤 지워야 늦게 들어온 입찰 행이 남지 않는다
+        auctionWriteBehindService.flushAll();
+        bidJournalConsumer.consume();
+        deleteRows();
+        deleteRedisKeys();
+    }
+
+    @Test
+    @DisplayName("N명 x M개 경매 입찰 부하 측정")
+    void runBidLoad() throws InterruptedException, IOException {
+        String engine = System.getProperty("bid.load.engine", "lock");
+        int bidders = Integer.getInteger("bid.load.bidders", 200);
+        int auctionCount = Integer.getInteger("bid.load.auctions", 20);
+        int bidsPerBidder = Integer.getInteger("bid.load.bids-per-bidder", 20);
+        String skew = System.getProperty("bid.load.skew", "hot");
+        double hotRatio = Double.parseDouble(System.getProperty("bid.load.hot-ratio", "0.8"));
+        originalBidEngine = ReflectionTestUtils.getField(AopTestUtils.getTargetObject(bidService), "bidEngine");
+        ReflectionTestUtils.setField(AopTestUtils.getTargetObject(bidService), "bidEngine", engine);
+
+        List<User> users = createBidders(bidders);
+        List<Auction> auctions = new ArrayList<>();
+        for (int i = 0; i < auctionCount; i++) {
+            auctions.add(createAuction(users.get(0)));
+        }
+
+        int attempts = bidders * bidsPerBidder;
+        long[] latencies = new long[attempts];
+        AtomicInteger cursor = new AtomicInteger();
+        LongAdder success = new LongAdder();
+        Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+
+        // 비동기 반영 큐 깊이 샘플링 (입찰 저널 길이 / write-behind 대기 경매 수)
+        AtomicLong maxJournalLength = new AtomicLong();
+        AtomicLong maxJournalAgeMs = new AtomicLong();
+        AtomicLong maxWriteBehindPending = new AtomicLong();
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> {
+            try {
+                BidJournalConsumer.JournalLag lag = bidJournalConsumer.refreshLag();
+                maxJournalLength.accumulateAndGet(lag.length(), Math::max);
+                maxJournalAgeMs.accumulateAndGet(lag.oldestAgeMs(), Math::max);
+                maxWriteBehindPending.accumulateAndGet(auctionWriteBehindService.pendingCount(), Math::max);
+            } catch (Exception ignored) {
+                // 샘플링 실패는 측정에 영향 없음
+            }
+        }, 0, SAMPLE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+
+        CountDownLatch ready = new CountDownLatch(bidders);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(bidders);
+        ExecutorService executor = Executors.newFixedThreadPool(bidders);
+
+        for (int i = 0; i < bidders; i++) {
+            final Long userId = users.get(i).getId();
+            executor.submit(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    for (int n = 0; n < bidsPerBidder; n++) {
+                        Long auctionId = pickAuction(auctions, skew, hotRatio).getId();
+                        long begin = System.nanoTime();
+                        try {
+                            bidService.placeBid(auctionId, userId, nextBidAmount(auctionId), UUID.randomUUID().toString());
+                            success.increment();
+                        } catch (ApiException e) {
+                            failures.computeIfAbsent(e.getErrorCode().name(), k -> new LongAdder()).increment();
+                        } catch (Exception e) {
+                            failures.computeIfAbsent(e.getClass().getSimpleName(), k -> new LongAdder()).increment();
+                        } finally {
+                            latencies[cursor.getAndIncrement()] = System.nanoTime() - begin;
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        ready.await(1, TimeUnit.MINUTES);
+        long wallStart = System.nanoTime();
+        start.countDown();
+        done.await(10, TimeUnit.MINUTES);
+        long wallNanos = System.nanoTime() - wallStart;
+        executor.shutdown();
+        sampler.shutdown();
+        sampler.awaitTermination(5, TimeUnit.SECONDS);
+
+        int measured = Math.min(cursor.get(), attempts);
+        long[] sorted = Arrays.copyOf(latencies, measured);
+        Arrays.sort(sorted);
+        long lockFailures = failureCount(failures, ErrorCode.BID_LOCK_ACQUISITION.name());
+        double wallSeconds = wallNanos / 1_000_000_000.0;
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("engine", engine);
+        report.put("bidders", bidders);
+        report.put("auctions", auctionCount);
+        report.put("skew", skew);
+        report.put("hotRatio", hotRatio);
+        report.put("attempts", measured);
+        report.put("success", success.sum());
+        report.put("wallMs", TimeUnit.NANOSECONDS.toMillis(wallNanos));
+        report.put("attemptsPerSec", round(measured / wallSeconds));
+        report.put("successPerSec", round(success.sum() / wallSeconds));
+        report.put("p50Ms", toMillis(percentile(sorted, 50)));
+        report.put("p95Ms", toMillis(percentile(sorted, 95)));
+        report.put("p99Ms", toMillis(percentile(sorted, 99)));
+        report.put("maxMs", toMillis(sorted[measured - 1]));
+        report.put("lockFailureRate", round((double) lockFailures / measured));
+        report.put("failures", toCounts(failures));
+        report.put("maxJournalLength", maxJournalLength.get());
+        report.put("maxJournalAgeMs", maxJournalAgeMs.get());
+        report.put("maxWriteBehindPending", maxWriteBehindPending.get());
+
+        System.out.printf("[bid-load] engine=%s bidders=%d auctions=%d skew=%s attempts=%d success=%d "
+                        + "throughput=%.1f/s p50=%.1fms p95=%.1fms p99=%.1fms max=%.1fms lockFail=%.2f%% "
+                        + "journalMax=%d journalAgeMax=%dms writeBehindMax=%d failures=%s%n",
+                engine, bidders, auctionCount, skew, measured, success.sum(),
+                success.sum() / wallSeconds, report.get("p50Ms"), report.get("p95Ms"), report.get("p99Ms"),
+                report.get("maxMs"), lockFailures * 100.0 / measured,
+                maxJournalLength.get(), maxJournalAgeMs.get(), maxWriteBehindPending.get(), toCounts(failures));
+        writeReport(report);
+
+        assertThat(measured).isEqualTo(attempts);
+        assertThat(success.sum()).isGreaterThan(0);
+    }
+
+    /**
+     * hot: hotRatio 만큼 첫 경매로 몰고 나머지는 균등 / uniform: 전체 균등
+     */
+    private Auction pickAuction(List<Auction> auctions, String skew, double hotRatio) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if ("hot".equalsIgnoreCase(skew) && random.nextDouble() < hotRatio) {
+            return auctions.get(0);
+        }
+        return auctions.get(random.nextInt(auctions.size()));
+    }
+
+    /**
+     * 실제 사용자처럼 현재가 + 최소 증가폭으로 입찰 (경쟁으로 LOW_BID_AMOUNT 가 나는 것도 부하의 일부)
+     */
+    private BigDecimal nextBidAmount(Long auctionId) {
+        Object rawPrice = redisTemplate.opsForHash().get(RedisKeys.auctionState(auctionId), AuctionStateFields.CURRENT_PRICE);
+        BigDecimal currentPrice = rawPrice == null ? START_PRICE : new BigDecimal(rawPrice.toString());
+        return currentPrice.add(BID_INCREMENT);
+    }
+
+    private List<User> createBidders(int count) {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            User user = userRepository.save(User.builder()
+                    .nickname("load_" + suffix + "_" + i)
+                    .email("load_" + suffix + "_" + i + "@example.com")
+                    .role(UserRole.USER)
+                    .status(UserStatus.ACTIVE)
+                    .build());
+            Wallet wallet = walletRepository.save(Wallet.builder()
+                    .user(user)
+                    .balance(new BigDecimal("100000000"))
+                    .lockedBalance(BigDecimal.ZERO)
+                    .build());
+            redisTemplate.opsForValue().set(RedisKeys.userBalance(user.getId()), wallet.getBalance().toPlainString());
+            redisTemplate.opsForValue().set(RedisKeys.userLockedBalance(user.getId()), "0");
+            users.add(user);
+            userIds.add(user.getId());
+        }
+        return users;
+    }
+
+    private Auction createAuction(User seller) {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        Category category = categoryRepository.save(new Category("load-" + suffix, null));
+        Item item = itemRepository.save(new Item(seller, category, "load-item-" + suffix, "desc"));
+        Auction auction = Auction.builder()
+                .item(item)
+                .startPrice(START_PRICE)
+                .startAt(LocalDateTime.now().minusMinutes(10))
+                .endAt(LocalDateTime.now().plusHours(1))
+                .build();
+        auction.run();
+        auctionRepository.save(auction);
+        auctionRedisService.setRedis(auction.getId());
+        categoryIds.add(category.getId());
+        itemIds.add(item.getId());
+        auctionIds.add(auction.getId());
+        return auction;
+    }
+
+    private void deleteRows() {
+        if (!auctionIds.isEmpty()) {
+            Map<String, List<Long>> auctions = Map.of("ids", auctionIds);
+            jdbcTemplate.update("DELETE FROM bids WHERE auction_id IN (:ids)", auctions);
+            jdbcTemplate.update("DELETE FROM tasks WHERE auction_id IN (:ids)", auctions);
+            jdbcTemplate.update("DELETE FROM auction_outbox WHERE auction_id IN (:ids)", auctions);
+            jdbcTemplate.update("DELETE FROM auction_digest_pending WHERE auction_id IN (:ids)", auctions);
+            jdbcTemplate.update("DELETE FROM auctions WHERE auction_id IN (:ids)", auctions);
+            jdbcTemplate.update("DELETE FROM items WHERE item_id IN (:ids)", Map.of("ids", itemIds));
+            jdbcTemplate.update("DELETE FROM categories WHERE category_id IN (:ids)", Map.of("ids", categoryIds));
+        }
+        if (!userIds.isEmpty()) {
+            Map<String, List<Long>> users = Map.of("ids", userIds);
+            jdbcTemplate.update("DELETE FROM wallet_transactions WHERE wallet_id IN "
+                    + "(SELECT wallet_id FROM wallets WHERE user_id IN (:ids))", users);
+            jdbcTemplate.update("DELETE FROM notifications WHERE user_id IN (:ids)", users);
+            jdbcTemplate.update("DELETE FROM wallets WHERE user_id IN (:ids)", users);
+            jdbcTemplate.update("DELETE FROM users WHERE user_id IN (:ids)", users);
+        }
+    }
+
+    private void deleteRedisKeys() {
+        List<String> keys = new ArrayList<>();
+        List<String> timers = new ArrayList<>();
+        for (Long auctionId : auctionIds) {
+            keys.addAll(List.of(
+                    RedisKeys.auctionState(auctionId),
+                    RedisKeys.auctionEventSeq(auctionId),
+                    RedisKeys.auctionEvents(auctionId),
+                    RedisKeys.auctionProxyBids(auctionId),
+                    RedisKeys.auctionProxyOrder(auctionId)));
+            for (AuctionLifecycleTimer.Phase phase : AuctionLifecycleTimer.Phase.values()) {
+                timers.add(auctionId + ":" + phase.name());
+            }
+        }
+        for (Long userId : userIds) {
+            keys.addAll(List.of(
+                    RedisKeys.userBalance(userId),
+                    RedisKeys.userLockedBalance(userId),
+                    RedisKeys.pendingUser(userId)));
+        }
+        if (!keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+        if (!auctionIds.isEmpty()) {
+            redisTemplate.opsForSet().remove(RedisKeys.auctionBroadcastDirty(),
+                    auctionIds.stream().map(String::valueOf).toArray());
+            redisTemplate.opsForZSet().remove(RedisKeys.auctionLifecycleTimers(), timers.toArray());
+        }
+    }
+
+    /**
+     * 릴리스별 비교용 JSON (build/reports/bid-load/)
+     */
+    private void writeReport(Map<String, Object> report) throws IOException {
+        File dir = new File("build/reports/bid-load");
+        if (!dir.exists() && !dir.mkdirs()) {
+            return;
+        }
+        String name = "bid-load-%s-%s-%d.json".formatted(report.get("engine"), report.get("skew"), System.currentTimeMillis());
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(new File(dir, name), report);
+    }
+
+    private static long failureCount(Map<String, LongAdder> failures, String key) {
+        LongAdder count = failures.get(key);
+        return count == null ? 0L : count.sum();
+    }
+
+    private static Map<String, Long> toCounts(Map<String, LongAdder> failures) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        failures.forEach((key, value) -> counts.put(key, value.sum()));
+        return counts;
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static double toMillis(long nanos) {
+        return round(nanos / 1_000_000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
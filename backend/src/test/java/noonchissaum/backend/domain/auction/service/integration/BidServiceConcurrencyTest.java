@@ -111,7 +111,7 @@ public class BidServiceConcurrencyTest {
 
         // 3. Redis 초기화
 
-        redisTemplate.opsForValue().set("auction:" + testAuction.getId() + ":currentPrice", testAuction.getCurrentPrice().toString());
+        redisTemplate.opsForHash().put("auction:" + testAuction.getId() + ":state", "currentPrice", testAuction.getCurrentPrice().toString());
     }
 
     @Test
@@ -151,7 +151,7 @@ public class BidServiceConcurrencyTest {
 
         // then: 결과 검증
         // 1. Redis에서 최종 입찰가 조회
-        String finalPriceInRedisStr = redisTemplate.opsForValue().get("auction:" + testAuction.getId() + ":currentPrice");
+        String finalPriceInRedisStr = (String) redisTemplate.opsForHash().get("auction:" + testAuction.getId() + ":state", "currentPrice");
         BigDecimal finalPriceInRedis = new BigDecimal(finalPriceInRedisStr);
 
 
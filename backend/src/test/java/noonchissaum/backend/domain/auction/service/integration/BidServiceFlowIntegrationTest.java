@@ -88,12 +88,14 @@ class BidServiceFlowIntegrationTest {
         testAuction.run();
         auctionRepository.save(testAuction);
 
-        redisTemplate.opsForValue().set("auction:" + testAuction.getId() + ":currentPrice", "1000");
-        redisTemplate.opsForValue().set("auction:" + testAuction.getId() + ":currentBidder", "");
-        redisTemplate.opsForValue().set("auction:" + testAuction.getId() + ":currentBidCount", "0");
-        redisTemplate.opsForValue().set("auction:" + testAuction.getId() + ":status", AuctionStatus.RUNNING.name());
-        redisTemplate.opsForValue().set("auction:" + testAuction.getId() + ":endTime", testAuction.getEndAt().toString());
-        redisTemplate.opsForValue().set("auction:" + testAuction.getId() + ":extendedTime", "0");
+        redisTemplate.opsForHash().put("auction:" + testAuction.getId() + ":state", "currentPrice", "1000");
+        redisTemplate.opsForHash().put("auction:" + testAuction.getId() + ":state", "currentBidder", "");
+        redisTemplate.opsForHash().put("auction:" + testAuction.getId() + ":state", "currentBidCount", "0");
+        redisTemplate.opsForHash().put("auction:" + testAuction.getId() + ":state", "status", AuctionStatus.RUNNING.name());
+        redisTemplate.opsForHash().put("auction:" + testAuction.getId() + ":state", "endTime", testAuction.getEndAt().toString());
+        redisTemplate.opsForHash().put("auction:" + testAuction.getId() + ":state", "startPrice", "1000");
+        redisTemplate.opsForHash().put("auction:" + testAuction.getId() + ":state", "imminentMinutes", "5");
+        redisTemplate.opsForHash().put("auction:" + testAuction.getId() + ":state", "isExtended", "false");
         redisTemplate.opsForValue().set("user:" + testUser.getId() + ":balance", wallet.getBalance().toString());
     }
 
@@ -108,7 +110,7 @@ class BidServiceFlowIntegrationTest {
         Auction finalAuction = auctionRepository.findById(testAuction.getId()).orElseThrow();
         Bid finalBid = bidRepository.findByAuctionAndBidder(finalAuction, testUser).orElseThrow();
         Wallet finalWallet = walletRepository.findByUserId(testUser.getId()).orElseThrow();
-        BigDecimal finalPriceInRedis = new BigDecimal(redisTemplate.opsForValue().get("auction:" + testAuction.getId() + ":currentPrice"));
+        BigDecimal finalPriceInRedis = new BigDecimal((String) redisTemplate.opsForHash().get("auction:" + testAuction.getId() + ":state", "currentPrice"));
 
         assertThat(finalBid.getBidPrice()).isEqualByComparingTo(bidAmount);
         assertThat(finalPriceInRedis).isEqualByComparingTo(bidAmount);
@@ -118,7 +120,7 @@ class BidServiceFlowIntegrationTest {
     @Test
     @DisplayName("최소 입찰 단위 미충족 시 예외 던짐")
     void placeBid_fail_lowBidAmount() {
-        redisTemplate.opsForValue().set("auction:" + testAuction.getId() + ":currentBidCount", "1");
+        redisTemplate.opsForHash().put("auction:" + testAuction.getId() + ":state", "currentBidCount", "1");
         BigDecimal bidAmount = new BigDecimal("1050");
         String requestId = UUID.randomUUID().toString();
 
@@ -142,7 +144,7 @@ class BidServiceFlowIntegrationTest {
     void placeBid_fail_auctionNotRunning() {
         testAuction.cancel();
         auctionRepository.save(testAuction);
-        redisTemplate.opsForValue().set("auction:" + testAuction.getId() + ":status", AuctionStatus.CANCELED.name());
+        redisTemplate.opsForHash().put("auction:" + testAuction.getId() + ":state", "status", AuctionStatus.CANCELED.name());
 
         ApiException exception = assertThrows(ApiException.class,
                 () -> bidService.placeBid(testAuction.getId(), testUser.getId(), new BigDecimal("2000"), UUID.randomUUID().toString()));
@@ -0,0 +1,138 @@
+package noonchissaum.backend.domain.auction.service.unit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import noonchissaum.backend.domain.auction.dto.res.AuctionEventReplayRes;
+import noonchissaum.backend.domain.auction.service.AuctionEventLog;
+import noonchissaum.backend.global.dto.SocketMessageType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+class AuctionEventLogUnitTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+
+    @Test
+    @DisplayName("이벤트에 경매별 순번을 붙여 직렬화하고 버퍼에 적재")
+    void append_attachesSequenceAndStores() {
+        AuctionEventLog eventLog = newEventLog();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.increment("auction:7:event:seq")).thenReturn(8L);
+
+        byte[] json = eventLog.append(7L, SocketMessageType.BID_SUCCESSED, Map.of("currentPrice", 1000));
+
+        String body = new String(json, StandardCharsets.UTF_8);
+        assertThat(body).contains("\"seq\":8").contains("\"type\":\"BID_SUCCESSED\"");
+        verify(redisTemplate).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("순번 발급 실패 시 순번 없이 직렬화만 해 전송은 계속")
+    void append_whenRedisFails_returnsUnsequencedJson() {
+        AuctionEventLog eventLog = newEventLog();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.increment("auction:7:event:seq")).thenThrow(new IllegalStateException("down"));
+
+        byte[] json = eventLog.append(7L, SocketMessageType.AUCTION_ENDED, Map.of("auctionId", 7));
+
+        assertThat(new String(json, StandardCharsets.UTF_8)).doesNotContain("\"seq\"");
+        verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("마지막으로 받은 순번 이후 이벤트만 순번 순으로 반환")
+    void replay_returnsMissedEventsInOrder() {
+        AuctionEventLog eventLog = newEventLog();
+        stubBuffer(5L, record(3), record(5), record(4));
+
+        AuctionEventReplayRes res = eventLog.replay(7L, 3L);
+
+        assertThat(res.complete()).isTrue();
+        assertThat(res.lastSeq()).isEqualTo(5L);
+        assertThat(res.events()).extracting(event -> event.get("seq").asLong()).containsExactly(4L, 5L);
+    }
+
+    @Test
+    @DisplayName("요청 순번 이후 구간이 버퍼에서 밀려났으면 complete=false")
+    void replay_whenGapEvicted_marksIncomplete() {
+        AuctionEventLog eventLog = newEventLog();
+        stubBuffer(12L, record(10), record(11), record(12));
+
+        AuctionEventReplayRes res = eventLog.replay(7L, 5L);
+
+        assertThat(res.complete()).isFalse();
+        assertThat(res.events()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("버퍼 중간에 빠진 순번이 있으면 complete=false")
+    void replay_whenSequenceHasHole_marksIncomplete() {
+        AuctionEventLog eventLog = newEventLog();
+        stubBuffer(6L, record(4), record(6), record(3));
+
+        AuctionEventReplayRes res = eventLog.replay(7L, 3L);
+
+        assertThat(res.complete()).isFalse();
+        assertThat(res.events()).extracting(event -> event.get("seq").asLong()).containsExactly(4L, 6L);
+    }
+
+    @Test
+    @DisplayName("마지막 순번까지 아직 적재되지 않은 이벤트가 있으면 complete=false")
+    void replay_whenTailNotStored_marksIncomplete() {
+        AuctionEventLog eventLog = newEventLog();
+        stubBuffer(6L, record(4), record(5));
+
+        AuctionEventReplayRes res = eventLog.replay(7L, 3L);
+
+        assertThat(res.complete()).isFalse();
+    }
+
+    private AuctionEventLog newEventLog() {
+        AuctionEventLog eventLog = new AuctionEventLog(redisTemplate, new ObjectMapper());
+        ReflectionTestUtils.setField(eventLog, "replaySize", 200);
+        ReflectionTestUtils.setField(eventLog, "ttlHours", 24L);
+        return eventLog;
+    }
+
+    @SafeVarargs
+    private void stubBuffer(long lastSeq, MapRecord<String, Object, Object>... records) {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+        when(valueOperations.get("auction:7:event:seq")).thenReturn(String.valueOf(lastSeq));
+        when(streamOperations.range("auction:7:events", Range.unbounded())).thenReturn(List.of(records));
+    }
+
+    private MapRecord<String, Object, Object> record(long seq) {
+        Map<Object, Object> fields = new HashMap<>();
+        fields.put("seq", String.valueOf(seq));
+        fields.put("data", "{\"type\":\"BID_SUCCESSED\",\"seq\":" + seq + "}");
+        return StreamRecords.<String, Object, Object>mapBacked(fields).withStreamKey("auction:7:events");
+    }
+}
@@ -1,25 +1,33 @@
 package noonchissaum.backend.domain.auction.service.unit;
 
 import noonchissaum.backend.domain.auction.dto.ws.AuctionExtendedPayload;
-import noonchissaum.backend.domain.auction.entity.Auction;
-import noonchissaum.backend.domain.auction.repository.AuctionRepository;
 import noonchissaum.backend.domain.auction.service.AuctionExtensionService;
+import noonchissaum.backend.domain.auction.service.AuctionExtensionService.ExtensionResult;
+import noonchissaum.backend.domain.auction.service.AuctionLifecycleTimer;
 import noonchissaum.backend.domain.auction.service.AuctionMessageService;
+import noonchissaum.backend.domain.auction.service.AuctionRedisService;
 import noonchissaum.backend.global.RedisKeys;
+import noonchissaum.backend.global.exception.ApiException;
+import noonchissaum.backend.global.exception.ErrorCode;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
-import org.springframework.test.util.ReflectionTestUtils;
-import java.math.BigDecimal;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import java.time.LocalDateTime;
-import java.util.Optional;
+import java.util.Arrays;
+import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -29,59 +37,70 @@ import static org.mockito.Mockito.when;
 @Tag("unit")
 class AuctionExtensionServiceUnitTest {
 
-    @Mock
-    private AuctionRepository auctionRepository;
     @Mock
     private StringRedisTemplate redisTemplate;
     @Mock
     private AuctionMessageService auctionMessageService;
+    @Mock
+    private AuctionRedisService auctionRedisService;
+    @Mock
+    private AuctionLifecycleTimer auctionLifecycleTimer;
 
     @Test
-    @DisplayName("연장 조건 충족 시 Redis 동기화와 연장 메시지 전송")
-    void extension_whenExtended_updatesRedisAndSendsMessage() {
-        AuctionExtensionService service = new AuctionExtensionService(auctionRepository, redisTemplate, auctionMessageService);
-        Auction auction = Auction.builder()
-                .item(null)
-                .startPrice(BigDecimal.valueOf(1000))
-                .startAt(LocalDateTime.now().minusHours(1))
-                .endAt(LocalDateTime.now().plusMinutes(1))
-                .build();
-        ReflectionTestUtils.setField(auction, "id", 10L);
-
-        when(auctionRepository.findById(10L)).thenReturn(Optional.of(auction));
+    @DisplayName("Redis 기준 마감 임박 구간이면 CAS 스크립트로 3분 연장 후 연장 메시지 전송")
+    void extendIfImminent_whenWithinWindow_extendsInRedis() {
+        AuctionExtensionService service = new AuctionExtensionService(redisTemplate, auctionMessageService, auctionRedisService, auctionLifecycleTimer);
+        LocalDateTime now = LocalDateTime.of(2026, 1, 20, 12, 0, 0);
+        LocalDateTime endAt = now.plusMinutes(2);
         @SuppressWarnings("unchecked")
-        ValueOperations<String, String> ops = mock(ValueOperations.class);
-        when(redisTemplate.opsForValue()).thenReturn(ops);
-
-        boolean result = service.extension(10L);
+        HashOperations<String, Object, Object> ops = mock(HashOperations.class);
+        when(redisTemplate.opsForHash()).thenReturn(ops);
+        when(ops.multiGet(eq(RedisKeys.auctionState(12L)), anyCollection()))
+                .thenReturn(List.<Object>of(endAt.toString(), "5", "false", "RUNNING"));
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(1L);
 
-        assertThat(result).isTrue();
-        verify(ops).set(RedisKeys.auctionEndTime(10L), auction.getEndAt().toString());
-        verify(ops).set(RedisKeys.auctionIsExtended(10L), "true");
+        ExtensionResult result = service.extendIfImminent(12L, now);
 
-        ArgumentCaptor<AuctionExtendedPayload> payloadCaptor = ArgumentCaptor.forClass(AuctionExtendedPayload.class);
-        verify(auctionMessageService).sendAuctionExtended(org.mockito.ArgumentMatchers.eq(10L), payloadCaptor.capture());
-        assertThat(payloadCaptor.getValue().getAuctionId()).isEqualTo(10L);
-        assertThat(payloadCaptor.getValue().isExtended()).isTrue();
+        assertThat(result.extended()).isTrue();
+        assertThat(result.endAt()).isEqualTo(endAt.plusMinutes(3));
+        verify(auctionMessageService).sendAuctionExtended(eq(12L), any(AuctionExtendedPayload.class));
     }
 
     @Test
-    @DisplayName("연장 조건 불충족 시 false 반환하고 메시지를 보내지 않음")
-    void extension_whenNotExtended_returnsFalse() {
-        AuctionExtensionService service = new AuctionExtensionService(auctionRepository, redisTemplate, auctionMessageService);
-        Auction auction = Auction.builder()
-                .item(null)
-                .startPrice(BigDecimal.valueOf(1000))
-                .startAt(LocalDateTime.now().minusHours(1))
-                .endAt(LocalDateTime.now().plusHours(1))
-                .build();
-        ReflectionTestUtils.setField(auction, "id", 11L);
+    @DisplayName("마감 임박 구간 밖이면 연장 스크립트를 실행하지 않음")
+    void extendIfImminent_whenOutsideWindow_keepsEndTime() {
+        AuctionExtensionService service = new AuctionExtensionService(redisTemplate, auctionMessageService, auctionRedisService, auctionLifecycleTimer);
+        LocalDateTime now = LocalDateTime.of(2026, 1, 20, 12, 0, 0);
+        LocalDateTime endAt = now.plusMinutes(30);
+        @SuppressWarnings("unchecked")
+        HashOperations<String, Object, Object> ops = mock(HashOperations.class);
+        when(redisTemplate.opsForHash()).thenReturn(ops);
+        when(ops.multiGet(eq(RedisKeys.auctionState(13L)), anyCollection()))
+                .thenReturn(List.<Object>of(endAt.toString(), "5", "false", "RUNNING"));
 
-        when(auctionRepository.findById(11L)).thenReturn(Optional.of(auction));
+        ExtensionResult result = service.extendIfImminent(13L, now);
+
+        assertThat(result.extended()).isFalse();
+        assertThat(result.endAt()).isEqualTo(endAt);
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        verify(auctionMessageService, never()).sendAuctionExtended(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("복구 후에도 Redis 마감 시각이 없으면 파싱하지 않고 AUCTION_REDIS_STATE_MISSING 예외")
+    void extendIfImminent_whenEndTimeMissing_throwsApiException() {
+        AuctionExtensionService service = new AuctionExtensionService(redisTemplate, auctionMessageService, auctionRedisService, auctionLifecycleTimer);
+        LocalDateTime now = LocalDateTime.of(2026, 1, 20, 12, 0, 0);
+        @SuppressWarnings("unchecked")
+        HashOperations<String, Object, Object> ops = mock(HashOperations.class);
+        when(redisTemplate.opsForHash()).thenReturn(ops);
+        when(ops.multiGet(eq(RedisKeys.auctionState(14L)), anyCollection()))
+                .thenReturn(Arrays.<Object>asList(null, "5", "false", "RUNNING"));
 
-        boolean result = service.extension(11L);
+        ApiException ex = assertThrows(ApiException.class, () -> service.extendIfImminent(14L, now));
 
-        assertThat(result).isFalse();
-        verify(auctionMessageService, never()).sendAuctionExtended(org.mockito.ArgumentMatchers.anyLong(), org.mockito.ArgumentMatchers.any());
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.AUCTION_REDIS_STATE_MISSING);
+        verify(auctionRedisService).restoreState(14L);
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
     }
 }
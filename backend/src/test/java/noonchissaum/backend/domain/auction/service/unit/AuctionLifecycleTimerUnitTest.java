@@ -0,0 +1,114 @@
+package noonchissaum.backend.domain.auction.service.unit;
+
+import noonchissaum.backend.domain.auction.entity.Auction;
+import noonchissaum.backend.domain.auction.entity.AuctionStatus;
+import noonchissaum.backend.domain.auction.repository.AuctionLifecycleRow;
+import noonchissaum.backend.domain.auction.service.AuctionLifecycleTimer;
+import noonchissaum.backend.global.RedisKeys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+class AuctionLifecycleTimerUnitTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    private AuctionLifecycleTimer timer;
+
+    @BeforeEach
+    void setUp() {
+        timer = new AuctionLifecycleTimer(redisTemplate);
+        ReflectionTestUtils.setField(timer, "mode", "timer");
+        ReflectionTestUtils.setField(timer, "horizonMs", 60_000L);
+    }
+
+    @Test
+    @DisplayName("RUNNING 경매는 마감 임박 시각(endAt - imminentMinutes)에 DEADLINE 전환 예약")
+    void scheduleNext_whenRunning_schedulesDeadlineAtImminentWindow() {
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        LocalDateTime endAt = LocalDateTime.of(2026, 1, 1, 12, 0, 0);
+        Auction auction = auction(901L, AuctionStatus.RUNNING, endAt, 5);
+
+        timer.scheduleNext(auction);
+
+        verify(zSetOperations).add(RedisKeys.auctionLifecycleTimers(), "901:DEADLINE", epochMs(endAt.minusMinutes(5)));
+    }
+
+    @Test
+    @DisplayName("기동 시 재구성은 상태별 다음 전환을 ZADD 1회로 예약하고 종료/취소 경매는 제외")
+    @SuppressWarnings("unchecked")
+    void scheduleNextAll_addsTimersInSingleCall() {
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        LocalDateTime endAt = LocalDateTime.of(2026, 1, 1, 12, 0, 0);
+        List<AuctionLifecycleRow> auctions = List.of(
+                AuctionLifecycleRow.of(auction(911L, AuctionStatus.DEADLINE, endAt, 5)),
+                AuctionLifecycleRow.of(auction(912L, AuctionStatus.RUNNING, endAt, 7)),
+                AuctionLifecycleRow.of(auction(913L, AuctionStatus.CANCELED, endAt, 5))
+        );
+
+        int scheduled = timer.scheduleNextAll(auctions);
+
+        ArgumentCaptor<Set<TypedTuple<String>>> captor = ArgumentCaptor.forClass(Set.class);
+        verify(zSetOperations).add(eq(RedisKeys.auctionLifecycleTimers()), captor.capture());
+        assertThat(scheduled).isEqualTo(2);
+        assertThat(captor.getValue())
+                .extracting(TypedTuple::getValue, TypedTuple::getScore)
+                .containsExactlyInAnyOrder(
+                        tuple("911:END", epochMs(endAt)),
+                        tuple("912:DEADLINE", epochMs(endAt.minusMinutes(7)))
+                );
+    }
+
+    @Test
+    @DisplayName("polling 모드에서는 타이머를 예약하지 않음")
+    void schedule_whenPollingMode_doesNothing() {
+        ReflectionTestUtils.setField(timer, "mode", "polling");
+
+        timer.schedule(921L, AuctionLifecycleTimer.Phase.END, LocalDateTime.now());
+
+        assertThat(timer.isEnabled()).isFalse();
+        verifyNoInteractions(redisTemplate);
+    }
+
+    private Auction auction(Long id, AuctionStatus status, LocalDateTime endAt, int imminentMinutes) {
+        Auction auction = Auction.builder()
+                .item(null)
+                .startPrice(BigDecimal.valueOf(1000))
+                .startAt(endAt.minusHours(1))
+                .endAt(endAt)
+                .build();
+        ReflectionTestUtils.setField(auction, "id", id);
+        ReflectionTestUtils.setField(auction, "status", status);
+        ReflectionTestUtils.setField(auction, "imminentMinutes", imminentMinutes);
+        return auction;
+    }
+
+    private static double epochMs(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -1,10 +1,15 @@
 package noonchissaum.backend.domain.auction.service.unit;
 
+import noonchissaum.backend.domain.auction.dto.ws.AuctionEndedPayload;
 import noonchissaum.backend.domain.auction.dto.ws.BidSucceededPayload;
 import noonchissaum.backend.domain.auction.dto.ws.OutbidPayload;
+import noonchissaum.backend.domain.auction.service.AuctionEventLog;
 import noonchissaum.backend.domain.auction.service.AuctionMessageService;
+import noonchissaum.backend.domain.auction.service.BidEventCoalescer;
 import noonchissaum.backend.global.dto.SocketMessageType;
 import noonchissaum.backend.global.dto.WsMessage;
+import noonchissaum.backend.global.websocket.StompMessageRelay;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -12,42 +17,130 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 @Tag("unit")
 class AuctionMessageServiceUnitTest {
 
     @Mock
-    private SimpMessagingTemplate messagingTemplate;
+    private StompMessageRelay messageRelay;
+    @Mock
+    private AuctionEventLog auctionEventLog;
+
+    private BidEventCoalescer bidEventCoalescer;
+
+    @BeforeEach
+    void setUp() {
+        bidEventCoalescer = new BidEventCoalescer();
+        ReflectionTestUtils.setField(bidEventCoalescer, "windowMs", 60_000L);
+        ReflectionTestUtils.setField(bidEventCoalescer, "senderThreads", 1);
+        bidEventCoalescer.init();
+    }
 
     @Test
-    @DisplayName("입찰 성공 메시지는 경매 토픽으로 전송")
-    void sendBidSucceeded_sendsTopicMessage() {
-        AuctionMessageService service = new AuctionMessageService(messagingTemplate);
+    @DisplayName("입찰 성공 메시지는 순번을 붙여 버퍼에 적재한 JSON 그대로 경매 토픽으로 전송")
+    void sendBidSucceeded_sendsSequencedTopicMessage() {
+        AuctionMessageService service = newService();
         BidSucceededPayload payload = BidSucceededPayload.builder().auctionId(7L).currentPrice(1000L).build();
+        byte[] json = "{\"seq\":1}".getBytes(StandardCharsets.UTF_8);
+        when(auctionEventLog.append(7L, SocketMessageType.BID_SUCCESSED, payload)).thenReturn(json);
 
         service.sendBidSucceeded(7L, payload);
 
-        ArgumentCaptor<WsMessage> captor = ArgumentCaptor.forClass(WsMessage.class);
-        verify(messagingTemplate).convertAndSend(org.mockito.ArgumentMatchers.eq("/topic/auction/7"), captor.capture());
-        assertThat(captor.getValue().getType()).isEqualTo(SocketMessageType.BID_SUCCESSED);
-        assertThat(captor.getValue().getPayload()).isEqualTo(payload);
+        verify(messageRelay).sendSerialized("/topic/auction/7", json);
+    }
+
+    @Test
+    @DisplayName("직렬화에 실패한 경매 이벤트는 전송하지 않음")
+    void sendToAuctionTopic_whenAppendReturnsNull_skipsSend() {
+        AuctionMessageService service = newService();
+
+        service.sendAuctionSnapshot(7L, new Object());
+
+        verify(messageRelay, never()).sendSerialized(any(), any());
     }
 
     @Test
     @DisplayName("아웃비드 메시지는 사용자 큐로 전송")
     void sendOutbid_sendsUserQueueMessage() {
-        AuctionMessageService service = new AuctionMessageService(messagingTemplate);
+        AuctionMessageService service = newService();
         OutbidPayload payload = OutbidPayload.builder().auctionId(9L).build();
 
         service.sendOutbid(33L, payload);
 
         ArgumentCaptor<WsMessage> captor = ArgumentCaptor.forClass(WsMessage.class);
-        verify(messagingTemplate).convertAndSendToUser(org.mockito.ArgumentMatchers.eq("33"), org.mockito.ArgumentMatchers.eq("/queue/notifications"), captor.capture());
+        verify(messageRelay).convertAndSendToUser(eq("33"), eq("/queue/notifications"), captor.capture());
         assertThat(captor.getValue().getType()).isEqualTo(SocketMessageType.OUTBID);
         assertThat(captor.getValue().getPayload()).isEqualTo(payload);
     }
+
+    @Test
+    @DisplayName("병합 창 안의 입찰 성공 이벤트는 최신 1건만 남기고 종료 이벤트 전에 먼저 전송")
+    void sendBidSucceeded_withinWindow_coalescesAndFlushesBeforeEnded() {
+        AuctionMessageService service = newService();
+        when(auctionEventLog.append(eq(7L), any(), any())).thenReturn(new byte[0]);
+
+        service.sendBidSucceeded(7L, BidSucceededPayload.builder().auctionId(7L).currentPrice(1000L).bidCount(1).build());
+        service.sendBidSucceeded(7L, BidSucceededPayload.builder().auctionId(7L).currentPrice(1100L).bidCount(2).build());
+        service.sendBidSucceeded(7L, BidSucceededPayload.builder().auctionId(7L).currentPrice(1200L).bidCount(3).build());
+        service.sendAuctionEnded(7L, AuctionEndedPayload.builder().auctionId(7L).build());
+
+        ArgumentCaptor<SocketMessageType> types = ArgumentCaptor.forClass(SocketMessageType.class);
+        ArgumentCaptor<Object> payloads = ArgumentCaptor.forClass(Object.class);
+        verify(auctionEventLog, times(3)).append(eq(7L), types.capture(), payloads.capture());
+        verify(messageRelay, times(3)).sendSerialized(eq("/topic/auction/7"), any());
+        List<Object> sent = payloads.getAllValues();
+        // 첫 입찰은 즉시, 나머지 두 건은 최신 1건으로 병합, 종료는 그 뒤
+        assertThat(((BidSucceededPayload) sent.get(0)).getCurrentPrice()).isEqualTo(1000L);
+        assertThat(((BidSucceededPayload) sent.get(1)).getCurrentPrice()).isEqualTo(1200L);
+        assertThat(types.getAllValues().get(2)).isEqualTo(SocketMessageType.AUCTION_ENDED);
+        assertThat(bidEventCoalescer.openWindows()).isZero();
+    }
+
+    @Test
+    @DisplayName("창이 닫힐 때 남은 입찰 이벤트는 송신 풀에서 경매별 락 밖으로 전송")
+    void sendBidSucceeded_whenWindowCloses_sendsLatestFromSenderPool() {
+        ReflectionTestUtils.setField(bidEventCoalescer, "windowMs", 20L);
+        AuctionMessageService service = newService();
+        when(auctionEventLog.append(eq(7L), any(), any())).thenReturn(new byte[0]);
+
+        service.sendBidSucceeded(7L, BidSucceededPayload.builder().auctionId(7L).currentPrice(1000L).bidCount(1).build());
+        service.sendBidSucceeded(7L, BidSucceededPayload.builder().auctionId(7L).currentPrice(1100L).bidCount(2).build());
+
+        ArgumentCaptor<Object> payloads = ArgumentCaptor.forClass(Object.class);
+        verify(auctionEventLog, timeout(1000).times(2)).append(eq(7L), eq(SocketMessageType.BID_SUCCESSED), payloads.capture());
+        verify(messageRelay, timeout(1000).times(2)).sendSerialized(eq("/topic/auction/7"), any());
+        assertThat(((BidSucceededPayload) payloads.getAllValues().get(1)).getCurrentPrice()).isEqualTo(1100L);
+        bidEventCoalescer.shutdown();
+    }
+
+    @Test
+    @DisplayName("주기 스냅샷은 순번/replay 버퍼 없이 경매 토픽으로 전송")
+    void sendAuctionSnapshot_bypassesEventLog() {
+        AuctionMessageService service = newService();
+
+        service.sendAuctionSnapshot(7L, Map.of("auctionId", 7));
+
+        ArgumentCaptor<WsMessage> message = ArgumentCaptor.forClass(WsMessage.class);
+        verify(messageRelay).convertAndSend(eq("/topic/auction/7"), message.capture());
+        assertThat(message.getValue().getType()).isEqualTo(SocketMessageType.NOTIFICATION);
+        assertThat(message.getValue().getSeq()).isNull();
+        verify(auctionEventLog, never()).append(any(), any(), any());
+    }
+
+    private AuctionMessageService newService() {
+        return new AuctionMessageService(messageRelay, bidEventCoalescer, auctionEventLog);
+    }
 }
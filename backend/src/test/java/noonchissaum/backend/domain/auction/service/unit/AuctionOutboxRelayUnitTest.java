@@ -0,0 +1,185 @@
+package noonchissaum.backend.domain.auction.service.unit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import noonchissaum.backend.domain.auction.dto.ws.AuctionEndedPayload;
+import noonchissaum.backend.domain.auction.dto.ws.AuctionExtendedPayload;
+import noonchissaum.backend.domain.auction.dto.ws.AuctionSnapshotPayload;
+import noonchissaum.backend.domain.auction.dto.ws.BidSucceededPayload;
+import noonchissaum.backend.domain.auction.entity.Auction;
+import noonchissaum.backend.domain.auction.entity.AuctionEffect;
+import noonchissaum.backend.domain.auction.repository.AuctionOutboxRepository;
+import noonchissaum.backend.domain.auction.repository.AuctionOutboxRepository.OutboxRow;
+import noonchissaum.backend.domain.auction.repository.AuctionRepository;
+import noonchissaum.backend.domain.auction.service.AuctionExtensionService;
+import noonchissaum.backend.domain.auction.service.AuctionIndexService;
+import noonchissaum.backend.domain.auction.service.AuctionMessageService;
+import noonchissaum.backend.domain.auction.service.AuctionOutboxRelay;
+import noonchissaum.backend.domain.auction.service.AuctionRealtimeSnapshotService;
+import noonchissaum.backend.domain.auction.service.AuctionRedisService;
+import noonchissaum.backend.domain.category.entity.Category;
+import noonchissaum.backend.domain.item.entity.Item;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+class AuctionOutboxRelayUnitTest {
+
+    @Mock
+    private AuctionOutboxRepository auctionOutboxRepository;
+    @Mock
+    private AuctionRepository auctionRepository;
+    @Mock
+    private AuctionRedisService auctionRedisService;
+    @Mock
+    private AuctionIndexService auctionIndexService;
+    @Mock
+    private AuctionMessageService auctionMessageService;
+    @Mock
+    private AuctionRealtimeSnapshotService snapshotService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AuctionOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new AuctionOutboxRelay(auctionOutboxRepository, auctionRepository, auctionRedisService,
+                auctionIndexService, auctionMessageService, snapshotService, meterRegistry);
+        ReflectionTestUtils.setField(relay, "batchSize", 500);
+        ReflectionTestUtils.setField(relay, "lockMs", 30000L);
+        ReflectionTestUtils.setField(relay, "retryDelayMs", 5000L);
+        ReflectionTestUtils.setField(relay, "maxAttempts", 5);
+        relay.init();
+    }
+
+    @Test
+    @DisplayName("같은 경매의 outbox 행은 효과를 합쳐 커밋된 상태로 한 번 반영하고, 실패한 경매만 재시도로 돌린다")
+    void relay_coalescesPerAuctionAndReleasesFailures() {
+        LocalDateTime createdAt = LocalDateTime.now().minusSeconds(1);
+        when(auctionOutboxRepository.claim(anyString(), eq(500), eq(5), any(), any())).thenReturn(4);
+        when(auctionOutboxRepository.findClaimed(anyString())).thenReturn(List.of(
+                new OutboxRow(1L, 11L, AuctionEffect.mask(AuctionEffect.STATE, AuctionEffect.PRICE_INDEX), 0, createdAt),
+                new OutboxRow(2L, 12L, AuctionEffect.mask(AuctionEffect.STATE, AuctionEffect.ENDED), 0, createdAt),
+                new OutboxRow(3L, 11L, AuctionEffect.mask(AuctionEffect.BID_STATE), 0, createdAt),
+                new OutboxRow(4L, 13L, AuctionEffect.mask(AuctionEffect.STATE), 0, createdAt)
+        ));
+        Auction bidAuction = auction(11L, 3L, 25000);
+        Auction endedAuction = auction(12L, 3L, 10000);
+        Auction brokenAuction = auction(13L, 3L, 10000);
+        when(auctionRepository.findByIdIn(List.of(11L, 12L, 13L))).thenReturn(List.of(bidAuction, endedAuction, brokenAuction));
+        when(snapshotService.getSnapshot(12L))
+                .thenReturn(new AuctionSnapshotPayload(12L, 30000L, 77L, 4, LocalDateTime.now(), 5, false, null));
+        doThrow(new IllegalStateException("redis down")).when(auctionRedisService).setRedis(brokenAuction);
+
+        int relayed = relay.relay();
+
+        assertThat(relayed).isEqualTo(4);
+        verify(auctionRedisService).setRedis(bidAuction);
+        verify(auctionIndexService).updatePriceIndex(11L, 3L, BigDecimal.valueOf(25000));
+        ArgumentCaptor<BidSucceededPayload> bidPayload = ArgumentCaptor.forClass(BidSucceededPayload.class);
+        verify(auctionMessageService).sendBidSucceeded(eq(11L), bidPayload.capture());
+        assertThat(bidPayload.getValue().getCurrentPrice()).isEqualTo(25000L);
+
+        InOrder endedOrder = inOrder(auctionRedisService, auctionMessageService);
+        endedOrder.verify(auctionRedisService).setRedis(endedAuction);
+        ArgumentCaptor<AuctionEndedPayload> endedPayload = ArgumentCaptor.forClass(AuctionEndedPayload.class);
+        endedOrder.verify(auctionMessageService).sendAuctionEnded(eq(12L), endedPayload.capture());
+        assertThat(endedPayload.getValue().getWinnerUserId()).isEqualTo(77L);
+
+        verify(auctionOutboxRepository).release(anyString(), eq(List.of(13L)), any());
+        verify(auctionOutboxRepository).deadLetter(anyString(), eq(List.of()), any());
+        verify(auctionOutboxRepository).deleteClaimed(anyString());
+        assertThat(meterRegistry.get("auction.outbox.coalesced").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("auction.outbox.errors").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("마지막 시도까지 실패한 경매는 재시도 대신 dead-letter 로 남기고 메트릭을 올린다")
+    void relay_whenAttemptsExhausted_deadLetters() {
+        when(auctionOutboxRepository.claim(anyString(), eq(500), eq(5), any(), any())).thenReturn(2);
+        when(auctionOutboxRepository.findClaimed(anyString())).thenReturn(List.of(
+                new OutboxRow(1L, 13L, AuctionEffect.mask(AuctionEffect.STATE), 4, LocalDateTime.now()),
+                new OutboxRow(2L, 14L, AuctionEffect.mask(AuctionEffect.STATE), 1, LocalDateTime.now())
+        ));
+        Auction exhausted = auction(13L, 3L, 10000);
+        Auction retrying = auction(14L, 3L, 10000);
+        when(auctionRepository.findByIdIn(List.of(13L, 14L))).thenReturn(List.of(exhausted, retrying));
+        doThrow(new IllegalStateException("redis down")).when(auctionRedisService).setRedis(any(Auction.class));
+
+        relay.relay();
+
+        verify(auctionOutboxRepository).release(anyString(), eq(List.of(14L)), any());
+        verify(auctionOutboxRepository).deadLetter(anyString(), eq(List.of(13L)), any());
+        assertThat(meterRegistry.get("auction.outbox.dead_lettered").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("연장 알림의 연장 시간은 연장 서비스 설정 값을 사용한다")
+    void relay_extendedPayloadUsesExtensionMinutes() {
+        when(auctionOutboxRepository.claim(anyString(), eq(500), eq(5), any(), any())).thenReturn(1);
+        when(auctionOutboxRepository.findClaimed(anyString())).thenReturn(List.of(
+                new OutboxRow(1L, 11L, AuctionEffect.mask(AuctionEffect.EXTENDED), 0, LocalDateTime.now())
+        ));
+        when(auctionRepository.findByIdIn(List.of(11L))).thenReturn(List.of(auction(11L, 3L, 10000)));
+
+        relay.relay();
+
+        ArgumentCaptor<AuctionExtendedPayload> payload = ArgumentCaptor.forClass(AuctionExtendedPayload.class);
+        verify(auctionMessageService).sendAuctionExtended(eq(11L), payload.capture());
+        assertThat(payload.getValue().getExtendedMinutes()).isEqualTo(AuctionExtensionService.EXTEND_MINUTES);
+    }
+
+    @Test
+    @DisplayName("선점한 행이 없으면 경매 조회와 반영을 하지 않는다")
+    void relay_whenNothingClaimed_returnsZero() {
+        when(auctionOutboxRepository.claim(anyString(), anyInt(), anyInt(), any(), any())).thenReturn(0);
+
+        int relayed = relay.relay();
+
+        assertThat(relayed).isZero();
+        verify(auctionOutboxRepository, never()).findClaimed(anyString());
+        verifyNoInteractions(auctionRepository, auctionRedisService, auctionMessageService);
+    }
+
+    private Auction auction(Long auctionId, Long categoryId, long price) {
+        Category category = new Category("cat", null);
+        ReflectionTestUtils.setField(category, "id", categoryId);
+        Item item = Item.builder()
+                .seller(null)
+                .category(category)
+                .title("item-" + auctionId)
+                .description("desc")
+                .build();
+        Auction auction = Auction.builder()
+                .item(item)
+                .startPrice(BigDecimal.valueOf(price))
+                .startAt(LocalDateTime.now().minusHours(1))
+                .endAt(LocalDateTime.now().plusHours(1))
+                .build();
+        ReflectionTestUtils.setField(auction, "id", auctionId);
+        return auction;
+    }
+}
@@ -82,7 +82,7 @@ class AuctionQueryServiceUnitTest {
         when(auctionRepository.findByIdIn(List.of(202L, 101L))).thenReturn(List.of(auction1, auction2));
         when(wishService.getWishedItemIds(9L, List.of(1001L, 1002L))).thenReturn(Set.of(1001L));
 
-        AuctionSnapshotPayload snap = new AuctionSnapshotPayload(202L, 77777L, 19L, 6, LocalDateTime.now().plusMinutes(30), 5, true);
+        AuctionSnapshotPayload snap = new AuctionSnapshotPayload(202L, 77777L, 19L, 6, LocalDateTime.now().plusMinutes(30), 5, true, null);
         when(snapshotService.getSnapshotIfPresent(202L)).thenReturn(Optional.of(snap));
         when(snapshotService.getSnapshotIfPresent(101L)).thenReturn(Optional.empty());
 
@@ -1,11 +1,13 @@
 package noonchissaum.backend.domain.auction.service.unit;
 
 import noonchissaum.backend.domain.auction.entity.Auction;
+import noonchissaum.backend.domain.auction.entity.AuctionEffect;
+import noonchissaum.backend.domain.auction.redis.AuctionStateFields;
 import noonchissaum.backend.domain.auction.repository.AuctionRepository;
-import noonchissaum.backend.domain.auction.service.AuctionIndexService;
-import noonchissaum.backend.domain.auction.service.AuctionMessageService;
+import noonchissaum.backend.domain.auction.service.AuctionOutboxService;
 import noonchissaum.backend.domain.auction.service.AuctionRecordService;
 import noonchissaum.backend.domain.auction.service.AuctionRedisService;
+import noonchissaum.backend.domain.auction.service.AuctionWriteBehindService.PendingAuctionUpdate;
 import noonchissaum.backend.domain.category.entity.Category;
 import noonchissaum.backend.domain.item.entity.Item;
 import noonchissaum.backend.domain.user.entity.User;
@@ -23,11 +25,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,21 +43,18 @@ class AuctionRecordServiceUnitTest {
     @Mock
     private UserService userService;
     @Mock
-    private AuctionRedisService auctionRedisService;
-    @Mock
-    private AuctionIndexService auctionIndexService;
+    private AuctionOutboxService auctionOutboxService;
     @Mock
-    private AuctionMessageService auctionMessageService;
+    private AuctionRedisService auctionRedisService;
 
     @Test
-    @DisplayName("입찰 저장 시 Auction/Redis/가격 인덱스를 갱신")
+    @DisplayName("입찰 저장 시 Auction 을 갱신하고 Redis/가격 인덱스 반영을 outbox 에 기록")
     void saveAuction_updatesBidAndIndex() {
         AuctionRecordService service = new AuctionRecordService(
                 auctionRepository,
                 userService,
-                auctionRedisService,
-                auctionIndexService,
-                auctionMessageService
+                auctionOutboxService,
+                auctionRedisService
         );
         Auction auction = sampleAuction(10L, 999L);
         User bidder = sampleUser(3L, "bidder");
@@ -66,50 +67,74 @@ class AuctionRecordServiceUnitTest {
         assertThat(auction.getCurrentBidder()).isEqualTo(bidder);
         assertThat(auction.getCurrentPrice()).isEqualByComparingTo(BigDecimal.valueOf(25000));
         assertThat(auction.getBidCount()).isEqualTo(1);
-        verify(auctionRedisService).setRedis(10L);
-        verify(auctionIndexService).updatePriceIndex(10L, 999L, BigDecimal.valueOf(25000));
+        verify(auctionOutboxService).record(10L, AuctionEffect.STATE, AuctionEffect.PRICE_INDEX);
     }
 
     @Test
-    @DisplayName("연장 가능한 시점 업데이트면 연장 메시지를 전송")
-    void updateAuctionWithExtension_whenExtended_sendsExtendedMessage() {
+    @DisplayName("경매 미존재 시 NOT_FOUND_AUCTIONS 예외")
+    void saveAuction_whenAuctionMissing_throwsApiException() {
         AuctionRecordService service = new AuctionRecordService(
                 auctionRepository,
                 userService,
-                auctionRedisService,
-                auctionIndexService,
-                auctionMessageService
+                auctionOutboxService,
+                auctionRedisService
         );
-        Auction auction = sampleAuction(20L, 555L);
-        ReflectionTestUtils.setField(auction, "endAt", LocalDateTime.now().plusMinutes(1));
-        User bidder = sampleUser(4L, "bidder2");
+        when(auctionRepository.findById(99L)).thenReturn(Optional.empty());
 
-        when(auctionRepository.findById(20L)).thenReturn(Optional.of(auction));
-        when(userService.getUserByUserId(4L)).thenReturn(bidder);
+        ApiException ex = assertThrows(ApiException.class, () -> service.saveAuction(99L, 1L, BigDecimal.TEN));
 
-        service.updateAuctionWithExtension(20L, 4L, BigDecimal.valueOf(30000));
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.NOT_FOUND_AUCTIONS);
+        verify(userService, never()).getUserByUserId(org.mockito.ArgumentMatchers.anyLong());
+    }
 
-        verify(auctionRedisService).setRedis(20L);
-        verify(auctionMessageService).sendAuctionExtended(org.mockito.ArgumentMatchers.eq(20L), org.mockito.ArgumentMatchers.any());
-        verify(auctionIndexService).updatePriceIndex(20L, 555L, BigDecimal.valueOf(30000));
+    @Test
+    @DisplayName("write-behind 반영 시 최신 입찰/연장 상태를 적용하고 Redis 재적재는 하지 않음")
+    void applyPendingUpdate_appliesLatestStateWithoutReloadingRedis() {
+        AuctionRecordService service = new AuctionRecordService(
+                auctionRepository,
+                userService,
+                auctionOutboxService,
+                auctionRedisService
+        );
+        Auction auction = sampleAuction(30L, 777L);
+        LocalDateTime extendedEndAt = auction.getEndAt().plusMinutes(3);
+        User bidder = sampleUser(5L, "bidder3");
+
+        when(auctionRepository.findByIdForUpdate(30L)).thenReturn(Optional.of(auction));
+        when(userService.getUserByUserId(5L)).thenReturn(bidder);
+        when(auctionRedisService.getState(30L)).thenReturn(Map.of(AuctionStateFields.CURRENT_BID_COUNT, "7"));
+
+        service.applyPendingUpdate(new PendingAuctionUpdate(30L, 5L, BigDecimal.valueOf(45000), 7, extendedEndAt));
+
+        assertThat(auction.getCurrentPrice()).isEqualByComparingTo("45000");
+        assertThat(auction.getBidCount()).isEqualTo(7);
+        assertThat(auction.getEndAt()).isEqualTo(extendedEndAt);
+        assertThat(auction.getDeadlineAt()).isEqualTo(extendedEndAt.minusMinutes(auction.getImminentMinutes()));
+        assertThat(auction.getIsExtended()).isTrue();
+        verify(auctionOutboxService).record(30L, AuctionEffect.PRICE_INDEX);
     }
 
     @Test
-    @DisplayName("경매 미존재 시 NOT_FOUND_AUCTIONS 예외")
-    void saveAuction_whenAuctionMissing_throwsApiException() {
+    @DisplayName("Redis 입찰수가 버퍼보다 작으면(입찰 롤백) write-behind 변경을 버림")
+    void applyPendingUpdate_whenRolledBackInRedis_discardsStaleBid() {
         AuctionRecordService service = new AuctionRecordService(
                 auctionRepository,
                 userService,
-                auctionRedisService,
-                auctionIndexService,
-                auctionMessageService
+                auctionOutboxService,
+                auctionRedisService
         );
-        when(auctionRepository.findById(99L)).thenReturn(Optional.empty());
+        Auction auction = sampleAuction(31L, 777L);
+        User bidder = sampleUser(6L, "bidder4");
 
-        ApiException ex = assertThrows(ApiException.class, () -> service.saveAuction(99L, 1L, BigDecimal.TEN));
+        when(auctionRepository.findByIdForUpdate(31L)).thenReturn(Optional.of(auction));
+        when(userService.getUserByUserId(6L)).thenReturn(bidder);
+        when(auctionRedisService.getState(31L)).thenReturn(Map.of(AuctionStateFields.CURRENT_BID_COUNT, "2"));
 
-        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.NOT_FOUND_AUCTIONS);
-        verify(userService, never()).getUserByUserId(org.mockito.ArgumentMatchers.anyLong());
+        service.applyPendingUpdate(new PendingAuctionUpdate(31L, 6L, BigDecimal.valueOf(50000), 5, null));
+
+        assertThat(auction.getCurrentBidder()).isNull();
+        assertThat(auction.getBidCount()).isZero();
+        verifyNoInteractions(auctionOutboxService);
     }
 
     private Auction sampleAuction(Long auctionId, Long categoryId) {
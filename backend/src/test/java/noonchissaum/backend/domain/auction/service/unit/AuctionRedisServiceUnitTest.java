@@ -4,31 +4,39 @@ import noonchissaum.backend.domain.auction.entity.Auction;
 import noonchissaum.backend.domain.auction.entity.AuctionStatus;
 import noonchissaum.backend.domain.auction.repository.AuctionRepository;
 import noonchissaum.backend.domain.auction.service.AuctionRedisService;
+import noonchissaum.backend.domain.auction.service.AuctionChangeTracker;
 import noonchissaum.backend.domain.category.entity.Category;
 import noonchissaum.backend.domain.item.entity.Item;
 import noonchissaum.backend.domain.user.entity.User;
 import noonchissaum.backend.domain.user.entity.UserRole;
 import noonchissaum.backend.domain.user.entity.UserStatus;
+import noonchissaum.backend.global.RedisKeys;
 import noonchissaum.backend.global.exception.ApiException;
 import noonchissaum.backend.global.exception.ErrorCode;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.test.util.ReflectionTestUtils;
 import java.math.BigDecimal;
-import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -40,11 +48,13 @@ class AuctionRedisServiceUnitTest {
     private AuctionRepository auctionRepository;
     @Mock
     private StringRedisTemplate redisTemplate;
+    @Mock
+    private AuctionChangeTracker auctionChangeTracker;
 
     @Test
-    @DisplayName("경매 Redis 저장 시 현재가/입찰자/상태 등 스냅샷 키 저장")
-    void setRedis_setsSnapshotKeys() {
-        AuctionRedisService service = new AuctionRedisService(auctionRepository, redisTemplate);
+    @DisplayName("경매 Redis 저장 시 상태 해시를 스크립트 1회로 적재")
+    void setRedis_loadsStateHashWithScript() {
+        AuctionRedisService service = new AuctionRedisService(auctionRepository, redisTemplate, auctionChangeTracker);
         Auction auction = sampleAuction(31L);
         ReflectionTestUtils.setField(auction, "status", AuctionStatus.RUNNING);
         ReflectionTestUtils.setField(auction, "bidCount", 2);
@@ -52,21 +62,69 @@ class AuctionRedisServiceUnitTest {
         ReflectionTestUtils.setField(auction, "imminentMinutes", 5);
         ReflectionTestUtils.setField(auction, "isExtended", false);
         when(auctionRepository.findById(31L)).thenReturn(Optional.of(auction));
+
+        service.setRedis(31L);
+
+        verify(redisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        verify(auctionChangeTracker).markChanged(31L);
+    }
+
+    @Test
+    @DisplayName("입찰 롤백/결과 확정 재적재는 overwrite 모드로, 일반 적재는 merge 모드로 스크립트를 호출")
+    void overwriteRedis_passesOverwriteMode() {
+        AuctionRedisService service = new AuctionRedisService(auctionRepository, redisTemplate, auctionChangeTracker);
+        Auction auction = sampleAuction(34L);
+        ReflectionTestUtils.setField(auction, "status", AuctionStatus.RUNNING);
+
+        service.overwriteRedis(auction);
+        service.setRedis(auction);
+
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), anyList(), args.capture());
+        assertThat(args.getAllValues().get(0)[1]).isEqualTo("overwrite");
+        assertThat(args.getAllValues().get(1)[1]).isEqualTo("merge");
+    }
+
+    @Test
+    @DisplayName("구 키가 모두 남아 있으면 상태 해시로 이관하고 DB 조회하지 않음")
+    void restoreState_whenLegacyKeysPresent_migratesWithoutDb() {
+        AuctionRedisService service = new AuctionRedisService(auctionRepository, redisTemplate, auctionChangeTracker);
         @SuppressWarnings("unchecked")
         ValueOperations<String, String> ops = mock(ValueOperations.class);
         when(redisTemplate.opsForValue()).thenReturn(ops);
+        when(ops.multiGet(RedisKeys.legacyAuctionStateKeys(32L))).thenReturn(List.of(
+                "13000", "7", "2", "10000", "RUNNING",
+                LocalDateTime.now().plusHours(1).toString(), "5", "false"
+        ));
 
-        service.setRedis(31L);
+        service.restoreState(32L);
+
+        verify(redisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        verify(auctionRepository, never()).findById(32L);
+    }
+
+    @Test
+    @DisplayName("구 키가 일부라도 없으면 DB 기준으로 상태 해시 재적재")
+    void restoreState_whenLegacyKeysMissing_reloadsFromDb() {
+        AuctionRedisService service = new AuctionRedisService(auctionRepository, redisTemplate, auctionChangeTracker);
+        @SuppressWarnings("unchecked")
+        ValueOperations<String, String> ops = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(ops);
+        when(ops.multiGet(RedisKeys.legacyAuctionStateKeys(33L))).thenReturn(Arrays.asList(
+                null, null, null, null, null, null, null, null
+        ));
+        when(auctionRepository.findById(33L)).thenReturn(Optional.of(sampleAuction(33L)));
+
+        service.restoreState(33L);
 
-        verify(ops).set(eq("auction:31:currentPrice"), eq("13000"), any(Duration.class));
-        verify(ops).set(eq("auction:31:currentBidCount"), eq("2"), any(Duration.class));
-        verify(ops).set(eq("auction:31:status"), eq("RUNNING"), any(Duration.class));
+        verify(auctionRepository).findById(33L);
+        verify(redisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
     }
 
     @Test
     @DisplayName("경매 Redis 저장 시 경매 미존재이면 NOT_FOUND_AUCTIONS 예외 던짐")
     void setRedis_whenAuctionMissing_throwsApiException() {
-        AuctionRedisService service = new AuctionRedisService(auctionRepository, redisTemplate);
+        AuctionRedisService service = new AuctionRedisService(auctionRepository, redisTemplate, auctionChangeTracker);
         when(auctionRepository.findById(999L)).thenReturn(Optional.empty());
 
         ApiException ex = assertThrows(ApiException.class, () -> service.setRedis(999L));
@@ -75,20 +133,24 @@ class AuctionRedisServiceUnitTest {
     }
 
     @Test
-    @DisplayName("경매 취소 시 Redis 경매 키 일괄 삭제")
+    @DisplayName("경매 취소 시 상태 해시/자동 입찰 목록과 구 키 일괄 삭제")
     void cancelAuction_deletesAuctionKeys() {
-        AuctionRedisService service = new AuctionRedisService(auctionRepository, redisTemplate);
+        AuctionRedisService service = new AuctionRedisService(auctionRepository, redisTemplate, auctionChangeTracker);
 
         service.cancelAuction(45L);
 
-        verify(redisTemplate).delete(eq(java.util.List.of(
+        verify(redisTemplate).delete(eq(List.of(
                 "auction:45:currentPrice",
                 "auction:45:currentBidder",
                 "auction:45:currentBidCount",
+                "auction:45:startPrice",
                 "auction:45:status",
                 "auction:45:endTime",
                 "auction:45:imminentMinutes",
-                "auction:45:isExtended"
+                "auction:45:isExtended",
+                "auction:45:state",
+                "auction:45:proxy",
+                "auction:45:proxy:order"
         )));
     }
 
@@ -0,0 +1,229 @@
+package noonchissaum.backend.domain.auction.service.unit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import noonchissaum.backend.domain.auction.dto.ws.AuctionSnapshotPayload;
+import noonchissaum.backend.domain.auction.entity.Auction;
+import noonchissaum.backend.domain.auction.entity.AuctionStatus;
+import noonchissaum.backend.domain.auction.entity.Bid;
+import noonchissaum.backend.domain.auction.repository.AuctionRepository;
+import noonchissaum.backend.domain.auction.repository.BidRepository;
+import noonchissaum.backend.domain.auction.service.AuctionLifecycleTimer;
+import noonchissaum.backend.domain.auction.service.AuctionMessageService;
+import noonchissaum.backend.domain.auction.service.AuctionRealtimeSnapshotService;
+import noonchissaum.backend.domain.auction.service.AuctionRedisService;
+import noonchissaum.backend.domain.auction.service.AuctionResultFinalizer;
+import noonchissaum.backend.domain.category.entity.Category;
+import noonchissaum.backend.domain.item.entity.Item;
+import noonchissaum.backend.domain.notification.service.AuctionNotificationService;
+import noonchissaum.backend.domain.order.service.OrderService;
+import noonchissaum.backend.domain.user.entity.User;
+import noonchissaum.backend.domain.user.entity.UserRole;
+import noonchissaum.backend.domain.user.entity.UserStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+class AuctionResultFinalizerUnitTest {
+
+    @Mock
+    private AuctionRepository auctionRepository;
+    @Mock
+    private BidRepository bidRepository;
+    @Mock
+    private OrderService orderService;
+    @Mock
+    private AuctionRealtimeSnapshotService snapshotService;
+    @Mock
+    private AuctionMessageService auctionMessageService;
+    @Mock
+    private AuctionNotificationService auctionNotificationService;
+    @Mock
+    private AuctionRedisService auctionRedisService;
+    @Mock
+    private AuctionLifecycleTimer auctionLifecycleTimer;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AuctionResultFinalizer finalizer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        finalizer = new AuctionResultFinalizer(auctionRepository, bidRepository, orderService, snapshotService,
+                auctionMessageService, auctionNotificationService, auctionRedisService, auctionLifecycleTimer,
+                transactionTemplate, meterRegistry);
+        ReflectionTestUtils.setField(finalizer, "workerCount", 2);
+        ReflectionTestUtils.setField(finalizer, "maxDeferMs", 300_000L);
+        finalizer.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        finalizer.shutdown();
+    }
+
+    @Test
+    @DisplayName("chunk 의 낙찰 입찰/참여자를 한 번씩 조회하고 경매별 트랜잭션으로 낙찰/유찰 확정")
+    @SuppressWarnings("unchecked")
+    void finalizeAuctions_resolvesWinnersPerChunkAndFinalizesEach() {
+        Auction sold = endedAuction(1001L, 31L);
+        Auction unsold = endedAuction(1002L, 32L);
+        User bidder = user(41L, "winner");
+        sold.updateBid(bidder, BigDecimal.valueOf(20000));
+        Bid winningBid = new Bid(sold, bidder, BigDecimal.valueOf(20000), "req-1");
+        ReflectionTestUtils.setField(winningBid, "id", 9001L);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Boolean>) invocation.getArgument(0)).doInTransaction(null));
+        when(auctionRepository.findByIdIn(List.of(1001L, 1002L))).thenReturn(List.of(sold, unsold));
+        when(bidRepository.findTopBidsByAuctionIds(List.of(1001L, 1002L))).thenReturn(List.of(winningBid));
+        when(bidRepository.findDistinctAuctionBidderIds(List.of(1001L, 1002L)))
+                .thenReturn(List.<Object[]>of(new Object[]{1001L, 41L}, new Object[]{1001L, 42L}));
+        when(auctionRepository.finalizeAuctionStatus(anyLong(), eq(AuctionStatus.ENDED), any())).thenReturn(1);
+        when(snapshotService.getSnapshot(anyLong()))
+                .thenReturn(new AuctionSnapshotPayload(1001L, 20000L, 41L, 2, LocalDateTime.now(), 5, false, null));
+
+        int finalized = finalizer.finalizeAuctions(List.of(1001L, 1002L));
+
+        assertThat(finalized).isEqualTo(2);
+        verify(auctionRepository).finalizeAuctionStatus(1001L, AuctionStatus.ENDED, AuctionStatus.SUCCESS);
+        verify(auctionRepository).finalizeAuctionStatus(1002L, AuctionStatus.ENDED, AuctionStatus.FAILED);
+        verify(orderService).createOrder(sold, bidder, BigDecimal.valueOf(20000));
+        verify(bidRepository, never()).findFirstByAuctionIdOrderByBidPriceDesc(any());
+        verify(auctionMessageService).sendAuctionResult(eq(1001L), any());
+        verify(auctionMessageService).sendAuctionResult(eq(1002L), any());
+        assertThat(meterRegistry.get("auction.result.finalized").tag("result", "success").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("auction.result.finalized").tag("result", "failed").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("다른 처리에서 이미 확정한 경매는 주문/결과 이벤트 없이 건너뜀")
+    @SuppressWarnings("unchecked")
+    void finalizeAuctions_whenAlreadyFinalized_skips() {
+        Auction sold = endedAuction(1011L, 33L);
+        User bidder = user(43L, "late");
+        sold.updateBid(bidder, BigDecimal.valueOf(15000));
+        Bid winningBid = new Bid(sold, bidder, BigDecimal.valueOf(15000), "req-2");
+        ReflectionTestUtils.setField(winningBid, "id", 9011L);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Boolean>) invocation.getArgument(0)).doInTransaction(null));
+        when(auctionRepository.findByIdIn(List.of(1011L))).thenReturn(List.of(sold));
+        when(bidRepository.findTopBidsByAuctionIds(List.of(1011L))).thenReturn(List.of(winningBid));
+        when(bidRepository.findDistinctAuctionBidderIds(List.of(1011L))).thenReturn(List.of());
+        when(auctionRepository.finalizeAuctionStatus(1011L, AuctionStatus.ENDED, AuctionStatus.SUCCESS)).thenReturn(0);
+
+        int finalized = finalizer.finalizeAuctions(List.of(1011L));
+
+        assertThat(finalized).isZero();
+        verify(orderService, never()).createOrder(any(), any(), any());
+        verify(auctionMessageService, never()).sendAuctionResult(any(), any());
+    }
+
+    @Test
+    @DisplayName("마지막 입찰이 아직 bids 에 반영되지 않았으면 상태 선점 없이 유예 후 재시도 예약")
+    void finalizeAuctions_whenJournalLagging_defersWithoutFinalizing() {
+        Auction sold = endedAuction(1021L, 34L);
+        User earlier = user(44L, "earlier");
+        User last = user(45L, "last");
+        sold.updateBid(earlier, BigDecimal.valueOf(12000));
+        sold.updateBid(last, BigDecimal.valueOf(13000));
+        Bid journaledBid = new Bid(sold, earlier, BigDecimal.valueOf(12000), "req-3");
+        ReflectionTestUtils.setField(journaledBid, "id", 9021L);
+        Auction noBidYet = endedAuction(1022L, 35L);
+        noBidYet.updateBid(last, BigDecimal.valueOf(11000));
+        when(auctionRepository.findByIdIn(List.of(1021L, 1022L))).thenReturn(List.of(sold, noBidYet));
+        when(bidRepository.findTopBidsByAuctionIds(List.of(1021L, 1022L))).thenReturn(List.of(journaledBid));
+        when(bidRepository.findDistinctAuctionBidderIds(List.of(1021L, 1022L))).thenReturn(List.of());
+
+        int finalized = finalizer.finalizeAuctions(List.of(1021L, 1022L));
+
+        assertThat(finalized).isZero();
+        verify(auctionRepository, never()).finalizeAuctionStatus(anyLong(), any(), any());
+        verify(transactionTemplate, never()).execute(any());
+        verify(auctionLifecycleTimer).scheduleResult(1021L);
+        verify(auctionLifecycleTimer).scheduleResult(1022L);
+        assertThat(meterRegistry.get("auction.result.deferred").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("유예 한도를 넘기면 더 미루지 않고 bids 최고가 입찰 기준으로 확정하고 강제 확정 지표를 올림")
+    @SuppressWarnings("unchecked")
+    void finalizeAuctions_whenDeferralExpired_finalizesFromTopBid() {
+        Auction sold = endedAuction(1031L, 36L);
+        ReflectionTestUtils.setField(sold, "endAt", LocalDateTime.now().minusMinutes(10));
+        User earlier = user(46L, "journaled");
+        User last = user(47L, "unjournaled");
+        sold.updateBid(earlier, BigDecimal.valueOf(12000));
+        sold.updateBid(last, BigDecimal.valueOf(13000));
+        Bid journaledBid = new Bid(sold, earlier, BigDecimal.valueOf(12000), "req-4");
+        ReflectionTestUtils.setField(journaledBid, "id", 9031L);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Boolean>) invocation.getArgument(0)).doInTransaction(null));
+        when(auctionRepository.findByIdIn(List.of(1031L))).thenReturn(List.of(sold));
+        when(bidRepository.findTopBidsByAuctionIds(List.of(1031L))).thenReturn(List.of(journaledBid));
+        when(bidRepository.findDistinctAuctionBidderIds(List.of(1031L))).thenReturn(List.of());
+        when(auctionRepository.finalizeAuctionStatus(1031L, AuctionStatus.ENDED, AuctionStatus.SUCCESS)).thenReturn(1);
+        when(auctionRedisService.getState(1031L)).thenReturn(Map.of());
+        when(snapshotService.getSnapshot(1031L))
+                .thenReturn(new AuctionSnapshotPayload(1031L, 12000L, 46L, 1, LocalDateTime.now(), 5, false, null));
+
+        int finalized = finalizer.finalizeAuctions(List.of(1031L));
+
+        assertThat(finalized).isEqualTo(1);
+        verify(orderService).createOrder(sold, earlier, BigDecimal.valueOf(12000));
+        verify(auctionLifecycleTimer, never()).scheduleResult(anyLong());
+        assertThat(meterRegistry.get("auction.result.forced").counter().count()).isEqualTo(1.0);
+    }
+
+    private Auction endedAuction(Long auctionId, Long sellerId) {
+        User seller = user(sellerId, "seller-" + auctionId);
+        Category category = new Category("category-" + auctionId, null);
+        Item item = Item.builder()
+                .seller(seller)
+                .category(category)
+                .title("title-" + auctionId)
+                .description("desc")
+                .build();
+        Auction auction = Auction.builder()
+                .item(item)
+                .startPrice(BigDecimal.valueOf(10000))
+                .startAt(LocalDateTime.now().minusHours(2))
+                .endAt(LocalDateTime.now().minusMinutes(1))
+                .build();
+        ReflectionTestUtils.setField(auction, "id", auctionId);
+        ReflectionTestUtils.setField(auction, "status", AuctionStatus.ENDED);
+        return auction;
+    }
+
+    private User user(Long userId, String suffix) {
+        User user = User.builder()
+                .email("auction-result-" + suffix + "@test.com")
+                .nickname("auction_result_" + suffix)
+                .role(UserRole.USER)
+                .status(UserStatus.ACTIVE)
+                .build();
+        ReflectionTestUtils.setField(user, "id", userId);
+        return user;
+    }
+}
@@ -2,23 +2,28 @@ package noonchissaum.backend.domain.auction.service.unit;
 
 import noonchissaum.backend.domain.auction.dto.ws.AuctionSnapshotPayload;
 import noonchissaum.backend.domain.auction.entity.Auction;
+import noonchissaum.backend.domain.auction.entity.AuctionEffect;
 import noonchissaum.backend.domain.auction.entity.AuctionStatus;
+import noonchissaum.backend.domain.auction.repository.AuctionLifecycleRow;
 import noonchissaum.backend.domain.auction.repository.AuctionRepository;
-import noonchissaum.backend.domain.auction.repository.BidRepository;
+import noonchissaum.backend.domain.auction.service.AuctionLifecycleTimer;
 import noonchissaum.backend.domain.auction.service.AuctionMessageService;
+import noonchissaum.backend.domain.auction.service.AuctionOutboxService;
 import noonchissaum.backend.domain.auction.service.AuctionRealtimeSnapshotService;
 import noonchissaum.backend.domain.auction.service.AuctionRedisService;
+import noonchissaum.backend.domain.auction.service.AuctionResultFinalizer;
 import noonchissaum.backend.domain.auction.service.AuctionSchedulerService;
+import noonchissaum.backend.domain.auction.service.AuctionWriteBehindService;
+import noonchissaum.backend.domain.auction.service.AuctionChangeTracker;
+import noonchissaum.backend.domain.auction.service.AuctionViewerTracker;
 import noonchissaum.backend.domain.category.entity.Category;
 import noonchissaum.backend.domain.item.entity.Item;
+import noonchissaum.backend.domain.notification.service.AuctionDigestService;
 import noonchissaum.backend.domain.notification.service.AuctionNotificationService;
-import noonchissaum.backend.domain.order.service.OrderService;
 import noonchissaum.backend.domain.user.entity.User;
 import noonchissaum.backend.domain.user.entity.UserRole;
 import noonchissaum.backend.domain.user.entity.UserStatus;
-import noonchissaum.backend.domain.user.repository.CategorySubscriptionRepository;
 import noonchissaum.backend.domain.wallet.service.WalletService;
-import noonchissaum.backend.global.service.MailService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -29,11 +34,14 @@ import org.springframework.test.util.ReflectionTestUtils;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,10 +51,6 @@ class AuctionSchedulerServiceUnitTest {
     @Mock
     private AuctionRepository auctionRepository;
     @Mock
-    private BidRepository bidRepository;
-    @Mock
-    private OrderService orderService;
-    @Mock
     private AuctionRealtimeSnapshotService snapshotService;
     @Mock
     private AuctionMessageService auctionMessageService;
@@ -57,21 +61,32 @@ class AuctionSchedulerServiceUnitTest {
     @Mock
     private WalletService walletService;
     @Mock
-    private CategorySubscriptionRepository categorySubscriptionRepository;
+    private AuctionDigestService auctionDigestService;
+    @Mock
+    private AuctionWriteBehindService auctionWriteBehindService;
+    @Mock
+    private AuctionChangeTracker auctionChangeTracker;
     @Mock
-    private MailService mailService;
+    private AuctionViewerTracker auctionViewerTracker;
+    @Mock
+    private AuctionLifecycleTimer auctionLifecycleTimer;
+    @Mock
+    private AuctionResultFinalizer auctionResultFinalizer;
+    @Mock
+    private AuctionOutboxService auctionOutboxService;
 
     @Test
     @DisplayName("경매 노출 처리 시 READY 경매를 RUNNING으로 전환하고 환불/Redis 반영")
     void expose_updatesAuctionsAndReturnsUpdatedCount() {
         AuctionSchedulerService service = new AuctionSchedulerService(
-                auctionRepository, bidRepository, orderService, snapshotService, auctionMessageService,
-                auctionNotificationService, auctionRedisService, walletService, categorySubscriptionRepository, mailService
+                auctionRepository, snapshotService, auctionMessageService,
+                auctionNotificationService, auctionRedisService, walletService, auctionDigestService,
+                auctionWriteBehindService, auctionChangeTracker, auctionViewerTracker, auctionLifecycleTimer,
+                auctionResultFinalizer, auctionOutboxService
         );
         Auction a1 = sampleReadyAuction(101L, 11L, "scheduler-1");
         Auction a2 = sampleReadyAuction(102L, 12L, "scheduler-2");
         when(auctionRepository.findReadyNormalAuctions(any(), any())).thenReturn(Optional.of(List.of(a1, a2)));
-        when(categorySubscriptionRepository.findActiveUserEmailsByCategoryId(any())).thenReturn(List.of());
 
         int updated = service.expose(LocalDateTime.now());
 
@@ -80,44 +95,216 @@ class AuctionSchedulerServiceUnitTest {
         assertThat(a2.getStatus()).isEqualTo(AuctionStatus.RUNNING);
         verify(walletService).setAuctionDeposit(11L, 101L, 1000, "refund");
         verify(walletService).setAuctionDeposit(12L, 102L, 1000, "refund");
-        verify(auctionRedisService).setRedis(101L);
-        verify(auctionRedisService).setRedis(102L);
+        verify(auctionOutboxService).record(101L, AuctionEffect.STATE);
+        verify(auctionOutboxService).record(102L, AuctionEffect.STATE);
+        verify(auctionDigestService).record(101L);
+        verify(auctionDigestService).record(102L);
     }
 
     @Test
     @DisplayName("데드라인 마킹 시 대상 경매가 없으면 후속 알림 처리 생략")
     void markDeadline_whenNoTargetIds_skipsFollowUp() {
         AuctionSchedulerService service = new AuctionSchedulerService(
-                auctionRepository, bidRepository, orderService, snapshotService, auctionMessageService,
-                auctionNotificationService, auctionRedisService, walletService, categorySubscriptionRepository, mailService
+                auctionRepository, snapshotService, auctionMessageService,
+                auctionNotificationService, auctionRedisService, walletService, auctionDigestService,
+                auctionWriteBehindService, auctionChangeTracker, auctionViewerTracker, auctionLifecycleTimer,
+                auctionResultFinalizer, auctionOutboxService
         );
-        when(auctionRepository.findRunningAuctionsToDeadline(any())).thenReturn(List.of());
+        when(auctionRepository.lockIdsToDeadline(any())).thenReturn(List.of());
 
         service.markDeadline();
 
-        verify(auctionRepository, never()).markDeadlineAuctions(any());
+        verify(auctionRepository, never()).transitionStatus(any(), any(), any());
         verify(auctionNotificationService, never()).notifyImminent(any());
     }
 
     @Test
-    @DisplayName("경매 종료 처리 시 종료 이벤트를 브로드캐스트하고 업데이트 건수를 반환")
+    @DisplayName("데드라인 마킹 시 잠근 대상 ID 만 DEADLINE 으로 전환하고 같은 ID 로 후속 처리")
+    void markDeadline_transitionsLockedIdsOnly() {
+        AuctionSchedulerService service = new AuctionSchedulerService(
+                auctionRepository, snapshotService, auctionMessageService,
+                auctionNotificationService, auctionRedisService, walletService, auctionDigestService,
+                auctionWriteBehindService, auctionChangeTracker, auctionViewerTracker, auctionLifecycleTimer,
+                auctionResultFinalizer, auctionOutboxService
+        );
+        when(auctionRepository.lockIdsToDeadline(any())).thenReturn(List.of(401L, 402L));
+
+        service.markDeadline();
+
+        verify(auctionWriteBehindService).flushAll();
+        verify(auctionRepository).transitionStatus(List.of(401L, 402L), AuctionStatus.RUNNING, AuctionStatus.DEADLINE);
+        verify(auctionOutboxService).recordAll(List.of(401L, 402L), AuctionEffect.STATE);
+        verify(auctionNotificationService).notifyImminent(401L);
+        verify(auctionNotificationService).notifyImminent(402L);
+    }
+
+    @Test
+    @DisplayName("경매 종료 처리 시 Redis 반영/종료 이벤트를 outbox 에 기록하고 업데이트 건수를 반환")
     void end_sendsAuctionEndedEventsAndReturnsUpdatedCount() {
         AuctionSchedulerService service = new AuctionSchedulerService(
-                auctionRepository, bidRepository, orderService, snapshotService, auctionMessageService,
-                auctionNotificationService, auctionRedisService, walletService, categorySubscriptionRepository, mailService
+                auctionRepository, snapshotService, auctionMessageService,
+                auctionNotificationService, auctionRedisService, walletService, auctionDigestService,
+                auctionWriteBehindService, auctionChangeTracker, auctionViewerTracker, auctionLifecycleTimer,
+                auctionResultFinalizer, auctionOutboxService
         );
-        when(auctionRepository.findIdsToEnd(AuctionStatus.DEADLINE, LocalDateTime.of(2026, 1, 1, 0, 0)))
+        when(auctionRepository.lockIdsToEnd(LocalDateTime.of(2026, 1, 1, 0, 0)))
                 .thenReturn(List.of(501L));
-        when(auctionRepository.endRunningAuctions(AuctionStatus.DEADLINE, AuctionStatus.ENDED, LocalDateTime.of(2026, 1, 1, 0, 0)))
+        when(auctionRepository.transitionStatus(List.of(501L), AuctionStatus.DEADLINE, AuctionStatus.ENDED))
                 .thenReturn(1);
-        when(snapshotService.getSnapshot(501L))
-                .thenReturn(new AuctionSnapshotPayload(501L, 35000L, 77L, 3, LocalDateTime.now(), 5, false));
 
         int updated = service.end(LocalDateTime.of(2026, 1, 1, 0, 0));
 
         assertThat(updated).isEqualTo(1);
-        verify(auctionRedisService).setRedis(501L);
-        verify(auctionMessageService).sendAuctionEnded(org.mockito.ArgumentMatchers.eq(501L), any());
+        verify(auctionOutboxService).recordAll(List.of(501L), AuctionEffect.STATE, AuctionEffect.ENDED);
+        verify(auctionMessageService, never()).sendAuctionEnded(any(), any());
+    }
+
+    @Test
+    @DisplayName("변경 표시된 경매만 스냅샷 중계하고 DB 는 조회하지 않음")
+    void broadcastChangedAuctions_sendsOnlyChangedAuctions() {
+        AuctionSchedulerService service = new AuctionSchedulerService(
+                auctionRepository, snapshotService, auctionMessageService,
+                auctionNotificationService, auctionRedisService, walletService, auctionDigestService,
+                auctionWriteBehindService, auctionChangeTracker, auctionViewerTracker, auctionLifecycleTimer,
+                auctionResultFinalizer, auctionOutboxService
+        );
+        ReflectionTestUtils.setField(service, "broadcastBatchSize", 2);
+        AuctionSnapshotPayload snapshot = new AuctionSnapshotPayload(601L, 12000L, 7L, 1, LocalDateTime.now(), 5, false, null);
+        when(auctionChangeTracker.popChanged(2)).thenReturn(List.of(601L, 602L), List.of(603L));
+        when(auctionViewerTracker.watchedViewerCounts(List.of(601L, 602L))).thenReturn(Map.of(601L, 1, 602L, 4));
+        when(auctionViewerTracker.watchedViewerCounts(List.of(603L))).thenReturn(Map.of(603L, 2));
+        when(snapshotService.getSnapshot(any())).thenReturn(snapshot);
+
+        int sent = service.broadcastChangedAuctions();
+
+        assertThat(sent).isEqualTo(3);
+        verify(auctionMessageService).sendAuctionSnapshot(601L, snapshot);
+        verify(auctionMessageService).sendAuctionSnapshot(603L, snapshot);
+        verify(auctionRepository, never()).findAllByStatusIn(any());
+    }
+
+    @Test
+    @DisplayName("스냅샷 전송에 실패한 경매는 다음 tick 에 다시 보내도록 변경 표시를 되돌림")
+    void broadcastChangedAuctions_whenSendFails_remarksFailedAuctions() {
+        AuctionSchedulerService service = new AuctionSchedulerService(
+                auctionRepository, snapshotService, auctionMessageService,
+                auctionNotificationService, auctionRedisService, walletService, auctionDigestService,
+                auctionWriteBehindService, auctionChangeTracker, auctionViewerTracker, auctionLifecycleTimer,
+                auctionResultFinalizer, auctionOutboxService
+        );
+        ReflectionTestUtils.setField(service, "broadcastBatchSize", 10);
+        AuctionSnapshotPayload snapshot = new AuctionSnapshotPayload(801L, 12000L, 7L, 1, LocalDateTime.now(), 5, false, null);
+        when(auctionChangeTracker.popChanged(10)).thenReturn(List.of(801L, 802L));
+        when(auctionViewerTracker.watchedViewerCounts(List.of(801L, 802L))).thenReturn(Map.of(801L, 1, 802L, 1));
+        when(snapshotService.getSnapshot(801L)).thenReturn(snapshot);
+        when(snapshotService.getSnapshot(802L)).thenThrow(new IllegalStateException("redis down"));
+
+        int sent = service.broadcastChangedAuctions();
+
+        assertThat(sent).isEqualTo(1);
+        verify(auctionChangeTracker).markChanged(List.of(802L));
+    }
+
+    @Test
+    @DisplayName("구독자가 없는 경매는 스냅샷 조회 없이 건너뛰고 시청자 수를 스냅샷에 담아 전송")
+    void broadcastChangedAuctions_skipsAuctionsWithoutViewers() {
+        AuctionSchedulerService service = new AuctionSchedulerService(
+                auctionRepository, snapshotService, auctionMessageService,
+                auctionNotificationService, auctionRedisService, walletService, auctionDigestService,
+                auctionWriteBehindService, auctionChangeTracker, auctionViewerTracker, auctionLifecycleTimer,
+                auctionResultFinalizer, auctionOutboxService
+        );
+        ReflectionTestUtils.setField(service, "broadcastBatchSize", 10);
+        AuctionSnapshotPayload snapshot = new AuctionSnapshotPayload(702L, 12000L, 7L, 1, LocalDateTime.now(), 5, false, null);
+        when(auctionChangeTracker.popChanged(10)).thenReturn(List.of(701L, 702L, 703L));
+        when(auctionViewerTracker.watchedViewerCounts(List.of(701L, 702L, 703L))).thenReturn(Map.of(702L, 5));
+        when(snapshotService.getSnapshot(702L)).thenReturn(snapshot);
+
+        int sent = service.broadcastChangedAuctions();
+
+        assertThat(sent).isEqualTo(1);
+        assertThat(snapshot.getViewerCount()).isEqualTo(5);
+        verify(snapshotService, never()).getSnapshot(701L);
+        verify(snapshotService, never()).getSnapshot(703L);
+        verify(auctionMessageService).sendAuctionSnapshot(702L, snapshot);
+    }
+
+    @Test
+    @DisplayName("종료 타이머 발화 시 Redis 마감 시각이 연장돼 있으면 종료하지 않고 연장된 시각으로 재예약")
+    void endAuction_whenRedisEndTimeExtended_reschedules() {
+        AuctionSchedulerService service = new AuctionSchedulerService(
+                auctionRepository, snapshotService, auctionMessageService,
+                auctionNotificationService, auctionRedisService, walletService, auctionDigestService,
+                auctionWriteBehindService, auctionChangeTracker, auctionViewerTracker, auctionLifecycleTimer,
+                auctionResultFinalizer, auctionOutboxService
+        );
+        Auction auction = sampleReadyAuction(801L, 21L, "timer-1");
+        ReflectionTestUtils.setField(auction, "status", AuctionStatus.DEADLINE);
+        ReflectionTestUtils.setField(auction, "endAt", LocalDateTime.now().minusSeconds(1));
+        LocalDateTime extendedEndAt = LocalDateTime.now().plusMinutes(3);
+        when(auctionRepository.findById(801L)).thenReturn(Optional.of(auction));
+        when(auctionRedisService.getState(801L)).thenReturn(Map.of("endTime", extendedEndAt.toString()));
+
+        service.endAuction(801L);
+
+        assertThat(auction.getStatus()).isEqualTo(AuctionStatus.DEADLINE);
+        verify(auctionWriteBehindService).flush(801L);
+        verify(auctionLifecycleTimer).schedule(801L, AuctionLifecycleTimer.Phase.END, extendedEndAt);
+        verifyNoInteractions(auctionOutboxService);
+    }
+
+    @Test
+    @DisplayName("종료 타이머 발화 시 마감이 지났으면 ENDED 전환 후 종료 이벤트를 outbox 에 기록 + 결과 확정 예약")
+    void endAuction_whenDue_endsAndSchedulesResult() {
+        AuctionSchedulerService service = new AuctionSchedulerService(
+                auctionRepository, snapshotService, auctionMessageService,
+                auctionNotificationService, auctionRedisService, walletService, auctionDigestService,
+                auctionWriteBehindService, auctionChangeTracker, auctionViewerTracker, auctionLifecycleTimer,
+                auctionResultFinalizer, auctionOutboxService
+        );
+        Auction auction = sampleReadyAuction(802L, 22L, "timer-2");
+        LocalDateTime endAt = LocalDateTime.now().minusSeconds(1);
+        ReflectionTestUtils.setField(auction, "status", AuctionStatus.DEADLINE);
+        ReflectionTestUtils.setField(auction, "endAt", endAt);
+        when(auctionRepository.findById(802L)).thenReturn(Optional.of(auction));
+        when(auctionRedisService.getState(802L)).thenReturn(Map.of("endTime", endAt.toString()));
+
+        service.endAuction(802L);
+
+        assertThat(auction.getStatus()).isEqualTo(AuctionStatus.ENDED);
+        verify(auctionOutboxService).record(802L, AuctionEffect.STATE, AuctionEffect.ENDED);
+        verify(auctionLifecycleTimer).scheduleNext(auction);
+    }
+
+    @Test
+    @DisplayName("타이머 재구성은 예약 컬럼만 id 순 페이지로 읽고 이 노드 담당 경매만 예약")
+    void rebuildLifecycleTimers_pagesRowsAndSchedulesOwnedOnly() {
+        AuctionSchedulerService service = new AuctionSchedulerService(
+                auctionRepository, snapshotService, auctionMessageService,
+                auctionNotificationService, auctionRedisService, walletService, auctionDigestService,
+                auctionWriteBehindService, auctionChangeTracker, auctionViewerTracker, auctionLifecycleTimer,
+                auctionResultFinalizer, auctionOutboxService
+        );
+        ReflectionTestUtils.setField(service, "lifecycleRebuildPageSize", 2);
+        LocalDateTime endAt = LocalDateTime.now().plusHours(1);
+        AuctionLifecycleRow r1 = lifecycleRow(901L, endAt);
+        AuctionLifecycleRow r2 = lifecycleRow(902L, endAt);
+        AuctionLifecycleRow r3 = lifecycleRow(903L, endAt);
+        when(auctionRepository.findLifecycleRowsAfter(any(), eq(0L), any())).thenReturn(List.of(r1, r2));
+        when(auctionRepository.findLifecycleRowsAfter(any(), eq(902L), any())).thenReturn(List.of(r3));
+        when(auctionLifecycleTimer.scheduleNextAll(any())).thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+
+        int scheduled = service.rebuildLifecycleTimers(auctionId -> auctionId != 902L);
+
+        assertThat(scheduled).isEqualTo(2);
+        verify(auctionLifecycleTimer).scheduleNextAll(List.of(r1));
+        verify(auctionLifecycleTimer).scheduleNextAll(List.of(r3));
+        verify(auctionRepository, never()).findAllByStatusIn(any());
+    }
+
+    private AuctionLifecycleRow lifecycleRow(Long auctionId, LocalDateTime endAt) {
+        return new AuctionLifecycleRow(auctionId, AuctionStatus.RUNNING, endAt.minusHours(2), endAt.minusHours(1),
+                endAt, 5, false);
     }
 
     private Auction sampleReadyAuction(Long auctionId, Long sellerId, String suffix) {
@@ -3,7 +3,8 @@ package noonchissaum.backend.domain.auction.service.unit;
 import noonchissaum.backend.domain.auction.entity.Auction;
 import noonchissaum.backend.domain.auction.entity.AuctionStatus;
 import noonchissaum.backend.domain.auction.repository.AuctionRepository;
-import noonchissaum.backend.domain.auction.service.AuctionIndexService;
+import noonchissaum.backend.domain.auction.service.AuctionLifecycleTimer;
+import noonchissaum.backend.domain.auction.service.AuctionOutboxService;
 import noonchissaum.backend.domain.auction.service.AuctionQueryService;
 import noonchissaum.backend.domain.auction.service.AuctionRealtimeSnapshotService;
 import noonchissaum.backend.domain.auction.service.AuctionRedisService;
@@ -62,8 +63,6 @@ class AuctionServiceUnitTest {
     @Mock
     private AuctionQueryService auctionQueryService;
     @Mock
-    private AuctionIndexService auctionIndexService;
-    @Mock
     private WalletService walletService;
     @Mock
     private UserViewRedisLogger userViewRedisLogger;
@@ -71,6 +70,10 @@ class AuctionServiceUnitTest {
     private RecommendationService recommendationService;
     @Mock
     private LocationService locationService;
+    @Mock
+    private AuctionLifecycleTimer auctionLifecycleTimer;
+    @Mock
+    private AuctionOutboxService auctionOutboxService;
 
     @Test
     @DisplayName("경매 취소 시 생성 5분 이내면 보증금 환불 처리 후 취소")
@@ -123,11 +126,12 @@ class AuctionServiceUnitTest {
                 auctionRedisService,
                 snapshotService,
                 auctionQueryService,
-                auctionIndexService,
                 walletService,
                 userViewRedisLogger,
                 recommendationService,
-                locationService
+                locationService,
+                auctionLifecycleTimer,
+                auctionOutboxService
         );
     }
 
@@ -0,0 +1,84 @@
+package noonchissaum.backend.domain.auction.service.unit;
+
+import noonchissaum.backend.domain.auction.service.AuctionViewerTracker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+import java.util.List;
+import java.util.Map;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+class AuctionViewerTrackerUnitTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Test
+    @DisplayName("경매 토픽 구독/해제/연결 종료에 따라 시청자 수 증감")
+    void subscribeEvents_updateViewerCount() {
+        AuctionViewerTracker tracker = newTracker();
+
+        tracker.onSubscribe(new SessionSubscribeEvent(this, frame(StompCommand.SUBSCRIBE, "s1", "sub-1", "/topic/auction/10")));
+        tracker.onSubscribe(new SessionSubscribeEvent(this, frame(StompCommand.SUBSCRIBE, "s2", "sub-1", "/topic/auction/10")));
+        tracker.onSubscribe(new SessionSubscribeEvent(this, frame(StompCommand.SUBSCRIBE, "s2", "sub-2", "/topic/auction/11")));
+        assertThat(tracker.viewerCount(10L)).isEqualTo(2);
+        assertThat(tracker.viewerCount(11L)).isEqualTo(1);
+
+        tracker.onUnsubscribe(new SessionUnsubscribeEvent(this, frame(StompCommand.UNSUBSCRIBE, "s1", "sub-1", null)));
+        assertThat(tracker.viewerCount(10L)).isEqualTo(1);
+
+        Message<byte[]> disconnect = frame(StompCommand.DISCONNECT, "s2", null, null);
+        tracker.onDisconnect(new SessionDisconnectEvent(this, disconnect, "s2", CloseStatus.NORMAL));
+        assertThat(tracker.viewerCount(10L)).isZero();
+        assertThat(tracker.viewerCount(11L)).isZero();
+    }
+
+    @Test
+    @DisplayName("경매 토픽이 아닌 구독은 집계하지 않고 시청자 없는 경매는 브로드캐스트 대상에서 제외")
+    void watchedViewerCounts_excludesAuctionsWithoutViewers() {
+        AuctionViewerTracker tracker = newTracker();
+        tracker.onSubscribe(new SessionSubscribeEvent(this, frame(StompCommand.SUBSCRIBE, "s1", "sub-1", "/topic/chat.3")));
+        tracker.onSubscribe(new SessionSubscribeEvent(this, frame(StompCommand.SUBSCRIBE, "s1", "sub-2", "/topic/auction/21")));
+
+        Map<Long, Integer> watched = tracker.watchedViewerCounts(List.of(20L, 21L, 22L));
+
+        assertThat(watched).containsExactly(Map.entry(21L, 1));
+        // local 모드는 Redis 를 읽지 않는다
+        verifyNoInteractions(redisTemplate);
+    }
+
+    private AuctionViewerTracker newTracker() {
+        AuctionViewerTracker tracker = new AuctionViewerTracker(redisTemplate);
+        ReflectionTestUtils.setField(tracker, "relayMode", "local");
+        ReflectionTestUtils.setField(tracker, "syncIntervalMs", 2000L);
+        return tracker;
+    }
+
+    private Message<byte[]> frame(StompCommand command, String sessionId, String subscriptionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        if (subscriptionId != null) {
+            accessor.setSubscriptionId(subscriptionId);
+        }
+        if (destination != null) {
+            accessor.setDestination(destination);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,67 @@
+package noonchissaum.backend.domain.auction.service.unit;
+
+import noonchissaum.backend.domain.auction.service.AuctionRecordService;
+import noonchissaum.backend.domain.auction.service.AuctionWriteBehindService;
+import noonchissaum.backend.domain.auction.service.AuctionWriteBehindService.PendingAuctionUpdate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+class AuctionWriteBehindServiceUnitTest {
+
+    @Mock
+    private AuctionRecordService auctionRecordService;
+
+    @Test
+    @DisplayName("같은 경매의 입찰은 최신 상태 하나로 합쳐 한 번만 DB 반영")
+    void flushAll_coalescesUpdatesPerAuction() {
+        AuctionWriteBehindService service = new AuctionWriteBehindService(auctionRecordService);
+        LocalDateTime extendedEndAt = LocalDateTime.of(2026, 1, 20, 12, 3);
+
+        service.recordBid(1L, 10L, BigDecimal.valueOf(11000), 1, null);
+        service.recordBid(1L, 20L, BigDecimal.valueOf(13000), 3, extendedEndAt);
+        service.recordBid(1L, 30L, BigDecimal.valueOf(12000), 2, null); // 늦게 도착한 이전 상태
+        service.recordBid(2L, 40L, BigDecimal.valueOf(5000), 1, null);
+
+        int flushed = service.flushAll();
+
+        ArgumentCaptor<PendingAuctionUpdate> captor = ArgumentCaptor.forClass(PendingAuctionUpdate.class);
+        verify(auctionRecordService, times(2)).applyPendingUpdate(captor.capture());
+        PendingAuctionUpdate first = captor.getAllValues().stream()
+                .filter(u -> u.auctionId().equals(1L))
+                .findFirst()
+                .orElseThrow();
+        assertThat(flushed).isEqualTo(2);
+        assertThat(first.bidderId()).isEqualTo(20L);
+        assertThat(first.price()).isEqualByComparingTo("13000");
+        assertThat(first.bidCount()).isEqualTo(3);
+        assertThat(first.extendedEndAt()).isEqualTo(extendedEndAt);
+        assertThat(service.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("DB 반영 실패 시 버퍼에 다시 넣어 다음 flush 에서 재시도")
+    void flush_whenApplyFails_requeues() {
+        AuctionWriteBehindService service = new AuctionWriteBehindService(auctionRecordService);
+        service.recordBid(3L, 10L, BigDecimal.valueOf(9000), 4, null);
+        doThrow(new RuntimeException("db down")).when(auctionRecordService).applyPendingUpdate(any());
+
+        boolean flushed = service.flush(3L);
+
+        assertThat(flushed).isFalse();
+        assertThat(service.pendingCount()).isEqualTo(1);
+    }
+}
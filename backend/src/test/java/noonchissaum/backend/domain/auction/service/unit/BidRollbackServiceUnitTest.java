@@ -1,38 +1,50 @@
 package noonchissaum.backend.domain.auction.service.unit;
 
-import noonchissaum.backend.domain.auction.dto.ws.BidSucceededPayload;
 import noonchissaum.backend.domain.auction.entity.Auction;
+import noonchissaum.backend.domain.auction.entity.AuctionEffect;
 import noonchissaum.backend.domain.auction.entity.AuctionStatus;
 import noonchissaum.backend.domain.auction.entity.Bid;
+import noonchissaum.backend.domain.auction.redis.AuctionStateFields;
 import noonchissaum.backend.domain.auction.repository.AuctionRepository;
 import noonchissaum.backend.domain.auction.repository.BidRepository;
-import noonchissaum.backend.domain.auction.service.AuctionIndexService;
-import noonchissaum.backend.domain.auction.service.AuctionMessageService;
+import noonchissaum.backend.domain.auction.service.AuctionOutboxService;
 import noonchissaum.backend.domain.auction.service.AuctionRedisService;
+import noonchissaum.backend.domain.auction.service.AuctionWriteBehindService;
 import noonchissaum.backend.domain.auction.service.BidRollbackService;
-import noonchissaum.backend.domain.category.entity.Category;
-import noonchissaum.backend.domain.item.entity.Item;
 import noonchissaum.backend.domain.user.entity.User;
 import noonchissaum.backend.domain.wallet.service.WalletRecordService;
 import noonchissaum.backend.domain.wallet.service.WalletService;
+import noonchissaum.backend.global.exception.ApiException;
+import noonchissaum.backend.global.exception.ErrorCode;
 import noonchissaum.backend.global.util.UserLockExecutor;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,48 +56,36 @@ class BidRollbackServiceUnitTest {
     @Mock
     private BidRepository bidRepository;
     @Mock
-    private AuctionRedisService auctionRedisService;
-    @Mock
-    private AuctionIndexService auctionIndexService;
-    @Mock
-    private AuctionMessageService auctionMessageService;
+    private AuctionOutboxService auctionOutboxService;
     @Mock
     private WalletService walletService;
     @Mock
     private WalletRecordService walletRecordService;
     @Mock
     private UserLockExecutor userLockExecutor;
+    @Mock
+    private AuctionRedisService auctionRedisService;
+    @Mock
+    private AuctionWriteBehindService auctionWriteBehindService;
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private RLock lock;
 
     @Test
-    @DisplayName("경쟁 입찰이 있으면 차단 유저 입찰 롤백 후 지갑/인덱스/메시지 갱신")
-    void rollbackAuctionsForBlockedUser_withCompetingBids_rollsBack() {
-        BidRollbackService service = new BidRollbackService(
-                auctionRepository,
-                bidRepository,
-                auctionRedisService,
-                auctionIndexService,
-                auctionMessageService,
-                walletService,
-                walletRecordService,
-                userLockExecutor
-        );
+    @DisplayName("경쟁 입찰이 있으면 경매 락 안에서 write-behind 반영 후 롤백하고, 잠긴 금액은 Redis 현재가 기준, Redis 는 커밋 후 덮어씀")
+    void rollbackAuctionsForBlockedUser_withCompetingBids_rollsBack() throws InterruptedException {
+        BidRollbackService service = newService(0L);
 
         Auction auction = mock(Auction.class);
-        Item item = mock(Item.class);
-        Category category = mock(Category.class);
         User previousBidder = mock(User.class);
         User blockedBidder = mock(User.class);
         Bid bid1 = mock(Bid.class);
         Bid bid2 = mock(Bid.class);
 
         when(auction.getId()).thenReturn(10L);
-        when(auction.getItem()).thenReturn(item);
-        when(item.getCategory()).thenReturn(category);
-        when(category.getId()).thenReturn(4L);
-        when(auction.getCurrentPrice()).thenReturn(BigDecimal.valueOf(5000));
-        when(auction.getEndAt()).thenReturn(LocalDateTime.now().plusMinutes(10));
-        when(auction.getIsExtended()).thenReturn(false);
-
         when(previousBidder.getId()).thenReturn(20L);
         when(blockedBidder.getId()).thenReturn(99L);
 
@@ -93,8 +93,13 @@ class BidRollbackServiceUnitTest {
         when(bid1.getBidPrice()).thenReturn(BigDecimal.valueOf(3000));
         when(bid2.getBidder()).thenReturn(blockedBidder);
 
-        when(auctionRepository.findByCurrentBidder_IdAndStatusIn(99L, List.of(AuctionStatus.RUNNING, AuctionStatus.DEADLINE)))
-                .thenReturn(List.of(auction));
+        when(auctionRepository.findRollbackCandidateIds(99L, List.of(AuctionStatus.RUNNING, AuctionStatus.DEADLINE)))
+                .thenReturn(List.of(10L));
+        givenAuctionLock(10L);
+        // DB 현재가는 write-behind 지연으로 뒤처져 있어도 Redis 현재가(6000)를 잠긴 금액으로 사용
+        when(auctionRedisService.getState(10L)).thenReturn(state("99", "6000", "2"));
+        when(bidRepository.countByAuctionId(10L)).thenReturn(2);
+        when(auctionRepository.findByIdForUpdate(10L)).thenReturn(Optional.of(auction));
         when(bidRepository.findByAuctionIdOrderByCreatedAtAsc(10L)).thenReturn(List.of(bid1, bid2));
         doAnswer(invocation -> {
             Runnable runnable = invocation.getArgument(1);
@@ -104,35 +109,26 @@ class BidRollbackServiceUnitTest {
 
         service.rollbackAuctionsForBlockedUser(99L);
 
-        verify(bidRepository).deleteByAuctionIdAndBidderId(10L, 99L);
+        InOrder order = inOrder(lock, auctionWriteBehindService, bidRepository, auctionRedisService);
+        order.verify(lock).tryLock(3, TimeUnit.SECONDS);
+        order.verify(auctionWriteBehindService).flush(10L);
+        order.verify(bidRepository).deleteByAuctionIdAndBidderId(10L, 99L);
+        order.verify(auctionRedisService).overwriteRedis(10L);
+        order.verify(lock).unlock();
+
         verify(auction).rollbackBid(previousBidder, BigDecimal.valueOf(3000), 1);
         verify(auctionRepository).save(auction);
-        verify(walletRecordService).rollbackWalletRecord(99L, 20L, BigDecimal.valueOf(5000), BigDecimal.valueOf(3000), 10L);
-        verify(walletService).rollbackBidWallet(99L, 20L, BigDecimal.valueOf(5000), BigDecimal.valueOf(3000));
+        verify(walletRecordService).rollbackWalletRecord(99L, 20L, BigDecimal.valueOf(6000), BigDecimal.valueOf(3000), 10L);
+        verify(walletService).rollbackBidWallet(99L, 20L, BigDecimal.valueOf(6000), BigDecimal.valueOf(3000));
         verify(walletService).clearWalletCache(99L);
         verify(walletService).clearWalletCache(20L);
-        verify(auctionIndexService).updatePriceIndex(10L, 4L, BigDecimal.valueOf(3000));
-
-        ArgumentCaptor<BidSucceededPayload> payloadCaptor = ArgumentCaptor.forClass(BidSucceededPayload.class);
-        verify(auctionMessageService).sendBidSucceeded(eq(10L), payloadCaptor.capture());
-        assertThat(payloadCaptor.getValue().getCurrentPrice()).isEqualTo(3000L);
-        assertThat(payloadCaptor.getValue().getCurrentBidderId()).isEqualTo(20L);
-        assertThat(payloadCaptor.getValue().getBidCount()).isEqualTo(1);
+        verify(auctionOutboxService).record(10L, AuctionEffect.PRICE_INDEX, AuctionEffect.BID_STATE);
     }
 
     @Test
     @DisplayName("경쟁 입찰이 없으면 롤백을 수행하지 않음")
-    void rollbackAuctionsForBlockedUser_withoutCompetingBids_skipsRollback() {
-        BidRollbackService service = new BidRollbackService(
-                auctionRepository,
-                bidRepository,
-                auctionRedisService,
-                auctionIndexService,
-                auctionMessageService,
-                walletService,
-                walletRecordService,
-                userLockExecutor
-        );
+    void rollbackAuctionsForBlockedUser_withoutCompetingBids_skipsRollback() throws InterruptedException {
+        BidRollbackService service = newService(0L);
 
         Auction auction = mock(Auction.class);
         User blockedBidder = mock(User.class);
@@ -142,13 +138,88 @@ class BidRollbackServiceUnitTest {
         when(blockedBidder.getId()).thenReturn(7L);
         when(onlyBlockedBid.getBidder()).thenReturn(blockedBidder);
 
-        when(auctionRepository.findByCurrentBidder_IdAndStatusIn(7L, List.of(AuctionStatus.RUNNING, AuctionStatus.DEADLINE)))
-                .thenReturn(List.of(auction));
+        when(auctionRepository.findRollbackCandidateIds(7L, List.of(AuctionStatus.RUNNING, AuctionStatus.DEADLINE)))
+                .thenReturn(List.of(99L));
+        givenAuctionLock(99L);
+        when(auctionRedisService.getState(99L)).thenReturn(state("7", "5000", "1"));
+        when(bidRepository.countByAuctionId(99L)).thenReturn(1);
+        when(auctionRepository.findByIdForUpdate(99L)).thenReturn(Optional.of(auction));
         when(bidRepository.findByAuctionIdOrderByCreatedAtAsc(99L)).thenReturn(List.of(onlyBlockedBid));
 
         service.rollbackAuctionsForBlockedUser(7L);
 
-        verify(bidRepository, never()).deleteByAuctionIdAndBidderId(org.mockito.ArgumentMatchers.anyLong(), org.mockito.ArgumentMatchers.anyLong());
-        verify(walletRecordService, never()).rollbackWalletRecord(org.mockito.ArgumentMatchers.anyLong(), org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.anyLong());
+        verify(bidRepository, never()).deleteByAuctionIdAndBidderId(anyLong(), anyLong());
+        verify(walletRecordService, never()).rollbackWalletRecord(anyLong(), any(), any(), any(), anyLong());
+        verify(auctionRedisService, never()).overwriteRedis(anyLong());
+        verifyNoInteractions(auctionOutboxService);
+    }
+
+    @Test
+    @DisplayName("Redis 기준 1등이 이미 다른 유저면 DB 가 뒤처져 있어도 롤백하지 않음")
+    void rollbackAuctionsForBlockedUser_whenRedisLeaderChanged_skipsRollback() throws InterruptedException {
+        BidRollbackService service = newService(0L);
+
+        when(auctionRepository.findRollbackCandidateIds(7L, List.of(AuctionStatus.RUNNING, AuctionStatus.DEADLINE)))
+                .thenReturn(List.of(50L));
+        givenAuctionLock(50L);
+        when(auctionRedisService.getState(50L)).thenReturn(state("8", "9000", "4"));
+
+        service.rollbackAuctionsForBlockedUser(7L);
+
+        verify(auctionWriteBehindService, never()).flush(anyLong());
+        verify(auctionRepository, never()).findByIdForUpdate(anyLong());
+        verify(lock).unlock();
+    }
+
+    @Test
+    @DisplayName("입찰 저널이 Redis 입찰수만큼 반영되지 않으면 롤백하지 않고 BID_JOURNAL_PENDING 예외")
+    void rollbackAuctionsForBlockedUser_whenJournalLagging_throwsApiException() throws InterruptedException {
+        BidRollbackService service = newService(0L);
+
+        when(auctionRepository.findRollbackCandidateIds(7L, List.of(AuctionStatus.RUNNING, AuctionStatus.DEADLINE)))
+                .thenReturn(List.of(60L));
+        givenAuctionLock(60L);
+        when(auctionRedisService.getState(60L)).thenReturn(state("7", "9000", "4"));
+        when(bidRepository.countByAuctionId(60L)).thenReturn(3);
+
+        ApiException ex = assertThrows(ApiException.class, () -> service.rollbackAuctionsForBlockedUser(7L));
+
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.BID_JOURNAL_PENDING);
+        verify(auctionRepository, never()).findByIdForUpdate(anyLong());
+        verify(lock).unlock();
+    }
+
+    private BidRollbackService newService(long journalWaitMs) {
+        BidRollbackService service = new BidRollbackService(
+                auctionRepository,
+                bidRepository,
+                auctionOutboxService,
+                walletService,
+                walletRecordService,
+                userLockExecutor,
+                auctionRedisService,
+                auctionWriteBehindService,
+                redissonClient,
+                transactionManager
+        );
+        ReflectionTestUtils.setField(service, "journalWaitMs", journalWaitMs);
+        service.init();
+        return service;
+    }
+
+    private void givenAuctionLock(Long auctionId) throws InterruptedException {
+        when(redissonClient.getLock("lock:auction:" + auctionId)).thenReturn(lock);
+        when(lock.tryLock(3, TimeUnit.SECONDS)).thenReturn(true);
+    }
+
+    private Map<Object, Object> state(String bidderId, String price, String bidCount) {
+        Map<Object, Object> state = new HashMap<>();
+        for (String field : AuctionStateFields.ALL) {
+            state.put(field, "");
+        }
+        state.put(AuctionStateFields.CURRENT_BIDDER, bidderId);
+        state.put(AuctionStateFields.CURRENT_PRICE, price);
+        state.put(AuctionStateFields.CURRENT_BID_COUNT, bidCount);
+        return state;
     }
 }
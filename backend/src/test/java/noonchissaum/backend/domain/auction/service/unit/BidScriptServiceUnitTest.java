@@ -0,0 +1,134 @@
+package noonchissaum.backend.domain.auction.service.unit;
+
+import noonchissaum.backend.domain.auction.redis.AuctionStateFields;
+import noonchissaum.backend.domain.auction.service.BidScriptService;
+import noonchissaum.backend.domain.auction.service.BidScriptService.BidScriptResult;
+import noonchissaum.backend.global.RedisKeys;
+import noonchissaum.backend.global.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import java.math.BigDecimal;
+import java.util.List;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+class BidScriptServiceUnitTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Test
+    @DisplayName("스크립트 OK 응답 시 이전 입찰자/이전가/입찰수 파싱")
+    void execute_whenOk_parsesResult() {
+        BidScriptService service = new BidScriptService(redisTemplate);
+        givenCurrentBidder(1L, "20");
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of("OK", "20", "11000", "4"));
+
+        BidScriptResult result = service.execute(1L, 10L, BigDecimal.valueOf(12000), "req-ok");
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.previousBidderId()).isEqualTo(20L);
+        assertThat(result.previousPrice()).isEqualByComparingTo(BigDecimal.valueOf(11000));
+        assertThat(result.bidCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("지갑 캐시 누락 응답 시 대상 유저 ID 반환")
+    void execute_whenBalanceMissing_returnsMissingUser() {
+        BidScriptService service = new BidScriptService(redisTemplate);
+        givenCurrentBidder(1L, "20");
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of("BALANCE_MISSING", "20"));
+
+        BidScriptResult result = service.execute(1L, 10L, BigDecimal.valueOf(12000), "req-balance");
+
+        assertThat(result.isBalanceMissing()).isTrue();
+        assertThat(result.missingUserId()).isEqualTo(20L);
+    }
+
+    @Test
+    @DisplayName("검증 실패 코드는 동일 이름의 ErrorCode 예외로 변환")
+    void execute_whenValidationFails_mapsErrorCode() {
+        BidScriptService service = new BidScriptService(redisTemplate);
+        givenCurrentBidder(1L, "20");
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of("CANNOT_BID_CONTINUOUS"));
+
+        BidScriptResult result = service.execute(1L, 10L, BigDecimal.valueOf(12000), "req-continuous");
+
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.toException().getErrorCode()).isEqualTo(ErrorCode.CANNOT_BID_CONTINUOUS);
+    }
+
+    @Test
+    @DisplayName("이전 입찰자 지갑/pending/락 키를 KEYS 로 넘기고 금액은 정수 문자열로 정규화")
+    @SuppressWarnings("unchecked")
+    void execute_passesPreviousBidderKeysAndNormalizedAmount() {
+        BidScriptService service = new BidScriptService(redisTemplate);
+        givenCurrentBidder(1L, "20");
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of("OK", "20", "11000", "4"));
+
+        service.execute(1L, 10L, new BigDecimal("12000.00"), "req-keys");
+
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(redisTemplate).execute(any(RedisScript.class), keys.capture(), args.capture());
+        assertThat(keys.getValue()).containsExactly(
+                RedisKeys.bidIdempotency("req-keys"),
+                RedisKeys.auctionState(1L),
+                RedisKeys.userBalance(10L),
+                RedisKeys.userLockedBalance(10L),
+                RedisKeys.bidJournal(),
+                RedisKeys.pendingUser(10L),
+                RedisKeys.auctionLock(1L),
+                RedisKeys.userLock(10L),
+                RedisKeys.userBalance(20L),
+                RedisKeys.userLockedBalance(20L),
+                RedisKeys.pendingUser(20L),
+                RedisKeys.userLock(20L)
+        );
+        assertThat(args.getValue()[1]).isEqualTo("12000");
+        assertThat(args.getValue()[2]).isEqualTo("12000");
+        assertThat(args.getValue()[8]).isEqualTo("20");
+    }
+
+    @Test
+    @DisplayName("이전 입찰자가 없으면 이전 입찰자 키 없이 -1 전달")
+    @SuppressWarnings("unchecked")
+    void execute_withoutPreviousBidder_omitsPreviousKeys() {
+        BidScriptService service = new BidScriptService(redisTemplate);
+        givenCurrentBidder(2L, "");
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of("OK", "-1", "10000", "1"));
+
+        service.execute(2L, 10L, BigDecimal.valueOf(10000), "req-first");
+
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(redisTemplate).execute(any(RedisScript.class), keys.capture(), args.capture());
+        assertThat(keys.getValue()).hasSize(8);
+        assertThat(args.getValue()[8]).isEqualTo("-1");
+    }
+
+    private void givenCurrentBidder(Long auctionId, String bidderId) {
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.get(RedisKeys.auctionState(auctionId), AuctionStateFields.CURRENT_BIDDER)).thenReturn(bidderId);
+    }
+}
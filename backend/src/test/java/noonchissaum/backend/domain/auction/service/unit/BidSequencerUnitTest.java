@@ -0,0 +1,195 @@
+package noonchissaum.backend.domain.auction.service.unit;
+
+import noonchissaum.backend.domain.auction.service.BidSequencer;
+import noonchissaum.backend.global.exception.ApiException;
+import noonchissaum.backend.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@Tag("unit")
+class BidSequencerUnitTest {
+
+    private BidSequencer bidSequencer;
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        hashOperations = mock(HashOperations.class);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        bidSequencer = new BidSequencer(redisTemplate);
+        ReflectionTestUtils.setField(bidSequencer, "maxPending", 2000);
+        ReflectionTestUtils.setField(bidSequencer, "timeoutMs", 5000L);
+    }
+
+    @Test
+    @DisplayName("같은 경매의 입찰은 동시에 하나씩만 실행")
+    void submit_sameAuction_runsOneAtATime() throws Exception {
+        int bidders = 200;
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < bidders; i++) {
+            BigDecimal amount = BigDecimal.valueOf(1000L + i);
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    return bidSequencer.submit(1L, amount, () -> {
+                        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        running.decrementAndGet();
+                        return amount;
+                    });
+                } catch (ApiException e) {
+                    return null;
+                }
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(maxRunning.get()).isEqualTo(1);
+        assertThat(bidSequencer.pendingCount(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("앞서 수락된 입찰가 이하 입찰은 작업 실행 없이 LOW_BID_AMOUNT")
+    void submit_whenLowerThanAccepted_rejectsWithoutRunning() throws Exception {
+        CountDownLatch firstRunning = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        AtomicInteger executed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // 첫 입찰이 writer 를 붙잡고 있는 동안 낮은 입찰을 같은 메일박스에 적재
+        Future<BigDecimal> high = executor.submit(() -> bidSequencer.submit(2L, BigDecimal.valueOf(5000), () -> {
+            executed.incrementAndGet();
+            firstRunning.countDown();
+            awaitQuietly(releaseFirst);
+            return BigDecimal.valueOf(5000);
+        }));
+        firstRunning.await(5, TimeUnit.SECONDS);
+        Future<BigDecimal> low = executor.submit(() -> bidSequencer.submit(2L, BigDecimal.valueOf(4000), () -> {
+            executed.incrementAndGet();
+            return BigDecimal.valueOf(4000);
+        }));
+        while (bidSequencer.pendingCount(2L) == 0) {
+            Thread.onSpinWait();
+        }
+        releaseFirst.countDown();
+
+        assertThat(high.get(5, TimeUnit.SECONDS)).isEqualByComparingTo("5000");
+        ExecutionException ex = assertThrows(ExecutionException.class,
+                () -> low.get(5, TimeUnit.SECONDS));
+        assertThat(((ApiException) ex.getCause()).getErrorCode()).isEqualTo(ErrorCode.LOW_BID_AMOUNT);
+        assertThat(executed.get()).isEqualTo(1);
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("수락된 입찰가 이하 입찰은 메일박스에 넣기 전에 거절")
+    void submit_whenLowerThanAccepted_rejectsBeforeEnqueue() throws Exception {
+        CountDownLatch firstRunning = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        CountDownLatch secondRunning = new CountDownLatch(1);
+        CountDownLatch releaseSecond = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        when(hashOperations.get("auction:4:state", "currentPrice")).thenReturn("6000");
+
+        Future<BigDecimal> first = executor.submit(() -> bidSequencer.submit(4L, BigDecimal.valueOf(5000), () -> {
+            firstRunning.countDown();
+            awaitQuietly(releaseFirst);
+            return BigDecimal.valueOf(5000);
+        }));
+        firstRunning.await(5, TimeUnit.SECONDS);
+        Future<BigDecimal> second = executor.submit(() -> bidSequencer.submit(4L, BigDecimal.valueOf(6000), () -> {
+            secondRunning.countDown();
+            awaitQuietly(releaseSecond);
+            return BigDecimal.valueOf(6000);
+        }));
+        while (bidSequencer.pendingCount(4L) == 0) {
+            Thread.onSpinWait();
+        }
+        releaseFirst.countDown();
+        secondRunning.await(5, TimeUnit.SECONDS);
+
+        ApiException ex = assertThrows(ApiException.class, () -> bidSequencer.submit(4L, BigDecimal.valueOf(4000), () -> {
+            throw new IllegalStateException("실행되면 안 됨");
+        }));
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.LOW_BID_AMOUNT);
+        assertThat(bidSequencer.pendingCount(4L)).isZero();
+
+        releaseSecond.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualByComparingTo("5000");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualByComparingTo("6000");
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("롤백으로 Redis 현재가가 수락 상한보다 내려갔으면 상한을 갱신해 그보다 높은 입찰은 처리")
+    void submit_whenPriceRolledBack_refreshesHighWaterMark() throws Exception {
+        CountDownLatch firstRunning = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        when(hashOperations.get("auction:5:state", "currentPrice")).thenReturn("3000");
+
+        Future<BigDecimal> high = executor.submit(() -> bidSequencer.submit(5L, BigDecimal.valueOf(5000), () -> {
+            firstRunning.countDown();
+            awaitQuietly(releaseFirst);
+            return BigDecimal.valueOf(5000);
+        }));
+        firstRunning.await(5, TimeUnit.SECONDS);
+        Future<BigDecimal> afterRollback = executor.submit(() -> bidSequencer.submit(5L, BigDecimal.valueOf(4000),
+                () -> BigDecimal.valueOf(4000)));
+        while (bidSequencer.pendingCount(5L) == 0) {
+            Thread.onSpinWait();
+        }
+        releaseFirst.countDown();
+
+        assertThat(high.get(5, TimeUnit.SECONDS)).isEqualByComparingTo("5000");
+        assertThat(afterRollback.get(5, TimeUnit.SECONDS)).isEqualByComparingTo("4000");
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("작업에서 던진 예외는 호출 스레드에서 그대로 전파")
+    void submit_whenWorkThrows_propagatesException() {
+        ApiException ex = assertThrows(ApiException.class, () -> bidSequencer.submit(3L, BigDecimal.valueOf(1000), () -> {
+            throw new ApiException(ErrorCode.CANNOT_BID_CONTINUOUS);
+        }));
+
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.CANNOT_BID_CONTINUOUS);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -6,9 +6,16 @@ import noonchissaum.backend.domain.auction.entity.AuctionStatus;
 import noonchissaum.backend.domain.auction.repository.AuctionRepository;
 import noonchissaum.backend.domain.auction.repository.BidRepository;
 import noonchissaum.backend.domain.auction.service.AuctionMessageService;
-import noonchissaum.backend.domain.auction.service.AuctionRecordService;
+import noonchissaum.backend.domain.auction.service.AuctionExtensionService;
+import noonchissaum.backend.domain.auction.service.AuctionExtensionService.ExtensionResult;
+import noonchissaum.backend.domain.auction.service.AuctionWriteBehindService;
 import noonchissaum.backend.domain.auction.service.AuctionRedisService;
+import noonchissaum.backend.domain.auction.service.BidScriptService;
+import noonchissaum.backend.domain.auction.service.BidScriptService.BidScriptResult;
+import noonchissaum.backend.domain.auction.service.BidSequencer;
 import noonchissaum.backend.domain.auction.service.BidService;
+import noonchissaum.backend.domain.auction.service.ProxyBidService;
+import noonchissaum.backend.domain.auction.service.AuctionChangeTracker;
 import noonchissaum.backend.domain.category.entity.Category;
 import noonchissaum.backend.domain.item.entity.Item;
 import noonchissaum.backend.domain.notification.service.NotificationService;
@@ -33,7 +40,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.test.util.ReflectionTestUtils;
-import org.springframework.context.ApplicationEventPublisher;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -41,10 +47,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -62,25 +72,34 @@ class BidServiceUnitTest {
     @Mock
     private AuctionRepository auctionRepository;
     @Mock
-    private ApplicationEventPublisher eventPublisher;
-    @Mock
     private AuctionRedisService auctionRedisService;
     @Mock
     private AuctionMessageService auctionMessageService;
     @Mock
-    private AuctionRecordService auctionRecordService;
+    private AuctionWriteBehindService auctionWriteBehindService;
+    @Mock
+    private AuctionExtensionService auctionExtensionService;
     @Mock
     private NotificationService notificationService;
     @Mock
     private UserLockExecutor userLockExecutor;
+    @Mock
+    private BidScriptService bidScriptService;
+    @Mock
+    private BidSequencer bidSequencer;
+    @Mock
+    private ProxyBidService proxyBidService;
+    @Mock
+    private AuctionChangeTracker auctionChangeTracker;
 
     @Test
     @DisplayName("중복 requestId 감지 시 DUPLICATE_BID_REQUEST 예외 던짐")
     void placeBid_duplicateRequest_throwsApiException() {
         BidService bidService = new BidService(
                 redissonClient, redisTemplate, walletService, bidRepository, auctionRepository,
-                eventPublisher, auctionRedisService, auctionMessageService, auctionRecordService,
-                notificationService, userLockExecutor
+                auctionRedisService, auctionMessageService, auctionWriteBehindService, auctionExtensionService,
+                notificationService, userLockExecutor, bidScriptService, bidSequencer, proxyBidService,
+                auctionChangeTracker
         );
 
         @SuppressWarnings("unchecked")
@@ -95,13 +114,133 @@ class BidServiceUnitTest {
         verify(redissonClient, never()).getLock(anyString());
     }
 
+    @Test
+    @DisplayName("script 모드 입찰 성공 시 락/DB 조회 없이 후처리(write-behind/WS) 수행")
+    void placeBid_scriptMode_success_skipsLocksAndPublishes() {
+        BidService bidService = new BidService(
+                redissonClient, redisTemplate, walletService, bidRepository, auctionRepository,
+                auctionRedisService, auctionMessageService, auctionWriteBehindService, auctionExtensionService,
+                notificationService, userLockExecutor, bidScriptService, bidSequencer, proxyBidService,
+                auctionChangeTracker
+        );
+        ReflectionTestUtils.setField(bidService, "bidEngine", "script");
+
+        LocalDateTime endAt = LocalDateTime.now().plusHours(1);
+        when(bidScriptService.execute(1L, 10L, BigDecimal.valueOf(12000), "req-script"))
+                .thenReturn(new BidScriptResult(BidScriptResult.OK, 20L, BigDecimal.valueOf(11000), 3, null));
+        when(auctionExtensionService.extendIfImminent(eq(1L), any())).thenReturn(new ExtensionResult(endAt, false));
+
+        bidService.placeBid(1L, 10L, BigDecimal.valueOf(12000), "req-script");
+
+        verify(redissonClient, never()).getLock(anyString());
+        verify(auctionWriteBehindService).recordBid(1L, 10L, BigDecimal.valueOf(12000), 3, null);
+        verify(auctionRepository, never()).findById(1L);
+        verify(auctionMessageService).sendOutbid(eq(20L), any());
+        verify(auctionMessageService).sendBidSucceeded(eq(1L), any());
+        verify(auctionChangeTracker).markChanged(1L);
+        verify(proxyBidService).resolve(1L, 10L);
+    }
+
+    @Test
+    @DisplayName("script 모드에서 경매 상태 누락 시 restoreState 후 재실행")
+    void placeBid_scriptMode_stateMissing_reloadsAndRetries() {
+        BidService bidService = new BidService(
+                redissonClient, redisTemplate, walletService, bidRepository, auctionRepository,
+                auctionRedisService, auctionMessageService, auctionWriteBehindService, auctionExtensionService,
+                notificationService, userLockExecutor, bidScriptService, bidSequencer, proxyBidService,
+                auctionChangeTracker
+        );
+        ReflectionTestUtils.setField(bidService, "bidEngine", "script");
+
+        when(bidScriptService.execute(1L, 10L, BigDecimal.valueOf(12000), "req-reload"))
+                .thenReturn(new BidScriptResult(BidScriptResult.STATE_MISSING, null, null, null, null))
+                .thenReturn(new BidScriptResult("LOW_BID_AMOUNT", null, null, null, null));
+
+        ApiException ex = assertThrows(ApiException.class,
+                () -> bidService.placeBid(1L, 10L, BigDecimal.valueOf(12000), "req-reload"));
+
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.LOW_BID_AMOUNT);
+        verify(auctionRedisService).restoreState(1L);
+        verify(auctionWriteBehindService, never()).recordBid(any(), any(), any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("script 모드에서 경매/유저 락이 잡혀 있으면 잠시 후 재실행")
+    void placeBid_scriptMode_locked_waitsAndRetries() {
+        BidService bidService = new BidService(
+                redissonClient, redisTemplate, walletService, bidRepository, auctionRepository,
+                auctionRedisService, auctionMessageService, auctionWriteBehindService, auctionExtensionService,
+                notificationService, userLockExecutor, bidScriptService, bidSequencer, proxyBidService,
+                auctionChangeTracker
+        );
+        ReflectionTestUtils.setField(bidService, "bidEngine", "script");
+
+        when(bidScriptService.execute(1L, 10L, BigDecimal.valueOf(12000), "req-locked"))
+                .thenReturn(new BidScriptResult(BidScriptResult.LOCKED, null, null, null, null))
+                .thenReturn(new BidScriptResult(BidScriptResult.STATE_CHANGED, null, null, null, null))
+                .thenReturn(new BidScriptResult("LOW_BID_AMOUNT", null, null, null, null));
+
+        ApiException ex = assertThrows(ApiException.class,
+                () -> bidService.placeBid(1L, 10L, BigDecimal.valueOf(12000), "req-locked"));
+
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.LOW_BID_AMOUNT);
+        verify(bidScriptService, times(3)).execute(1L, 10L, BigDecimal.valueOf(12000), "req-locked");
+        verify(auctionRedisService, never()).restoreState(anyLong());
+    }
+
+    @Test
+    @DisplayName("소수 금액은 입찰 엔진에 들어가기 전에 BID_AMOUNT_NOT_INTEGER 로 거절")
+    void placeBid_whenAmountHasFraction_rejectsBeforeAnyWrite() {
+        BidService bidService = new BidService(
+                redissonClient, redisTemplate, walletService, bidRepository, auctionRepository,
+                auctionRedisService, auctionMessageService, auctionWriteBehindService, auctionExtensionService,
+                notificationService, userLockExecutor, bidScriptService, bidSequencer, proxyBidService,
+                auctionChangeTracker
+        );
+        ReflectionTestUtils.setField(bidService, "bidEngine", "script");
+
+        ApiException ex = assertThrows(ApiException.class,
+                () -> bidService.placeBid(1L, 10L, new BigDecimal("12000.5"), "req-fraction"));
+
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.BID_AMOUNT_NOT_INTEGER);
+        verifyNoInteractions(bidScriptService, redisTemplate);
+    }
+
+    @Test
+    @DisplayName("sequencer 모드에서 입찰은 시퀀서로 위임되고 실패 시 멱등성 키 삭제")
+    void placeBid_sequencerMode_delegatesToSequencer() {
+        BidService bidService = new BidService(
+                redissonClient, redisTemplate, walletService, bidRepository, auctionRepository,
+                auctionRedisService, auctionMessageService, auctionWriteBehindService, auctionExtensionService,
+                notificationService, userLockExecutor, bidScriptService, bidSequencer, proxyBidService,
+                auctionChangeTracker
+        );
+        ReflectionTestUtils.setField(bidService, "bidEngine", "sequencer");
+
+        @SuppressWarnings("unchecked")
+        ValueOperations<String, String> ops = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(ops);
+        when(ops.setIfAbsent(any(), eq("Y"), any())).thenReturn(true);
+        when(bidSequencer.submit(eq(1L), eq(BigDecimal.valueOf(12000)), any()))
+                .thenThrow(new ApiException(ErrorCode.LOW_BID_AMOUNT));
+
+        ApiException ex = assertThrows(ApiException.class,
+                () -> bidService.placeBid(1L, 10L, BigDecimal.valueOf(12000), "req-seq"));
+
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.LOW_BID_AMOUNT);
+        verify(redissonClient, never()).getLock(anyString());
+        verify(redisTemplate).delete("bid_idempotency:req-seq");
+        verify(auctionWriteBehindService, never()).recordBid(any(), any(), any(), anyInt(), any());
+    }
+
     @Test
     @DisplayName("내 입찰 경매 목록 매핑 및 최고가/최고입찰자 계산 위임")
     void getMyBidAuctions_mapsValues_andDelegatesRepositoryCalls() {
         BidService bidService = new BidService(
                 redissonClient, redisTemplate, walletService, bidRepository, auctionRepository,
-                eventPublisher, auctionRedisService, auctionMessageService, auctionRecordService,
-                notificationService, userLockExecutor
+                auctionRedisService, auctionMessageService, auctionWriteBehindService, auctionExtensionService,
+                notificationService, userLockExecutor, bidScriptService, bidSequencer, proxyBidService,
+                auctionChangeTracker
         );
 
         User seller = User.builder()
@@ -172,8 +311,9 @@ class BidServiceUnitTest {
     void getMyBidAuctions_invalidPageable_throwsIllegalArgument() {
         BidService bidService = new BidService(
                 redissonClient, redisTemplate, walletService, bidRepository, auctionRepository,
-                eventPublisher, auctionRedisService, auctionMessageService, auctionRecordService,
-                notificationService, userLockExecutor
+                auctionRedisService, auctionMessageService, auctionWriteBehindService, auctionExtensionService,
+                notificationService, userLockExecutor, bidScriptService, bidSequencer, proxyBidService,
+                auctionChangeTracker
         );
 
         Pageable invalidPageable = mock(Pageable.class);
@@ -190,8 +330,9 @@ class BidServiceUnitTest {
     void isExistRequestId_delegatesRepository() {
         BidService bidService = new BidService(
                 redissonClient, redisTemplate, walletService, bidRepository, auctionRepository,
-                eventPublisher, auctionRedisService, auctionMessageService, auctionRecordService,
-                notificationService, userLockExecutor
+                auctionRedisService, auctionMessageService, auctionWriteBehindService, auctionExtensionService,
+                notificationService, userLockExecutor, bidScriptService, bidSequencer, proxyBidService,
+                auctionChangeTracker
         );
 
         when(bidRepository.existsByRequestId("req-1")).thenReturn(true);
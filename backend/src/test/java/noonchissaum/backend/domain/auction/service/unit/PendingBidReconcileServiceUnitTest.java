@@ -0,0 +1,122 @@
+package noonchissaum.backend.domain.auction.service.unit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import noonchissaum.backend.domain.auction.repository.BidRepository;
+import noonchissaum.backend.domain.auction.service.PendingBidReconcileService;
+import noonchissaum.backend.domain.auction.service.PendingBidReconcileService.ReconcileResult;
+import noonchissaum.backend.domain.task.dto.DbUpdateEvent;
+import noonchissaum.backend.domain.task.service.DbUpdateBatchProcessor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.util.List;
+import java.util.Map;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+class PendingBidReconcileServiceUnitTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private BidRepository bidRepository;
+    @Mock
+    private DbUpdateBatchProcessor dbUpdateBatchProcessor;
+
+    @Test
+    @DisplayName("페이지 단위로 IN 조회 1회 후 미반영분만 배치 반영, 이미 반영/만료 건은 정리만")
+    @SuppressWarnings("unchecked")
+    void reconcile_resolvesPageWithSingleQueryAndBatch() {
+        PendingBidReconcileService service = new PendingBidReconcileService(
+                redisTemplate, bidRepository, dbUpdateBatchProcessor, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "pageSize", 3);
+        service.registerMetrics();
+
+        SetOperations<String, String> setOps = mock(SetOperations.class);
+        Cursor<String> cursor = mock(Cursor.class);
+        when(redisTemplate.opsForSet()).thenReturn(setOps);
+        when(setOps.scan(eq("pending_bid_requests"), any(ScanOptions.class))).thenReturn(cursor);
+        when(cursor.hasNext()).thenReturn(true, true, true, false);
+        when(cursor.next()).thenReturn("req-saved", "req-missing", "req-expired");
+        when(setOps.size("pending_bid_requests")).thenReturn(0L);
+
+        Map<String, String> savedInfo = info("req-saved");
+        Map<String, String> missingInfo = info("req-missing");
+        when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenReturn(List.of(savedInfo, missingInfo, Map.of()))
+                .thenReturn(List.of());
+        when(bidRepository.findExistingRequestIds(List.of("req-saved", "req-missing", "req-expired")))
+                .thenReturn(List.of("req-saved"));
+        when(dbUpdateBatchProcessor.process(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ReconcileResult result = service.reconcile();
+
+        assertThat(result.recovered()).isEqualTo(1);
+        assertThat(result.alreadyPersisted()).isEqualTo(1);
+        assertThat(result.expired()).isEqualTo(1);
+        assertThat(result.failed()).isZero();
+
+        ArgumentCaptor<List<DbUpdateEvent>> targets = ArgumentCaptor.forClass(List.class);
+        verify(dbUpdateBatchProcessor).process(targets.capture());
+        assertThat(targets.getValue()).extracting(DbUpdateEvent::requestId).containsExactly("req-missing");
+        verify(bidRepository, times(1)).findExistingRequestIds(anyList());
+        verify(redisTemplate, times(2)).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("배치 반영에 실패한 건은 다음 주기를 위해 pending 에 남기고 실패로 집계")
+    @SuppressWarnings("unchecked")
+    void reconcile_whenProcessFails_keepsEntries() {
+        PendingBidReconcileService service = new PendingBidReconcileService(
+                redisTemplate, bidRepository, dbUpdateBatchProcessor, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "pageSize", 10);
+        service.registerMetrics();
+
+        SetOperations<String, String> setOps = mock(SetOperations.class);
+        Cursor<String> cursor = mock(Cursor.class);
+        when(redisTemplate.opsForSet()).thenReturn(setOps);
+        when(setOps.scan(eq("pending_bid_requests"), any(ScanOptions.class))).thenReturn(cursor);
+        when(cursor.hasNext()).thenReturn(true, false);
+        when(cursor.next()).thenReturn("req-fail");
+        when(setOps.size("pending_bid_requests")).thenReturn(1L);
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(info("req-fail")));
+        when(bidRepository.findExistingRequestIds(anyList())).thenReturn(List.of());
+        when(dbUpdateBatchProcessor.process(anyList())).thenReturn(List.of());
+
+        ReconcileResult result = service.reconcile();
+
+        assertThat(result.failed()).isEqualTo(1);
+        assertThat(result.recovered()).isZero();
+        // 정리 대상이 없으므로 제거 파이프라인은 실행되지 않음
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+    }
+
+    private Map<String, String> info(String requestId) {
+        return Map.of(
+                "auctionId", "300",
+                "userId", "10",
+                "bidAmount", "15000",
+                "requestId", requestId,
+                "previousBidderId", "20",
+                "refundAmount", "10000",
+                "createdAt", String.valueOf(System.currentTimeMillis() - 1000));
+    }
+}
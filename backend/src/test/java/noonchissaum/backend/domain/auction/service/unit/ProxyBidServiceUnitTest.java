@@ -0,0 +1,211 @@
+package noonchissaum.backend.domain.auction.service.unit;
+
+import noonchissaum.backend.domain.auction.dto.ws.BidSucceededPayload;
+import noonchissaum.backend.domain.auction.service.AuctionExtensionService;
+import noonchissaum.backend.domain.auction.service.AuctionExtensionService.ExtensionResult;
+import noonchissaum.backend.domain.auction.service.AuctionMessageService;
+import noonchissaum.backend.domain.auction.service.AuctionRedisService;
+import noonchissaum.backend.domain.auction.service.AuctionWriteBehindService;
+import noonchissaum.backend.domain.auction.service.ProxyBidService;
+import noonchissaum.backend.domain.auction.service.AuctionChangeTracker;
+import noonchissaum.backend.domain.notification.dto.NotificationDraft;
+import noonchissaum.backend.domain.notification.service.NotificationService;
+import noonchissaum.backend.domain.wallet.service.WalletService;
+import noonchissaum.backend.global.exception.ApiException;
+import noonchissaum.backend.global.exception.ErrorCode;
+import noonchissaum.backend.global.util.UserLockExecutor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+class ProxyBidServiceUnitTest {
+
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private WalletService walletService;
+    @Mock
+    private AuctionRedisService auctionRedisService;
+    @Mock
+    private AuctionMessageService auctionMessageService;
+    @Mock
+    private AuctionWriteBehindService auctionWriteBehindService;
+    @Mock
+    private AuctionExtensionService auctionExtensionService;
+    @Mock
+    private NotificationService notificationService;
+    @Mock
+    private AuctionChangeTracker auctionChangeTracker;
+    @Mock
+    private UserLockExecutor userLockExecutor;
+    @Mock
+    private RLock auctionLock;
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Test
+    @DisplayName("자동 입찰 경쟁 결과는 최종 상태만 한 번 브로드캐스트하고 밀려난 입찰자마다 OUTBID 전송")
+    void register_whenProxiesCompete_publishesFinalStateOnce() {
+        ProxyBidService service = newService("script");
+        LocalDateTime endAt = LocalDateTime.now().plusHours(1);
+        // 30 이 현재 1등 → 20 이 최대가 15000 으로 도전 → 10 이 16000 으로 응수
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of("OK",
+                        List.of(List.of("20", "15000", "30", "12000", "4"),
+                                List.of("10", "16000", "20", "15000", "5")),
+                        List.of("20")));
+        when(auctionExtensionService.extendIfImminent(eq(1L), any())).thenReturn(new ExtensionResult(endAt, false));
+
+        service.register(1L, 10L, BigDecimal.valueOf(20000));
+
+        ArgumentCaptor<BidSucceededPayload> captor = ArgumentCaptor.forClass(BidSucceededPayload.class);
+        verify(auctionMessageService).sendBidSucceeded(eq(1L), captor.capture());
+        assertThat(captor.getValue().getCurrentBidderId()).isEqualTo(10L);
+        assertThat(captor.getValue().getCurrentPrice()).isEqualTo(16000L);
+        assertThat(captor.getValue().getBidCount()).isEqualTo(5);
+        verify(auctionWriteBehindService).recordBid(1L, 10L, new BigDecimal("16000"), 5, null);
+        verify(auctionMessageService).sendOutbid(eq(30L), any());
+        verify(auctionMessageService).sendOutbid(eq(20L), any());
+        verify(redissonClient, never()).getLock(anyString());
+    }
+
+    @Test
+    @DisplayName("등록 검증 실패 코드는 동일 이름의 ErrorCode 예외로 변환")
+    void register_whenValidationFails_throwsApiException() {
+        ProxyBidService service = newService("script");
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of("LOW_BID_AMOUNT"));
+
+        ApiException ex = assertThrows(ApiException.class,
+                () -> service.register(1L, 10L, BigDecimal.valueOf(5000)));
+
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.LOW_BID_AMOUNT);
+        verify(auctionMessageService, never()).sendBidSucceeded(any(), any());
+    }
+
+    @Test
+    @DisplayName("참여자 지갑 캐시 누락 시 getBalance 후 재실행")
+    void register_whenBalanceMissing_reloadsAndRetries() {
+        ProxyBidService service = newService("script");
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of("BALANCE_MISSING", "20"))
+                .thenReturn(List.of("OK", List.of(), List.of()));
+
+        service.register(1L, 10L, BigDecimal.valueOf(20000));
+
+        verify(walletService).getBalance(20L);
+        verify(auctionMessageService, never()).sendBidSucceeded(any(), any());
+    }
+
+    @Test
+    @DisplayName("등록된 자동 입찰이 없으면 락/스크립트 없이 종료")
+    void resolve_whenNoProxy_skipsScript() {
+        ProxyBidService service = newService("lock");
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.reverseRange("auction:1:proxy", 0, 1)).thenReturn(Set.of());
+
+        service.resolve(1L, 10L);
+
+        verify(redissonClient, never()).getLock(anyString());
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("자동 입찰이 방금 입찰한 유저 본인 것뿐이면 락/스크립트 없이 종료")
+    void resolve_whenOnlyBiddersOwnProxy_skipsScript() {
+        ProxyBidService service = newService("lock");
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.reverseRange("auction:1:proxy", 0, 1)).thenReturn(Set.of("10"));
+
+        service.resolve(1L, 10L);
+
+        verify(redissonClient, never()).getLock(anyString());
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("해소로 밀려난 입찰자 OUTBID 알림은 createAll 한 번으로 저장")
+    @SuppressWarnings("unchecked")
+    void resolve_whenProxyOutbids_savesNotificationsInBulk() {
+        ProxyBidService service = newService("script");
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.reverseRange("auction:1:proxy", 0, 1)).thenReturn(Set.of("20"));
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of("OK", List.of(List.of("20", "13000", "10", "12000", "4")), List.of()));
+        when(auctionExtensionService.extendIfImminent(eq(1L), any()))
+                .thenReturn(new ExtensionResult(LocalDateTime.now().plusHours(1), false));
+
+        service.resolve(1L, 10L);
+
+        ArgumentCaptor<List<NotificationDraft>> drafts = ArgumentCaptor.forClass(List.class);
+        verify(notificationService).createAll(drafts.capture());
+        assertThat(drafts.getValue()).extracting(NotificationDraft::userId).containsExactly(10L);
+        verify(notificationService, never()).create(any(), any(), any(), any(), any());
+        verify(auctionMessageService).sendOutbid(eq(10L), any());
+    }
+
+    @Test
+    @DisplayName("lock 모드는 경매 락 안에서 등록자/현재 1등/자동 입찰자 유저 락을 잡고 해소")
+    @SuppressWarnings("unchecked")
+    void register_inLockMode_runsUnderParticipantUserLocks() throws Exception {
+        ProxyBidService service = newService("lock");
+        when(redissonClient.getLock("lock:auction:1")).thenReturn(auctionLock);
+        when(auctionLock.tryLock(3, TimeUnit.SECONDS)).thenReturn(true);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.get("auction:1:state", "currentBidder")).thenReturn("30");
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.range("auction:1:proxy", 0, -1)).thenReturn(new LinkedHashSet<>(List.of("20", "10")));
+        when(userLockExecutor.withUserLocks(anyList(), any(Supplier.class)))
+                .thenAnswer(invocation -> ((Supplier<Object>) invocation.getArgument(1)).get());
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of("OK", List.of(), List.of()));
+
+        service.register(1L, 10L, BigDecimal.valueOf(20000));
+
+        verify(userLockExecutor).withUserLocks(eq(List.of(10L, 30L, 20L, 10L)), any(Supplier.class));
+        verify(auctionLock).unlock();
+    }
+
+    private ProxyBidService newService(String bidEngine) {
+        ProxyBidService service = new ProxyBidService(
+                redissonClient, redisTemplate, walletService, auctionRedisService, auctionMessageService,
+                auctionWriteBehindService, auctionExtensionService, notificationService, auctionChangeTracker,
+                userLockExecutor
+        );
+        ReflectionTestUtils.setField(service, "bidEngine", bidEngine);
+        return service;
+    }
+}
@@ -0,0 +1,139 @@
+package noonchissaum.backend.domain.notification.service;
+
+import noonchissaum.backend.domain.auction.entity.Auction;
+import noonchissaum.backend.domain.auction.entity.AuctionStatus;
+import noonchissaum.backend.domain.auction.repository.AuctionRepository;
+import noonchissaum.backend.domain.category.entity.Category;
+import noonchissaum.backend.domain.item.entity.Item;
+import noonchissaum.backend.domain.notification.repository.AuctionDigestPendingRepository;
+import noonchissaum.backend.domain.notification.repository.AuctionDigestPendingRepository.PendingRow;
+import noonchissaum.backend.domain.user.service.CategorySubscriberIndex;
+import noonchissaum.backend.global.service.MailService;
+import noonchissaum.backend.global.service.MailTemplate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+class AuctionDigestServiceTest {
+
+    @Mock private AuctionDigestPendingRepository auctionDigestPendingRepository;
+    @Mock private AuctionRepository auctionRepository;
+    @Mock private CategorySubscriberIndex categorySubscriberIndex;
+    @Mock private MailOutboxService mailOutboxService;
+    @Mock private MailService mailService;
+    @Mock private TransactionTemplate transactionTemplate;
+
+    private AuctionDigestService auctionDigestService;
+
+    @BeforeEach
+    void setUp() {
+        auctionDigestService = new AuctionDigestService(auctionDigestPendingRepository, auctionRepository, categorySubscriberIndex,
+                mailOutboxService, mailService, transactionTemplate);
+        ReflectionTestUtils.setField(auctionDigestService, "maxAuctionsPerFlush", 100);
+        ReflectionTestUtils.setField(auctionDigestService, "maxItemsPerMail", 20);
+    }
+
+    @Test
+    @DisplayName("노출된 경매는 호출한 트랜잭션 안에서 DB 대기 목록에 적재한다")
+    void record_insertsPendingRow() {
+        auctionDigestService.record(11L);
+
+        verify(auctionDigestPendingRepository).insert(eq(11L), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("대기 중인 경매를 구독자별로 묶어 1건이면 단건 알림, 여러 건이면 다이제스트 1통으로 적재한다")
+    @SuppressWarnings("unchecked")
+    void flush_groupsAuctionsPerSubscriber() {
+        runInTransaction();
+        given(auctionDigestPendingRepository.findOldestForUpdate(100)).willReturn(List.of(
+                new PendingRow(1L, 11L), new PendingRow(2L, 12L), new PendingRow(3L, 11L)));
+        given(auctionRepository.findByIdIn(List.of(11L, 12L)))
+                .willReturn(List.of(runningAuction(12L, 2L, "가전", "<청소기>"), runningAuction(11L, 1L, "디지털", "카메라")));
+        given(categorySubscriberIndex.getActiveEmails(any())).willReturn(Map.of(
+                1L, Set.of("a@test.com", "b@test.com"),
+                2L, Set.of("b@test.com")
+        ));
+        given(mailService.auctionLink(anyLong())).willAnswer(invocation -> "http://front/auctions/" + invocation.getArgument(0));
+        given(mailOutboxService.enqueueEach(eq(MailTemplate.AUCTION_READY_NOTICE), any())).willReturn(1);
+        given(mailOutboxService.enqueueEach(eq(MailTemplate.AUCTION_DIGEST), any())).willReturn(1);
+
+        int enqueued = auctionDigestService.flush();
+
+        ArgumentCaptor<Map<String, Map<String, String>>> singles = ArgumentCaptor.forClass(Map.class);
+        ArgumentCaptor<Map<String, Map<String, String>>> digests = ArgumentCaptor.forClass(Map.class);
+        verify(mailOutboxService).enqueueEach(eq(MailTemplate.AUCTION_READY_NOTICE), singles.capture());
+        verify(mailOutboxService).enqueueEach(eq(MailTemplate.AUCTION_DIGEST), digests.capture());
+        assertThat(enqueued).isEqualTo(2);
+        assertThat(singles.getValue()).containsOnlyKeys("a@test.com");
+        assertThat(singles.getValue().get("a@test.com")).containsEntry("itemTitle", "카메라");
+        assertThat(digests.getValue()).containsOnlyKeys("b@test.com");
+        Map<String, String> digest = digests.getValue().get("b@test.com");
+        assertThat(digest).containsEntry("auctionCount", "2");
+        assertThat(digest.get("auctionItems"))
+                .contains("http://front/auctions/11", "&lt;청소기&gt;")
+                .containsSubsequence("카메라", "&lt;청소기&gt;");
+        verify(auctionDigestPendingRepository).deleteAll(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    @DisplayName("대기 목록이 비어 있으면 메일 적재 없이 종료한다")
+    void flush_whenNothingPending_returnsZero() {
+        runInTransaction();
+        given(auctionDigestPendingRepository.findOldestForUpdate(100)).willReturn(List.of());
+
+        int enqueued = auctionDigestService.flush();
+
+        assertThat(enqueued).isZero();
+        verify(mailOutboxService, never()).enqueueEach(any(), any());
+        verify(auctionDigestPendingRepository, never()).deleteAll(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runInTransaction() {
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                ((TransactionCallback<Integer>) invocation.getArgument(0)).doInTransaction(null));
+    }
+
+    private Auction runningAuction(Long auctionId, Long categoryId, String categoryName, String title) {
+        Category category = new Category(categoryName, null);
+        ReflectionTestUtils.setField(category, "id", categoryId);
+        Item item = Item.builder()
+                .seller(null)
+                .category(category)
+                .title(title)
+                .description("desc")
+                .build();
+        Auction auction = Auction.builder()
+                .item(item)
+                .startPrice(BigDecimal.valueOf(10000))
+                .startAt(LocalDateTime.now().minusMinutes(1))
+                .endAt(LocalDateTime.now().plusHours(1))
+                .build();
+        ReflectionTestUtils.setField(auction, "id", auctionId);
+        ReflectionTestUtils.setField(auction, "status", AuctionStatus.RUNNING);
+        return auction;
+    }
+}
@@ -8,14 +8,19 @@ import noonchissaum.backend.domain.auction.service.AuctionMessageService;
 import noonchissaum.backend.domain.category.entity.Category;
 import noonchissaum.backend.domain.item.entity.Item;
 import noonchissaum.backend.domain.notification.constants.NotificationConstants;
+import noonchissaum.backend.domain.notification.dto.NotificationDelivery;
+import noonchissaum.backend.domain.notification.dto.NotificationDraft;
+import noonchissaum.backend.domain.notification.dto.res.NotificationRes;
 import noonchissaum.backend.domain.notification.entity.Notification;
 import noonchissaum.backend.domain.notification.entity.NotificationType;
 import noonchissaum.backend.domain.user.entity.User;
 import noonchissaum.backend.domain.user.entity.UserRole;
+import noonchissaum.backend.global.dto.SocketMessageType;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -26,6 +31,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
@@ -84,44 +90,24 @@ class AuctionNotificationServiceTest {
         given(bidRepository.findDistinctBidderIdsByAuctionId(auctionId)).willReturn(List.of(7L, 8L));
 
 
-        given(notificationService.create(
-                anyLong(),
-                eq(NotificationType.IMMINENT),
-                eq(NotificationConstants.MSG_AUCTION_IMMINENT),
-                eq(NotificationConstants.REF_TYPE_AUCTION),
-                eq(auctionId)
-        )).willAnswer(invocation -> {
-            Long userId = invocation.getArgument(0, Long.class);
-            return notification(user(userId), userId + 1000L, NotificationType.IMMINENT);
+        given(notificationService.createAll(anyList())).willAnswer(invocation -> {
+            List<NotificationDraft> drafts = invocation.getArgument(0);
+            return drafts.stream()
+                    .map(draft -> new NotificationDelivery(draft.userId(), NotificationRes.builder().id(draft.userId() + 1000L).build()))
+                    .toList();
         });
 
         auctionNotificationService.notifyImminent(auctionId);
 
-        verify(notificationService).create(
-                seller.getId(),
-                NotificationType.IMMINENT,
-                NotificationConstants.MSG_AUCTION_IMMINENT,
-                NotificationConstants.REF_TYPE_AUCTION,
-                auctionId
-        );
-        verify(notificationService).create(
-                7L,
-                NotificationType.IMMINENT,
-                NotificationConstants.MSG_AUCTION_IMMINENT,
-                NotificationConstants.REF_TYPE_AUCTION,
-                auctionId
-        );
-        verify(notificationService).create(
-                8L,
-                NotificationType.IMMINENT,
-                NotificationConstants.MSG_AUCTION_IMMINENT,
-                NotificationConstants.REF_TYPE_AUCTION,
-                auctionId
-        );
-
-        verify(auctionMessageService).sendToUserQueue(eq(seller.getId()), any(), any());
-        verify(auctionMessageService).sendToUserQueue(eq(7L), any(), any());
-        verify(auctionMessageService).sendToUserQueue(eq(8L), any(), any());
+        // 판매자 + 참여자 알림을 한 번에 저장하고 한 번에 푸시
+        ArgumentCaptor<List<NotificationDraft>> drafts = ArgumentCaptor.forClass(List.class);
+        verify(notificationService).createAll(drafts.capture());
+        assertThat(drafts.getValue()).extracting(NotificationDraft::userId).containsExactly(seller.getId(), 7L, 8L);
+        assertThat(drafts.getValue()).allMatch(draft -> draft.type() == NotificationType.IMMINENT
+                && draft.message().equals(NotificationConstants.MSG_AUCTION_IMMINENT)
+                && draft.refId().equals(auctionId));
+        verify(notificationService, never()).create(anyLong(), any(), any(), any(), any());
+        verify(auctionMessageService).sendToUserQueues(eq(SocketMessageType.NOTIFICATION), argThat(list -> list.size() == 3));
     }
 
     private User user(Long id) {
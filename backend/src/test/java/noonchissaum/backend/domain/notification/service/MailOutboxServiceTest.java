@@ -0,0 +1,157 @@
+package noonchissaum.backend.domain.notification.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import noonchissaum.backend.domain.notification.dto.MailOutboxEntry;
+import noonchissaum.backend.domain.notification.dto.MailOutboxRetry;
+import noonchissaum.backend.domain.notification.entity.MailOutboxStatus;
+import noonchissaum.backend.domain.notification.repository.MailOutboxBulkRepository;
+import noonchissaum.backend.global.service.MailService;
+import noonchissaum.backend.global.service.MailService.OutboundMail;
+import noonchissaum.backend.global.service.MailTemplate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+class MailOutboxServiceTest {
+
+    @Mock private MailOutboxBulkRepository mailOutboxBulkRepository;
+    @Mock private MailService mailService;
+    @Mock private StringRedisTemplate redisTemplate;
+    @Mock private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SimpleMeterRegistry meterRegistry;
+    private MailOutboxService mailOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        mailOutboxService = new MailOutboxService(mailOutboxBulkRepository, mailService, redisTemplate, objectMapper, meterRegistry);
+        ReflectionTestUtils.setField(mailOutboxService, "workerCount", 1);
+        ReflectionTestUtils.setField(mailOutboxService, "batchSize", 20);
+        ReflectionTestUtils.setField(mailOutboxService, "ratePerSecond", 10);
+        ReflectionTestUtils.setField(mailOutboxService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(mailOutboxService, "backoffBaseMs", 1000L);
+        ReflectionTestUtils.setField(mailOutboxService, "backoffMaxMs", 60000L);
+        ReflectionTestUtils.setField(mailOutboxService, "lockMs", 60000L);
+        mailOutboxService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        mailOutboxService.shutdown();
+    }
+
+    @Test
+    @DisplayName("수신자별 치환 값을 JSON 으로 직렬화해 JDBC batch 1회로 적재한다")
+    @SuppressWarnings("unchecked")
+    void enqueueEach_insertsPayloadPerRecipient() throws Exception {
+        given(mailOutboxBulkRepository.insertEach(eq(MailTemplate.AUCTION_DIGEST), any(), any())).willReturn(2);
+
+        int enqueued = mailOutboxService.enqueueEach(MailTemplate.AUCTION_DIGEST, Map.of(
+                "a@test.com", Map.of("auctionCount", "2"),
+                "b@test.com", Map.of("auctionCount", "3")
+        ));
+
+        ArgumentCaptor<Map<String, String>> payloads = ArgumentCaptor.forClass(Map.class);
+        verify(mailOutboxBulkRepository).insertEach(eq(MailTemplate.AUCTION_DIGEST), payloads.capture(), any(LocalDateTime.class));
+        assertThat(enqueued).isEqualTo(2);
+        assertThat(objectMapper.readValue(payloads.getValue().get("b@test.com"), Map.class))
+                .containsEntry("auctionCount", "3");
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("선점한 배치는 SMTP 배치 발송 1회로 보내고 성공은 SENT, 실패는 backoff 후 재시도로 표시한다")
+    @SuppressWarnings("unchecked")
+    void sendBatch_marksSentAndSchedulesRetry() {
+        String payload = "{\"categoryName\":\"디지털\",\"itemTitle\":\"<b>카메라</b>\",\"price\":\"15000\",\"auctionLink\":\"http://front/auctions/7\"}";
+        given(mailOutboxBulkRepository.claim(anyString(), eq(20), any(), any())).willReturn(2);
+        given(mailOutboxBulkRepository.findClaimed(anyString())).willReturn(List.of(
+                new MailOutboxEntry(1L, "a@test.com", MailTemplate.AUCTION_READY_NOTICE, payload, 0),
+                new MailOutboxEntry(2L, "b@test.com", MailTemplate.AUCTION_READY_NOTICE, payload, 0)
+        ));
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.increment(anyString(), anyLong())).willReturn(2L);
+        given(mailService.sendBatch(any())).willReturn(Map.of(2L, "mailbox unavailable"));
+
+        int sent = mailOutboxService.sendBatch();
+
+        ArgumentCaptor<List<OutboundMail>> mails = ArgumentCaptor.forClass(List.class);
+        verify(mailService).sendBatch(mails.capture());
+        assertThat(mails.getValue()).hasSize(2);
+        assertThat(mails.getValue().get(0).html())
+                .contains("&lt;b&gt;카메라&lt;/b&gt;")
+                .isSameAs(mails.getValue().get(1).html());
+
+        ArgumentCaptor<List<MailOutboxRetry>> retries = ArgumentCaptor.forClass(List.class);
+        verify(mailOutboxBulkRepository).markSent(eq(List.of(1L)), anyString(), any());
+        verify(mailOutboxBulkRepository).markRetry(retries.capture(), anyString(), any());
+        MailOutboxRetry retry = retries.getValue().get(0);
+        assertThat(sent).isEqualTo(1);
+        assertThat(retry.id()).isEqualTo(2L);
+        assertThat(retry.status()).isEqualTo(MailOutboxStatus.PENDING);
+        assertThat(retry.attempts()).isEqualTo(1);
+        assertThat(retry.nextAttemptAt()).isAfter(LocalDateTime.now().plusNanos(900_000_000));
+        assertThat(meterRegistry.get("mail.outbox.sent").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수에 도달한 실패 메일은 FAILED 로 확정한다")
+    @SuppressWarnings("unchecked")
+    void sendBatch_whenMaxAttemptsReached_marksFailed() {
+        given(mailOutboxBulkRepository.claim(anyString(), anyInt(), any(), any())).willReturn(1);
+        given(mailOutboxBulkRepository.findClaimed(anyString())).willReturn(List.of(
+                new MailOutboxEntry(3L, "c@test.com", MailTemplate.PASSWORD_RESET, "{\"resetLink\":\"http://x\"}", 2)
+        ));
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.increment(anyString(), anyLong())).willReturn(1L);
+        given(mailService.sendBatch(any())).willReturn(Map.of(3L, "rejected"));
+
+        mailOutboxService.sendBatch();
+
+        ArgumentCaptor<List<MailOutboxRetry>> retries = ArgumentCaptor.forClass(List.class);
+        verify(mailOutboxBulkRepository).markRetry(retries.capture(), anyString(), any());
+        assertThat(retries.getValue()).singleElement()
+                .extracting(MailOutboxRetry::status, MailOutboxRetry::attempts)
+                .containsExactly(MailOutboxStatus.FAILED, 3);
+        assertThat(meterRegistry.get("mail.outbox.dead").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("선점할 메일이 없으면 발송하지 않는다")
+    void sendBatch_whenNothingClaimed_returnsMinusOne() {
+        given(mailOutboxBulkRepository.claim(anyString(), anyInt(), any(), any())).willReturn(0);
+
+        int sent = mailOutboxService.sendBatch();
+
+        assertThat(sent).isEqualTo(-1);
+        verify(mailService, never()).sendBatch(any());
+        verifyNoInteractions(redisTemplate);
+    }
+}
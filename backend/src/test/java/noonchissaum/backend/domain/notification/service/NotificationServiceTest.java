@@ -1,13 +1,18 @@
 package noonchissaum.backend.domain.notification.service;
 
+import noonchissaum.backend.domain.notification.dto.NotificationDelivery;
+import noonchissaum.backend.domain.notification.dto.NotificationDraft;
 import noonchissaum.backend.domain.notification.entity.Notification;
 import noonchissaum.backend.domain.notification.entity.NotificationType;
+import noonchissaum.backend.domain.notification.repository.NotificationBulkRepository;
 import noonchissaum.backend.domain.notification.repository.NotificationRepository;
 import noonchissaum.backend.domain.user.entity.User;
 import noonchissaum.backend.domain.user.entity.UserRole;
+import noonchissaum.backend.domain.user.repository.UserRepository;
 import noonchissaum.backend.domain.user.service.UserService;
 import noonchissaum.backend.global.exception.ApiException;
 import noonchissaum.backend.global.exception.ErrorCode;
+import noonchissaum.backend.global.websocket.StompMessageRelay;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -15,7 +20,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.test.util.ReflectionTestUtils;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -24,6 +28,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,7 +37,9 @@ class NotificationServiceTest {
 
     @Mock private NotificationRepository notificationRepository;
     @Mock private UserService userService;
-    @Mock private SimpMessagingTemplate messagingTemplate;
+    @Mock private StompMessageRelay messageRelay;
+    @Mock private UserRepository userRepository;
+    @Mock private NotificationBulkRepository notificationBulkRepository;
 
     @InjectMocks
     private NotificationService notificationService;
@@ -67,7 +74,27 @@ class NotificationServiceTest {
         var result = notificationService.sendNotification(2L, NotificationType.OUTBID, "아웃비드", "AUCTION", 55L);
 
         assertThat(result.getId()).isEqualTo(123L);
-        verify(messagingTemplate).convertAndSendToUser(eq("2"), eq("/queue/notifications"), any());
+        verify(messageRelay).convertAndSendToUser(eq("2"), eq("/queue/notifications"), any());
+    }
+
+    @Test
+    @DisplayName("대량 알림은 수신자 ID 조회 1회 후 존재하는 수신자만 batch insert 한다")
+    void createAll_insertsOnlyExistingRecipientsInOneBatch() {
+        List<NotificationDraft> drafts = List.of(
+                new NotificationDraft(1L, NotificationType.IMMINENT, "m", "AUCTION", 10L),
+                new NotificationDraft(2L, NotificationType.IMMINENT, "m", "AUCTION", 10L),
+                new NotificationDraft(3L, NotificationType.IMMINENT, "m", "AUCTION", 10L)
+        );
+        given(userRepository.findExistingIds(anyCollection())).willReturn(List.of(1L, 3L));
+        given(notificationBulkRepository.insertAll(anyList(), any(LocalDateTime.class))).willReturn(List.of(501L, 502L));
+
+        List<NotificationDelivery> result = notificationService.createAll(drafts);
+
+        assertThat(result).extracting(NotificationDelivery::userId).containsExactly(1L, 3L);
+        assertThat(result).extracting(delivery -> delivery.payload().getId()).containsExactly(501L, 502L);
+        verify(notificationBulkRepository).insertAll(eq(List.of(drafts.get(0), drafts.get(2))), any(LocalDateTime.class));
+        verify(userService, never()).getUserByUserId(anyLong());
+        verify(notificationRepository, never()).save(any());
     }
 
     @Test
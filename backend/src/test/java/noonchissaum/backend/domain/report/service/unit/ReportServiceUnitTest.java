@@ -1,10 +1,11 @@
 package noonchissaum.backend.domain.report.service.unit;
 
 import noonchissaum.backend.domain.auction.entity.Auction;
+import noonchissaum.backend.domain.auction.entity.AuctionEffect;
 import noonchissaum.backend.domain.auction.entity.AuctionStatus;
 import noonchissaum.backend.domain.auction.repository.AuctionRepository;
 import noonchissaum.backend.domain.auction.repository.BidRepository;
-import noonchissaum.backend.domain.auction.service.AuctionRedisService;
+import noonchissaum.backend.domain.auction.service.AuctionOutboxService;
 import noonchissaum.backend.domain.category.entity.Category;
 import noonchissaum.backend.domain.item.entity.Item;
 import noonchissaum.backend.domain.notification.service.AuctionNotificationService;
@@ -53,7 +54,7 @@ class ReportServiceUnitTest {
     @Mock
     private BidRepository bidRepository;
     @Mock
-    private AuctionRedisService auctionRedisService;
+    private AuctionOutboxService auctionOutboxService;
     @Mock
     private AuctionNotificationService auctionNotificationService;
 
@@ -96,10 +97,8 @@ class ReportServiceUnitTest {
         verify(auctionHandler).validate(200L);
         verify(reportRepository).save(any());
         assertThat(auction.getStatus()).isEqualTo(AuctionStatus.TEMP_BLOCKED);
-        verify(auctionRedisService).setRedis(200L);
-        verify(auctionNotificationService).sendNotification(org.mockito.ArgumentMatchers.eq(30L), any(), any(), any(), org.mockito.ArgumentMatchers.eq(200L));
-        verify(auctionNotificationService).sendNotification(org.mockito.ArgumentMatchers.eq(31L), any(), any(), any(), org.mockito.ArgumentMatchers.eq(200L));
-        verify(auctionNotificationService).sendNotification(org.mockito.ArgumentMatchers.eq(9L), any(), any(), any(), org.mockito.ArgumentMatchers.eq(200L));
+        verify(auctionOutboxService).record(200L, AuctionEffect.STATE);
+        verify(auctionNotificationService).sendNotifications(org.mockito.ArgumentMatchers.eq(List.of(30L, 31L, 9L)), any(), any(), any(), org.mockito.ArgumentMatchers.eq(200L));
     }
 
     private ReportService createService() {
@@ -109,7 +108,7 @@ class ReportServiceUnitTest {
                 Map.of(ReportTargetType.AUCTION, auctionHandler),
                 auctionRepository,
                 bidRepository,
-                auctionRedisService,
+                auctionOutboxService,
                 auctionNotificationService
         );
     }
@@ -0,0 +1,146 @@
+package noonchissaum.backend.domain.task.service.unit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import noonchissaum.backend.domain.task.dto.DbUpdateEvent;
+import noonchissaum.backend.domain.task.service.BidJournalConsumer;
+import noonchissaum.backend.domain.task.service.DbUpdateBatchProcessor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+class BidJournalConsumerUnitTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private DbUpdateBatchProcessor dbUpdateBatchProcessor;
+    @Mock
+    private StreamOperations<String, Object, Object> streamOps;
+
+    private BidJournalConsumer consumer;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        consumer = new BidJournalConsumer(redisTemplate, dbUpdateBatchProcessor, meterRegistry);
+        ReflectionTestUtils.setField(consumer, "maxBatchSize", 200);
+        ReflectionTestUtils.setField(consumer, "reclaimIdleMs", 60000L);
+        ReflectionTestUtils.setField(consumer, "maxDeliveries", 5);
+        consumer.registerMetrics();
+        when(redisTemplate.opsForStream()).thenReturn(streamOps);
+    }
+
+    @Test
+    @DisplayName("DB 반영이 끝난 엔트리만 ACK/XDEL 하고 실패한 엔트리는 저널에 남김")
+    @SuppressWarnings("unchecked")
+    void consume_acknowledgesOnlyCompletedEntries() {
+        MapRecord<String, Object, Object> ok = record("1-0", "req-ok");
+        MapRecord<String, Object, Object> failed = record("2-0", "req-failed");
+        when(streamOps.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+                .thenReturn(List.of(ok, failed));
+        when(dbUpdateBatchProcessor.process(anyList())).thenAnswer(invocation -> {
+            List<DbUpdateEvent> events = invocation.getArgument(0);
+            return events.stream().filter(e -> e.requestId().equals("req-ok")).toList();
+        });
+
+        int processed = consumer.consume();
+
+        assertThat(processed).isEqualTo(1);
+        verify(streamOps).createGroup("bid_journal", ReadOffset.from("0-0"), BidJournalConsumer.GROUP);
+        verify(streamOps).acknowledge("bid_journal", BidJournalConsumer.GROUP, RecordId.of("1-0"));
+        verify(streamOps).delete("bid_journal", RecordId.of("1-0"));
+    }
+
+    @Test
+    @DisplayName("재할당된 엔트리 중 전달 횟수 초과분은 단건 경로로 넘기고 나머지는 다시 배치 반영")
+    @SuppressWarnings("unchecked")
+    void reclaim_givesUpExhaustedEntries() {
+        List<Object> retryEntry = List.of("3-0", "2", flatFields("req-retry"));
+        List<Object> exhaustedEntry = List.of("4-0", "6", flatFields("req-exhausted"));
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of("0-0", retryEntry, exhaustedEntry));
+        when(dbUpdateBatchProcessor.process(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(dbUpdateBatchProcessor.giveUp(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        int reclaimed = consumer.reclaim();
+
+        assertThat(reclaimed).isEqualTo(2);
+        ArgumentCaptor<List<DbUpdateEvent>> givenUp = ArgumentCaptor.forClass(List.class);
+        verify(dbUpdateBatchProcessor).giveUp(givenUp.capture());
+        assertThat(givenUp.getValue()).extracting(DbUpdateEvent::requestId).containsExactly("req-exhausted");
+        ArgumentCaptor<List<DbUpdateEvent>> retried = ArgumentCaptor.forClass(List.class);
+        verify(dbUpdateBatchProcessor).process(retried.capture());
+        assertThat(retried.getValue()).extracting(DbUpdateEvent::requestId).containsExactly("req-retry");
+        verify(streamOps).acknowledge("bid_journal", BidJournalConsumer.GROUP, RecordId.of("4-0"));
+        verify(streamOps).acknowledge("bid_journal", BidJournalConsumer.GROUP, RecordId.of("3-0"));
+        verify(streamOps, never()).read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class));
+    }
+
+    @Test
+    @DisplayName("단건 경로도 실패한 엔트리는 ACK 하지 않고 저널에 남기며 실패 지표를 올림")
+    @SuppressWarnings("unchecked")
+    void reclaim_whenGiveUpFails_leavesEntryPending() {
+        List<Object> exhaustedEntry = List.of("5-0", "7", flatFields("req-stuck"));
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of("0-0", exhaustedEntry));
+        when(dbUpdateBatchProcessor.giveUp(anyList())).thenReturn(List.of());
+
+        consumer.reclaim();
+
+        verify(streamOps, never()).acknowledge(anyString(), anyString(), any(RecordId[].class));
+        verify(streamOps, never()).delete(anyString(), any(RecordId[].class));
+        assertThat(meterRegistry.get("bid.journal.give_up.failed").counter().count()).isEqualTo(1.0);
+    }
+
+    private MapRecord<String, Object, Object> record(String id, String requestId) {
+        Map<Object, Object> fields = Map.of(
+                "auctionId", "300",
+                "userId", "10",
+                "bidAmount", "15000",
+                "requestId", requestId,
+                "previousBidderId", "20",
+                "refundAmount", "10000",
+                "createdAt", "1700000000000");
+        return MapRecord.create("bid_journal", fields).withId(RecordId.of(id));
+    }
+
+    private List<Object> flatFields(String requestId) {
+        return List.of(
+                "auctionId", "300",
+                "userId", "10",
+                "bidAmount", BigDecimal.valueOf(15000).toPlainString(),
+                "requestId", requestId,
+                "previousBidderId", "-1",
+                "refundAmount", "0",
+                "createdAt", "1700000000000");
+    }
+}
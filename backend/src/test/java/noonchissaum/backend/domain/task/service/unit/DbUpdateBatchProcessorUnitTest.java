@@ -0,0 +1,98 @@
+package noonchissaum.backend.domain.task.service.unit;
+
+import noonchissaum.backend.domain.task.dto.DbUpdateEvent;
+import noonchissaum.backend.domain.task.service.AsyncTaskTxService;
+import noonchissaum.backend.domain.task.service.DbEventListener;
+import noonchissaum.backend.domain.task.service.DbUpdateBatchProcessor;
+import noonchissaum.backend.domain.task.service.DbUpdateBatchWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import java.math.BigDecimal;
+import java.util.List;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+class DbUpdateBatchProcessorUnitTest {
+
+    @Mock
+    private DbUpdateBatchWriter dbUpdateBatchWriter;
+    @Mock
+    private DbEventListener dbEventListener;
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private AsyncTaskTxService asyncTaskTxService;
+
+    @Test
+    @DisplayName("배치 반영 성공 시 전체를 완료로 반환하고 pending 정리")
+    void process_whenBatchSucceeds_returnsAllAndCleansPending() {
+        DbUpdateBatchProcessor processor = new DbUpdateBatchProcessor(dbUpdateBatchWriter, dbEventListener, redisTemplate, asyncTaskTxService);
+        List<DbUpdateEvent> batch = List.of(event("req-1"), event("req-2"));
+        when(dbUpdateBatchWriter.write(batch)).thenReturn(batch);
+
+        List<DbUpdateEvent> completed = processor.process(batch);
+
+        assertThat(completed).containsExactlyElementsOf(batch);
+        verify(redisTemplate).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("배치 반영 실패 시 한 건씩 재반영하고 성공한 것만 완료로 반환")
+    void process_whenBatchFails_retriesOneByOne() {
+        DbUpdateBatchProcessor processor = new DbUpdateBatchProcessor(dbUpdateBatchWriter, dbEventListener, redisTemplate, asyncTaskTxService);
+        DbUpdateEvent ok = event("req-10");
+        DbUpdateEvent broken = event("req-11");
+        List<DbUpdateEvent> batch = List.of(ok, broken);
+        when(dbUpdateBatchWriter.write(batch)).thenThrow(new RuntimeException("deadlock"));
+        when(dbUpdateBatchWriter.write(List.of(ok))).thenReturn(List.of(ok));
+        when(dbUpdateBatchWriter.write(List.of(broken))).thenThrow(new RuntimeException("fk violation"));
+
+        List<DbUpdateEvent> completed = processor.process(batch);
+
+        assertThat(completed).containsExactly(ok);
+        verify(dbEventListener, never()).handleWalletUpdate(any());
+    }
+
+    @Test
+    @DisplayName("재시도 한도 초과 이벤트는 기존 단건 경로로 이관")
+    void giveUp_delegatesToSingleEventPath() {
+        DbUpdateBatchProcessor processor = new DbUpdateBatchProcessor(dbUpdateBatchWriter, dbEventListener, redisTemplate, asyncTaskTxService);
+        DbUpdateEvent event = event("req-20");
+        when(asyncTaskTxService.isSuccess("req-20")).thenReturn(true);
+
+        List<DbUpdateEvent> completed = processor.giveUp(List.of(event));
+
+        verify(dbEventListener).handleWalletUpdate(event);
+        assertThat(completed).containsExactly(event);
+    }
+
+    @Test
+    @DisplayName("단건 경로가 성공 마킹까지 가지 못한 이벤트는 완료로 반환하지 않음")
+    void giveUp_whenSingleEventPathFails_excludesEvent() {
+        DbUpdateBatchProcessor processor = new DbUpdateBatchProcessor(dbUpdateBatchWriter, dbEventListener, redisTemplate, asyncTaskTxService);
+        DbUpdateEvent recovered = event("req-21");
+        DbUpdateEvent thrown = event("req-22");
+        when(asyncTaskTxService.isSuccess("req-21")).thenReturn(false);
+        doThrow(new RuntimeException("db down")).when(dbEventListener).handleWalletUpdate(thrown);
+
+        List<DbUpdateEvent> completed = processor.giveUp(List.of(recovered, thrown));
+
+        assertThat(completed).isEmpty();
+    }
+
+    private DbUpdateEvent event(String requestId) {
+        return new DbUpdateEvent(10L, 20L, BigDecimal.valueOf(15000), BigDecimal.valueOf(10000), 300L, requestId);
+    }
+}
@@ -0,0 +1,101 @@
+package noonchissaum.backend.domain.task.service.unit;
+
+import noonchissaum.backend.domain.task.dto.DbUpdateEvent;
+import noonchissaum.backend.domain.task.service.DbUpdateBatchWriter;
+import noonchissaum.backend.global.exception.ApiException;
+import noonchissaum.backend.global.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+class DbUpdateBatchWriterUnitTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Test
+    @DisplayName("이미 성공한 requestId 는 건너뛰고, 같은 유저의 지갑 증감은 합산해 한 번만 갱신")
+    @SuppressWarnings("unchecked")
+    void write_skipsDoneRequestsAndAggregatesWalletDeltas() {
+        DbUpdateBatchWriter writer = new DbUpdateBatchWriter(jdbcTemplate, namedParameterJdbcTemplate);
+        DbUpdateEvent done = new DbUpdateEvent(10L, -1L, BigDecimal.valueOf(10000), BigDecimal.ZERO, 300L, "req-done");
+        LocalDateTime firstAt = LocalDateTime.of(2026, 1, 1, 12, 0, 0, 1_000_000);
+        LocalDateTime secondAt = firstAt.plusNanos(2_000_000);
+        DbUpdateEvent first = new DbUpdateEvent(20L, 10L, BigDecimal.valueOf(11000), BigDecimal.valueOf(10000), 300L, "req-1", firstAt);
+        DbUpdateEvent second = new DbUpdateEvent(10L, 20L, BigDecimal.valueOf(12000), BigDecimal.valueOf(11000), 300L, "req-2", secondAt);
+
+        when(namedParameterJdbcTemplate.queryForList(startsWith("SELECT request_id FROM tasks"), any(SqlParameterSource.class), eq(String.class)))
+                .thenReturn(List.of("req-done"));
+        when(namedParameterJdbcTemplate.queryForList(startsWith("SELECT request_id FROM bids"), any(SqlParameterSource.class), eq(String.class)))
+                .thenReturn(List.of());
+        when(jdbcTemplate.batchUpdate(startsWith("UPDATE wallets"), anyList())).thenReturn(new int[]{1, 1});
+
+        List<DbUpdateEvent> completed = writer.write(List.of(done, first, second, first));
+
+        assertThat(completed).containsExactly(done, first, second);
+
+        ArgumentCaptor<List<Object[]>> bids = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO bids"), bids.capture());
+        assertThat(bids.getValue()).hasSize(2);
+        // created_at 은 배치 시각이 아닌 입찰별 저널 시각
+        assertThat(bids.getValue()).extracting(row -> row[4])
+                .containsExactly(Timestamp.valueOf(firstAt), Timestamp.valueOf(secondAt));
+
+        // user 10: -12000 + 11000 = -1000, user 20: -11000 + 10000 = -1000
+        ArgumentCaptor<List<Object[]>> wallets = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE wallets"), wallets.capture());
+        assertThat(wallets.getValue()).hasSize(2);
+        assertThat((BigDecimal) wallets.getValue().get(0)[0]).isEqualByComparingTo("-1000");
+        assertThat(wallets.getValue().get(0)[3]).isEqualTo(10L);
+        assertThat((BigDecimal) wallets.getValue().get(1)[0]).isEqualByComparingTo("-1000");
+        assertThat(wallets.getValue().get(1)[3]).isEqualTo(20L);
+
+        ArgumentCaptor<List<Object[]>> transactions = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO wallet_transactions"), transactions.capture());
+        assertThat(transactions.getValue()).hasSize(4);
+
+        ArgumentCaptor<List<Object[]>> tasks = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO tasks"), tasks.capture());
+        assertThat(tasks.getValue()).extracting(row -> row[0]).containsExactly("req-1", "req-2");
+    }
+
+    @Test
+    @DisplayName("잔액 부족으로 갱신되지 않은 지갑이 있으면 배치 전체 실패")
+    void write_whenWalletNotUpdated_throwsInsufficientBalance() {
+        DbUpdateBatchWriter writer = new DbUpdateBatchWriter(jdbcTemplate, namedParameterJdbcTemplate);
+        DbUpdateEvent event = new DbUpdateEvent(30L, -1L, BigDecimal.valueOf(50000), BigDecimal.ZERO, 301L, "req-30");
+
+        when(namedParameterJdbcTemplate.queryForList(any(String.class), any(SqlParameterSource.class), eq(String.class)))
+                .thenReturn(List.of());
+        when(jdbcTemplate.batchUpdate(startsWith("UPDATE wallets"), anyList())).thenReturn(new int[]{0});
+
+        ApiException ex = assertThrows(ApiException.class, () -> writer.write(List.of(event)));
+
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.INSUFFICIENT_BALANCE);
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("INSERT INTO tasks"), anyList());
+    }
+}
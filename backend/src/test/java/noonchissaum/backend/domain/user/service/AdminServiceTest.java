@@ -2,7 +2,7 @@ package noonchissaum.backend.domain.user.service;
 
 import noonchissaum.backend.domain.auction.repository.AuctionRepository;
 import noonchissaum.backend.domain.auction.repository.BidRepository;
-import noonchissaum.backend.domain.auction.service.AuctionRedisService;
+import noonchissaum.backend.domain.auction.service.AuctionOutboxService;
 import noonchissaum.backend.domain.auction.service.AuctionService;
 import noonchissaum.backend.domain.auction.service.BidRollbackService;
 import noonchissaum.backend.domain.notification.service.AuctionNotificationService;
@@ -44,7 +44,7 @@ class AdminServiceTest {
     @Mock private AuctionRepository auctionRepository;
     @Mock private BidRepository bidRepository;
     @Mock private AuctionService auctionService;
-    @Mock private AuctionRedisService auctionRedisService;
+    @Mock private AuctionOutboxService auctionOutboxService;
     @Mock private OrderService orderService;
     @Mock private WalletService walletService;
     @Mock private WalletRecordService walletRecordService;
@@ -53,6 +53,7 @@ class AdminServiceTest {
     @Mock private InquiryService inquiryService;
     @Mock private DailyStatisticsRepository dailyStatisticsRepository;
     @Mock private BidRollbackService bidRollbackService;
+    @Mock private CategorySubscriberIndex categorySubscriberIndex;
 
     @InjectMocks
     private AdminService adminService;
@@ -149,6 +150,7 @@ class AdminServiceTest {
 
         // then
         assertEquals(UserStatus.ACTIVE, user.getStatus());
+        verify(categorySubscriberIndex).evictUser(userId);
     }
 
     /**
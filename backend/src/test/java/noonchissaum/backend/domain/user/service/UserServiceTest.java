@@ -51,6 +51,8 @@ class UserServiceTest {
     private ItemService itemService;
     @Mock
     private LocationService locationService;
+    @Mock
+    private CategorySubscriberIndex categorySubscriberIndex;
 
     @InjectMocks
     private UserService userService;
@@ -0,0 +1,89 @@
+package noonchissaum.backend.global.cluster.unit;
+
+import noonchissaum.backend.global.RedisKeys;
+import noonchissaum.backend.global.cluster.ClusterNodeRegistry;
+import noonchissaum.backend.global.cluster.SchedulerLeaderLease;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+class SchedulerClusterUnitTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Test
+    @DisplayName("살아있는 노드 목록이 같으면 모든 경매 ID 는 정확히 한 노드가 담당하고 고르게 나뉨")
+    @SuppressWarnings("unchecked")
+    void owns_partitionsKeysAcrossLiveNodes() {
+        List<ClusterNodeRegistry> nodes = List.of(node(), node(), node());
+        LinkedHashSet<String> live = new LinkedHashSet<>();
+        nodes.forEach(node -> live.add(node.nodeId()));
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(new ArrayList<>(List.of(true, 0L, live)));
+        nodes.forEach(ClusterNodeRegistry::heartbeat);
+
+        int[] owned = new int[nodes.size()];
+        for (long auctionId = 1; auctionId <= 3000; auctionId++) {
+            int owners = 0;
+            for (int i = 0; i < nodes.size(); i++) {
+                if (nodes.get(i).owns(auctionId)) {
+                    owners++;
+                    owned[i]++;
+                }
+            }
+            assertThat(owners).isEqualTo(1);
+        }
+        for (int count : owned) {
+            assertThat(count).isBetween(700, 1300);
+        }
+    }
+
+    @Test
+    @DisplayName("lease 를 잡은 노드만 작업을 실행하고 local 모드에서는 항상 실행")
+    @SuppressWarnings("unchecked")
+    void runIfLeader_runsOnlyWhenLeaseAcquired() {
+        ClusterNodeRegistry registry = node();
+        SchedulerLeaderLease lease = new SchedulerLeaderLease(redisTemplate, registry);
+        AtomicInteger runs = new AtomicInteger();
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(RedisKeys.schedulerLease("job"))), anyString(), eq("90000")))
+                .thenReturn(1L, 0L);
+
+        assertThat(lease.runIfLeader("job", Duration.ofSeconds(90), runs::incrementAndGet)).isTrue();
+        assertThat(lease.runIfLeader("job", Duration.ofSeconds(90), runs::incrementAndGet)).isFalse();
+        assertThat(runs.get()).isEqualTo(1);
+
+        ClusterNodeRegistry localRegistry = new ClusterNodeRegistry(redisTemplate);
+        ReflectionTestUtils.setField(localRegistry, "mode", "local");
+        StringRedisTemplate unusedTemplate = org.mockito.Mockito.mock(StringRedisTemplate.class);
+        assertThat(new SchedulerLeaderLease(unusedTemplate, localRegistry).runIfLeader("job", Duration.ofSeconds(90), runs::incrementAndGet)).isTrue();
+        assertThat(runs.get()).isEqualTo(2);
+        verifyNoInteractions(unusedTemplate);
+    }
+
+    private ClusterNodeRegistry node() {
+        ClusterNodeRegistry registry = new ClusterNodeRegistry(redisTemplate);
+        ReflectionTestUtils.setField(registry, "mode", "redis");
+        ReflectionTestUtils.setField(registry, "nodeTtlMs", 15_000L);
+        return registry;
+    }
+}
@@ -0,0 +1,111 @@
+package noonchissaum.backend.global.websocket.integration;
+
+import noonchissaum.backend.BackendApplication;
+import noonchissaum.backend.domain.auction.dto.ws.BidSucceededPayload;
+import noonchissaum.backend.domain.auction.dto.ws.OutbidPayload;
+import noonchissaum.backend.domain.auction.service.AuctionMessageService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 Redis 를 공유하는 두 노드(현재 테스트 컨텍스트 = A, 별도 기동 컨텍스트 = B) 간 STOMP relay 검증
+ * A 에서 보낸 메시지가 B 의 로컬 브로커 채널에 JSON 바이트 그대로 도착하는지 확인한다.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "websocket.relay.mode=redis",
+                "websocket.relay.channel=ws:relay:it",
+                "spring.task.scheduling.enabled=false"
+        }
+)
+@Tag("integration")
+class StompRelayTwoNodeIntegrationTest {
+
+    private static ConfigurableApplicationContext nodeB;
+
+    @Autowired
+    private AuctionMessageService nodeAMessageService;
+
+    private final Map<String, byte[]> received = new ConcurrentHashMap<>();
+    private CountDownLatch latch;
+    private MessageHandler capture;
+
+    @BeforeAll
+    static void startNodeB() {
+        nodeB = new SpringApplicationBuilder(BackendApplication.class)
+                .properties(
+                        "server.port=0",
+                        "websocket.relay.mode=redis",
+                        "websocket.relay.channel=ws:relay:it",
+                        "spring.task.scheduling.enabled=false"
+                )
+                .run();
+    }
+
+    @AfterAll
+    static void stopNodeB() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+    }
+
+    @BeforeEach
+    void subscribeNodeB() {
+        latch = new CountDownLatch(2);
+        capture = message -> {
+            String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+            if (destination != null && message.getPayload() instanceof byte[] payload) {
+                received.put(destination, payload);
+                latch.countDown();
+            }
+        };
+        brokerChannelOf(nodeB).subscribe(capture);
+    }
+
+    @AfterEach
+    void unsubscribeNodeB() {
+        brokerChannelOf(nodeB).unsubscribe(capture);
+    }
+
+    @Test
+    @DisplayName("노드 A 의 경매 토픽/개인 큐 메시지가 Redis 를 거쳐 노드 B 브로커로 전달")
+    void relay_deliversToOtherNode() throws Exception {
+        nodeAMessageService.sendBidSucceeded(501L, BidSucceededPayload.builder()
+                .auctionId(501L)
+                .currentPrice(15000L)
+                .currentBidderId(7L)
+                .bidCount(3)
+                .build());
+        nodeAMessageService.sendOutbid(33L, OutbidPayload.builder().auctionId(501L).build());
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+
+        String topicJson = new String(received.get("/topic/auction/501"), StandardCharsets.UTF_8);
+        assertThat(topicJson).contains("\"type\":\"BID_SUCCESSED\"");
+        assertThat(topicJson).contains("\"currentPrice\":15000");
+        assertThat(received).containsKey("/user/33/queue/notifications");
+    }
+
+    private static SubscribableChannel brokerChannelOf(ConfigurableApplicationContext context) {
+        return context.getBean("brokerChannel", SubscribableChannel.class);
+    }
+}
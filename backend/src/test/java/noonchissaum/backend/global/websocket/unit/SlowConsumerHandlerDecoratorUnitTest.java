@@ -0,0 +1,89 @@
+package noonchissaum.backend.global.websocket.unit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import noonchissaum.backend.global.websocket.SlowConsumerHandlerDecorator;
+import noonchissaum.backend.global.websocket.WebSocketSessionMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+class SlowConsumerHandlerDecoratorUnitTest {
+
+    @Mock
+    private WebSocketHandler delegate;
+    @Mock
+    private WebSocketSession session;
+    @Mock
+    private ObjectProvider<SimpUserRegistry> userRegistryProvider;
+
+    private SimpleMeterRegistry meterRegistry;
+    private WebSocketSessionMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new WebSocketSessionMetrics(meterRegistry, userRegistryProvider);
+        metrics.registerMetrics();
+    }
+
+    @Test
+    @DisplayName("송신 제한 초과로 닫히는 세션은 재연결 힌트를 reason 에 담고 evicted 로 집계")
+    void close_whenSessionNotReliable_addsReconnectHint() throws Exception {
+        SlowConsumerHandlerDecorator decorator = new SlowConsumerHandlerDecorator(delegate, metrics, 1500L);
+
+        decorator.afterConnectionEstablished(session);
+        ArgumentCaptor<WebSocketSession> wrapped = ArgumentCaptor.forClass(WebSocketSession.class);
+        verify(delegate).afterConnectionEstablished(wrapped.capture());
+        assertThat(meterRegistry.get("ws.sessions.active").gauge().value()).isEqualTo(1.0);
+
+        wrapped.getValue().close(CloseStatus.SESSION_NOT_RELIABLE);
+
+        verify(session).close(CloseStatus.SESSION_NOT_RELIABLE.withReason("SLOW_CONSUMER;retry-after-ms=1500"));
+        assertThat(meterRegistry.get("ws.sessions.evicted").counter().count()).isEqualTo(1.0);
+
+        decorator.afterConnectionClosed(session, CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(meterRegistry.get("ws.sessions.active").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("일반 종료는 상태를 그대로 전달하고 evicted 로 집계하지 않음")
+    void close_whenNormal_passesStatusThrough() throws Exception {
+        SlowConsumerHandlerDecorator decorator = new SlowConsumerHandlerDecorator(delegate, metrics, 1500L);
+        decorator.afterConnectionEstablished(session);
+        ArgumentCaptor<WebSocketSession> wrapped = ArgumentCaptor.forClass(WebSocketSession.class);
+        verify(delegate).afterConnectionEstablished(wrapped.capture());
+
+        wrapped.getValue().close(CloseStatus.NORMAL);
+
+        verify(session).close(CloseStatus.NORMAL);
+        assertThat(meterRegistry.get("ws.sessions.evicted").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("clientOutbound 채널 송신 실패는 버린 프레임으로 집계")
+    void afterSendCompletion_withException_countsDroppedFrame() {
+        ExecutorSubscribableChannel channel = new ExecutorSubscribableChannel();
+
+        metrics.afterSendCompletion(MessageBuilder.withPayload(new byte[0]).build(), channel, false,
+                new IllegalStateException("queue full"));
+        metrics.afterSendCompletion(MessageBuilder.withPayload(new byte[0]).build(), channel, true, null);
+
+        assertThat(meterRegistry.get("ws.outbound.dropped").counter().count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,124 @@
+package noonchissaum.backend.global.websocket.unit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import noonchissaum.backend.global.websocket.StompMessageRelay;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+class StompMessageRelayUnitTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Test
+    @DisplayName("local 모드는 Redis 를 거치지 않고 한 번 직렬화한 바이트를 로컬 브로커로 전송")
+    void convertAndSend_localMode_sendsSerializedBytes() {
+        StompMessageRelay relay = newRelay("local");
+
+        relay.convertAndSend("/topic/auction/1", Map.of("price", 1000));
+
+        ArgumentCaptor<Message<byte[]>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(messagingTemplate).send(eq("/topic/auction/1"), captor.capture());
+        assertThat(new String(captor.getValue().getPayload(), StandardCharsets.UTF_8)).isEqualTo("{\"price\":1000}");
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+        verify(redisTemplate, never()).execute(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("재사용 버퍼를 써도 연속 전송한 메시지 내용이 섞이지 않음")
+    void convertAndSendToUser_localMode_reusesBufferWithoutLeaking() {
+        StompMessageRelay relay = newRelay("local");
+        when(messagingTemplate.getUserDestinationPrefix()).thenReturn("/user/");
+
+        relay.convertAndSendToUser("7", "/queue/notifications", Map.of("message", "a".repeat(2048)));
+        relay.convertAndSendToUser("8", "/queue/notifications", Map.of("id", 1));
+
+        ArgumentCaptor<Message<byte[]>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(messagingTemplate).send(eq("/user/8/queue/notifications"), captor.capture());
+        assertThat(new String(captor.getValue().getPayload(), StandardCharsets.UTF_8)).isEqualTo("{\"id\":1}");
+    }
+
+    @Test
+    @DisplayName("redis 모드는 로컬 브로커로 직접 보내지 않고 Redis 로 발행")
+    void convertAndSend_redisMode_publishesToRedis() {
+        StompMessageRelay relay = newRelay("redis");
+
+        relay.convertAndSend("/topic/auction/1", Map.of("price", 1000));
+
+        verify(redisTemplate).execute(any(RedisCallback.class));
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+        verify(messagingTemplate, never()).send(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("이미 직렬화된 JSON 은 redis 모드에서 헤더만 붙여 발행")
+    void sendSerialized_redisMode_publishesWithoutReserializing() {
+        StompMessageRelay relay = newRelay("redis");
+
+        relay.sendSerialized("/topic/auction/1", "{\"seq\":3}".getBytes(StandardCharsets.UTF_8));
+
+        verify(redisTemplate).execute(any(RedisCallback.class));
+        verify(messagingTemplate, never()).send(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Redis 발행 실패 시 직렬화한 페이로드를 로컬 세션에 전달")
+    void convertAndSend_whenPublishFails_deliversLocally() {
+        StompMessageRelay relay = newRelay("redis");
+        when(redisTemplate.execute(any(RedisCallback.class))).thenThrow(new IllegalStateException("down"));
+
+        relay.convertAndSend("/topic/chat.3", Map.of("message", "hi"));
+
+        ArgumentCaptor<Message<byte[]>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(messagingTemplate).send(eq("/topic/chat.3"), captor.capture());
+        assertThat(new String(captor.getValue().getPayload(), StandardCharsets.UTF_8)).isEqualTo("{\"message\":\"hi\"}");
+    }
+
+    @Test
+    @DisplayName("구독한 relay 메시지는 사용자 목적지로 직렬화된 바이트 그대로 전달")
+    void onMessage_userDestination_deliversSerializedPayload() {
+        StompMessageRelay relay = newRelay("redis");
+        when(messagingTemplate.getUserDestinationPrefix()).thenReturn("/user/");
+        byte[] body = "/queue/notifications\n33\n{\"type\":\"OUTBID\"}".getBytes(StandardCharsets.UTF_8);
+
+        relay.onMessage(new DefaultMessage("ws:relay".getBytes(StandardCharsets.UTF_8), body), null);
+
+        ArgumentCaptor<Message<byte[]>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(messagingTemplate).send(eq("/user/33/queue/notifications"), captor.capture());
+        assertThat(new String(captor.getValue().getPayload(), StandardCharsets.UTF_8)).isEqualTo("{\"type\":\"OUTBID\"}");
+    }
+
+    private StompMessageRelay newRelay(String mode) {
+        StompMessageRelay relay = new StompMessageRelay(messagingTemplate, redisTemplate, listenerContainer, new ObjectMapper());
+        ReflectionTestUtils.setField(relay, "mode", mode);
+        ReflectionTestUtils.setField(relay, "channel", "ws:relay");
+        return relay;
+    }
+}